@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.ImmutableList;
@@ -46,7 +47,10 @@ import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.user.User;
 import org.opensearch.security.util.MockIndexMetadataBuilder;
 
+import com.selectivem.collections.CheckTable;
+
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.opensearch.security.privileges.PrivilegeEvaluatorResponseMatcher.isAllowed;
 import static org.opensearch.security.privileges.PrivilegeEvaluatorResponseMatcher.isForbidden;
 import static org.opensearch.security.privileges.PrivilegeEvaluatorResponseMatcher.isPartiallyOk;
@@ -54,6 +58,7 @@ import static org.opensearch.security.privileges.PrivilegeEvaluatorResponseMatch
 import static org.opensearch.security.util.MockIndexMetadataBuilder.dataStreams;
 import static org.opensearch.security.util.MockIndexMetadataBuilder.indices;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -111,6 +116,39 @@ public class ActionPrivilegesTest {
             );
         }
 
+        @Test
+        public void notWellKnown_reverseIndex() throws Exception {
+            SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromYaml("role_a:\n" + //
+                "  cluster_permissions:\n" + //
+                "  - cluster:monitor/nodes/stats*\n" + //
+                "role_b:\n" + //
+                "  cluster_permissions:\n" + //
+                "  - cluster:monitor/*\n" + //
+                "role_c:\n" + //
+                "  cluster_permissions:\n" + //
+                "  - cluster:admin/*", CType.ROLES);
+            RoleIdDictionary roleIdDictionary = new RoleIdDictionary(roles.getCEntries().keySet());
+
+            ActionPrivileges.ClusterPrivileges subject = new ActionPrivileges.ClusterPrivileges(
+                roleIdDictionary,
+                roles,
+                FlattenedActionGroups.EMPTY,
+                WellKnownActions.CLUSTER_ACTIONS,
+                Map.of(),
+                PrivilegesBuildExecutor.SEQUENTIAL
+            );
+
+            RoleIdDictionary.RoleSet rolesWithPrivileges = subject.rolesWithActionPatternPrivileges(
+                "cluster:monitor/nodes/stats/somethingnotwellknown"
+            );
+            assertEquals(roleIdDictionary.toRoleSet(Arrays.asList("role_a", "role_b")), rolesWithPrivileges);
+            assertThat(
+                subject.rolesWithActionPatternPrivileges("cluster:monitor/nodes/stats/somethingnotwellknown"),
+                sameInstance(rolesWithPrivileges)
+            );
+            assertTrue(subject.rolesWithActionPatternPrivileges("cluster:other/somethingnotwellknown").isEmpty());
+        }
+
         @Test
         public void wildcard() throws Exception {
             SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromYaml("test_role:\n" + //
@@ -812,6 +850,274 @@ public class ActionPrivilegesTest {
     }
 
     public static class Misc {
+        @Test
+        public void statefulIndexPrivileges_incrementalUpdate() throws Exception {
+            SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromYaml(
+                "test_role:\n"
+                    + "  index_permissions:\n"
+                    + "  - index_patterns: ['alias_x', 'index_new*']\n"
+                    + "    allowed_actions: ['indices:data/read/search']",
+                CType.ROLES
+            );
+            Set<String> actions = ImmutableSet.of("indices:data/read/search");
+
+            String[] indexNames = StatefulIndexPrivilegesHeapSize.createIndices(50).keySet().toArray(new String[0]);
+            Map<String, IndexAbstraction> oldMetadata = indices(indexNames).alias("alias_x")
+                .of("index_0", "index_1")
+                .build()
+                .getIndicesLookup();
+            Map<String, IndexAbstraction> newMetadata = indices(indexNames).index("index_new_1")
+                .alias("alias_x")
+                .of("index_0", "index_2")
+                .build()
+                .getIndicesLookup();
+
+            ActionPrivileges.StatefulIndexPrivileges base = new ActionPrivileges.StatefulIndexPrivileges(
+                new RoleIdDictionary(roles.getCEntries().keySet()),
+                roles,
+                FlattenedActionGroups.EMPTY,
+                WellKnownActions.INDEX_ACTIONS,
+                oldMetadata,
+                1,
+                new ByteSizeValue(10, ByteSizeUnit.MB),
+                PrivilegesBuildExecutor.SEQUENTIAL
+            );
+            ClusterStateMetadataDependentPrivileges.IndicesDelta delta = ClusterStateMetadataDependentPrivileges.IndicesDelta.compute(
+                oldMetadata,
+                newMetadata
+            );
+            assertEquals(ImmutableSet.of("index_new_1"), delta.getAdded());
+            assertEquals(ImmutableSet.of("alias_x", "index_1", "index_2"), delta.getChanged());
+            assertTrue("Delta can be applied incrementally: " + delta, base.canApplyIncrementally(delta));
+
+            ActionPrivileges.StatefulIndexPrivileges updated = new ActionPrivileges.StatefulIndexPrivileges(
+                base,
+                delta,
+                roles,
+                FlattenedActionGroups.EMPTY,
+                newMetadata,
+                2,
+                new ByteSizeValue(10, ByteSizeUnit.MB)
+            );
+
+            for (String index : Arrays.asList("index_0", "index_2", "index_new_1")) {
+                assertThat(
+                    index,
+                    updated.providesPrivilege(
+                        actions,
+                        IndexResolverReplacer.Resolved.ofIndex(index),
+                        ctx("test_role"),
+                        CheckTable.create(ImmutableSet.of(index), actions),
+                        newMetadata
+                    ),
+                    isAllowed()
+                );
+            }
+
+            for (String index : Arrays.asList("index_1", "index_3")) {
+                assertNull(
+                    index,
+                    updated.providesPrivilege(
+                        actions,
+                        IndexResolverReplacer.Resolved.ofIndex(index),
+                        ctx("test_role"),
+                        CheckTable.create(ImmutableSet.of(index), actions),
+                        newMetadata
+                    )
+                );
+            }
+        }
+
+        @Test
+        public void statefulIndexPrivileges_updateStats() throws Exception {
+            SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromYaml(
+                "test_role:\n"
+                    + "  index_permissions:\n"
+                    + "  - index_patterns: ['index_1*']\n"
+                    + "    allowed_actions: ['indices:data/read/search']",
+                CType.ROLES
+            );
+            Map<String, IndexAbstraction> oldMetadata = StatefulIndexPrivilegesHeapSize.createIndices(100);
+            Map<String, IndexAbstraction> newMetadata = indices(oldMetadata.keySet().toArray(new String[0])).index("index_100")
+                .build()
+                .getIndicesLookup();
+            ActionPrivileges subject = new ActionPrivileges(roles, FlattenedActionGroups.EMPTY, () -> newMetadata, Settings.EMPTY);
+
+            subject.updateStatefulIndexPrivileges(oldMetadata, 1);
+            assertEquals(1, subject.getStatefulIndexUpdateStats().getFullRebuildCount());
+
+            subject.updateStatefulIndexPrivileges(newMetadata, 2);
+            assertTrue(subject.getStatefulIndexUpdateStats().isLastUpdateIncremental());
+            assertEquals(1, subject.getStatefulIndexUpdateStats().getLastUpdateDeltaSize());
+            assertEquals(1, subject.getStatefulIndexUpdateStats().getIncrementalUpdateCount());
+
+            assertThat(
+                subject.hasIndexPrivilege(
+                    ctx("test_role"),
+                    ImmutableSet.of("indices:data/read/search"),
+                    IndexResolverReplacer.Resolved.ofIndex("index_100")
+                ),
+                isAllowed()
+            );
+
+            // Unchanged indices do not trigger any update
+            subject.updateStatefulIndexPrivileges(newMetadata, 3);
+            assertEquals(1, subject.getStatefulIndexUpdateStats().getIncrementalUpdateCount());
+            assertEquals(1, subject.getStatefulIndexUpdateStats().getFullRebuildCount());
+        }
+
+        @Test
+        public void statefulIndexPrivileges_stats() throws Exception {
+            SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromYaml(
+                "test_role:\n"
+                    + "  index_permissions:\n"
+                    + "  - index_patterns: ['index_1*']\n"
+                    + "    allowed_actions: ['indices:data/read/*']",
+                CType.ROLES
+            );
+            Map<String, IndexAbstraction> metadata = StatefulIndexPrivilegesHeapSize.createIndices(100);
+
+            ActionPrivileges subject = new ActionPrivileges(roles, FlattenedActionGroups.EMPTY, () -> metadata, Settings.EMPTY);
+            assertFalse(subject.getStatefulIndexStats().isActive());
+
+            subject.updateStatefulIndexPrivileges(metadata, 1);
+            ActionPrivileges.StatefulIndexStats stats = subject.getStatefulIndexStats();
+            assertTrue(stats.isActive());
+            assertFalse(stats.isCapped());
+            assertEquals(100, stats.getNumberOfIndices());
+            assertTrue("Actions share a table: " + stats, stats.getNumberOfActions() > 1 && stats.getNumberOfDistinctTables() == 1);
+
+            ActionPrivileges capped = new ActionPrivileges(
+                roles,
+                FlattenedActionGroups.EMPTY,
+                () -> metadata,
+                Settings.builder().put(ActionPrivileges.PRECOMPUTED_PRIVILEGES_MAX_HEAP_SIZE.getKey(), "1kb").build()
+            );
+            capped.updateStatefulIndexPrivileges(metadata, 1);
+            assertTrue(capped.getStatefulIndexStats().isCapped());
+            assertEquals(0, capped.getStatefulIndexStats().getNumberOfActions());
+        }
+
+        @Test
+        public void decisionCache() throws Exception {
+            SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromYaml(
+                "test_role:\n"
+                    + "  index_permissions:\n"
+                    + "  - index_patterns: ['index_a*']\n"
+                    + "    allowed_actions: ['indices:data/read/search']\n"
+                    + "dynamic_role:\n"
+                    + "  index_permissions:\n"
+                    + "  - index_patterns: ['index_${attrs.dept_no}']\n"
+                    + "    allowed_actions: ['indices:data/read/search']",
+                CType.ROLES
+            );
+
+            Map<String, IndexAbstraction> metadata = indices("index_a11", "index_a12", "index_b").build().getIndicesLookup();
+            ActionPrivileges subject = new ActionPrivileges(roles, FlattenedActionGroups.EMPTY, () -> metadata, Settings.EMPTY);
+            subject.updateStatefulIndexPrivileges(metadata, 1);
+            Set<String> actions = ImmutableSet.of("indices:data/read/search");
+
+            assertThat(
+                subject.hasIndexPrivilege(ctx("test_role"), actions, IndexResolverReplacer.Resolved.ofIndex("index_a11")),
+                isAllowed()
+            );
+            assertEquals(1, subject.getDecisionCacheSize());
+            assertThat(
+                subject.hasIndexPrivilege(ctx("test_role"), actions, IndexResolverReplacer.Resolved.ofIndex("index_a11")),
+                isAllowed()
+            );
+            assertEquals(1, subject.getDecisionCacheSize());
+
+            // Negative decisions are not cached
+            assertThat(
+                subject.hasIndexPrivilege(ctx("test_role"), actions, IndexResolverReplacer.Resolved.ofIndex("index_b")),
+                isForbidden()
+            );
+            assertEquals(1, subject.getDecisionCacheSize());
+
+            // Decisions depending on user attributes are not cached
+            assertThat(
+                subject.hasIndexPrivilege(ctx("dynamic_role"), actions, IndexResolverReplacer.Resolved.ofIndex("index_a11")),
+                isAllowed()
+            );
+            assertEquals(1, subject.getDecisionCacheSize());
+
+            // A new metadata version invalidates the cache
+            subject.updateStatefulIndexPrivileges(metadata, 2);
+            assertEquals(0, subject.getDecisionCacheSize());
+        }
+
+        @Test
+        public void decisionCache_aliasMembershipRevoked() throws Exception {
+            SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromYaml(
+                "test_role:\n"
+                    + "  index_permissions:\n"
+                    + "  - index_patterns: ['alias_x']\n"
+                    + "    allowed_actions: ['indices:data/read/search']",
+                CType.ROLES
+            );
+
+            Map<String, IndexAbstraction> oldMetadata = indices("index_0", "index_1").alias("alias_x")
+                .of("index_0", "index_1")
+                .build()
+                .getIndicesLookup();
+            Map<String, IndexAbstraction> newMetadata = indices("index_0", "index_1").alias("alias_x")
+                .of("index_0")
+                .build()
+                .getIndicesLookup();
+            AtomicReference<Map<String, IndexAbstraction>> metadata = new AtomicReference<>(oldMetadata);
+
+            ActionPrivileges subject = new ActionPrivileges(roles, FlattenedActionGroups.EMPTY, metadata::get, Settings.EMPTY);
+            subject.updateStatefulIndexPrivileges(oldMetadata, 1);
+            Set<String> actions = ImmutableSet.of("indices:data/read/search");
+
+            assertThat(
+                subject.hasIndexPrivilege(ctx("test_role"), actions, IndexResolverReplacer.Resolved.ofIndex("index_1")),
+                isAllowed()
+            );
+            assertEquals(1, subject.getDecisionCacheSize());
+
+            metadata.set(newMetadata);
+            subject.updateStatefulIndexPrivileges(newMetadata, 2);
+
+            // The decision is computed again using the updated stateful index privileges
+            assertThat(
+                subject.hasIndexPrivilege(ctx("test_role"), actions, IndexResolverReplacer.Resolved.ofIndex("index_1")),
+                isForbidden()
+            );
+            assertEquals(0, subject.getDecisionCacheSize());
+        }
+
+        @Test
+        public void decisionCache_disabled() throws Exception {
+            SecurityDynamicConfiguration<RoleV7> roles = SecurityDynamicConfiguration.fromYaml(
+                "test_role:\n"
+                    + "  index_permissions:\n"
+                    + "  - index_patterns: ['index_a*']\n"
+                    + "    allowed_actions: ['indices:data/read/search']",
+                CType.ROLES
+            );
+
+            Map<String, IndexAbstraction> metadata = indices("index_a11", "index_a12", "index_b").build().getIndicesLookup();
+            ActionPrivileges subject = new ActionPrivileges(
+                roles,
+                FlattenedActionGroups.EMPTY,
+                () -> metadata,
+                Settings.builder().put(ActionPrivileges.DECISION_CACHE_MAX_SIZE.getKey(), 0).build()
+            );
+            subject.updateStatefulIndexPrivileges(metadata, 1);
+
+            assertThat(
+                subject.hasIndexPrivilege(
+                    ctx("test_role"),
+                    ImmutableSet.of("indices:data/read/search"),
+                    IndexResolverReplacer.Resolved.ofIndex("index_a11")
+                ),
+                isAllowed()
+            );
+            assertEquals(0, subject.getDecisionCacheSize());
+        }
+
         @Test
         public void relevantOnly_identity() throws Exception {
             Map<String, IndexAbstraction> metadata = //
@@ -969,16 +1275,16 @@ public class ActionPrivilegesTest {
             List<Object[]> result = new ArrayList<>();
 
             // indices; roles; expected number of bytes
-            result.add(new Object[] { 100, 10, 10_000 });
-            result.add(new Object[] { 100, 100, 13_000 });
-            result.add(new Object[] { 100, 1000, 26_000 });
+            result.add(new Object[] { 100, 10, 3_000 });
+            result.add(new Object[] { 100, 100, 5_600 });
+            result.add(new Object[] { 100, 1000, 18_300 });
 
-            result.add(new Object[] { 1000, 10, 92_000 });
-            result.add(new Object[] { 1000, 100, 94_000 });
-            result.add(new Object[] { 1000, 1000, 112_000 });
+            result.add(new Object[] { 1000, 10, 23_000 });
+            result.add(new Object[] { 1000, 100, 25_200 });
+            result.add(new Object[] { 1000, 1000, 42_500 });
 
-            result.add(new Object[] { 10_000, 10, 890_000 });
-            result.add(new Object[] { 10_000, 100, 930_000 });
+            result.add(new Object[] { 10_000, 10, 257_000 });
+            result.add(new Object[] { 10_000, 100, 299_000 });
 
             return result;
         }
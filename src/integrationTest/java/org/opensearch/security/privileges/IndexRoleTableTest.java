@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class IndexRoleTableTest {
+
+    static final RoleIdDictionary ROLES = new RoleIdDictionary(RoleIdDictionaryTest.roleNames(100));
+    static final List<String> INDEX_NAMES = indexNames(1000);
+    static final IndexRoleTable.IndexIds INDEX_IDS = new IndexRoleTable.IndexIds(INDEX_NAMES);
+
+    @Test
+    public void indexIds() {
+        for (int i = 0; i < INDEX_NAMES.size(); i++) {
+            assertThat(INDEX_IDS.get(INDEX_NAMES.get(i)), is(i));
+        }
+
+        assertThat(INDEX_IDS.get("unknown_index"), is(-1));
+        assertThat(INDEX_IDS.size(), is(1000));
+    }
+
+    @Test
+    public void indexIds_toSortedIds() {
+        int[] ids = INDEX_IDS.toSortedIds(Arrays.asList("index_7", "index_3", "unknown_index", "index_7"));
+
+        assertThat(ids, is(new int[] { 3, 7 }));
+    }
+
+    @Test
+    public void build() {
+        IndexRoleTable subject = IndexRoleTable.build(
+            INDEX_IDS,
+            ROLES,
+            Arrays.asList(grant("role_1", "index_1", "index_2"), grant("role_70", "index_2", "index_3"))
+        );
+
+        assertThat(subject.size(), is(3));
+        assertThat(subject.get("index_1"), sameInstance(ROLES.toRoleSet(Arrays.asList("role_1"))));
+        assertThat(subject.get("index_2"), sameInstance(ROLES.toRoleSet(Arrays.asList("role_1", "role_70"))));
+        assertThat(subject.get("index_3"), sameInstance(ROLES.toRoleSet(Arrays.asList("role_70"))));
+        assertThat(subject.get("index_4"), is(nullValue()));
+        assertThat(subject.get("unknown_index"), is(nullValue()));
+    }
+
+    @Test
+    public void equality() {
+        IndexRoleTable a = IndexRoleTable.build(INDEX_IDS, ROLES, Arrays.asList(grant("role_1", "index_1"), grant("role_2", "index_1")));
+        IndexRoleTable b = IndexRoleTable.build(INDEX_IDS, ROLES, Arrays.asList(grant("role_2", "index_1"), grant("role_1", "index_1")));
+        IndexRoleTable c = IndexRoleTable.build(INDEX_IDS, ROLES, Arrays.asList(grant("role_1", "index_1")));
+
+        assertThat(a, is(b));
+        assertThat(a.hashCode(), is(b.hashCode()));
+        assertThat(a, is(not(c)));
+    }
+
+    static IndexRoleTable.Grant grant(String role, String... indices) {
+        return new IndexRoleTable.Grant(ROLES.getRoleId(role), INDEX_IDS.toSortedIds(Arrays.asList(indices)));
+    }
+
+    static List<String> indexNames(int count) {
+        return RoleIdDictionaryTest.roleNames(count).stream().map(name -> name.replace("role_", "index_")).toList();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+public class PrivilegesBuildExecutorTest {
+
+    static PrivilegesBuildExecutor subject;
+
+    @BeforeClass
+    public static void setUp() {
+        subject = new PrivilegesBuildExecutor(Settings.builder().put(PrivilegesBuildExecutor.PARALLELISM.getKey(), 3).build());
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        subject.close();
+    }
+
+    @Test
+    public void map_preservesOrder() {
+        List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+
+        List<String> result = subject.map(items, i -> "item_" + i);
+
+        assertThat(result, is(items.stream().map(i -> "item_" + i).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void map_nested() {
+        List<Integer> items = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+        List<Integer> result = subject.map(
+            items,
+            i -> subject.map(items, j -> i * j).stream().mapToInt(Integer::intValue).sum()
+        );
+
+        assertThat(result, is(items.stream().map(i -> i * 45).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void submit() {
+        Supplier<String> result = subject.submit(() -> Thread.currentThread().getName());
+
+        assertThat(result.get(), startsWith("opensearch-security-privileges-build-"));
+    }
+
+    @Test
+    public void submit_closed() {
+        PrivilegesBuildExecutor closed = new PrivilegesBuildExecutor(2);
+        closed.close();
+
+        // After the node has been shut down, all work is done on the calling thread
+        Supplier<String> result = closed.submit(() -> Thread.currentThread().getName());
+
+        assertThat(result.get(), is(Thread.currentThread().getName()));
+    }
+
+    @Test
+    public void sequential() {
+        Supplier<String> result = PrivilegesBuildExecutor.SEQUENTIAL.submit(() -> Thread.currentThread().getName());
+
+        assertThat(result.get(), is(Thread.currentThread().getName()));
+    }
+}
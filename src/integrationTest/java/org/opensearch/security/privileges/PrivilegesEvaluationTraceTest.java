@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.user.User;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class PrivilegesEvaluationTraceTest {
+
+    @Test
+    public void disabledByDefault() {
+        PrivilegesEvaluationTrace.Factory factory = new PrivilegesEvaluationTrace.Factory(Settings.EMPTY);
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        threadContext.putHeader(PrivilegesEvaluationTrace.HEADER, "true");
+
+        PrivilegesEvaluationTrace trace = factory.create(new User("test_user"), threadContext);
+
+        assertThat(trace, sameInstance(PrivilegesEvaluationTrace.DISABLED));
+        trace.end("stage", trace.start());
+        assertThat(trace.getStageNanos().isEmpty(), is(true));
+    }
+
+    @Test
+    public void enabledForUser() {
+        PrivilegesEvaluationTrace.Factory factory = new PrivilegesEvaluationTrace.Factory(
+            Settings.builder().putList(PrivilegesEvaluationTrace.USERS.getKey(), Arrays.asList("trace_*")).build()
+        );
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+
+        assertThat(factory.create(new User("trace_user"), threadContext).isEnabled(), is(true));
+        assertThat(factory.create(new User("other_user"), threadContext).isEnabled(), is(false));
+    }
+
+    @Test
+    public void enabledByHeader() {
+        PrivilegesEvaluationTrace.Factory factory = new PrivilegesEvaluationTrace.Factory(
+            Settings.builder().put(PrivilegesEvaluationTrace.HEADER_ENABLED.getKey(), true).build()
+        );
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+
+        assertThat(factory.create(new User("test_user"), threadContext).isEnabled(), is(false));
+
+        threadContext.putHeader(PrivilegesEvaluationTrace.HEADER, "true");
+
+        assertThat(factory.create(new User("test_user"), threadContext).isEnabled(), is(true));
+    }
+
+    @Test
+    public void stages() {
+        PrivilegesEvaluationTrace trace = new PrivilegesEvaluationTrace.Factory(
+            Settings.builder().putList(PrivilegesEvaluationTrace.USERS.getKey(), Arrays.asList("*")).build()
+        ).create(new User("test_user"), new ThreadContext(Settings.EMPTY));
+
+        trace.end("role_mapping", trace.start());
+        trace.end("index_privileges", trace.start());
+        trace.end("role_mapping", trace.start());
+
+        assertThat(trace.getStageNanos().keySet(), contains("role_mapping", "index_privileges"));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class RoleIdDictionaryTest {
+
+    static final RoleIdDictionary DICTIONARY = new RoleIdDictionary(roleNames(200));
+
+    @Test
+    public void intersects() {
+        RoleIdDictionary.RoleSet a = DICTIONARY.toRoleSet(Arrays.asList("role_1", "role_150"));
+        RoleIdDictionary.RoleSet b = DICTIONARY.toRoleSet(Arrays.asList("role_2", "role_150"));
+        RoleIdDictionary.RoleSet c = DICTIONARY.toRoleSet(Arrays.asList("role_3", "role_199"));
+
+        assertThat(a.intersects(b), is(true));
+        assertThat(b.intersects(a), is(true));
+        assertThat(a.intersects(c), is(false));
+        assertThat(c.intersects(a), is(false));
+        assertThat(a.intersects(RoleIdDictionary.RoleSet.EMPTY), is(false));
+    }
+
+    @Test
+    public void unknownRolesAreIgnored() {
+        RoleIdDictionary.RoleSet roleSet = DICTIONARY.toRoleSet(Arrays.asList("role_1", "unknown_role"));
+
+        assertThat(roleSet.size(), is(1));
+        assertThat(DICTIONARY.toRoleSet(Arrays.asList("unknown_role")).isEmpty(), is(true));
+    }
+
+    @Test
+    public void interning() {
+        RoleIdDictionary.RoleSet a = DICTIONARY.toRoleSet(Arrays.asList("role_1", "role_70"));
+        RoleIdDictionary.RoleSet b = DICTIONARY.toRoleSet(Arrays.asList("role_70", "role_1"));
+
+        assertThat(a, sameInstance(b));
+        assertThat(DICTIONARY.getRoleSet(ImmutableSet.of("role_1", "role_70", "unknown_role")), sameInstance(a));
+    }
+
+    @Test
+    public void contains() {
+        RoleIdDictionary.RoleSet roleSet = DICTIONARY.toRoleSet(Arrays.asList("role_0", "role_64", "role_199"));
+
+        for (int i = 0; i < DICTIONARY.size(); i++) {
+            String roleName = DICTIONARY.getRoleName(i);
+            assertThat(roleName, roleSet.contains(i), is(ImmutableSet.of("role_0", "role_64", "role_199").contains(roleName)));
+        }
+    }
+
+    static List<String> roleNames(int count) {
+        List<String> result = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            result.add("role_" + i);
+        }
+
+        return result;
+    }
+}
@@ -35,11 +35,13 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.security.privileges.PrivilegesBuildExecutor;
 import org.opensearch.security.privileges.PrivilegesEvaluationContext;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.support.Base64Helper;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.security.user.User;
 import org.opensearch.security.util.MockIndexMetadataBuilder;
 import org.opensearch.test.framework.TestSecurityConfig;
@@ -374,7 +376,9 @@ public class DlsFlsLegacyHeadersTest {
             metadata.getIndicesLookup(),
             xContentRegistry,
             Settings.EMPTY,
-            FieldMasking.Config.DEFAULT
+            FieldMasking.Config.DEFAULT,
+            PrivilegesBuildExecutor.SEQUENTIAL,
+            new SecurityMetrics()
         );
     }
 
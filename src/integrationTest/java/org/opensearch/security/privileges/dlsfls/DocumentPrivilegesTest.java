@@ -57,6 +57,7 @@ import org.opensearch.security.privileges.PrivilegesEvaluationException;
 import org.opensearch.security.resolver.IndexResolverReplacer;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.security.user.User;
 import org.opensearch.test.framework.TestSecurityConfig;
 
@@ -66,6 +67,8 @@ import static org.opensearch.security.util.MockIndexMetadataBuilder.indices;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -1169,6 +1172,32 @@ public class DocumentPrivilegesTest {
             assertNotEquals(query2, query1a);
             assertFalse(query1a.equals(query1a.queryString));
         }
+
+        @Test
+        public void renderedQueryCache() throws Exception {
+            DocumentPrivileges.RenderedQueryCache cache = new DocumentPrivileges.RenderedQueryCache(10, new SecurityMetrics());
+            DocumentPrivileges.DlsQuery query = DocumentPrivileges.DlsQuery.create(
+                "{\"term\": {\"foo\": \"${user.name}\"}}",
+                xContentRegistry,
+                cache
+            );
+
+            DocumentPrivileges.RenderedDlsQuery renderedA1 = query.evaluate(
+                new PrivilegesEvaluationContext(new User("a"), ImmutableSet.of(), null, null, null, null, null, null)
+            );
+            DocumentPrivileges.RenderedDlsQuery renderedA2 = query.evaluate(
+                new PrivilegesEvaluationContext(new User("a"), ImmutableSet.of(), null, null, null, null, null, null)
+            );
+            DocumentPrivileges.RenderedDlsQuery renderedB = query.evaluate(
+                new PrivilegesEvaluationContext(new User("b"), ImmutableSet.of(), null, null, null, null, null, null)
+            );
+
+            assertSame(renderedA1, renderedA2);
+            assertNotSame(renderedA1, renderedB);
+            assertEquals(QueryBuilders.termQuery("foo", "a"), renderedA1.getQueryBuilder());
+            assertEquals(QueryBuilders.termQuery("foo", "b"), renderedB.getQueryBuilder());
+            assertEquals(2, cache.size());
+        }
     }
 
     static SecurityDynamicConfiguration<RoleV7> roleConfig(TestSecurityConfig.Role... roles) {
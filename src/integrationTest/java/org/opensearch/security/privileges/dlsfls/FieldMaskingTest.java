@@ -181,6 +181,73 @@ public class FieldMaskingTest {
             assertEquals("c3ab8ff13720e8ad9047dd39466b3c8974e592c2fa383d4a3960714caef0c4f2", field.apply("foobar"));
         }
 
+        @Test
+        public void reusedDigests() throws Exception {
+            FieldMasking.FieldMaskingRule.Field blake2b = new FieldMasking.FieldMaskingRule.Field(
+                new FieldMasking.FieldMaskingExpression("field_*"),
+                FieldMasking.Config.DEFAULT
+            );
+            FieldMasking.FieldMaskingRule.Field sha256 = new FieldMasking.FieldMaskingRule.Field(
+                new FieldMasking.FieldMaskingExpression("field_*::SHA-256"),
+                FieldMasking.Config.DEFAULT
+            );
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("c042e214a8b49561577445be44c188a8e6274006b36cd0c6fba5312253cf9293", blake2b.apply("foobar"));
+                assertEquals("c3ab8ff13720e8ad9047dd39466b3c8974e592c2fa383d4a3960714caef0c4f2", sha256.apply("foobar"));
+            }
+        }
+
+        @Test
+        public void bytesRefWithOffset() throws Exception {
+            FieldMasking.FieldMaskingRule.Field field = new FieldMasking.FieldMaskingRule.Field(
+                new FieldMasking.FieldMaskingExpression("field_*"),
+                FieldMasking.Config.DEFAULT
+            );
+            byte[] bytes = "xxfoobaryy".getBytes(StandardCharsets.UTF_8);
+
+            assertEquals(
+                new BytesRef("c042e214a8b49561577445be44c188a8e6274006b36cd0c6fba5312253cf9293".getBytes(StandardCharsets.UTF_8)),
+                field.apply(new BytesRef(bytes, 2, 6))
+            );
+        }
+
+        @Test
+        public void cached() throws Exception {
+            FieldMasking.FieldMaskingRule.Field field = new FieldMasking.FieldMaskingRule.Field(
+                new FieldMasking.FieldMaskingExpression("field_*"),
+                FieldMasking.Config.fromSettings(Settings.builder().put("plugins.security.masked_fields.cache_size", 2).build())
+            );
+            BytesRef reused = new BytesRef("foobar".getBytes(StandardCharsets.UTF_8));
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals("c042e214a8b49561577445be44c188a8e6274006b36cd0c6fba5312253cf9293", field.apply("foobar"));
+                assertEquals(
+                    new BytesRef("c042e214a8b49561577445be44c188a8e6274006b36cd0c6fba5312253cf9293".getBytes(StandardCharsets.UTF_8)),
+                    field.apply(reused)
+                );
+            }
+
+            // Modifying the BytesRef after it was used as input must not affect cached values
+            reused.bytes[0] = 'F';
+            assertFalse(field.apply(reused).utf8ToString().startsWith("c042e214"));
+
+            field.apply("a");
+            field.apply("b");
+            field.apply("c");
+            assertTrue("Cache is bounded", field.getCacheSize() <= 2);
+        }
+
+        @Test
+        public void notCachedByDefault() throws Exception {
+            FieldMasking.FieldMaskingRule.Field field = new FieldMasking.FieldMaskingRule.Field(
+                new FieldMasking.FieldMaskingExpression("field_*"),
+                FieldMasking.Config.DEFAULT
+            );
+            field.apply("foobar");
+            assertEquals(0, field.getCacheSize());
+        }
+
         @Test(expected = PrivilegesConfigurationValidationException.class)
         public void explicitAlgorithm_invalid() throws Exception {
             new FieldMasking.FieldMaskingExpression("field_*::SHADY-777");
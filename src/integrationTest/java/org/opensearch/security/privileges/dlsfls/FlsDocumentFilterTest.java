@@ -13,10 +13,17 @@ package org.opensearch.security.privileges.dlsfls;
 import com.google.common.collect.ImmutableSet;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.Assert;
 import org.junit.Test;
 
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class FlsDocumentFilterTest {
 
@@ -361,6 +368,90 @@ public class FlsDocumentFilterTest {
         assertJsonStructurallyEquivalent(expectedDocument, result);
     }
 
+    @Test
+    public void filterSmile() throws Exception {
+        assertBinaryFormatFiltered(new ObjectMapper(new SmileFactory()));
+    }
+
+    @Test
+    public void filterCbor() throws Exception {
+        assertBinaryFormatFiltered(new ObjectMapper(new CBORFactory()));
+    }
+
+    @Test
+    public void filterBytesReferenceSlice() throws Exception {
+        byte[] sourceDocument = "xxx{\"a\": 1, \"b\": 2.50, \"c\": \"z\"}yyy".getBytes(UTF_8);
+
+        BytesReference result = FlsDocumentFilter.filter(
+            new BytesArray(sourceDocument, 3, sourceDocument.length - 6),
+            FieldPrivileges.FlsRule.of("~c"),
+            FieldMasking.FieldMaskingRule.ALLOW_ALL,
+            ImmutableSet.of()
+        );
+
+        Assert.assertEquals("{\"a\":1,\"b\":2.50}", result.utf8ToString());
+    }
+
+    @Test
+    public void outputBufferIsLimited() throws Exception {
+        StringBuilder sourceDocument = new StringBuilder("{\"a\": \"");
+        for (int i = 0; i < FlsDocumentFilter.MAX_REUSED_BUFFER_SIZE; i++) {
+            sourceDocument.append('x');
+        }
+        sourceDocument.append("\"}");
+
+        byte[] result = FlsDocumentFilter.filter(
+            sourceDocument.toString().getBytes(UTF_8),
+            FieldPrivileges.FlsRule.of("~b"),
+            FieldMasking.FieldMaskingRule.ALLOW_ALL,
+            ImmutableSet.of()
+        );
+
+        assertJsonStructurallyEquivalent(sourceDocument.toString(), result);
+
+        FlsDocumentFilter.ReusableOutputStream out = new FlsDocumentFilter.ReusableOutputStream();
+        out.write(result);
+        out.release();
+
+        assertThat(out.capacity(), lessThanOrEqualTo(FlsDocumentFilter.MAX_REUSED_BUFFER_SIZE));
+    }
+
+    private static void assertBinaryFormatFiltered(ObjectMapper binaryObjectMapper) throws Exception {
+        String sourceDocument = """
+            {
+                "a": 41,
+                "b": {
+                   "b1": "x1",
+                   "b2": 2.5
+                },
+                "c": "z"
+            }
+            """;
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        byte[] binarySourceDocument = binaryObjectMapper.writeValueAsBytes(objectMapper.readTree(sourceDocument));
+
+        byte[] result = FlsDocumentFilter.filter(
+            binarySourceDocument,
+            FieldPrivileges.FlsRule.of("~b.b1"),
+            FieldMasking.FieldMaskingRule.of(FieldMasking.Config.DEFAULT, "c"),
+            ImmutableSet.of()
+        );
+
+        String expectedDocument = """
+            {
+                "a": 41,
+                "b": {
+                   "b2": 2.5
+                }
+            }
+            """;
+
+        Assert.assertEquals(objectMapper.readTree(expectedDocument).get("a"), binaryObjectMapper.readTree(result).get("a"));
+        Assert.assertEquals(objectMapper.readTree(expectedDocument).get("b"), binaryObjectMapper.readTree(result).get("b"));
+        Assert.assertNotEquals("z", binaryObjectMapper.readTree(result).get("c").asText());
+    }
+
     private static void assertJsonStructurallyEquivalent(String expected, byte[] actual) throws Exception {
         ObjectMapper objectMapper = new ObjectMapper();
 
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges.dlsfls;
+
+import java.io.IOException;
+
+import com.google.common.collect.ImmutableSet;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class FlsFieldVisibilityTest {
+
+    @Test
+    public void allowAll() throws Exception {
+        FieldInfos fieldInfos = fieldInfos("a", "b", "c");
+        FlsFieldVisibility subject = new FlsFieldVisibility(
+            fieldInfos,
+            FieldPrivileges.FlsRule.ALLOW_ALL,
+            FieldMasking.FieldMaskingRule.ALLOW_ALL,
+            ImmutableSet.of()
+        );
+
+        assertThat(subject.isAllowed(fieldInfos.fieldInfo("a")), is(true));
+        assertThat(subject.isAllowed("x"), is(true));
+        assertThat(subject.getAllowedFieldInfos(), sameInstance(fieldInfos));
+        assertThat(subject.getMasking("a"), is(nullValue()));
+    }
+
+    @Test
+    public void exclusion() throws Exception {
+        FieldInfos fieldInfos = fieldInfos("a", "b", "c", "_id");
+        FlsFieldVisibility subject = new FlsFieldVisibility(
+            fieldInfos,
+            FieldPrivileges.FlsRule.of("~b", "~_id"),
+            FieldMasking.FieldMaskingRule.ALLOW_ALL,
+            ImmutableSet.of("_id")
+        );
+
+        assertThat(subject.isAllowed(fieldInfos.fieldInfo("a")), is(true));
+        assertThat(subject.isAllowed(fieldInfos.fieldInfo("b")), is(false));
+        assertThat(subject.isAllowed("c"), is(true));
+        assertThat(subject.isAllowed("_id"), is(true));
+        assertThat(subject.isAllowed("b.keyword"), is(false));
+        assertThat(subject.isAllowed("not_in_segment"), is(true));
+        assertThat(subject.getAllowedFieldInfos().size(), is(3));
+        assertThat(subject.getAllowedFieldInfos().fieldInfo("b"), is(nullValue()));
+    }
+
+    @Test
+    public void inclusion() throws Exception {
+        FieldInfos fieldInfos = fieldInfos("a", "b", "c");
+        FlsFieldVisibility subject = new FlsFieldVisibility(
+            fieldInfos,
+            FieldPrivileges.FlsRule.of("b"),
+            FieldMasking.FieldMaskingRule.ALLOW_ALL,
+            ImmutableSet.of()
+        );
+
+        assertThat(subject.isAllowed(fieldInfos.fieldInfo("a")), is(false));
+        assertThat(subject.isAllowed(fieldInfos.fieldInfo("b")), is(true));
+        assertThat(subject.isAllowed("not_in_segment"), is(false));
+        assertThat(subject.getAllowedFieldInfos().size(), is(1));
+    }
+
+    @Test
+    public void tablesAreShared() throws Exception {
+        FieldInfos fieldInfos = fieldInfos("a", "b", "c");
+        FlsFieldVisibility subject1 = new FlsFieldVisibility(
+            fieldInfos,
+            FieldPrivileges.FlsRule.of("~b"),
+            FieldMasking.FieldMaskingRule.ALLOW_ALL,
+            ImmutableSet.of()
+        );
+        FlsFieldVisibility subject2 = new FlsFieldVisibility(
+            fieldInfos,
+            FieldPrivileges.FlsRule.of("~b"),
+            FieldMasking.FieldMaskingRule.ALLOW_ALL,
+            ImmutableSet.of()
+        );
+
+        assertThat(subject1.getAllowedFieldInfos(), sameInstance(subject2.getAllowedFieldInfos()));
+    }
+
+    @Test
+    public void masking() throws Exception {
+        FieldInfos fieldInfos = fieldInfos("a", "b", "c");
+        FlsFieldVisibility subject = new FlsFieldVisibility(
+            fieldInfos,
+            FieldPrivileges.FlsRule.ALLOW_ALL,
+            FieldMasking.FieldMaskingRule.of(FieldMasking.Config.DEFAULT, "b"),
+            ImmutableSet.of()
+        );
+
+        assertThat(subject.getMasking(fieldInfos.fieldInfo("a")), is(nullValue()));
+        assertThat(subject.getMasking(fieldInfos.fieldInfo("b")), is(notNullValue()));
+        // Second lookup is served from the per-instance cache
+        assertThat(subject.getMasking(fieldInfos.fieldInfo("b")), is(notNullValue()));
+        assertThat(subject.isMasked("b.keyword"), is(true));
+        assertThat(subject.isMasked("c"), is(false));
+    }
+
+    static FieldInfos fieldInfos(String... fields) throws IOException {
+        try (Directory directory = new ByteBuffersDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+                Document document = new Document();
+                for (String field : fields) {
+                    document.add(new StringField(field, "value", Field.Store.YES));
+                }
+                writer.addDocument(document);
+            }
+
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                return reader.leaves().get(0).reader().getFieldInfos();
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.resolver;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+import static org.opensearch.security.util.MockIndexMetadataBuilder.indices;
+import static org.junit.Assert.assertEquals;
+
+public class IndexResolverReplacerCacheTest {
+
+    final static Metadata INDEX_METADATA = //
+        indices("index_a1", "index_a2", "index_b1")//
+            .alias("alias_a")
+            .of("index_a1", "index_a2")//
+            .build();
+
+    final IndexNameExpressionResolver indexNameExpressionResolver = new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY));
+
+    @Test
+    public void cachedAcrossRequests() {
+        AtomicReference<ClusterState> clusterState = new AtomicReference<>(clusterState(INDEX_METADATA));
+        IndexResolverReplacer subject = new IndexResolverReplacer(indexNameExpressionResolver, clusterState::get, null, 100);
+
+        IndexResolverReplacer.Resolved first = subject.resolveRequest(new SearchRequest("index_a*", "alias_a"));
+        IndexResolverReplacer.Resolved second = subject.resolveRequest(new SearchRequest("index_a*", "alias_a"));
+
+        assertEquals(ImmutableSet.of("index_a1", "index_a2"), first.getAllIndices());
+        assertEquals(ImmutableSet.of("alias_a"), first.getAliases());
+        assertEquals(first, second);
+        assertEquals(1, subject.getResolvedPatternsCacheMisses());
+        assertEquals(1, subject.getResolvedPatternsCacheHits());
+        assertEquals(1, subject.getResolvedPatternsCacheSize());
+    }
+
+    @Test
+    public void invalidatedOnMetadataChange() {
+        AtomicReference<ClusterState> clusterState = new AtomicReference<>(clusterState(INDEX_METADATA));
+        IndexResolverReplacer subject = new IndexResolverReplacer(indexNameExpressionResolver, clusterState::get, null, 100);
+
+        assertEquals(ImmutableSet.of("index_a1", "index_a2"), subject.resolveRequest(new SearchRequest("index_a*")).getAllIndices());
+
+        Metadata updatedMetadata = Metadata.builder(indices("index_a1", "index_a2", "index_a3").build())
+            .version(INDEX_METADATA.version() + 1)
+            .build();
+        clusterState.set(clusterState(updatedMetadata));
+
+        assertEquals(
+            ImmutableSet.of("index_a1", "index_a2", "index_a3"),
+            subject.resolveRequest(new SearchRequest("index_a*")).getAllIndices()
+        );
+        assertEquals(2, subject.getResolvedPatternsCacheMisses());
+        assertEquals(0, subject.getResolvedPatternsCacheHits());
+    }
+
+    @Test
+    public void dateMathNotCached() {
+        IndexResolverReplacer subject = new IndexResolverReplacer(
+            indexNameExpressionResolver,
+            () -> clusterState(INDEX_METADATA),
+            null,
+            100
+        );
+
+        subject.resolveRequest(new SearchRequest("<index_{now/d}>"));
+        subject.resolveRequest(new SearchRequest("<index_{now/d}>"));
+
+        assertEquals(0, subject.getResolvedPatternsCacheHits());
+        assertEquals(0, subject.getResolvedPatternsCacheSize());
+    }
+
+    @Test
+    public void disabled() {
+        IndexResolverReplacer subject = new IndexResolverReplacer(indexNameExpressionResolver, () -> clusterState(INDEX_METADATA), null);
+
+        subject.resolveRequest(new SearchRequest("index_a*"));
+        subject.resolveRequest(new SearchRequest("index_a*"));
+
+        assertEquals(0, subject.getResolvedPatternsCacheHits());
+        assertEquals(0, subject.getResolvedPatternsCacheMisses());
+    }
+
+    static ClusterState clusterState(Metadata metadata) {
+        return ClusterState.builder(ClusterState.EMPTY_STATE).metadata(metadata).build();
+    }
+}
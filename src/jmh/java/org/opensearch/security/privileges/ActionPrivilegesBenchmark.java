@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.resolver.IndexResolverReplacer;
+import org.opensearch.security.securityconf.FlattenedActionGroups;
+import org.opensearch.security.user.User;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro-benchmarks for the hot paths of ActionPrivileges: hasIndexPrivilege() and hasClusterPrivilege().
+ * <p>
+ * Run with: ./gradlew jmh -Pjmh.includes=ActionPrivilegesBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionPrivilegesBenchmark {
+
+    static final Set<String> SEARCH_ACTIONS = ImmutableSet.of("indices:data/read/search");
+    static final Set<String> NON_WELL_KNOWN_ACTIONS = ImmutableSet.of("indices:data/read/custom_plugin_action");
+
+    @Param({ "10", "100", "1000", "10000" })
+    int numberOfRoles;
+
+    @Param({ "100", "1000", "10000", "100000" })
+    int numberOfIndices;
+
+    ActionPrivileges subject;
+    PrivilegesEvaluationContext context;
+    IndexResolverReplacer.Resolved singleIndex;
+    IndexResolverReplacer.Resolved alias;
+    IndexResolverReplacer.Resolved manyIndices;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Metadata metadata = SyntheticPrivilegesConfig.createMetadata(numberOfIndices);
+        ClusterState clusterState = SyntheticPrivilegesConfig.createClusterState(metadata);
+
+        this.subject = new ActionPrivileges(
+            SyntheticPrivilegesConfig.createRoles(numberOfRoles, numberOfIndices),
+            FlattenedActionGroups.EMPTY,
+            metadata::getIndicesLookup,
+            Settings.EMPTY
+        );
+        this.subject.updateStatefulIndexPrivileges(metadata.getIndicesLookup(), metadata.version());
+
+        ImmutableSet.Builder<String> mappedRoles = ImmutableSet.builder();
+        for (int i = 0; i < Math.min(5, numberOfRoles); i++) {
+            mappedRoles.add("role_" + (i * (numberOfRoles / 5)));
+        }
+
+        this.context = new PrivilegesEvaluationContext(
+            new User("benchmark_user"),
+            mappedRoles.build(),
+            null,
+            null,
+            null,
+            null,
+            new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY)),
+            () -> clusterState
+        );
+
+        this.singleIndex = resolved(ImmutableSet.of(), "index_1");
+        this.alias = resolved(
+            ImmutableSet.of("alias_0"),
+            "index_0",
+            "index_1",
+            "index_2",
+            "index_3",
+            "index_4",
+            "index_5",
+            "index_6",
+            "index_7",
+            "index_8",
+            "index_9"
+        );
+
+        ImmutableSet.Builder<String> manyIndices = ImmutableSet.builder();
+        for (int i = 0; i < numberOfIndices; i += Math.max(numberOfIndices / 100, 1)) {
+            manyIndices.add("index_" + i);
+        }
+        this.manyIndices = resolved(ImmutableSet.of(), manyIndices.build().toArray(new String[0]));
+    }
+
+    @Benchmark
+    public PrivilegesEvaluatorResponse hasIndexPrivilege_singleIndex() {
+        return subject.hasIndexPrivilege(context, SEARCH_ACTIONS, singleIndex);
+    }
+
+    @Benchmark
+    public PrivilegesEvaluatorResponse hasIndexPrivilege_alias() {
+        return subject.hasIndexPrivilege(context, SEARCH_ACTIONS, alias);
+    }
+
+    @Benchmark
+    public PrivilegesEvaluatorResponse hasIndexPrivilege_manyIndices() {
+        return subject.hasIndexPrivilege(context, SEARCH_ACTIONS, manyIndices);
+    }
+
+    @Benchmark
+    public PrivilegesEvaluatorResponse hasIndexPrivilege_nonWellKnownAction() {
+        return subject.hasIndexPrivilege(context, NON_WELL_KNOWN_ACTIONS, singleIndex);
+    }
+
+    @Benchmark
+    public PrivilegesEvaluatorResponse hasClusterPrivilege_wellKnown() {
+        return subject.hasClusterPrivilege(context, "cluster:monitor/nodes/stats");
+    }
+
+    @Benchmark
+    public PrivilegesEvaluatorResponse hasClusterPrivilege_nonWellKnown() {
+        return subject.hasClusterPrivilege(context, "cluster:monitor/nodes/stats/custom_plugin_action");
+    }
+
+    static IndexResolverReplacer.Resolved resolved(ImmutableSet<String> aliases, String... indices) {
+        return new IndexResolverReplacer.Resolved(
+            aliases,
+            ImmutableSet.copyOf(indices),
+            aliases.isEmpty() ? ImmutableSet.copyOf(indices) : aliases,
+            ImmutableSet.of(),
+            IndicesOptions.LENIENT_EXPAND_OPEN
+        );
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableSet;
+
+import org.opensearch.action.admin.cluster.health.ClusterHealthAction;
+import org.opensearch.action.admin.cluster.health.ClusterHealthRequest;
+import org.opensearch.action.search.SearchAction;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.auditlog.NullAuditLog;
+import org.opensearch.security.configuration.ClusterInfoHolder;
+import org.opensearch.security.resolver.IndexResolverReplacer;
+import org.opensearch.security.securityconf.ConfigModel;
+import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.support.SecurityMetrics;
+import org.opensearch.security.user.User;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Micro-benchmarks for PrivilegesEvaluator.evaluate(). In contrast to ActionPrivilegesBenchmark, this also covers
+ * index resolution and the evaluators which are run before ActionPrivileges is consulted.
+ * <p>
+ * Run with: ./gradlew jmh -Pjmh.includes=PrivilegesEvaluatorBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrivilegesEvaluatorBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    int numberOfRoles;
+
+    @Param({ "100", "1000", "10000", "100000" })
+    int numberOfIndices;
+
+    PrivilegesEvaluator subject;
+    User user;
+    ImmutableSet<String> mappedRoles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Metadata metadata = SyntheticPrivilegesConfig.createMetadata(numberOfIndices);
+        ClusterState clusterState = SyntheticPrivilegesConfig.createClusterState(metadata);
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        IndexNameExpressionResolver resolver = new IndexNameExpressionResolver(threadContext);
+        ClusterInfoHolder clusterInfoHolder = new ClusterInfoHolder("benchmark_cluster");
+
+        this.subject = new PrivilegesEvaluator(
+            null,
+            () -> clusterState,
+            null,
+            threadContext,
+            null,
+            resolver,
+            new NullAuditLog(),
+            Settings.EMPTY,
+            new PrivilegesInterceptor(resolver, null, null, null),
+            clusterInfoHolder,
+            new IndexResolverReplacer(resolver, () -> clusterState, clusterInfoHolder),
+            null,
+            PrivilegesBuildExecutor.SEQUENTIAL,
+            new SecurityMetrics()
+        );
+        this.subject.onConfigModelChanged(Mockito.mock(ConfigModel.class));
+        this.subject.onDynamicConfigModelChanged(Mockito.mock(DynamicConfigModel.class));
+        this.subject.updateConfiguration(
+            SecurityDynamicConfiguration.empty(CType.ACTIONGROUPS),
+            SyntheticPrivilegesConfig.createRoles(numberOfRoles, numberOfIndices)
+        );
+
+        ImmutableSet.Builder<String> mappedRoles = ImmutableSet.builder();
+        for (int i = 0; i < Math.min(5, numberOfRoles); i++) {
+            mappedRoles.add("role_" + (i * (numberOfRoles / 5)));
+        }
+        this.mappedRoles = mappedRoles.build();
+        this.user = new User("benchmark_user");
+    }
+
+    @Benchmark
+    public PrivilegesEvaluatorResponse evaluate_searchSingleIndex() {
+        SearchRequest request = new SearchRequest("index_1");
+        return subject.evaluate(subject.createContext(user, SearchAction.NAME, request, null, mappedRoles));
+    }
+
+    @Benchmark
+    public PrivilegesEvaluatorResponse evaluate_searchAlias() {
+        SearchRequest request = new SearchRequest("alias_0");
+        return subject.evaluate(subject.createContext(user, SearchAction.NAME, request, null, mappedRoles));
+    }
+
+    @Benchmark
+    public PrivilegesEvaluatorResponse evaluate_searchWildcard() {
+        SearchRequest request = new SearchRequest("index_1*");
+        return subject.evaluate(subject.createContext(user, SearchAction.NAME, request, null, mappedRoles));
+    }
+
+    @Benchmark
+    public PrivilegesEvaluatorResponse evaluate_clusterAction() {
+        ClusterHealthRequest request = new ClusterHealthRequest();
+        return subject.evaluate(subject.createContext(user, ClusterHealthAction.NAME, request, null, mappedRoles));
+    }
+}
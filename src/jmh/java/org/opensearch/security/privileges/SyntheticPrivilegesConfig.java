@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.google.common.collect.ImmutableMap;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.RoleV7;
+
+/**
+ * Creates synthetic, but reproducible role configurations and cluster metadata for the privilege evaluation benchmarks.
+ * <p>
+ * Indices are named index_0 to index_(n-1). Each group of ALIAS_GROUP_SIZE consecutive indices is member of an alias
+ * named alias_0, alias_1, ... Roles grant privileges on a random selection of index name prefixes and single indices,
+ * which resembles typical multi-tenant setups.
+ */
+class SyntheticPrivilegesConfig {
+
+    static final int ALIAS_GROUP_SIZE = 10;
+
+    private static final Settings INDEX_SETTINGS = Settings.builder()
+        .put(IndexMetadata.SETTING_INDEX_VERSION_CREATED.getKey(), Version.CURRENT)
+        .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+        .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+        .build();
+
+    private static final List<String> INDEX_ACTIONS = Arrays.asList(
+        "indices:data/read*",
+        "indices:admin/mappings/fields/get*",
+        "indices:admin/resolve/index",
+        "indices:data/write*",
+        "indices:admin/mapping/put"
+    );
+
+    private static final List<String> CLUSTER_ACTIONS = Arrays.asList(
+        "cluster:monitor/health",
+        "cluster:monitor/nodes/stats*",
+        "indices:data/read/msearch*",
+        "indices:data/read/scroll*"
+    );
+
+    static Metadata createMetadata(int numberOfIndices) {
+        Metadata.Builder builder = Metadata.builder();
+
+        for (int i = 0; i < numberOfIndices; i++) {
+            String indexName = "index_" + i;
+            builder.put(
+                IndexMetadata.builder(indexName)
+                    .settings(Settings.builder().put(INDEX_SETTINGS).put(IndexMetadata.SETTING_INDEX_UUID, indexName).build())
+                    .putAlias(AliasMetadata.builder("alias_" + (i / ALIAS_GROUP_SIZE)).build()),
+                false
+            );
+        }
+
+        return builder.version(1).build();
+    }
+
+    static ClusterState createClusterState(Metadata metadata) {
+        return ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build();
+    }
+
+    static SecurityDynamicConfiguration<RoleV7> createRoles(int numberOfRoles, int numberOfIndices) {
+        try {
+            Random random = new Random(1);
+            Map<String, Object> rolesDocument = new HashMap<>();
+
+            for (int i = 0; i < numberOfRoles; i++) {
+                List<String> indexPatterns = new ArrayList<>();
+                int numberOfIndexPatterns = Math.min(
+                    (int) ((Math.abs(random.nextGaussian() + 0.3)) * 0.5 * numberOfIndices),
+                    numberOfIndices
+                );
+
+                int numberOfIndexPatterns10th = Math.min(numberOfIndexPatterns / 10, 100);
+
+                if (numberOfIndexPatterns10th > 0) {
+                    for (int k = 0; k < numberOfIndexPatterns10th; k++) {
+                        indexPatterns.add("index_" + random.nextInt(Math.max(numberOfIndices / 10, 1)) + "*");
+                    }
+                } else {
+                    for (int k = 0; k < Math.max(numberOfIndexPatterns, 1); k++) {
+                        indexPatterns.add("index_" + random.nextInt(numberOfIndices));
+                    }
+                }
+
+                if (i % 10 == 0) {
+                    indexPatterns.add("alias_" + random.nextInt(Math.max(numberOfIndices / ALIAS_GROUP_SIZE, 1)));
+                }
+
+                Map<String, Object> roleDocument = ImmutableMap.of(
+                    "cluster_permissions",
+                    Arrays.asList(CLUSTER_ACTIONS.get(i % CLUSTER_ACTIONS.size())),
+                    "index_permissions",
+                    Arrays.asList(ImmutableMap.of("index_patterns", indexPatterns, "allowed_actions", INDEX_ACTIONS))
+                );
+
+                rolesDocument.put("role_" + i, roleDocument);
+            }
+
+            return SecurityDynamicConfiguration.fromMap(rolesDocument, CType.ROLES);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
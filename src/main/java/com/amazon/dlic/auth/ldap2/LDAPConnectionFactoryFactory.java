@@ -17,6 +17,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.ToIntFunction;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -68,6 +71,15 @@ public class LDAPConnectionFactoryFactory {
 
     private static final Logger log = LogManager.getLogger(LDAPConnectionFactoryFactory.class);
 
+    /**
+     * The connection pools created by this class, for reporting pool usage. Pools which are no longer referenced by
+     * an auth backend are removed automatically. As the auth backends are instantiated reflectively, the pools are
+     * tracked per class loader rather than per node.
+     */
+    private static final Set<ConnectionPool> connectionPools = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>())
+    );
+
     private final Settings settings;
     private final SettingsBasedSSLConfigurator.SSLConfig sslConfig;
 
@@ -151,6 +163,33 @@ public class LDAPConnectionFactoryFactory {
         );
 
         result.initialize();
+        connectionPools.add(result);
+
+        return result;
+    }
+
+    /**
+     * Returns the number of connections which are currently borrowed from the LDAP connection pools.
+     */
+    public static long getActivePooledConnections() {
+        return sumOverPools(ConnectionPool::activeCount);
+    }
+
+    /**
+     * Returns the number of idle connections in the LDAP connection pools.
+     */
+    public static long getAvailablePooledConnections() {
+        return sumOverPools(ConnectionPool::availableCount);
+    }
+
+    private static long sumOverPools(ToIntFunction<ConnectionPool> function) {
+        long result = 0;
+
+        synchronized (connectionPools) {
+            for (ConnectionPool pool : connectionPools) {
+                result += function.applyAsInt(pool);
+            }
+        }
 
         return result;
     }
@@ -93,6 +93,7 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -126,14 +127,19 @@ import org.opensearch.plugins.SecureTransportSettingsProvider;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.rest.RestController;
 import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestHeaderDefinition;
 import org.opensearch.script.ScriptService;
 import org.opensearch.search.internal.InternalScrollSearchRequest;
 import org.opensearch.search.internal.ReaderContext;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.security.action.authcache.AuthCacheUpdateAction;
+import org.opensearch.security.action.authcache.TransportAuthCacheUpdateAction;
 import org.opensearch.security.action.configupdate.ConfigUpdateAction;
 import org.opensearch.security.action.configupdate.TransportConfigUpdateAction;
 import org.opensearch.security.action.onbehalf.CreateOnBehalfOfTokenAction;
+import org.opensearch.security.action.stats.StatsAction;
+import org.opensearch.security.action.stats.TransportStatsAction;
 import org.opensearch.security.action.whoami.TransportWhoAmIAction;
 import org.opensearch.security.action.whoami.WhoAmIAction;
 import org.opensearch.security.auditlog.AuditLog;
@@ -142,13 +148,17 @@ import org.opensearch.security.auditlog.AuditLogSslExceptionHandler;
 import org.opensearch.security.auditlog.NullAuditLog;
 import org.opensearch.security.auditlog.config.AuditConfig.Filter.FilterEntries;
 import org.opensearch.security.auditlog.impl.AuditLogImpl;
+import org.opensearch.security.auditlog.sink.AbstractInternalOpenSearchSink;
 import org.opensearch.security.auth.BackendRegistry;
+import org.opensearch.security.auth.SharedAuthenticationCache;
 import org.opensearch.security.compliance.ComplianceIndexingOperationListener;
 import org.opensearch.security.compliance.ComplianceIndexingOperationListenerImpl;
 import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.configuration.ClusterInfoHolder;
 import org.opensearch.security.configuration.CompatConfig;
 import org.opensearch.security.configuration.ConfigurationRepository;
+import org.opensearch.security.configuration.DlsBitsetCache;
+import org.opensearch.security.configuration.DlsBitsetWarmer;
 import org.opensearch.security.configuration.DlsFlsRequestValve;
 import org.opensearch.security.configuration.DlsFlsValveImpl;
 import org.opensearch.security.configuration.PrivilegesInterceptorImpl;
@@ -158,6 +168,7 @@ import org.opensearch.security.dlic.rest.api.SecurityRestApiActions;
 import org.opensearch.security.dlic.rest.api.ssl.CertificatesActionType;
 import org.opensearch.security.dlic.rest.api.ssl.TransportCertificatesInfoNodesAction;
 import org.opensearch.security.dlic.rest.validation.PasswordValidator;
+import org.opensearch.security.filter.AuthorizationTickets;
 import org.opensearch.security.filter.SecurityFilter;
 import org.opensearch.security.filter.SecurityRestFilter;
 import org.opensearch.security.hasher.PasswordHasher;
@@ -167,16 +178,21 @@ import org.opensearch.security.http.XFFResolver;
 import org.opensearch.security.identity.ContextProvidingPluginSubject;
 import org.opensearch.security.identity.SecurityTokenManager;
 import org.opensearch.security.privileges.ActionPrivileges;
+import org.opensearch.security.privileges.PrivilegesBuildExecutor;
+import org.opensearch.security.privileges.PrivilegesEvaluationTrace;
 import org.opensearch.security.privileges.PrivilegesEvaluationException;
 import org.opensearch.security.privileges.PrivilegesEvaluator;
 import org.opensearch.security.privileges.PrivilegesInterceptor;
 import org.opensearch.security.privileges.RestLayerPrivilegesEvaluator;
 import org.opensearch.security.privileges.dlsfls.DlsFlsBaseContext;
+import org.opensearch.security.privileges.dlsfls.DlsFlsProcessedConfig;
+import org.opensearch.security.privileges.dlsfls.DocumentPrivileges;
 import org.opensearch.security.resolver.IndexResolverReplacer;
 import org.opensearch.security.rest.DashboardsInfoAction;
 import org.opensearch.security.rest.SecurityConfigUpdateAction;
 import org.opensearch.security.rest.SecurityHealthAction;
 import org.opensearch.security.rest.SecurityInfoAction;
+import org.opensearch.security.rest.SecurityStatsAction;
 import org.opensearch.security.rest.SecurityWhoAmIAction;
 import org.opensearch.security.rest.TenantInfoAction;
 import org.opensearch.security.securityconf.DynamicConfigFactory;
@@ -196,6 +212,8 @@ import org.opensearch.security.support.GuardedSearchOperationWrapper;
 import org.opensearch.security.support.HeaderHelper;
 import org.opensearch.security.support.ModuleInfo;
 import org.opensearch.security.support.ReflectionHelper;
+import org.opensearch.security.support.ReverseDnsResolver;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.security.support.SecuritySettings;
 import org.opensearch.security.transport.DefaultInterClusterRequestEvaluator;
 import org.opensearch.security.transport.InterClusterRequestEvaluator;
@@ -204,6 +222,7 @@ import org.opensearch.security.user.User;
 import org.opensearch.security.user.UserService;
 import org.opensearch.tasks.Task;
 import org.opensearch.telemetry.tracing.Tracer;
+import org.opensearch.threadpool.ExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.RemoteClusterService;
 import org.opensearch.transport.Transport;
@@ -219,6 +238,8 @@ import org.opensearch.transport.client.Client;
 import org.opensearch.transport.netty4.ssl.SecureNetty4Transport;
 import org.opensearch.watcher.ResourceWatcherService;
 
+import com.amazon.dlic.auth.ldap2.LDAPConnectionFactoryFactory;
+
 import static org.opensearch.security.dlic.rest.api.RestApiAdminPrivilegesEvaluator.ENDPOINTS_WITH_PERMISSIONS;
 import static org.opensearch.security.dlic.rest.api.RestApiAdminPrivilegesEvaluator.SECURITY_CONFIG_UPDATE;
 import static org.opensearch.security.privileges.dlsfls.FieldMasking.Config.BLAKE2B_LEGACY_DEFAULT;
@@ -275,6 +296,10 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
     private volatile OpensearchDynamicSetting<Boolean> transportPassiveAuthSetting;
     private volatile PasswordHasher passwordHasher;
     private volatile DlsFlsBaseContext dlsFlsBaseContext;
+    private volatile DlsBitsetCache dlsBitsetCache;
+    private volatile PrivilegesBuildExecutor privilegesBuildExecutor;
+    private volatile ReverseDnsResolver reverseDnsResolver;
+    private volatile SecurityMetrics securityMetrics;
 
     public static boolean isActionTraceEnabled() {
 
@@ -295,6 +320,9 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         if (auditLog != null) {
             auditLog.close();
         }
+        if (privilegesBuildExecutor != null) {
+            privilegesBuildExecutor.close();
+        }
     }
 
     private final SslExceptionHandler evaluateSslExceptionHandler() {
@@ -606,6 +634,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     new SecurityInfoAction(settings, restController, Objects.requireNonNull(evaluator), Objects.requireNonNull(threadPool))
                 );
                 handlers.add(new SecurityHealthAction(settings, restController, Objects.requireNonNull(backendRegistry)));
+                handlers.add(new SecurityStatsAction());
                 handlers.add(
                     new DashboardsInfoAction(
                         settings,
@@ -692,6 +721,8 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                 actions.add(new ActionHandler<>(CertificatesActionType.INSTANCE, TransportCertificatesInfoNodesAction.class));
             }
             actions.add(new ActionHandler<>(WhoAmIAction.INSTANCE, TransportWhoAmIAction.class));
+            actions.add(new ActionHandler<>(AuthCacheUpdateAction.INSTANCE, TransportAuthCacheUpdateAction.class));
+            actions.add(new ActionHandler<>(StatsAction.INSTANCE, TransportStatsAction.class));
         }
         return actions;
     }
@@ -716,7 +747,9 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     ciol,
                     evaluator,
                     dlsFlsValve::getCurrentConfig,
-                    dlsFlsBaseContext
+                    dlsFlsBaseContext,
+                    dlsBitsetCache,
+                    securityMetrics
                 )
             );
             indexModule.forceQueryCacheProvider((indexSettings, nodeCache) -> new QueryCache() {
@@ -847,6 +880,11 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         return filters;
     }
 
+    @Override
+    public Collection<RestHeaderDefinition> getRestHeaders() {
+        return List.of(new RestHeaderDefinition(PrivilegesEvaluationTrace.HEADER, false));
+    }
+
     @Override
     public List<TransportInterceptor> getTransportInterceptors(NamedWriteableRegistry namedWriteableRegistry, ThreadContext threadContext) {
         List<TransportInterceptor> interceptors = new ArrayList<TransportInterceptor>(1);
@@ -1067,7 +1105,16 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         this.cs.addListener(cih);
 
         final IndexNameExpressionResolver resolver = new IndexNameExpressionResolver(threadPool.getThreadContext());
-        irr = new IndexResolverReplacer(resolver, clusterService::state, cih);
+        irr = new IndexResolverReplacer(
+            resolver,
+            clusterService::state,
+            cih,
+            IndexResolverReplacer.RESOLVED_PATTERNS_CACHE_MAX_SIZE.get(settings)
+        );
+
+        securityMetrics = new SecurityMetrics();
+        reverseDnsResolver = new ReverseDnsResolver(settings, threadPool, securityMetrics);
+        privilegesBuildExecutor = new PrivilegesBuildExecutor(settings);
 
         final String DEFAULT_INTERCLUSTER_REQUEST_EVALUATOR_CLASS = DefaultInterClusterRequestEvaluator.class.getName();
         InterClusterRequestEvaluator interClusterRequestEvaluator = new DefaultInterClusterRequestEvaluator(settings);
@@ -1088,7 +1135,16 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             auditLog = new NullAuditLog();
             privilegesInterceptor = new PrivilegesInterceptor(resolver, clusterService, localClient, threadPool);
         } else {
-            auditLog = new AuditLogImpl(settings, configPath, localClient, threadPool, resolver, clusterService, environment);
+            auditLog = new AuditLogImpl(
+                settings,
+                configPath,
+                localClient,
+                threadPool,
+                resolver,
+                clusterService,
+                environment,
+                securityMetrics
+            );
             privilegesInterceptor = new PrivilegesInterceptorImpl(resolver, clusterService, localClient, threadPool);
         }
 
@@ -1096,14 +1152,31 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
 
         adminDns = new AdminDNs(settings);
 
-        cr = ConfigurationRepository.create(settings, this.configPath, threadPool, localClient, clusterService, auditLog);
+        cr = ConfigurationRepository.create(settings, this.configPath, threadPool, localClient, clusterService, auditLog, securityMetrics);
 
         this.passwordHasher = PasswordHasherFactory.createPasswordHasher(settings);
 
         userService = new UserService(cs, cr, passwordHasher, settings, localClient);
 
         final XFFResolver xffResolver = new XFFResolver(threadPool);
-        backendRegistry = new BackendRegistry(settings, adminDns, xffResolver, auditLog, threadPool);
+        final SharedAuthenticationCache sharedAuthenticationCache = new SharedAuthenticationCache(
+            settings,
+            localClient,
+            clusterService,
+            threadPool
+        );
+        // Must be subscribed before the DynamicConfigFactory, which evicts the users affected by a configuration change
+        cr.subscribeOnChange(sharedAuthenticationCache::onConfigurationChanged);
+        backendRegistry = new BackendRegistry(
+            settings,
+            adminDns,
+            xffResolver,
+            auditLog,
+            threadPool,
+            sharedAuthenticationCache,
+            reverseDnsResolver,
+            securityMetrics
+        );
         tokenManager = new SecurityTokenManager(cs, threadPool, userService);
 
         final CompatConfig compatConfig = new CompatConfig(environment, transportPassiveAuthSetting);
@@ -1120,10 +1193,13 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             privilegesInterceptor,
             cih,
             irr,
-            namedXContentRegistry.get()
+            namedXContentRegistry.get(),
+            privilegesBuildExecutor,
+            securityMetrics
         );
 
         dlsFlsBaseContext = new DlsFlsBaseContext(evaluator, threadPool.getThreadContext(), adminDns);
+        dlsBitsetCache = new DlsBitsetCache(settings, securityMetrics);
 
         if (SSLConfig.isSslOnlyMode()) {
             dlsFlsValve = new DlsFlsRequestValve.NoopDlsFlsRequestValve();
@@ -1135,9 +1211,18 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                 resolver,
                 xContentRegistry,
                 threadPool,
-                dlsFlsBaseContext
+                dlsFlsBaseContext,
+                privilegesBuildExecutor,
+                securityMetrics
             );
-            cr.subscribeOnChange(configMap -> { ((DlsFlsValveImpl) dlsFlsValve).updateConfiguration(cr.getConfiguration(CType.ROLES)); });
+            cr.subscribeOnChange(configMap -> {
+                ((DlsFlsValveImpl) dlsFlsValve).updateConfiguration(cr.getConfiguration(CType.ROLES));
+
+                DlsFlsProcessedConfig dlsFlsConfig = dlsFlsValve.getCurrentConfig();
+                if (dlsFlsConfig != null) {
+                    cr.recordBuildTimes(dlsFlsConfig.getBuildTimes());
+                }
+            });
         }
 
         sf = new SecurityFilter(settings, evaluator, adminDns, dlsFlsValve, auditLog, threadPool, cs, compatConfig, irr, xffResolver);
@@ -1162,7 +1247,7 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             configPath,
             compatConfig
         );
-        dcf = new DynamicConfigFactory(cr, settings, configPath, localClient, threadPool, cih, passwordHasher);
+        dcf = new DynamicConfigFactory(cr, settings, configPath, localClient, threadPool, cih, passwordHasher, reverseDnsResolver);
         dcf.registerDCFListener(backendRegistry);
         dcf.registerDCFListener(compatConfig);
         dcf.registerDCFListener(irr);
@@ -1202,16 +1287,20 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             e.subscribeForChanges(dcf);
         }
 
+        registerMetrics();
+
         components.add(adminDns);
         components.add(cr);
         components.add(xffResolver);
         components.add(backendRegistry);
+        components.add(sharedAuthenticationCache);
         components.add(evaluator);
         components.add(restLayerEvaluator);
         components.add(si);
         components.add(dcf);
         components.add(userService);
         components.add(passwordHasher);
+        components.add(securityMetrics);
 
         components.add(sslSettingsManager);
         if (isSslCertReloadEnabled(settings) && sslCertificatesHotReloadEnabled(settings)) {
@@ -1236,6 +1325,62 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
         return components;
     }
 
+    /**
+     * Registers gauges which report the state of the node-level components; these are reported by the
+     * _plugins/_security/stats endpoint.
+     */
+    private void registerMetrics() {
+        securityMetrics.gauge("privileges.stateful_index.estimated_bytes", () -> {
+            ActionPrivileges actionPrivileges = evaluator.getActionPrivileges();
+            return actionPrivileges != null ? actionPrivileges.getStatefulIndexStats().getEstimatedByteSize() : 0;
+        });
+        securityMetrics.gauge("privileges.stateful_index.indices", () -> {
+            ActionPrivileges actionPrivileges = evaluator.getActionPrivileges();
+            return actionPrivileges != null ? actionPrivileges.getStatefulIndexStats().getNumberOfIndices() : 0;
+        });
+        securityMetrics.gauge("index_resolver.patterns_cache.entries", irr::getResolvedPatternsCacheSize);
+        securityMetrics.gauge("index_resolver.patterns_cache.hits", irr::getResolvedPatternsCacheHits);
+        securityMetrics.gauge("index_resolver.patterns_cache.misses", irr::getResolvedPatternsCacheMisses);
+        securityMetrics.gauge("dls.bitset_cache.entries", dlsBitsetCache::size);
+        securityMetrics.gauge("dls.bitset_cache.bytes", dlsBitsetCache::getRamBytesUsed);
+        securityMetrics.gauge("dls.bitset_cache.hits", () -> dlsBitsetCache.getStats().hitCount());
+        securityMetrics.gauge("dls.bitset_cache.misses", () -> dlsBitsetCache.getStats().missCount());
+        securityMetrics.gauge("reverse_dns.cache_hits", reverseDnsResolver::getCacheHits);
+        securityMetrics.gauge("reverse_dns.cache_misses", reverseDnsResolver::getCacheMisses);
+        securityMetrics.gauge("reverse_dns.stale_hits", reverseDnsResolver::getStaleHits);
+        securityMetrics.gauge("reverse_dns.lookups", reverseDnsResolver::getLookups);
+        securityMetrics.gauge("reverse_dns.failed_lookups", reverseDnsResolver::getFailedLookups);
+        securityMetrics.gauge("reverse_dns.timeouts", reverseDnsResolver::getTimeouts);
+        securityMetrics.gauge("ldap.pool.active", LDAPConnectionFactoryFactory::getActivePooledConnections);
+        securityMetrics.gauge("ldap.pool.available", LDAPConnectionFactoryFactory::getAvailablePooledConnections);
+
+        if (auditLog instanceof AuditLogImpl) {
+            final AuditLogImpl auditLogImpl = (AuditLogImpl) auditLog;
+            securityMetrics.gauge("audit.queue_size", auditLogImpl::getQueueSize);
+            securityMetrics.gauge("audit.dropped", auditLogImpl::getDroppedTotal);
+
+            for (Map.Entry<String, AbstractInternalOpenSearchSink.BulkStats> entry : auditLogImpl.getBulkStats().entrySet()) {
+                final String prefix = "audit.bulk." + entry.getKey() + ".";
+                final AbstractInternalOpenSearchSink.BulkStats bulkStats = entry.getValue();
+                securityMetrics.gauge(prefix + "buffered_messages", bulkStats::getBufferedMessages);
+                securityMetrics.gauge(prefix + "flushed_messages", bulkStats::getFlushedMessages);
+                securityMetrics.gauge(prefix + "retried_messages", bulkStats::getRetriedMessages);
+                securityMetrics.gauge(prefix + "failed_messages", bulkStats::getFailedMessages);
+                securityMetrics.gauge(prefix + "last_batch_size", bulkStats::getLastBatchSize);
+                securityMetrics.gauge(prefix + "average_batch_size", () -> Math.round(bulkStats.getAverageBatchSize()));
+            }
+        }
+    }
+
+    @Override
+    public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
+        if (disabled) {
+            return Collections.emptyList();
+        }
+
+        return List.of(ReverseDnsResolver.executorBuilder(settings));
+    }
+
     @Override
     public List<NamedWriteableRegistry.Entry> getNamedWriteables() {
         return List.of(
@@ -1430,6 +1575,13 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             settings.add(Setting.boolSetting(ConfigConstants.SECURITY_DISABLED, false, Property.NodeScope, Property.Filtered));
 
             settings.add(Setting.intSetting(ConfigConstants.SECURITY_CACHE_TTL_MINUTES, 60, 0, Property.NodeScope, Property.Filtered));
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_CACHE_REFRESH_AHEAD_PERCENT, 0, 0, 99, Property.NodeScope, Property.Filtered)
+            );
+            settings.add(Setting.boolSetting(ConfigConstants.SECURITY_CACHE_SHARED_ENABLED, false, Property.NodeScope, Property.Filtered));
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_CACHE_SHARED_MAX_SIZE, 10000, 0, Property.NodeScope, Property.Filtered)
+            );
 
             // Security
             settings.add(
@@ -1473,6 +1625,25 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                     Property.Filtered
                 )
             );
+            settings.add(
+                Setting.simpleString(
+                    ConfigConstants.SECURITY_AUDIT_THREADPOOL_QUEUE_TYPE,
+                    "executor",
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.simpleString(
+                    ConfigConstants.SECURITY_AUDIT_THREADPOOL_OVERFLOW_POLICY,
+                    "drop_newest",
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(ConfigConstants.SECURITY_AUDIT_THREADPOOL_SAMPLE_RATE, 10, 1, Property.NodeScope, Property.Filtered)
+            );
             settings.add(
                 Setting.boolSetting(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_LOG_REQUEST_BODY, true, Property.NodeScope, Property.Filtered)
             );
@@ -1488,6 +1659,15 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
             settings.add(
                 Setting.simpleString(ConfigConstants.SECURITY_MASKED_FIELDS_ALGORITHM_DEFAULT, Property.NodeScope, Property.Filtered)
             );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_MASKED_FIELDS_CACHE_SIZE,
+                    ConfigConstants.SECURITY_MASKED_FIELDS_CACHE_SIZE_DEFAULT,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
             final List<String> disabledCategories = new ArrayList<String>(2);
             disabledCategories.add("AUTHENTICATED");
             disabledCategories.add("GRANTED_PRIVILEGES");
@@ -1609,6 +1789,42 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
                 )
             );
 
+            // Internal OpenSearch bulk mode
+            settings.add(
+                Setting.boolSetting(
+                    ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_ENABLED,
+                    false,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_ACTIONS,
+                    ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_ACTIONS_DEFAULT,
+                    1,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.positiveTimeSetting(
+                    ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_FLUSH_INTERVAL,
+                    TimeValue.timeValueMillis(ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_FLUSH_INTERVAL_DEFAULT_MS),
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+            settings.add(
+                Setting.intSetting(
+                    ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT_PREFIX + ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_RETRIES,
+                    ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_RETRIES_DEFAULT,
+                    0,
+                    Property.NodeScope,
+                    Property.Filtered
+                )
+            );
+
             // Internal OpenSearch DataStream
             settings.add(
                 Setting.simpleString(
@@ -2074,6 +2290,24 @@ public final class OpenSearchSecurityPlugin extends OpenSearchSecuritySSLPlugin
 
             // Privileges evaluation
             settings.add(ActionPrivileges.PRECOMPUTED_PRIVILEGES_MAX_HEAP_SIZE);
+            settings.add(ActionPrivileges.DECISION_CACHE_MAX_SIZE);
+            settings.add(DocumentPrivileges.RENDERED_QUERY_CACHE_MAX_SIZE);
+            settings.add(PrivilegesBuildExecutor.PARALLELISM);
+            settings.add(PrivilegesEvaluationTrace.USERS);
+            settings.add(PrivilegesEvaluationTrace.HEADER_ENABLED);
+            settings.add(IndexResolverReplacer.RESOLVED_PATTERNS_CACHE_MAX_SIZE);
+            settings.add(AuthorizationTickets.ENABLED);
+
+            // Host name based role mapping
+            settings.add(ReverseDnsResolver.POSITIVE_TTL);
+            settings.add(ReverseDnsResolver.NEGATIVE_TTL);
+            settings.add(ReverseDnsResolver.TIMEOUT);
+            settings.add(ReverseDnsResolver.CACHE_MAX_SIZE);
+
+            // DLS/FLS
+            settings.add(DlsBitsetCache.MAX_SIZE);
+            settings.add(DlsBitsetWarmer.MAX_QUERIES);
+            settings.add(DlsBitsetWarmer.MAX_TIME);
         }
 
         return settings;
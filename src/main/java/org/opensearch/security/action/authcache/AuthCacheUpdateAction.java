@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.authcache;
+
+import org.opensearch.action.ActionType;
+
+public class AuthCacheUpdateAction extends ActionType<AuthCacheUpdateResponse> {
+
+    public static final AuthCacheUpdateAction INSTANCE = new AuthCacheUpdateAction();
+    public static final String NAME = "internal:opendistro_security/authcache/update";
+
+    protected AuthCacheUpdateAction() {
+        super(NAME, AuthCacheUpdateResponse::new);
+    }
+}
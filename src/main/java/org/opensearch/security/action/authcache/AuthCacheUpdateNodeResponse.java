@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.authcache;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class AuthCacheUpdateNodeResponse extends BaseNodeResponse {
+
+    private final int stored;
+
+    public AuthCacheUpdateNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.stored = in.readVInt();
+    }
+
+    public AuthCacheUpdateNodeResponse(final DiscoveryNode node, int stored) {
+        super(node);
+        this.stored = stored;
+    }
+
+    public static AuthCacheUpdateNodeResponse readNodeResponse(StreamInput in) throws IOException {
+        return new AuthCacheUpdateNodeResponse(in);
+    }
+
+    /**
+     * Returns the number of entries stored by the node. Entries are rejected if the shared cache is disabled or if the
+     * epoch of the node differs from the epoch of the entry.
+     */
+    public int getStored() {
+        return stored;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVInt(stored);
+    }
+
+    @Override
+    public String toString() {
+        return "AuthCacheUpdateNodeResponse [stored=" + stored + "]";
+    }
+}
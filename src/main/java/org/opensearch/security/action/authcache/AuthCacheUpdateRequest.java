@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.authcache;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.security.user.User;
+
+/**
+ * Replicates a batch of entries of the SharedAuthenticationCache to other nodes.
+ */
+public class AuthCacheUpdateRequest extends BaseNodesRequest<AuthCacheUpdateRequest> {
+
+    private final List<Entry> entries;
+
+    public AuthCacheUpdateRequest(StreamInput in) throws IOException {
+        super(in);
+        this.entries = in.readList(Entry::new);
+    }
+
+    public AuthCacheUpdateRequest(List<Entry> entries, String... nodeIds) {
+        super(nodeIds);
+        this.entries = entries;
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeList(entries);
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        if (entries == null || entries.isEmpty()) {
+            return new ActionRequestValidationException();
+        }
+        return null;
+    }
+
+    public static class Entry implements Writeable {
+        private final String key;
+        private final User user;
+        private final String epoch;
+
+        public Entry(String key, User user, String epoch) {
+            this.key = key;
+            this.user = user;
+            this.epoch = epoch;
+        }
+
+        public Entry(StreamInput in) throws IOException {
+            this.key = in.readString();
+            this.user = new User(in);
+            this.epoch = in.readString();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(key);
+            user.writeTo(out);
+            out.writeString(epoch);
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public User getUser() {
+            return user;
+        }
+
+        /**
+         * The epoch of the node which authenticated the user, at the time at which the authentication was started.
+         */
+        public String getEpoch() {
+            return epoch;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.authcache;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class AuthCacheUpdateResponse extends BaseNodesResponse<AuthCacheUpdateNodeResponse> {
+
+    public AuthCacheUpdateResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public AuthCacheUpdateResponse(
+        final ClusterName clusterName,
+        List<AuthCacheUpdateNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public List<AuthCacheUpdateNodeResponse> readNodesFrom(final StreamInput in) throws IOException {
+        return in.readList(AuthCacheUpdateNodeResponse::readNodeResponse);
+    }
+
+    @Override
+    public void writeNodesTo(final StreamOutput out, List<AuthCacheUpdateNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.authcache;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.security.auth.SharedAuthenticationCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportService;
+
+public class TransportAuthCacheUpdateAction extends TransportNodesAction<
+    AuthCacheUpdateRequest,
+    AuthCacheUpdateResponse,
+    TransportAuthCacheUpdateAction.NodeAuthCacheUpdateRequest,
+    AuthCacheUpdateNodeResponse> {
+
+    private final SharedAuthenticationCache sharedAuthenticationCache;
+
+    @Inject
+    public TransportAuthCacheUpdateAction(
+        final ThreadPool threadPool,
+        final ClusterService clusterService,
+        final TransportService transportService,
+        final ActionFilters actionFilters,
+        final SharedAuthenticationCache sharedAuthenticationCache
+    ) {
+        super(
+            AuthCacheUpdateAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            AuthCacheUpdateRequest::new,
+            TransportAuthCacheUpdateAction.NodeAuthCacheUpdateRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            AuthCacheUpdateNodeResponse.class
+        );
+
+        this.sharedAuthenticationCache = sharedAuthenticationCache;
+    }
+
+    public static class NodeAuthCacheUpdateRequest extends TransportRequest {
+
+        AuthCacheUpdateRequest request;
+
+        public NodeAuthCacheUpdateRequest(StreamInput in) throws IOException {
+            super(in);
+            request = new AuthCacheUpdateRequest(in);
+        }
+
+        public NodeAuthCacheUpdateRequest(final AuthCacheUpdateRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(final StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+
+    @Override
+    protected AuthCacheUpdateNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new AuthCacheUpdateNodeResponse(in);
+    }
+
+    @Override
+    protected AuthCacheUpdateResponse newResponse(
+        AuthCacheUpdateRequest request,
+        List<AuthCacheUpdateNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new AuthCacheUpdateResponse(this.clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected AuthCacheUpdateNodeResponse nodeOperation(final NodeAuthCacheUpdateRequest request) {
+        int stored = 0;
+
+        for (AuthCacheUpdateRequest.Entry entry : request.request.getEntries()) {
+            if (sharedAuthenticationCache.store(entry.getKey(), entry.getUser(), entry.getEpoch())) {
+                stored++;
+            }
+        }
+
+        return new AuthCacheUpdateNodeResponse(clusterService.localNode(), stored);
+    }
+
+    @Override
+    protected NodeAuthCacheUpdateRequest newNodeRequest(AuthCacheUpdateRequest request) {
+        return new NodeAuthCacheUpdateRequest(request);
+    }
+}
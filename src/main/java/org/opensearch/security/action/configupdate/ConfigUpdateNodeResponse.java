@@ -28,7 +28,10 @@ package org.opensearch.security.action.configupdate;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import org.opensearch.Version;
 import org.opensearch.action.support.nodes.BaseNodeResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -38,19 +41,38 @@ import org.opensearch.core.xcontent.XContentBuilder;
 
 public class ConfigUpdateNodeResponse extends BaseNodeResponse implements ToXContentObject {
 
+    static final Version BUILD_TIMES_AS_OF = Version.V_3_0_0;
+
     private String[] updatedConfigTypes;
     private String message;
+    /**
+     * The time in nanoseconds which was needed to build the privilege data structures after the reload, by component.
+     */
+    private Map<String, Long> buildTimeNanos;
 
     public ConfigUpdateNodeResponse(StreamInput in) throws IOException {
         super(in);
         this.updatedConfigTypes = in.readStringArray();
         this.message = in.readOptionalString();
+        this.buildTimeNanos = in.getVersion().onOrAfter(BUILD_TIMES_AS_OF)
+            ? in.readMap(StreamInput::readString, StreamInput::readVLong)
+            : Map.of();
     }
 
     public ConfigUpdateNodeResponse(final DiscoveryNode node, String[] updatedConfigTypes, String message) {
+        this(node, updatedConfigTypes, message, Map.of());
+    }
+
+    public ConfigUpdateNodeResponse(
+        final DiscoveryNode node,
+        String[] updatedConfigTypes,
+        String message,
+        Map<String, Long> buildTimeNanos
+    ) {
         super(node);
         this.updatedConfigTypes = updatedConfigTypes;
         this.message = message;
+        this.buildTimeNanos = buildTimeNanos;
     }
 
     public static ConfigUpdateNodeResponse readNodeResponse(StreamInput in) throws IOException {
@@ -65,11 +87,18 @@ public class ConfigUpdateNodeResponse extends BaseNodeResponse implements ToXCon
         return message;
     }
 
+    public Map<String, Long> getBuildTimeNanos() {
+        return buildTimeNanos;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
         out.writeStringArray(updatedConfigTypes);
         out.writeOptionalString(message);
+        if (out.getVersion().onOrAfter(BUILD_TIMES_AS_OF)) {
+            out.writeMap(buildTimeNanos, StreamOutput::writeString, StreamOutput::writeVLong);
+        }
     }
 
     @Override
@@ -83,6 +112,13 @@ public class ConfigUpdateNodeResponse extends BaseNodeResponse implements ToXCon
         builder.field("updated_config_types", updatedConfigTypes);
         builder.field("updated_config_size", updatedConfigTypes == null ? 0 : updatedConfigTypes.length);
         builder.field("message", message);
+        if (!buildTimeNanos.isEmpty()) {
+            builder.startObject("build_time_millis");
+            for (Map.Entry<String, Long> entry : buildTimeNanos.entrySet()) {
+                builder.field(entry.getKey(), TimeUnit.NANOSECONDS.toMillis(entry.getValue()));
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
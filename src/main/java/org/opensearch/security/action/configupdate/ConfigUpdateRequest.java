@@ -28,18 +28,39 @@ package org.opensearch.security.action.configupdate;
 
 import java.io.IOException;
 
+import org.opensearch.Version;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.common.UUIDs;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 
 public class ConfigUpdateRequest extends BaseNodesRequest<ConfigUpdateRequest> {
 
+    static final Version INVALIDATE_ALL_CACHES_FLAG_AS_OF = Version.V_3_0_0;
+
     private String[] configTypes;
+    /**
+     * If true, all cached users are evicted after the reload. Otherwise, only the users affected by the changed
+     * configuration are evicted.
+     */
+    private boolean invalidateAllCaches;
+    /**
+     * Identifies the invalidation of all caches on all nodes. Null if invalidateAllCaches is false or if the request
+     * was sent by an older node.
+     */
+    private String invalidationId;
 
     public ConfigUpdateRequest(StreamInput in) throws IOException {
         super(in);
         this.configTypes = in.readStringArray();
+        if (in.getVersion().onOrAfter(INVALIDATE_ALL_CACHES_FLAG_AS_OF)) {
+            this.invalidateAllCaches = in.readBoolean();
+            this.invalidationId = in.readOptionalString();
+        } else {
+            // Older nodes expect the caches to be invalidated on every config update
+            this.invalidateAllCaches = true;
+        }
     }
 
     public ConfigUpdateRequest() {
@@ -55,6 +76,10 @@ public class ConfigUpdateRequest extends BaseNodesRequest<ConfigUpdateRequest> {
     public void writeTo(final StreamOutput out) throws IOException {
         super.writeTo(out);
         out.writeStringArray(configTypes);
+        if (out.getVersion().onOrAfter(INVALIDATE_ALL_CACHES_FLAG_AS_OF)) {
+            out.writeBoolean(invalidateAllCaches);
+            out.writeOptionalString(invalidationId);
+        }
     }
 
     public String[] getConfigTypes() {
@@ -65,6 +90,20 @@ public class ConfigUpdateRequest extends BaseNodesRequest<ConfigUpdateRequest> {
         this.configTypes = configTypes;
     }
 
+    public boolean isInvalidateAllCaches() {
+        return invalidateAllCaches;
+    }
+
+    public ConfigUpdateRequest setInvalidateAllCaches(boolean invalidateAllCaches) {
+        this.invalidateAllCaches = invalidateAllCaches;
+        this.invalidationId = invalidateAllCaches ? UUIDs.randomBase64UUID() : null;
+        return this;
+    }
+
+    public String getInvalidationId() {
+        return invalidationId;
+    }
+
     @Override
     public ActionRequestValidationException validate() {
         if (configTypes == null || configTypes.length == 0) {
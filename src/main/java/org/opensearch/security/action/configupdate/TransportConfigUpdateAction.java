@@ -28,6 +28,7 @@ package org.opensearch.security.action.configupdate;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -126,10 +127,16 @@ public class TransportConfigUpdateAction extends TransportNodesAction<
     @Override
     protected ConfigUpdateNodeResponse nodeOperation(final NodeConfigUpdateRequest request) {
         boolean didReload = configurationRepository.reloadConfiguration(CType.fromStringValues((request.request.getConfigTypes())));
-        if (didReload) {
-            backendRegistry.get().invalidateCache();
+        // Users affected by the changed configuration are already evicted by BackendRegistry while reloading
+        if (didReload && request.request.isInvalidateAllCaches()) {
+            backendRegistry.get().invalidateCache(request.request.getInvalidationId());
         }
-        return new ConfigUpdateNodeResponse(clusterService.localNode(), request.request.getConfigTypes(), null);
+        return new ConfigUpdateNodeResponse(
+            clusterService.localNode(),
+            request.request.getConfigTypes(),
+            null,
+            didReload ? configurationRepository.getBuildTimes() : Map.of()
+        );
     }
 
     @Override
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.stats;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.security.support.SecurityMetrics;
+
+public class StatsNodeResponse extends BaseNodeResponse implements ToXContentFragment {
+
+    private final Map<String, Long> counters;
+    private final Map<String, Long> gauges;
+    private final Map<String, SecurityMetrics.HistogramSnapshot> histograms;
+
+    public StatsNodeResponse(StreamInput in) throws IOException {
+        super(in);
+        this.counters = in.readMap(StreamInput::readString, StreamInput::readVLong);
+        this.gauges = in.readMap(StreamInput::readString, StreamInput::readLong);
+        this.histograms = in.readMap(StreamInput::readString, SecurityMetrics.HistogramSnapshot::new);
+    }
+
+    public StatsNodeResponse(
+        final DiscoveryNode node,
+        Map<String, Long> counters,
+        Map<String, Long> gauges,
+        Map<String, SecurityMetrics.HistogramSnapshot> histograms
+    ) {
+        super(node);
+        this.counters = counters;
+        this.gauges = gauges;
+        this.histograms = histograms;
+    }
+
+    public static StatsNodeResponse readNodeResponse(StreamInput in) throws IOException {
+        return new StatsNodeResponse(in);
+    }
+
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    public Map<String, Long> getGauges() {
+        return gauges;
+    }
+
+    public Map<String, SecurityMetrics.HistogramSnapshot> getHistograms() {
+        return histograms;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeMap(counters, StreamOutput::writeString, StreamOutput::writeVLong);
+        out.writeMap(gauges, StreamOutput::writeString, StreamOutput::writeLong);
+        out.writeMap(histograms, StreamOutput::writeString, (o, histogram) -> histogram.writeTo(o));
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field("name", getNode().getName());
+        builder.startObject("counters");
+        for (Map.Entry<String, Long> entry : counters.entrySet()) {
+            builder.field(entry.getKey(), entry.getValue());
+        }
+        builder.endObject();
+        builder.startObject("gauges");
+        for (Map.Entry<String, Long> entry : gauges.entrySet()) {
+            builder.field(entry.getKey(), entry.getValue());
+        }
+        builder.endObject();
+        builder.startObject("histograms");
+        for (Map.Entry<String, SecurityMetrics.HistogramSnapshot> entry : histograms.entrySet()) {
+            builder.field(entry.getKey(), entry.getValue());
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return "StatsNodeResponse [counters=" + counters + ", gauges=" + gauges + ", histograms=" + histograms + "]";
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.stats;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+/**
+ * Requests the runtime metrics of the security plugin from the given nodes, or from all nodes if no node ids are given.
+ */
+public class StatsRequest extends BaseNodesRequest<StatsRequest> {
+
+    public StatsRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public StatsRequest(String... nodeIds) {
+        super(nodeIds);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.stats;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.security.support.SecurityMetrics;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportService;
+
+public class TransportStatsAction extends TransportNodesAction<
+    StatsRequest,
+    StatsResponse,
+    TransportStatsAction.NodeStatsRequest,
+    StatsNodeResponse> {
+
+    private final SecurityMetrics metrics;
+
+    @Inject
+    public TransportStatsAction(
+        final ThreadPool threadPool,
+        final ClusterService clusterService,
+        final TransportService transportService,
+        final ActionFilters actionFilters,
+        final SecurityMetrics metrics
+    ) {
+        super(
+            StatsAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            StatsRequest::new,
+            TransportStatsAction.NodeStatsRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            StatsNodeResponse.class
+        );
+        this.metrics = metrics;
+    }
+
+    public static class NodeStatsRequest extends TransportRequest {
+
+        StatsRequest request;
+
+        public NodeStatsRequest(StreamInput in) throws IOException {
+            super(in);
+            request = new StatsRequest(in);
+        }
+
+        public NodeStatsRequest(final StatsRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(final StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+
+    @Override
+    protected StatsNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new StatsNodeResponse(in);
+    }
+
+    @Override
+    protected StatsResponse newResponse(StatsRequest request, List<StatsNodeResponse> responses, List<FailedNodeException> failures) {
+        return new StatsResponse(this.clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected StatsNodeResponse nodeOperation(final NodeStatsRequest request) {
+        return new StatsNodeResponse(
+            clusterService.localNode(),
+            metrics.getCounterValues(),
+            metrics.getGaugeValues(),
+            metrics.getHistogramSnapshots()
+        );
+    }
+
+    @Override
+    protected NodeStatsRequest newNodeRequest(StatsRequest request) {
+        return new NodeStatsRequest(request);
+    }
+}
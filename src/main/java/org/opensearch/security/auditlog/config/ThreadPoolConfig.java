@@ -11,17 +11,70 @@
 
 package org.opensearch.security.auditlog.config;
 
+import java.util.Locale;
+
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.support.ConfigConstants;
 
 public class ThreadPoolConfig {
     private static final int DEFAULT_THREAD_POOL_SIZE = 10;
     private static final int DEFAULT_THREAD_POOL_MAX_QUEUE_LEN = 100_000;
+    private static final int DEFAULT_SAMPLE_RATE = 10;
+
+    /**
+     * The implementation used to pass audit messages to the sinks.
+     */
+    public enum QueueType {
+        /**
+         * A ThreadPoolExecutor; if its queue is full, messages are passed synchronously to the fallback sink.
+         */
+        EXECUTOR,
+        /**
+         * A preallocated lock-free ring buffer; if it is full, the configured OverflowPolicy is applied.
+         */
+        RING_BUFFER
+    }
+
+    /**
+     * Defines the behaviour of the ring buffer queue if it is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The submitting thread waits until space is available.
+         */
+        BLOCK,
+        /**
+         * The oldest queued message is dropped in favour of the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * The new message is dropped.
+         */
+        DROP_NEWEST,
+        /**
+         * If the queue is more than half full, only every n-th message is queued (n being the sample rate).
+         * If the queue is full, the new message is dropped.
+         */
+        SAMPLE
+    }
 
     private final int threadPoolSize;
     private final int threadPoolMaxQueueLen;
+    private final QueueType queueType;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
 
     public ThreadPoolConfig(int threadPoolSize, int threadPoolMaxQueueLen) {
+        this(threadPoolSize, threadPoolMaxQueueLen, QueueType.EXECUTOR, OverflowPolicy.DROP_NEWEST, DEFAULT_SAMPLE_RATE);
+    }
+
+    public ThreadPoolConfig(
+        int threadPoolSize,
+        int threadPoolMaxQueueLen,
+        QueueType queueType,
+        OverflowPolicy overflowPolicy,
+        int sampleRate
+    ) {
         if (threadPoolSize <= 0) {
             throw new IllegalArgumentException("Incorrect thread pool size: " + threadPoolSize + " configured for audit logging.");
         }
@@ -32,8 +85,15 @@ public class ThreadPoolConfig {
             );
         }
 
+        if (sampleRate <= 0) {
+            throw new IllegalArgumentException("Incorrect sample rate: " + sampleRate + " configured for audit logging.");
+        }
+
         this.threadPoolSize = threadPoolSize;
         this.threadPoolMaxQueueLen = threadPoolMaxQueueLen;
+        this.queueType = queueType;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
     }
 
     public int getThreadPoolSize() {
@@ -44,13 +104,33 @@ public class ThreadPoolConfig {
         return threadPoolMaxQueueLen;
     }
 
+    public QueueType getQueueType() {
+        return queueType;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
     public static ThreadPoolConfig getConfig(Settings settings) {
         int threadPoolSize = settings.getAsInt(ConfigConstants.SECURITY_AUDIT_THREADPOOL_SIZE, DEFAULT_THREAD_POOL_SIZE);
         int threadPoolMaxQueueLen = settings.getAsInt(
             ConfigConstants.SECURITY_AUDIT_THREADPOOL_MAX_QUEUE_LEN,
             DEFAULT_THREAD_POOL_MAX_QUEUE_LEN
         );
+        QueueType queueType = QueueType.valueOf(
+            settings.get(ConfigConstants.SECURITY_AUDIT_THREADPOOL_QUEUE_TYPE, QueueType.EXECUTOR.name()).toUpperCase(Locale.ROOT)
+        );
+        OverflowPolicy overflowPolicy = OverflowPolicy.valueOf(
+            settings.get(ConfigConstants.SECURITY_AUDIT_THREADPOOL_OVERFLOW_POLICY, OverflowPolicy.DROP_NEWEST.name())
+                .toUpperCase(Locale.ROOT)
+        );
+        int sampleRate = settings.getAsInt(ConfigConstants.SECURITY_AUDIT_THREADPOOL_SAMPLE_RATE, DEFAULT_SAMPLE_RATE);
 
-        return new ThreadPoolConfig(threadPoolSize, threadPoolMaxQueueLen);
+        return new ThreadPoolConfig(threadPoolSize, threadPoolMaxQueueLen, queueType, overflowPolicy, sampleRate);
     }
 }
@@ -30,7 +30,9 @@ import org.opensearch.index.engine.Engine.IndexResult;
 import org.opensearch.index.get.GetResult;
 import org.opensearch.security.auditlog.config.AuditConfig;
 import org.opensearch.security.auditlog.routing.AuditMessageRouter;
+import org.opensearch.security.auditlog.sink.AbstractInternalOpenSearchSink;
 import org.opensearch.security.filter.SecurityRequest;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportRequest;
@@ -57,7 +59,6 @@ public final class AuditLogImpl extends AbstractAuditLog {
         this(settings, configPath, clientProvider, threadPool, resolver, clusterService, null);
     }
 
-    @SuppressWarnings("removal")
     public AuditLogImpl(
         final Settings settings,
         final Path configPath,
@@ -66,10 +67,24 @@ public final class AuditLogImpl extends AbstractAuditLog {
         final IndexNameExpressionResolver resolver,
         final ClusterService clusterService,
         final Environment environment
+    ) {
+        this(settings, configPath, clientProvider, threadPool, resolver, clusterService, environment, new SecurityMetrics());
+    }
+
+    @SuppressWarnings("removal")
+    public AuditLogImpl(
+        final Settings settings,
+        final Path configPath,
+        final Client clientProvider,
+        final ThreadPool threadPool,
+        final IndexNameExpressionResolver resolver,
+        final ClusterService clusterService,
+        final Environment environment,
+        final SecurityMetrics metrics
     ) {
         super(settings, threadPool, resolver, clusterService, environment);
         this.settings = settings;
-        this.messageRouter = new AuditMessageRouter(settings, clientProvider, threadPool, configPath, clusterService);
+        this.messageRouter = new AuditMessageRouter(settings, clientProvider, threadPool, configPath, clusterService, metrics);
         this.messageRouterEnabled = this.messageRouter.isEnabled();
 
         log.info("Message routing enabled: {}", this.messageRouterEnabled);
@@ -93,6 +108,27 @@ public final class AuditLogImpl extends AbstractAuditLog {
         }
     }
 
+    /**
+     * The approximate number of audit messages which are queued for storage.
+     */
+    public int getQueueSize() {
+        return messageRouter.getQueueSize();
+    }
+
+    /**
+     * The number of audit messages which were dropped because the storage pool was saturated.
+     */
+    public long getDroppedTotal() {
+        return messageRouter.getDroppedTotal();
+    }
+
+    /**
+     * The bulk statistics of the sinks writing to the local cluster in bulk mode, keyed by sink name.
+     */
+    public Map<String, AbstractInternalOpenSearchSink.BulkStats> getBulkStats() {
+        return messageRouter.getBulkStats();
+    }
+
     private Thread addShutdownHook() {
         Thread shutdownHook = new Thread(() -> messageRouter.close());
         Runtime.getRuntime().addShutdownHook(shutdownHook);
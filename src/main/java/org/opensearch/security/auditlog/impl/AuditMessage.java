@@ -41,6 +41,7 @@ import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.security.auditlog.AuditLog.Operation;
 import org.opensearch.security.auditlog.AuditLog.Origin;
@@ -133,74 +134,79 @@ public final class AuditMessage {
     private static final DateTimeFormatter DEFAULT_FORMAT = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZZ");
     private final Map<String, Object> auditInfo = new HashMap<String, Object>(50);
     private final AuditCategory msgCategory;
+    /**
+     * The JSON representation of auditInfo. Lazily created on first use and shared by all sinks; reset whenever
+     * auditInfo is modified.
+     */
+    private volatile BytesReference serialized;
 
     public AuditMessage(final AuditCategory msgCategory, final ClusterService clusterService, final Origin origin, final Origin layer) {
         this.msgCategory = Objects.requireNonNull(msgCategory);
         final String currentTime = currentTime();
-        auditInfo.put(FORMAT_VERSION, 4);
-        auditInfo.put(CATEGORY, Objects.requireNonNull(msgCategory));
-        auditInfo.put(UTC_TIMESTAMP, currentTime);
-        auditInfo.put(NODE_HOST_ADDRESS, Objects.requireNonNull(clusterService).localNode().getHostAddress());
-        auditInfo.put(NODE_ID, Objects.requireNonNull(clusterService).localNode().getId());
-        auditInfo.put(NODE_HOST_NAME, Objects.requireNonNull(clusterService).localNode().getHostName());
-        auditInfo.put(NODE_NAME, Objects.requireNonNull(clusterService).localNode().getName());
-        auditInfo.put(CLUSTER_NAME, Objects.requireNonNull(clusterService).getClusterName().value());
+        put(FORMAT_VERSION, 4);
+        put(CATEGORY, Objects.requireNonNull(msgCategory));
+        put(UTC_TIMESTAMP, currentTime);
+        put(NODE_HOST_ADDRESS, Objects.requireNonNull(clusterService).localNode().getHostAddress());
+        put(NODE_ID, Objects.requireNonNull(clusterService).localNode().getId());
+        put(NODE_HOST_NAME, Objects.requireNonNull(clusterService).localNode().getHostName());
+        put(NODE_NAME, Objects.requireNonNull(clusterService).localNode().getName());
+        put(CLUSTER_NAME, Objects.requireNonNull(clusterService).getClusterName().value());
 
         if (origin != null) {
-            auditInfo.put(ORIGIN, origin);
+            put(ORIGIN, origin);
         }
 
         if (layer != null) {
-            auditInfo.put(REQUEST_LAYER, layer);
+            put(REQUEST_LAYER, layer);
         }
     }
 
     public void addRemoteAddress(TransportAddress remoteAddress) {
         if (remoteAddress != null && remoteAddress.getAddress() != null) {
-            auditInfo.put(REMOTE_ADDRESS, remoteAddress.getAddress());
+            put(REMOTE_ADDRESS, remoteAddress.getAddress());
         }
     }
 
     public void addIsAdminDn(boolean isAdminDn) {
-        auditInfo.put(IS_ADMIN_DN, isAdminDn);
+        put(IS_ADMIN_DN, isAdminDn);
     }
 
     public void addException(Throwable t) {
         if (t != null) {
-            auditInfo.put(EXCEPTION, ExceptionsHelper.stackTrace(t));
+            put(EXCEPTION, ExceptionsHelper.stackTrace(t));
         }
     }
 
     public void addPrivilege(String priv) {
         if (priv != null) {
-            auditInfo.put(PRIVILEGE, priv);
+            put(PRIVILEGE, priv);
         }
     }
 
     public void addInitiatingUser(String user) {
         if (user != null) {
-            auditInfo.put(REQUEST_INITIATING_USER, user);
+            put(REQUEST_INITIATING_USER, user);
         }
     }
 
     public void addEffectiveUser(String user) {
         if (user != null) {
-            auditInfo.put(REQUEST_EFFECTIVE_USER, user);
+            put(REQUEST_EFFECTIVE_USER, user);
         }
     }
 
     public void addPath(String path) {
         if (path != null) {
-            auditInfo.put(REST_REQUEST_PATH, path);
+            put(REST_REQUEST_PATH, path);
         }
     }
 
     public void addComplianceWriteDiffSource(String diff) {
         if (diff != null && !diff.isEmpty()) {
-            auditInfo.put(COMPLIANCE_DIFF_CONTENT, diff);
-            auditInfo.put(COMPLIANCE_DIFF_IS_NOOP, false);
+            put(COMPLIANCE_DIFF_CONTENT, diff);
+            put(COMPLIANCE_DIFF_IS_NOOP, false);
         } else if (diff != null && diff.isEmpty()) {
-            auditInfo.put(COMPLIANCE_DIFF_IS_NOOP, true);
+            put(COMPLIANCE_DIFF_IS_NOOP, true);
         }
     }
 
@@ -218,22 +224,22 @@ public final class AuditMessage {
     public void addTupleToRequestBody(Tuple<MediaType, BytesReference> xContentTuple) {
         if (xContentTuple != null) {
             try {
-                auditInfo.put(REQUEST_BODY, XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1()));
+                put(REQUEST_BODY, XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1()));
             } catch (Exception e) {
-                auditInfo.put(REQUEST_BODY, "ERROR: Unable to convert to json because of " + e.toString());
+                put(REQUEST_BODY, "ERROR: Unable to convert to json because of " + e.toString());
             }
         }
     }
 
     public void addMapToRequestBody(Map<String, ?> map) {
         if (map != null) {
-            auditInfo.put(REQUEST_BODY, Utils.convertStructuredMapToJson(map));
+            put(REQUEST_BODY, Utils.convertStructuredMapToJson(map));
         }
     }
 
     public void addUnescapedJsonToRequestBody(String source) {
         if (source != null) {
-            auditInfo.put(REQUEST_BODY, source);
+            put(REQUEST_BODY, source);
         }
     }
 
@@ -247,7 +253,7 @@ public final class AuditMessage {
     void addSecurityConfigContentToRequestBody(final String source, final String id) {
         if (source != null) {
             final String redactedContent = redactSecurityConfigContent(source, id);
-            auditInfo.put(REQUEST_BODY, redactedContent);
+            put(REQUEST_BODY, redactedContent);
         }
     }
 
@@ -256,7 +262,7 @@ public final class AuditMessage {
             try {
                 addSecurityConfigContentToRequestBody(XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1()), id);
             } catch (Exception e) {
-                auditInfo.put(REQUEST_BODY, "ERROR: Unable to convert to json");
+                put(REQUEST_BODY, "ERROR: Unable to convert to json");
             }
         }
     }
@@ -269,19 +275,19 @@ public final class AuditMessage {
 
     public void addRequestType(String requestType) {
         if (requestType != null) {
-            auditInfo.put(TRANSPORT_REQUEST_TYPE, requestType);
+            put(TRANSPORT_REQUEST_TYPE, requestType);
         }
     }
 
     public void addAction(String action) {
         if (action != null) {
-            auditInfo.put(TRANSPORT_ACTION, action);
+            put(TRANSPORT_ACTION, action);
         }
     }
 
     public void addId(String id) {
         if (id != null) {
-            auditInfo.put(ID, id);
+            put(ID, id);
         }
     }
 
@@ -317,42 +323,42 @@ public final class AuditMessage {
                     // ignore non readable files
                 }
             }
-            auditInfo.put(COMPLIANCE_FILE_INFOS, infos);
+            put(COMPLIANCE_FILE_INFOS, infos);
         }
     }
 
     /*public void addSource(Map<String, String> source) {
         if (source != null && !source.isEmpty()) {
-            auditInfo.put(REQUEST_BODY, source);
+            put(REQUEST_BODY, source);
         }
     }*/
 
     public void addIndices(String[] indices) {
         if (indices != null && indices.length > 0) {
-            auditInfo.put(INDICES, indices);
+            put(INDICES, indices);
         }
 
     }
 
     public void addResolvedIndices(String[] resolvedIndices) {
         if (resolvedIndices != null && resolvedIndices.length > 0) {
-            auditInfo.put(RESOLVED_INDICES, resolvedIndices);
+            put(RESOLVED_INDICES, resolvedIndices);
         }
     }
 
     public void addTaskId(long id) {
-        auditInfo.put(TASK_ID, auditInfo.get(NODE_ID) + ":" + id);
+        put(TASK_ID, auditInfo.get(NODE_ID) + ":" + id);
     }
 
     public void addShardId(ShardId id) {
         if (id != null) {
-            auditInfo.put(SHARD_ID, id.getId());
+            put(SHARD_ID, id.getId());
         }
     }
 
     public void addTaskParentId(String id) {
         if (id != null) {
-            auditInfo.put(TASK_PARENT_ID, id);
+            put(TASK_PARENT_ID, id);
         }
     }
 
@@ -366,7 +372,7 @@ public final class AuditMessage {
                     redactedParams.put(param.getKey(), param.getValue());
                 }
             }
-            auditInfo.put(REST_REQUEST_PARAMS, redactedParams);
+            put(REST_REQUEST_PARAMS, redactedParams);
         }
     }
 
@@ -379,13 +385,13 @@ public final class AuditMessage {
             if (filter != null) {
                 headersClone.entrySet().removeIf(entry -> filter.shouldExcludeHeader(entry.getKey()));
             }
-            auditInfo.put(REST_REQUEST_HEADERS, headersClone);
+            put(REST_REQUEST_HEADERS, headersClone);
         }
     }
 
     void addRestMethod(final RestRequest.Method method) {
         if (method != null) {
-            auditInfo.put(REST_REQUEST_METHOD, method);
+            put(REST_REQUEST_METHOD, method);
         }
     }
 
@@ -419,12 +425,12 @@ public final class AuditMessage {
                         && requestBody != null
                         && SENSITIVE_PATHS.matcher(path).matches()
                         && requestBody.contains(SENSITIVE_KEY)) {
-                        auditInfo.put(REQUEST_BODY, SENSITIVE_REPLACEMENT_VALUE);
+                        put(REQUEST_BODY, SENSITIVE_REPLACEMENT_VALUE);
                     } else {
-                        auditInfo.put(REQUEST_BODY, requestBody);
+                        put(REQUEST_BODY, requestBody);
                     }
                 } catch (Exception e) {
-                    auditInfo.put(REQUEST_BODY, "ERROR: Unable to generate request body");
+                    put(REQUEST_BODY, "ERROR: Unable to generate request body");
                     log.error("Error while generating request body for audit log", e);
                 }
             }
@@ -437,24 +443,56 @@ public final class AuditMessage {
             if (excludeSensitiveHeaders) {
                 headersClone.keySet().removeIf(AUTHORIZATION_HEADER);
             }
-            auditInfo.put(TRANSPORT_REQUEST_HEADERS, headersClone);
+            put(TRANSPORT_REQUEST_HEADERS, headersClone);
         }
     }
 
     public void addComplianceOperation(Operation op) {
         if (op != null) {
-            auditInfo.put(COMPLIANCE_OPERATION, op);
+            put(COMPLIANCE_OPERATION, op);
         }
     }
 
     public void addComplianceDocVersion(long version) {
-        auditInfo.put(COMPLIANCE_DOC_VERSION, version);
+        put(COMPLIANCE_DOC_VERSION, version);
     }
 
     public Map<String, Object> getAsMap() {
         return new HashMap<>(this.auditInfo);
     }
 
+    /**
+     * Writes the fields of this message as JSON object to the given builder, without creating an intermediate copy
+     * of the fields.
+     */
+    public XContentBuilder toXContent(XContentBuilder builder) throws IOException {
+        builder.startObject();
+        for (Entry<String, Object> entry : auditInfo.entrySet()) {
+            builder.field(entry.getKey(), entry.getValue());
+        }
+        return builder.endObject();
+    }
+
+    /**
+     * Returns the UTF-8 encoded JSON representation of this message. The message is serialized only once; subsequent
+     * calls return the same bytes as long as the message is not modified. Sinks should prefer this over getAsMap()
+     * or toJson() to avoid repeated serialization.
+     */
+    public BytesReference toBytesReference() {
+        BytesReference result = this.serialized;
+
+        if (result == null) {
+            try (XContentBuilder builder = JsonXContent.contentBuilder()) {
+                result = BytesReference.bytes(toXContent(builder));
+            } catch (final IOException e) {
+                throw ExceptionsHelper.convertToOpenSearchException(e);
+            }
+            this.serialized = result;
+        }
+
+        return result;
+    }
+
     public String getInitiatingUser() {
         return (String) this.auditInfo.get(REQUEST_INITIATING_USER);
     }
@@ -501,16 +539,12 @@ public final class AuditMessage {
 
     @Override
     public String toString() {
-        try {
-            return JsonXContent.contentBuilder().map(getAsMap()).toString();
-        } catch (final IOException e) {
-            throw ExceptionsHelper.convertToOpenSearchException(e);
-        }
+        return toBytesReference().utf8ToString();
     }
 
     public String toPrettyString() {
-        try {
-            return JsonXContent.contentBuilder().prettyPrint().map(getAsMap()).toString();
+        try (XContentBuilder builder = JsonXContent.contentBuilder().prettyPrint()) {
+            return toXContent(builder).toString();
         } catch (final IOException e) {
             throw ExceptionsHelper.convertToOpenSearchException(e);
         }
@@ -518,7 +552,7 @@ public final class AuditMessage {
 
     public String toText() {
         StringBuilder builder = new StringBuilder();
-        for (Entry<String, Object> entry : getAsMap().entrySet()) {
+        for (Entry<String, Object> entry : auditInfo.entrySet()) {
             addIfNonEmpty(builder, entry.getKey(), stringOrNull(entry.getValue()));
         }
         return builder.toString();
@@ -530,12 +564,17 @@ public final class AuditMessage {
 
     public String toUrlParameters() {
         URIBuilder builder = new URIBuilder();
-        for (Entry<String, Object> entry : getAsMap().entrySet()) {
+        for (Entry<String, Object> entry : auditInfo.entrySet()) {
             builder.addParameter(entry.getKey(), stringOrNull(entry.getValue()));
         }
         return builder.toString();
     }
 
+    private void put(String key, Object value) {
+        auditInfo.put(key, value);
+        serialized = null;
+    }
+
     protected static void addIfNonEmpty(StringBuilder builder, String key, String value) {
         if (!Strings.isEmpty(value)) {
             if (builder.length() > 0) {
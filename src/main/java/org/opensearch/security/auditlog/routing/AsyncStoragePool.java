@@ -15,6 +15,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -27,12 +28,33 @@ public class AsyncStoragePool {
     private static final Logger log = LogManager.getLogger(AsyncStoragePool.class);
     private final ExecutorService pool;
     private final ThreadPoolConfig threadPoolConfig;
+    private final LongAdder dropped = new LongAdder();
 
     public AsyncStoragePool(final ThreadPoolConfig threadPoolConfig) {
         this.threadPoolConfig = threadPoolConfig;
         this.pool = createExecutor(threadPoolConfig);
     }
 
+    /**
+     * For sub-classes which do not use an executor
+     */
+    protected AsyncStoragePool(final ThreadPoolConfig threadPoolConfig, final ExecutorService pool) {
+        this.threadPoolConfig = threadPoolConfig;
+        this.pool = pool;
+    }
+
+    /**
+     * Creates the storage pool implementation selected by ThreadPoolConfig.getQueueType()
+     */
+    public static AsyncStoragePool create(final ThreadPoolConfig threadPoolConfig) {
+        switch (threadPoolConfig.getQueueType()) {
+            case RING_BUFFER:
+                return new RingBufferStoragePool(threadPoolConfig);
+            default:
+                return new AsyncStoragePool(threadPoolConfig);
+        }
+    }
+
     public ThreadPoolConfig getConfig() {
         return this.threadPoolConfig;
     }
@@ -52,12 +74,31 @@ public class AsyncStoragePool {
                 sink.getClass().getSimpleName(),
                 ex.getMessage()
             );
+            dropped.increment();
             if (sink.getFallbackSink() != null) {
                 sink.getFallbackSink().store(message);
             }
         }
     }
 
+    /**
+     * Returns the number of messages which could not be submitted since the creation of this pool.
+     */
+    public long getDroppedTotal() {
+        return dropped.sum();
+    }
+
+    /**
+     * The approximate number of queued messages.
+     */
+    public int size() {
+        if (pool instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) pool).getQueue().size();
+        } else {
+            return 0;
+        }
+    }
+
     private static ThreadPoolExecutor createExecutor(final ThreadPoolConfig config) {
         if (log.isDebugEnabled()) {
             log.debug(
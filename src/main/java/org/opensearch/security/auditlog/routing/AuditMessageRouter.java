@@ -27,10 +27,12 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.security.auditlog.config.ThreadPoolConfig;
 import org.opensearch.security.auditlog.impl.AuditCategory;
 import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.sink.AbstractInternalOpenSearchSink;
 import org.opensearch.security.auditlog.sink.AuditLogSink;
 import org.opensearch.security.auditlog.sink.SinkProvider;
 import org.opensearch.security.dlic.rest.support.Utils;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
@@ -50,10 +52,21 @@ public class AuditMessageRouter {
         ThreadPool threadPool,
         final Path configPath,
         final ClusterService clusterService
+    ) {
+        this(settings, clientProvider, threadPool, configPath, clusterService, new SecurityMetrics());
+    }
+
+    public AuditMessageRouter(
+        final Settings settings,
+        final Client clientProvider,
+        ThreadPool threadPool,
+        final Path configPath,
+        final ClusterService clusterService,
+        final SecurityMetrics metrics
     ) {
         this(
-            new SinkProvider(settings, clientProvider, threadPool, configPath, clusterService),
-            new AsyncStoragePool(ThreadPoolConfig.getConfig(settings))
+            new SinkProvider(settings, clientProvider, threadPool, configPath, clusterService, metrics),
+            AsyncStoragePool.create(ThreadPoolConfig.getConfig(settings))
         );
     }
 
@@ -73,6 +86,27 @@ public class AuditMessageRouter {
         return defaultSink != null;
     }
 
+    /**
+     * The approximate number of audit messages which are queued for storage.
+     */
+    public int getQueueSize() {
+        return storagePool.size();
+    }
+
+    /**
+     * The number of audit messages which were dropped because the storage pool was saturated.
+     */
+    public long getDroppedTotal() {
+        return storagePool.getDroppedTotal();
+    }
+
+    /**
+     * The bulk statistics of the sinks writing to the local cluster in bulk mode, keyed by sink name.
+     */
+    public Map<String, AbstractInternalOpenSearchSink.BulkStats> getBulkStats() {
+        return sinkProvider.getBulkStats();
+    }
+
     public final void route(final AuditMessage msg) {
         if (!isEnabled()) {
             // should not happen since we check in AuditLogImpl, so this is just a safeguard
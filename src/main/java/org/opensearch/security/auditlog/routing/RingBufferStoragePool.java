@@ -0,0 +1,348 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.security.auditlog.config.ThreadPoolConfig;
+import org.opensearch.security.auditlog.impl.AuditCategory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.sink.AuditLogSink;
+
+/**
+ * An alternative to the executor based AsyncStoragePool which uses a preallocated, bounded and lock-free ring buffer
+ * (based on the queue design by Dmitry Vyukov). Submitting a message does not allocate any objects and never performs
+ * any I/O on the submitting thread. If the ring buffer is full, the configured ThreadPoolConfig.OverflowPolicy is applied;
+ * dropped messages are counted per AuditCategory.
+ * <p>
+ * The buffer is consumed by ThreadPoolConfig.getThreadPoolSize() dedicated threads. Idle consumers spin briefly and are
+ * then parked until a producer offers a new message.
+ */
+public class RingBufferStoragePool extends AsyncStoragePool {
+    private static final Logger log = LogManager.getLogger(RingBufferStoragePool.class);
+    private static final int IDLE_SPIN_ROUNDS = 100;
+    /**
+     * Idle consumers are woken up by the producers; the timeout is only a safeguard.
+     */
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AuditMessage[] messages;
+    private final AuditLogSink[] sinks;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    private final ThreadPoolConfig.OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final AtomicLongArray droppedByCategory = new AtomicLongArray(AuditCategory.values().length);
+    private final AtomicLong droppedTotal = new AtomicLong();
+
+    private final List<Thread> consumers;
+    private final Queue<Thread> idleConsumers = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    public RingBufferStoragePool(final ThreadPoolConfig threadPoolConfig) {
+        super(threadPoolConfig, null);
+
+        this.capacity = nextPowerOfTwo(threadPoolConfig.getThreadPoolMaxQueueLen());
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.messages = new AuditMessage[capacity];
+        this.sinks = new AuditLogSink[capacity];
+        this.overflowPolicy = threadPoolConfig.getOverflowPolicy();
+        this.sampleRate = threadPoolConfig.getSampleRate();
+
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(
+                "Create new ring buffer with capacity: {}, consumer threads: {}, overflow policy: {}",
+                capacity,
+                threadPoolConfig.getThreadPoolSize(),
+                overflowPolicy
+            );
+        }
+
+        this.consumers = new ArrayList<>(threadPoolConfig.getThreadPoolSize());
+
+        for (int i = 0; i < threadPoolConfig.getThreadPoolSize(); i++) {
+            Thread consumer = new Thread(this::consume, "opensearch-security-audit-" + i);
+            consumer.setDaemon(true);
+            consumer.start();
+            consumers.add(consumer);
+        }
+    }
+
+    @Override
+    public void submit(AuditMessage message, AuditLogSink sink) {
+        if (!running) {
+            log.error(
+                "Could not submit audit message {} for delegate '{}' as the pool is closed",
+                message,
+                sink.getClass().getSimpleName()
+            );
+            if (sink.getFallbackSink() != null) {
+                sink.getFallbackSink().store(message);
+            }
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK:
+                while (!offer(message, sink)) {
+                    if (!running) {
+                        drop(message);
+                        return;
+                    }
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                }
+                break;
+            case DROP_OLDEST:
+                Entry oldest = null;
+                while (!offer(message, sink)) {
+                    if (oldest == null) {
+                        oldest = new Entry();
+                    }
+                    if (poll(oldest)) {
+                        drop(oldest.message);
+                        oldest.clear();
+                    }
+                }
+                break;
+            case SAMPLE:
+                if (size() > capacity / 2 && sampleCounter.getAndIncrement() % sampleRate != 0) {
+                    drop(message);
+                } else if (!offer(message, sink)) {
+                    drop(message);
+                }
+                break;
+            default:
+                if (!offer(message, sink)) {
+                    drop(message);
+                }
+        }
+    }
+
+    /**
+     * Returns the number of dropped messages for the given category since the creation of this pool.
+     */
+    public long getDroppedCount(AuditCategory category) {
+        return droppedByCategory.get(category.ordinal());
+    }
+
+    public Map<AuditCategory, Long> getDroppedCounts() {
+        Map<AuditCategory, Long> result = new EnumMap<>(AuditCategory.class);
+
+        for (AuditCategory category : AuditCategory.values()) {
+            result.put(category, droppedByCategory.get(category.ordinal()));
+        }
+
+        return result;
+    }
+
+    @Override
+    public long getDroppedTotal() {
+        return droppedTotal.get();
+    }
+
+    /**
+     * The approximate number of queued messages.
+     */
+    @Override
+    public int size() {
+        long size = enqueuePosition.get() - dequeuePosition.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+
+        for (Thread consumer : consumers) {
+            LockSupport.unpark(consumer);
+        }
+
+        // Consumers drain the buffer before they terminate
+        for (Thread consumer : consumers) {
+            try {
+                consumer.join(TimeUnit.SECONDS.toMillis(60));
+                if (consumer.isAlive()) {
+                    log.error("Audit consumer thread {} did not terminate", consumer.getName());
+                    consumer.interrupt();
+                }
+            } catch (InterruptedException e) {
+                consumer.interrupt();
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean offer(AuditMessage message, AuditLogSink sink) {
+        long position = enqueuePosition.get();
+
+        for (;;) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    messages[index] = message;
+                    sinks[index] = sink;
+                    // Publishes the slot contents to the consumers
+                    sequences.set(index, position + 1);
+                    signalIdleConsumer();
+                    return true;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                // full
+                return false;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    private boolean poll(Entry entry) {
+        long position = dequeuePosition.get();
+
+        for (;;) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    entry.message = messages[index];
+                    entry.sink = sinks[index];
+                    messages[index] = null;
+                    sinks[index] = null;
+                    // Releases the slot to the producers
+                    sequences.set(index, position + capacity);
+                    return true;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0) {
+                // empty
+                return false;
+            } else {
+                position = dequeuePosition.get();
+            }
+        }
+    }
+
+    private void consume() {
+        Entry entry = new Entry();
+        int idleRounds = 0;
+
+        while (running || size() > 0) {
+            if (poll(entry)) {
+                idleRounds = 0;
+
+                try {
+                    entry.sink.store(entry.message);
+                    if (log.isTraceEnabled()) {
+                        log.trace("stored on delegate {} asynchronously", entry.sink.getClass().getSimpleName());
+                    }
+                } catch (Exception e) {
+                    log.error("Error while storing audit message on delegate {}", entry.sink.getClass().getSimpleName(), e);
+                } finally {
+                    entry.clear();
+                }
+            } else if (idleRounds < IDLE_SPIN_ROUNDS) {
+                idleRounds++;
+                Thread.onSpinWait();
+            } else {
+                awaitMessage();
+            }
+        }
+    }
+
+    /**
+     * Parks the current consumer thread until a producer offers a message or the pool is closed.
+     */
+    private void awaitMessage() {
+        Thread current = Thread.currentThread();
+        idleConsumers.add(current);
+
+        try {
+            // Re-check after the registration; a message offered before it would not wake this thread
+            if (running && size() == 0) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        } finally {
+            idleConsumers.remove(current);
+        }
+    }
+
+    private void signalIdleConsumer() {
+        Thread idleConsumer = idleConsumers.poll();
+
+        if (idleConsumer != null) {
+            LockSupport.unpark(idleConsumer);
+        }
+    }
+
+    private void drop(AuditMessage message) {
+        AuditCategory category = message.getCategory();
+
+        if (category != null) {
+            droppedByCategory.incrementAndGet(category.ordinal());
+        }
+
+        long total = droppedTotal.incrementAndGet();
+
+        if (total == 1 || total % 10_000 == 0) {
+            log.warn("Audit log ring buffer is full; dropped {} messages so far (overflow policy: {})", total, overflowPolicy);
+        }
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        if (value <= 1) {
+            return 1;
+        }
+        int highestOneBit = Integer.highestOneBit(value - 1) << 1;
+        return highestOneBit > 0 ? highestOneBit : 1 << 30;
+    }
+
+    private static class Entry {
+        AuditMessage message;
+        AuditLogSink sink;
+
+        void clear() {
+            message = null;
+            sink = null;
+        }
+    }
+}
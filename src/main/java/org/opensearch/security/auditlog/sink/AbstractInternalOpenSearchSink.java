@@ -12,31 +12,58 @@
 package org.opensearch.security.auditlog.sink;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.google.common.collect.ImmutableMap;
 
 import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequestBuilder;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexRequestBuilder;
 import org.opensearch.action.support.WriteRequest.RefreshPolicy;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
+import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.security.auditlog.impl.AuditMessage;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.HeaderHelper;
+import org.opensearch.security.support.SecurityMetrics;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
 public abstract class AbstractInternalOpenSearchSink extends AuditLogSink {
 
+    private static final long BULK_RETRY_DELAY_MS = 100;
+
     protected final Client clientProvider;
     private final ThreadPool threadPool;
     protected final ClusterService clusterService;
     private final DocWriteRequest.OpType storeOpType;
     final static Map<String, Object> indexSettings = ImmutableMap.of("index.number_of_shards", 1, "index.auto_expand_replicas", "0-1");
 
+    /**
+     * If enabled, audit messages are not written one by one, but buffered per target index and written using bulk requests.
+     * The buffer for an index is flushed if it reaches bulkMaxActions messages or if bulkFlushInterval has elapsed.
+     */
+    private final boolean bulkEnabled;
+    private final int bulkMaxActions;
+    private final TimeValue bulkFlushInterval;
+    private final int bulkMaxRetries;
+    private final Map<String, List<AuditMessage>> bulkBuffer = new HashMap<>();
+    private final BulkStats bulkStats = new BulkStats();
+    private final SecurityMetrics.Histogram bulkFlushTime; // null if bulk mode is disabled
+    private Scheduler.Cancellable scheduledBulkFlush;
+
     public AbstractInternalOpenSearchSink(
         final String name,
         final Settings settings,
@@ -45,18 +72,50 @@ public abstract class AbstractInternalOpenSearchSink extends AuditLogSink {
         ThreadPool threadPool,
         AuditLogSink fallbackSink,
         DocWriteRequest.OpType storeOpType,
-        ClusterService clusterService
+        ClusterService clusterService,
+        SecurityMetrics metrics
     ) {
         super(name, settings, settingsPrefix, fallbackSink);
         this.clientProvider = clientProvider;
         this.threadPool = threadPool;
         this.storeOpType = storeOpType;
         this.clusterService = clusterService;
+
+        Settings sinkSettings = getSinkSettings(settingsPrefix);
+        this.bulkEnabled = sinkSettings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_ENABLED, false);
+        this.bulkMaxActions = Math.max(
+            sinkSettings.getAsInt(
+                ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_ACTIONS,
+                ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_ACTIONS_DEFAULT
+            ),
+            1
+        );
+        this.bulkFlushInterval = sinkSettings.getAsTime(
+            ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_FLUSH_INTERVAL,
+            TimeValue.timeValueMillis(ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_FLUSH_INTERVAL_DEFAULT_MS)
+        );
+        this.bulkMaxRetries = Math.max(
+            sinkSettings.getAsInt(
+                ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_RETRIES,
+                ConfigConstants.SECURITY_AUDIT_OPENSEARCH_BULK_MAX_RETRIES_DEFAULT
+            ),
+            0
+        );
+        this.bulkFlushTime = bulkEnabled ? metrics.histogram("audit.bulk." + getName() + ".flush_time") : null;
     }
 
     @Override
     public void close() throws IOException {
+        if (bulkEnabled) {
+            synchronized (bulkBuffer) {
+                if (scheduledBulkFlush != null) {
+                    scheduledBulkFlush.cancel();
+                    scheduledBulkFlush = null;
+                }
+            }
 
+            flushAll();
+        }
     }
 
     protected abstract boolean createIndexIfAbsent(String indexName);
@@ -72,6 +131,11 @@ public abstract class AbstractInternalOpenSearchSink extends AuditLogSink {
             return true;
         }
 
+        if (bulkEnabled) {
+            enqueue(msg, indexName);
+            return true;
+        }
+
         try (StoredContext ctx = threadPool.getThreadContext().stashContext()) {
             try {
                 boolean ok = createIndexIfAbsent(indexName);
@@ -82,7 +146,7 @@ public abstract class AbstractInternalOpenSearchSink extends AuditLogSink {
 
                 final IndexRequestBuilder irb = clientProvider.prepareIndex(indexName)
                     .setRefreshPolicy(RefreshPolicy.IMMEDIATE)
-                    .setSource(msg.getAsMap());
+                    .setSource(msg.toBytesReference(), XContentType.JSON);
                 threadPool.getThreadContext().putHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER, "true");
                 irb.setTimeout(TimeValue.timeValueMinutes(1));
                 if (this.storeOpType != null) {
@@ -96,4 +160,242 @@ public abstract class AbstractInternalOpenSearchSink extends AuditLogSink {
             }
         }
     }
+
+    public boolean isBulkEnabled() {
+        return bulkEnabled;
+    }
+
+    public BulkStats getBulkStats() {
+        return bulkStats;
+    }
+
+    /**
+     * Adds the message to the buffer of the target index. If the buffer is full, it is flushed synchronously by the calling
+     * thread. This provides back pressure to the audit log thread pool if the cluster cannot keep up with the audit messages.
+     */
+    private void enqueue(AuditMessage msg, String indexName) {
+        List<AuditMessage> messagesToFlush = null;
+
+        synchronized (bulkBuffer) {
+            if (scheduledBulkFlush == null) {
+                scheduledBulkFlush = threadPool.scheduleWithFixedDelay(this::flushAll, bulkFlushInterval, ThreadPool.Names.GENERIC);
+            }
+
+            List<AuditMessage> messages = bulkBuffer.computeIfAbsent(indexName, (k) -> new ArrayList<>(bulkMaxActions));
+            messages.add(msg);
+            bulkStats.bufferedMessages.incrementAndGet();
+
+            if (messages.size() >= bulkMaxActions) {
+                messagesToFlush = bulkBuffer.remove(indexName);
+            }
+        }
+
+        if (messagesToFlush != null) {
+            flush(indexName, messagesToFlush);
+        }
+    }
+
+    private void flushAll() {
+        Map<String, List<AuditMessage>> messagesToFlush;
+
+        synchronized (bulkBuffer) {
+            if (bulkBuffer.isEmpty()) {
+                return;
+            }
+
+            messagesToFlush = new HashMap<>(bulkBuffer);
+            bulkBuffer.clear();
+        }
+
+        for (Map.Entry<String, List<AuditMessage>> entry : messagesToFlush.entrySet()) {
+            flush(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void flush(String indexName, List<AuditMessage> messages) {
+        long start = System.nanoTime();
+
+        try (StoredContext ctx = threadPool.getThreadContext().stashContext()) {
+            if (!createIndexIfAbsent(indexName)) {
+                log.error("Failed to create index {}", indexName);
+                storeInFallbackSink(messages);
+                return;
+            }
+
+            threadPool.getThreadContext().putHeader(ConfigConstants.OPENDISTRO_SECURITY_CONF_REQUEST_HEADER, "true");
+
+            List<AuditMessage> pending = messages;
+
+            for (int attempt = 0;; attempt++) {
+                List<AuditMessage> failed = executeBulk(indexName, pending);
+
+                if (failed.isEmpty()) {
+                    break;
+                }
+
+                if (attempt >= bulkMaxRetries) {
+                    log.error("Unable to index {} audit messages into {} after {} retries", failed.size(), indexName, bulkMaxRetries);
+                    bulkStats.failedMessages.addAndGet(failed.size());
+                    storeInFallbackSink(failed);
+                    break;
+                }
+
+                if (!awaitRetry(attempt)) {
+                    // Typically the node is shutting down; the remaining messages must not delay it any further
+                    log.warn("Interrupted while retrying to index {} audit messages into {}", failed.size(), indexName);
+                    bulkStats.failedMessages.addAndGet(failed.size());
+                    storeInFallbackSink(failed);
+                    break;
+                }
+
+                bulkStats.retriedMessages.addAndGet(failed.size());
+                pending = failed;
+            }
+        } catch (Exception e) {
+            log.error("Error while flushing {} audit messages to {}", messages.size(), indexName, e);
+            bulkStats.failedMessages.addAndGet(messages.size());
+            storeInFallbackSink(messages);
+        } finally {
+            final long duration = System.nanoTime() - start;
+            bulkStats.onFlush(messages.size(), duration);
+            bulkFlushTime.record(duration);
+        }
+    }
+
+    /**
+     * Waits before the given retry attempt. Returns false if the current thread has been interrupted; the interrupt status
+     * is preserved.
+     */
+    private static boolean awaitRetry(int attempt) {
+        try {
+            Thread.sleep(BULK_RETRY_DELAY_MS * (attempt + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Executes a bulk request for the given messages and returns the messages which could not be indexed.
+     */
+    private List<AuditMessage> executeBulk(String indexName, List<AuditMessage> messages) {
+        final BulkRequestBuilder brb = clientProvider.prepareBulk().setTimeout(TimeValue.timeValueMinutes(1));
+
+        for (AuditMessage msg : messages) {
+            IndexRequest indexRequest = new IndexRequest(indexName).source(msg.toBytesReference(), XContentType.JSON);
+            if (this.storeOpType != null) {
+                indexRequest.opType(this.storeOpType);
+            }
+            brb.add(indexRequest);
+        }
+
+        try {
+            BulkResponse response = brb.execute().actionGet();
+
+            if (!response.hasFailures()) {
+                return List.of();
+            }
+
+            List<AuditMessage> failed = new ArrayList<>();
+
+            for (BulkItemResponse item : response.getItems()) {
+                if (item.isFailed()) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Unable to index audit message into {}: {}", indexName, item.getFailureMessage());
+                    }
+                    failed.add(messages.get(item.getItemId()));
+                }
+            }
+
+            return failed;
+        } catch (final Exception e) {
+            log.warn("Unable to execute bulk request with {} audit messages for {}", messages.size(), indexName, e);
+            return messages;
+        }
+    }
+
+    private void storeInFallbackSink(List<AuditMessage> messages) {
+        for (AuditMessage msg : messages) {
+            if (fallbackSink == null || !fallbackSink.doStore(msg)) {
+                System.err.println(msg.toPrettyString());
+            }
+        }
+    }
+
+    /**
+     * Metrics of the bulk mode of this sink.
+     */
+    public static class BulkStats {
+        private final AtomicInteger bufferedMessages = new AtomicInteger();
+        private final AtomicLong flushCount = new AtomicLong();
+        private final AtomicLong flushedMessages = new AtomicLong();
+        private final AtomicLong retriedMessages = new AtomicLong();
+        private final AtomicLong failedMessages = new AtomicLong();
+        private final AtomicLong totalFlushTimeNanos = new AtomicLong();
+        private volatile int lastBatchSize;
+        private volatile long lastFlushTimeNanos;
+
+        void onFlush(int batchSize, long durationNanos) {
+            bufferedMessages.addAndGet(-batchSize);
+            flushCount.incrementAndGet();
+            flushedMessages.addAndGet(batchSize);
+            totalFlushTimeNanos.addAndGet(durationNanos);
+            lastBatchSize = batchSize;
+            lastFlushTimeNanos = durationNanos;
+        }
+
+        /**
+         * The number of messages which are currently buffered or being flushed.
+         */
+        public int getBufferedMessages() {
+            return bufferedMessages.get();
+        }
+
+        public long getFlushCount() {
+            return flushCount.get();
+        }
+
+        public long getFlushedMessages() {
+            return flushedMessages.get();
+        }
+
+        public long getRetriedMessages() {
+            return retriedMessages.get();
+        }
+
+        public long getFailedMessages() {
+            return failedMessages.get();
+        }
+
+        public int getLastBatchSize() {
+            return lastBatchSize;
+        }
+
+        public double getAverageBatchSize() {
+            long flushCount = this.flushCount.get();
+            return flushCount != 0 ? (double) flushedMessages.get() / flushCount : 0;
+        }
+
+        public long getLastFlushTimeNanos() {
+            return lastFlushTimeNanos;
+        }
+
+        public long getTotalFlushTimeNanos() {
+            return totalFlushTimeNanos.get();
+        }
+
+        @Override
+        public String toString() {
+            return "BulkStats [bufferedMessages="
+                + getBufferedMessages()
+                + ", flushCount="
+                + getFlushCount()
+                + ", averageBatchSize="
+                + getAverageBatchSize()
+                + ", failedMessages="
+                + getFailedMessages()
+                + "]";
+        }
+    }
 }
@@ -12,7 +12,6 @@
 package org.opensearch.security.auditlog.sink;
 
 // CS-SUPPRESS-SINGLE: RegexpSingleline https://github.com/opensearch-project/OpenSearch/issues/3663
-import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -28,6 +27,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.auditlog.impl.AuditMessage;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.client.Client;
@@ -45,9 +45,20 @@ public final class InternalOpenSearchDataStreamSink extends AbstractInternalOpen
         final Client clientProvider,
         ThreadPool threadPool,
         AuditLogSink fallbackSink,
-        ClusterService clusterService
+        ClusterService clusterService,
+        SecurityMetrics metrics
     ) {
-        super(name, settings, settingsPrefix, clientProvider, threadPool, fallbackSink, DocWriteRequest.OpType.CREATE, clusterService);
+        super(
+            name,
+            settings,
+            settingsPrefix,
+            clientProvider,
+            threadPool,
+            fallbackSink,
+            DocWriteRequest.OpType.CREATE,
+            clusterService,
+            metrics
+        );
         Settings sinkSettings = getSinkSettings(settingsPrefix);
 
         this.dataStreamName = sinkSettings.get(ConfigConstants.SECURITY_AUDIT_OPENSEARCH_DATASTREAM_NAME, "opensearch-security-auditlog");
@@ -140,11 +151,6 @@ public final class InternalOpenSearchDataStreamSink extends AbstractInternalOpen
         return true;
     }
 
-    @Override
-    public void close() throws IOException {
-
-    }
-
     public boolean doStore(final AuditMessage msg) {
 
         if (!this.initDataStream()) {
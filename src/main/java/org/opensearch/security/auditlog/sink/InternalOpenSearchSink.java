@@ -11,7 +11,6 @@
 
 package org.opensearch.security.auditlog.sink;
 
-import java.io.IOException;
 import java.nio.file.Path;
 
 import org.opensearch.ResourceAlreadyExistsException;
@@ -20,6 +19,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.auditlog.impl.AuditMessage;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
@@ -40,9 +40,10 @@ public final class InternalOpenSearchSink extends AbstractInternalOpenSearchSink
         final Client clientProvider,
         ThreadPool threadPool,
         AuditLogSink fallbackSink,
-        ClusterService clusterService
+        ClusterService clusterService,
+        SecurityMetrics metrics
     ) {
-        super(name, settings, settingsPrefix, clientProvider, threadPool, fallbackSink, null, clusterService);
+        super(name, settings, settingsPrefix, clientProvider, threadPool, fallbackSink, null, clusterService, metrics);
 
         Settings sinkSettings = getSinkSettings(settingsPrefix);
         this.index = sinkSettings.get(ConfigConstants.SECURITY_AUDIT_OPENSEARCH_INDEX, "'security-auditlog-'YYYY.MM.dd");
@@ -75,11 +76,6 @@ public final class InternalOpenSearchSink extends AbstractInternalOpenSearchSink
         }
     }
 
-    @Override
-    public void close() throws IOException {
-
-    }
-
     public boolean doStore(final AuditMessage msg) {
         return super.doStore(msg, getExpandedIndexName(this.indexPattern, this.index));
     }
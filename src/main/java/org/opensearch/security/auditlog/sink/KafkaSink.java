@@ -23,18 +23,19 @@ import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.LongSerializer;
-import org.apache.kafka.common.serialization.StringSerializer;
 
 import org.opensearch.SpecialPermission;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.security.auditlog.impl.AuditMessage;
 
 public class KafkaSink extends AuditLogSink {
 
     private final String[] mandatoryProperties = new String[] { "bootstrap_servers", "topic_name" };
     private boolean valid = true;
-    private Producer<Long, String> producer;
+    private Producer<Long, byte[]> producer;
     private String topicName;
 
     @SuppressWarnings("removal")
@@ -58,7 +59,7 @@ public class KafkaSink extends AuditLogSink {
         }
 
         producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, LongSerializer.class.getName());
-        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
         topicName = sinkSettings.get("topic_name");
 
         // map path of
@@ -73,10 +74,10 @@ public class KafkaSink extends AuditLogSink {
         }
 
         try {
-            this.producer = AccessController.doPrivileged(new PrivilegedExceptionAction<KafkaProducer<Long, String>>() {
+            this.producer = AccessController.doPrivileged(new PrivilegedExceptionAction<KafkaProducer<Long, byte[]>>() {
                 @Override
-                public KafkaProducer<Long, String> run() throws Exception {
-                    return new KafkaProducer<Long, String>(producerProps);
+                public KafkaProducer<Long, byte[]> run() throws Exception {
+                    return new KafkaProducer<Long, byte[]>(producerProps);
                 }
             });
         } catch (PrivilegedActionException e) {
@@ -92,7 +93,7 @@ public class KafkaSink extends AuditLogSink {
             return false;
         }
 
-        ProducerRecord<Long, String> data = new ProducerRecord<Long, String>(topicName, msg.toJson());
+        ProducerRecord<Long, byte[]> data = new ProducerRecord<Long, byte[]>(topicName, BytesReference.toBytes(msg.toBytesReference()));
         producer.send(data, new Callback() {
 
             @Override
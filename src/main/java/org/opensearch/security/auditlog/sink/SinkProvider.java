@@ -23,6 +23,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.dlic.rest.support.Utils;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
@@ -36,6 +37,7 @@ public class SinkProvider {
     private final Path configPath;
     private final Settings settings;
     private final ClusterService clusterService;
+    private final SecurityMetrics metrics;
     final Map<String, AuditLogSink> allSinks = new HashMap<>();
     AuditLogSink defaultSink;
     AuditLogSink fallbackSink;
@@ -46,12 +48,24 @@ public class SinkProvider {
         ThreadPool threadPool,
         final Path configPath,
         final ClusterService clusterService
+    ) {
+        this(settings, clientProvider, threadPool, configPath, clusterService, new SecurityMetrics());
+    }
+
+    public SinkProvider(
+        final Settings settings,
+        final Client clientProvider,
+        ThreadPool threadPool,
+        final Path configPath,
+        final ClusterService clusterService,
+        final SecurityMetrics metrics
     ) {
         this.settings = settings;
         this.clientProvider = clientProvider;
         this.threadPool = threadPool;
         this.configPath = configPath;
         this.clusterService = clusterService;
+        this.metrics = metrics;
 
         // fall back sink, make sure we don't lose messages
         String fallbackConfigPrefix = ConfigConstants.SECURITY_AUDIT_CONFIG_ENDPOINTS + "." + FALLBACKSINK_NAME;
@@ -130,6 +144,21 @@ public class SinkProvider {
         return defaultSink;
     }
 
+    /**
+     * Returns the bulk statistics of all sinks writing to the local cluster in bulk mode, keyed by sink name.
+     */
+    public Map<String, AbstractInternalOpenSearchSink.BulkStats> getBulkStats() {
+        Map<String, AbstractInternalOpenSearchSink.BulkStats> result = new HashMap<>();
+
+        for (AuditLogSink sink : allSinks.values()) {
+            if (sink instanceof AbstractInternalOpenSearchSink && ((AbstractInternalOpenSearchSink) sink).isBulkEnabled()) {
+                result.put(sink.getName(), ((AbstractInternalOpenSearchSink) sink).getBulkStats());
+            }
+        }
+
+        return result;
+    }
+
     public void close() {
         for (AuditLogSink sink : allSinks.values()) {
             close(sink);
@@ -164,7 +193,8 @@ public class SinkProvider {
                         clientProvider,
                         threadPool,
                         fallbackSink,
-                        clusterService
+                        clusterService,
+                        metrics
                     );
                     break;
                 case "internal_opensearch_data_stream":
@@ -176,7 +206,8 @@ public class SinkProvider {
                         clientProvider,
                         threadPool,
                         fallbackSink,
-                        clusterService
+                        clusterService,
+                        metrics
                     );
                     break;
                 case "external_opensearch":
@@ -30,19 +30,45 @@ import java.util.Objects;
 
 public class AuthDomain implements Comparable<AuthDomain> {
 
+    private final String name;
     private final AuthenticationBackend backend;
     private final HTTPAuthenticator httpAuthenticator;
     private final int order;
     private final boolean challenge;
 
     public AuthDomain(final AuthenticationBackend backend, final HTTPAuthenticator httpAuthenticator, boolean challenge, final int order) {
+        this(null, backend, httpAuthenticator, challenge, order);
+    }
+
+    public AuthDomain(
+        final String name,
+        final AuthenticationBackend backend,
+        final HTTPAuthenticator httpAuthenticator,
+        boolean challenge,
+        final int order
+    ) {
         super();
+        this.name = name;
         this.backend = Objects.requireNonNull(backend);
         this.httpAuthenticator = httpAuthenticator;
         this.order = order;
         this.challenge = challenge;
     }
 
+    /**
+     * The name of the domain in the authc section of the config, or null if unknown.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the name of the domain or, if the name is unknown, the type of its authentication backend.
+     */
+    public String getNameOrBackendType() {
+        return name != null ? name : backend.getType();
+    }
+
     public boolean isChallenge() {
         return challenge;
     }
@@ -61,7 +87,9 @@ public class AuthDomain implements Comparable<AuthDomain> {
 
     @Override
     public String toString() {
-        return "AuthDomain [backend="
+        return "AuthDomain [name="
+            + name
+            + ", backend="
             + backend
             + ", httpAuthenticator="
             + httpAuthenticator
@@ -31,13 +31,18 @@ import java.net.InetSocketAddress;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import com.google.common.base.Strings;
 import com.google.common.cache.Cache;
@@ -45,6 +50,7 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.RemovalListener;
 import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Sets;
 import org.apache.http.HttpHeaders;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -64,8 +70,11 @@ import org.opensearch.security.filter.SecurityRequestChannel;
 import org.opensearch.security.filter.SecurityResponse;
 import org.opensearch.security.http.XFFResolver;
 import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.securityconf.InternalUsersModel;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.HostAndCidrMatcher;
+import org.opensearch.security.support.ReverseDnsResolver;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.security.user.AuthCredentials;
 import org.opensearch.security.user.User;
 import org.opensearch.threadpool.ThreadPool;
@@ -81,6 +90,7 @@ public class BackendRegistry {
 
     protected static final Logger log = LogManager.getLogger(BackendRegistry.class);
     private SortedSet<AuthDomain> restAuthDomains;
+    private volatile Map<AuthDomain, SecurityMetrics.Histogram> authenticationTimes = Collections.emptyMap();
     private Set<AuthorizationBackend> restAuthorizers;
 
     private List<AuthFailureListener> ipAuthFailureListeners;
@@ -100,16 +110,28 @@ public class BackendRegistry {
     private final ThreadPool threadPool;
     private final UserInjector userInjector;
     private final int ttlInMin;
-    private Cache<AuthCredentials, User> userCache; // rest standard
+    private final long refreshAheadNanos;
+    private Cache<AuthCredentials, CachedUser> userCache; // rest standard
     private Cache<String, User> restImpersonationCache; // used for rest impersonation
     private Cache<User, Set<String>> restRoleCache; //
+    private final SharedAuthenticationCache sharedCache; // optional second level cache, shared by all nodes
+    private final ReverseDnsResolver reverseDnsResolver; // null if host names are not resolved
+    private final AtomicLong cacheGeneration = new AtomicLong(); // incremented on every invalidation
+    private volatile Map<String, String> authcDomainFingerprints;
+    private volatile Map<String, String> authzDomainFingerprints;
+    private volatile InternalUsersModel internalUsersModel;
+    private final SecurityMetrics metrics;
+    private final SecurityMetrics.Counter authCacheRequests;
+    private final SecurityMetrics.Counter authCacheMisses;
+    private final SecurityMetrics.Counter sharedAuthCacheHits;
+    private final SecurityMetrics.Counter authenticationFailures;
 
     private void createCaches() {
         userCache = CacheBuilder.newBuilder()
             .expireAfterWrite(ttlInMin, TimeUnit.MINUTES)
-            .removalListener(new RemovalListener<AuthCredentials, User>() {
+            .removalListener(new RemovalListener<AuthCredentials, CachedUser>() {
                 @Override
-                public void onRemoval(RemovalNotification<AuthCredentials, User> notification) {
+                public void onRemoval(RemovalNotification<AuthCredentials, CachedUser> notification) {
                     log.debug("Clear user cache for {} due to {}", notification.getKey().getUsername(), notification.getCause());
                 }
             })
@@ -142,18 +164,30 @@ public class BackendRegistry {
         final AdminDNs adminDns,
         final XFFResolver xffResolver,
         final AuditLog auditLog,
-        final ThreadPool threadPool
+        final ThreadPool threadPool,
+        final SharedAuthenticationCache sharedCache,
+        final ReverseDnsResolver reverseDnsResolver,
+        final SecurityMetrics metrics
     ) {
         this.adminDns = adminDns;
         this.opensearchSettings = settings;
         this.xffResolver = xffResolver;
         this.auditLog = auditLog;
         this.threadPool = threadPool;
+        this.sharedCache = sharedCache;
+        this.reverseDnsResolver = reverseDnsResolver;
+        this.metrics = metrics;
+        this.authCacheRequests = metrics.counter("auth_cache.requests");
+        this.authCacheMisses = metrics.counter("auth_cache.misses");
+        this.sharedAuthCacheHits = metrics.counter("auth_cache.shared_hits");
+        this.authenticationFailures = metrics.counter("authentication.failures");
         this.userInjector = new UserInjector(settings, threadPool, auditLog, xffResolver);
         this.restAuthDomains = Collections.emptySortedSet();
         this.ipAuthFailureListeners = Collections.emptyList();
 
         this.ttlInMin = settings.getAsInt(ConfigConstants.SECURITY_CACHE_TTL_MINUTES, 60);
+        final int refreshAheadPercent = settings.getAsInt(ConfigConstants.SECURITY_CACHE_REFRESH_AHEAD_PERCENT, 0);
+        this.refreshAheadNanos = refreshAheadPercent > 0 ? TimeUnit.MINUTES.toNanos(ttlInMin) * refreshAheadPercent / 100 : 0;
 
         // This is going to be defined in the opensearch.yml, so it's best suited to be initialized once.
         this.injectedUserEnabled = opensearchSettings.getAsBoolean(ConfigConstants.SECURITY_UNSUPPORTED_INJECT_USER_ENABLED, false);
@@ -167,19 +201,86 @@ public class BackendRegistry {
     }
 
     public void invalidateCache() {
+        invalidateCache(null);
+    }
+
+    /**
+     * Removes all cached users.
+     *
+     * @param invalidationId identifies the invalidation on all nodes of the cluster; see SharedAuthenticationCache.invalidateAll()
+     */
+    public void invalidateCache(final String invalidationId) {
+        invalidateLocalCaches();
+        if (sharedCache != null) {
+            sharedCache.invalidateAll(invalidationId);
+        }
+    }
+
+    /**
+     * Removes all users from the node local caches. Entries of the shared cache are removed on this node, but the
+     * epoch of the shared cache is not changed. Thus, this must be only used if the configuration version has changed.
+     */
+    private void invalidateLocalCaches() {
+        cacheGeneration.incrementAndGet();
         userCache.invalidateAll();
         restImpersonationCache.invalidateAll();
         restRoleCache.invalidateAll();
+        if (sharedCache != null) {
+            sharedCache.clear();
+        }
+    }
+
+    /**
+     * Removes the cached entries of the given users.
+     */
+    public void invalidateUsers(final Set<String> usernames) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+
+        cacheGeneration.incrementAndGet();
+        userCache.asMap().keySet().removeIf(credentials -> usernames.contains(credentials.getUsername()));
+        restImpersonationCache.asMap().keySet().removeIf(usernames::contains);
+        restRoleCache.asMap().keySet().removeIf(user -> usernames.contains(user.getName()));
+        if (sharedCache != null) {
+            sharedCache.invalidateUsers(usernames);
+        }
+    }
+
+    /**
+     * Removes the cached users which were authenticated by one of the given auth domains.
+     */
+    private void invalidateAuthDomains(final Set<String> authDomains) {
+        cacheGeneration.incrementAndGet();
+
+        final Set<String> usernames = new HashSet<>();
+        userCache.asMap().entrySet().removeIf(entry -> {
+            if (entry.getValue().authDomain == null || authDomains.contains(entry.getValue().authDomain)) {
+                usernames.add(entry.getKey().getUsername());
+                usernames.add(entry.getValue().user.getName());
+                return true;
+            } else {
+                return false;
+            }
+        });
+        restRoleCache.asMap().keySet().removeIf(user -> usernames.contains(user.getName()));
+        // Impersonated users are checked against all auth domains
+        restImpersonationCache.invalidateAll();
+        if (sharedCache != null) {
+            // The changed configuration version already rejects entries authenticated by other nodes before the change
+            sharedCache.clear();
+        }
     }
 
     @Subscribe
     public void onDynamicConfigModelChanged(DynamicConfigModel dcm) {
 
-        invalidateCache();
+        invalidateChangedAuthDomains(dcm);
         anonymousAuthEnabled = dcm.isAnonymousAuthenticationEnabled()// config.dynamic.http.anonymous_auth_enabled
             && !opensearchSettings.getAsBoolean(ConfigConstants.SECURITY_COMPLIANCE_DISABLE_ANONYMOUS_AUTHENTICATION, false);
 
         restAuthDomains = Collections.unmodifiableSortedSet(dcm.getRestAuthDomains());
+        authenticationTimes = createAuthenticationTimes(restAuthDomains);
         restAuthorizers = Collections.unmodifiableSet(dcm.getRestAuthorizers());
 
         ipAuthFailureListeners = dcm.getIpAuthFailureListeners();
@@ -192,6 +293,73 @@ public class BackendRegistry {
         initialized = !restAuthDomains.isEmpty() || anonymousAuthEnabled || injectedUserEnabled;
     }
 
+    /**
+     * Evicts the cached users of internal users whose hash, backend roles, security roles or attributes have changed.
+     * All users of the previous and the new model are checked, as the shared cache can contain users which are not
+     * cached on this node.
+     */
+    @Subscribe
+    public void onInternalUsersModelChanged(InternalUsersModel ium) {
+        final InternalUsersModel previous = this.internalUsersModel;
+        this.internalUsersModel = ium;
+
+        if (previous == null) {
+            return;
+        }
+
+        final Set<String> changedUsernames = Sets.union(previous.getUsernames(), ium.getUsernames())
+            .stream()
+            .filter(username -> internalUserChanged(previous, ium, username))
+            .collect(Collectors.toSet());
+
+        if (!changedUsernames.isEmpty()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Internal users {} have changed; removing them from the caches", changedUsernames);
+            }
+            invalidateUsers(changedUsernames);
+        }
+    }
+
+    /**
+     * Compares the auth domains of the new config with the previous config. Only the cached users of changed
+     * authentication domains are evicted. As all authorization domains are applied to all users, a change of any
+     * authorization domain evicts all cached users.
+     */
+    private void invalidateChangedAuthDomains(DynamicConfigModel dcm) {
+        final Map<String, String> previousAuthc = this.authcDomainFingerprints;
+        final Map<String, String> previousAuthz = this.authzDomainFingerprints;
+        final Map<String, String> authc = dcm.getAuthcDomainFingerprints();
+        final Map<String, String> authz = dcm.getAuthzDomainFingerprints();
+
+        this.authcDomainFingerprints = authc;
+        this.authzDomainFingerprints = authz;
+
+        if (previousAuthc == null || previousAuthz == null || authc == null || authz == null || !previousAuthz.equals(authz)) {
+            invalidateLocalCaches();
+            return;
+        }
+
+        final Set<String> changedAuthDomains = Sets.union(previousAuthc.keySet(), authc.keySet())
+            .stream()
+            .filter(name -> !Objects.equals(previousAuthc.get(name), authc.get(name)))
+            .collect(Collectors.toSet());
+
+        if (!changedAuthDomains.isEmpty()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Auth domains {} have changed; removing their users from the caches", changedAuthDomains);
+            }
+            invalidateAuthDomains(changedAuthDomains);
+        }
+    }
+
+    private static boolean internalUserChanged(InternalUsersModel previous, InternalUsersModel current, String username) {
+        return previous.exists(username) != current.exists(username)
+            || !Objects.equals(previous.getHash(username), current.getHash(username))
+            || !Objects.equals(previous.getBackenRoles(username), current.getBackenRoles(username))
+            || !Objects.equals(previous.getSecurityRoles(username), current.getSecurityRoles(username))
+            || !Objects.equals(previous.getAttributes(username), current.getAttributes(username));
+    }
+
     /**
      *
      * @param request
@@ -342,7 +510,7 @@ public class BackendRegistry {
             }
 
             // http completed
-            authenticatedUser = authcz(userCache, restRoleCache, ac, authDomain.getBackend(), restAuthorizers);
+            authenticatedUser = authcz(userCache, restRoleCache, ac, authDomain, restAuthorizers);
 
             if (authenticatedUser == null) {
                 if (isDebugEnabled) {
@@ -476,6 +644,14 @@ public class BackendRegistry {
         }
     }
 
+    /**
+     * Authenticates the given credentials with the given auth domain and the REST authorizers, using the user caches.
+     * Visible for testing.
+     */
+    User authcz(final AuthCredentials ac, final AuthDomain authDomain) {
+        return authcz(userCache, restRoleCache, ac, authDomain, restAuthorizers);
+    }
+
     /**
      * no auditlog, throw no exception, does also authz for all authorizers
      *
@@ -571,15 +747,16 @@ public class BackendRegistry {
      * @return null if user cannot b authenticated
      */
     private User authcz(
-        final Cache<AuthCredentials, User> cache,
+        final Cache<AuthCredentials, CachedUser> cache,
         Cache<User, Set<String>> roleCache,
         final AuthCredentials ac,
-        final AuthenticationBackend authBackend,
+        final AuthDomain authDomain,
         final Set<AuthorizationBackend> authorizers
     ) {
         if (ac == null) {
             return null;
         }
+        final AuthenticationBackend authBackend = authDomain.getBackend();
         try {
 
             // noop backend configured and no authorizers
@@ -589,9 +766,11 @@ public class BackendRegistry {
                 return authBackend.authenticate(ac);
             }
 
-            return cache.get(ac, new Callable<User>() {
+            authCacheRequests.increment();
+            final CachedUser cachedUser = cache.get(ac, new Callable<CachedUser>() {
                 @Override
-                public User call() throws Exception {
+                public CachedUser call() throws Exception {
+                    authCacheMisses.increment();
                     if (log.isTraceEnabled()) {
                         log.trace(
                             "Credentials for user {} not cached, return from {} backend directly",
@@ -599,21 +778,135 @@ public class BackendRegistry {
                             authBackend.getType()
                         );
                     }
-                    final User authenticatedUser = authBackend.authenticate(ac);
+                    final String sharedCacheKey = sharedCache != null ? sharedCache.key(ac, authDomain.getNameOrBackendType()) : null;
+                    final User sharedCachedUser = sharedCacheKey != null ? sharedCache.get(sharedCacheKey) : null;
+
+                    if (sharedCachedUser != null) {
+                        sharedAuthCacheHits.increment();
+                        if (log.isTraceEnabled()) {
+                            log.trace("Credentials for user {} found in shared cache", ac.getUsername());
+                        }
+                        return new CachedUser(sharedCachedUser, authDomain.getName());
+                    }
+
+                    final String sharedCacheEpoch = sharedCacheKey != null ? sharedCache.epoch() : null;
+                    final User authenticatedUser = authenticate(authDomain, ac);
                     authz(authenticatedUser, roleCache, authorizers);
-                    return authenticatedUser;
+
+                    if (sharedCacheKey != null) {
+                        sharedCache.put(sharedCacheKey, authenticatedUser, sharedCacheEpoch);
+                    }
+
+                    return new CachedUser(authenticatedUser, authDomain.getName());
                 }
             });
+
+            if (refreshAheadNanos > 0 && cachedUser.startRefreshIfOlderThan(refreshAheadNanos)) {
+                refreshAhead(cache, roleCache, ac.copy(), authDomain, authorizers);
+            }
+
+            return cachedUser.user;
         } catch (Exception e) {
             if (log.isDebugEnabled()) {
                 log.debug("Can not authenticate {} due to exception", ac.getUsername(), e);
             }
+            authenticationFailures.increment();
             return null;
         } finally {
             ac.clearSecrets();
         }
     }
 
+    /**
+     * Calls the authentication backend of the given auth domain and records the duration of the call. Cache hits are
+     * not recorded; thus, the histograms reflect the latency of the backends.
+     */
+    private User authenticate(final AuthDomain authDomain, final AuthCredentials credentials) {
+        final long start = System.nanoTime();
+        try {
+            return authDomain.getBackend().authenticate(credentials);
+        } finally {
+            authenticationTime(authDomain).recordSince(start);
+        }
+    }
+
+    private SecurityMetrics.Histogram authenticationTime(final AuthDomain authDomain) {
+        final SecurityMetrics.Histogram result = authenticationTimes.get(authDomain);
+        // Only happens for auth domains which have been replaced by a concurrent configuration change
+        return result != null ? result : metrics.histogram("authentication." + authDomain.getNameOrBackendType());
+    }
+
+    /**
+     * Looks up the authentication time histograms of the given auth domains once per configuration change. Auth domains
+     * of the legacy configuration format have no name; these are reported by their backend type.
+     */
+    private Map<AuthDomain, SecurityMetrics.Histogram> createAuthenticationTimes(final Set<AuthDomain> authDomains) {
+        final Map<AuthDomain, SecurityMetrics.Histogram> result = new IdentityHashMap<>(authDomains.size());
+        for (final AuthDomain authDomain : authDomains) {
+            result.put(authDomain, metrics.histogram("authentication." + authDomain.getNameOrBackendType()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Re-validates a cached user in the background, before the cache entry expires. The credentials of the request
+     * which hit the cache entry are used for this; afterwards their secrets are cleared. If the credentials are no
+     * longer valid, the cache entry is removed; the next request will then be authenticated in the foreground.
+     */
+    private void refreshAhead(
+        final Cache<AuthCredentials, CachedUser> cache,
+        final Cache<User, Set<String>> roleCache,
+        final AuthCredentials credentials,
+        final AuthDomain authDomain,
+        final Set<AuthorizationBackend> authorizers
+    ) {
+        final long generation = cacheGeneration.get();
+        final AuthenticationBackend authBackend = authDomain.getBackend();
+
+        try (ThreadContext.StoredContext ctx = threadPool.getThreadContext().stashContext()) {
+            threadPool.generic().execute(() -> {
+                try {
+                    final String sharedCacheKey = sharedCache != null
+                        ? sharedCache.key(credentials, authDomain.getNameOrBackendType())
+                        : null;
+                    final String sharedCacheEpoch = sharedCacheKey != null ? sharedCache.epoch() : null;
+                    final User user = authenticate(authDomain, credentials);
+
+                    if (user == null) {
+                        cache.invalidate(credentials);
+                        return;
+                    }
+
+                    authz(user, null, authorizers);
+
+                    // Do not resurrect entries which were invalidated while the refresh was running
+                    if (generation == cacheGeneration.get()) {
+                        roleCache.put(user, new HashSet<>(user.getRoles()));
+                        cache.put(credentials, new CachedUser(user, authDomain.getName()));
+
+                        if (sharedCacheKey != null) {
+                            sharedCache.put(sharedCacheKey, user, sharedCacheEpoch);
+                        }
+                    }
+
+                    if (log.isTraceEnabled()) {
+                        log.trace("Refreshed cached user {} from {} backend", user.getName(), authBackend.getType());
+                    }
+                } catch (Exception e) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Refresh of cached user {} failed; removing it from the cache", credentials.getUsername(), e);
+                    }
+                    cache.invalidate(credentials);
+                } finally {
+                    credentials.clearSecrets();
+                }
+            });
+        } catch (Exception e) {
+            credentials.clearSecrets();
+            log.warn("Could not schedule refresh of cached user {}", credentials.getUsername(), e);
+        }
+    }
+
     private User impersonate(final SecurityRequest request, final User originalUser) throws OpenSearchSecurityException {
 
         final String impersonatedUserHeader = request.header("opendistro_security_impersonate_as");
@@ -704,7 +997,7 @@ public class BackendRegistry {
         return false;
     }
 
-    private static boolean matchesIgnoreHostPatterns(
+    private boolean matchesIgnoreHostPatterns(
         ClientBlockRegistry<InetAddress> clientBlockRegistry,
         InetAddress address,
         String hostResolverMode
@@ -713,7 +1006,7 @@ public class BackendRegistry {
         if (ignoreHostsMatcher == null || address == null) {
             return false;
         }
-        return ignoreHostsMatcher.matches(address, hostResolverMode);
+        return ignoreHostsMatcher.matches(address, hostResolverMode, reverseDnsResolver);
 
     }
 
@@ -738,4 +1031,23 @@ public class BackendRegistry {
         return false;
     }
 
+    /**
+     * An entry of the user cache. Records the auth domain which authenticated the user, so that the entry can be
+     * evicted when that domain changes.
+     */
+    private static class CachedUser {
+        final User user;
+        final String authDomain;
+        final long createdAtNanos = System.nanoTime();
+        final AtomicBoolean refreshStarted = new AtomicBoolean();
+
+        CachedUser(User user, String authDomain) {
+            this.user = user;
+            this.authDomain = authDomain;
+        }
+
+        boolean startRefreshIfOlderThan(long nanos) {
+            return System.nanoTime() - createdAtNanos >= nanos && refreshStarted.compareAndSet(false, true);
+        }
+    }
 }
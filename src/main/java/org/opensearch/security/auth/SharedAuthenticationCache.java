@@ -0,0 +1,318 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Bytes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.security.action.authcache.AuthCacheUpdateAction;
+import org.opensearch.security.action.authcache.AuthCacheUpdateRequest;
+import org.opensearch.security.configuration.ConfigurationMap;
+import org.opensearch.security.configuration.Salt;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.user.AuthCredentials;
+import org.opensearch.security.user.User;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+/**
+ * An optional second level cache for authenticated users, which is shared by all nodes of the cluster. When a node
+ * authenticates a user, the user (including the backend roles retrieved by the authorization backends) is replicated to
+ * all other nodes. Thus, a user whose requests are distributed over many coordinating nodes only needs to be authenticated
+ * once per TTL by the authentication backend.
+ * <p>
+ * Only password based credentials are eligible. The entries are keyed by a HMAC of the auth domain and the credentials,
+ * which is salted with the compliance salt and the cluster UUID. The credentials themselves are never replicated.
+ * Entries are replicated in batches; a node publishes at most one batch per PUBLISH_DELAY.
+ * <p>
+ * The cache is invalidated together with the node local caches of BackendRegistry. Each entry carries the epoch of the
+ * node which authenticated the user: the versions of the security configuration documents and the id of the last full
+ * invalidation. Nodes only accept entries with an epoch equal to their own. As the epoch only consists of values which
+ * are the same on all nodes, this does not depend on the clocks of the nodes.
+ */
+public class SharedAuthenticationCache {
+
+    /**
+     * The delay after which pending entries are replicated to the other nodes.
+     */
+    static final TimeValue PUBLISH_DELAY = TimeValue.timeValueMillis(200);
+
+    /**
+     * The maximum number of entries waiting for replication. Further entries are only cached locally.
+     */
+    static final int MAX_PENDING_ENTRIES = 1000;
+
+    private static final Logger log = LogManager.getLogger(SharedAuthenticationCache.class);
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final byte[] salt;
+    private final Client client;
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final ThreadContext threadContext;
+    private final Cache<String, Entry> cache;
+    private final Map<String, String> configVersions = new TreeMap<>();
+    private final Queue<AuthCacheUpdateRequest.Entry> pendingEntries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingEntryCount = new AtomicInteger();
+    private final AtomicBoolean publishScheduled = new AtomicBoolean();
+    private volatile String configVersion = "";
+    private volatile String invalidationId = "";
+
+    public SharedAuthenticationCache(Settings settings, Client client, ClusterService clusterService, ThreadPool threadPool) {
+        final int ttlInMin = settings.getAsInt(ConfigConstants.SECURITY_CACHE_TTL_MINUTES, 60);
+
+        this.enabled = settings.getAsBoolean(ConfigConstants.SECURITY_CACHE_SHARED_ENABLED, false) && ttlInMin > 0;
+        this.ttlMillis = TimeUnit.MINUTES.toMillis(ttlInMin);
+        this.salt = Salt.from(settings).getSalt16();
+        this.client = client;
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.threadContext = threadPool.getThreadContext();
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(settings.getAsInt(ConfigConstants.SECURITY_CACHE_SHARED_MAX_SIZE, 10000))
+            .expireAfterWrite(ttlInMin, TimeUnit.MINUTES)
+            .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the key for the given credentials, or null if the credentials are not eligible for the shared cache.
+     * Must be called before the secrets of the credentials are cleared.
+     *
+     * @param authDomain the name of the auth domain which authenticates the credentials
+     */
+    String key(AuthCredentials credentials, String authDomain) {
+        if (!enabled || credentials == null || credentials.getPassword() == null) {
+            return null;
+        }
+
+        final ClusterState state = clusterService.state();
+
+        if (state == null || !state.metadata().clusterUUIDCommitted()) {
+            return null;
+        }
+
+        return Hashing.hmacSha256(Bytes.concat(salt, state.metadata().clusterUUID().getBytes(StandardCharsets.UTF_8)))
+            .newHasher()
+            .putString(String.valueOf(authDomain), StandardCharsets.UTF_8)
+            .putByte((byte) 0)
+            .putString(credentials.getUsername(), StandardCharsets.UTF_8)
+            .putByte((byte) 0)
+            .putBytes(credentials.getPassword())
+            .hash()
+            .toString();
+    }
+
+    /**
+     * Returns the current epoch of this node. Must be retrieved before a user is authenticated; the epoch is then
+     * passed to put().
+     */
+    String epoch() {
+        return configVersion + "/" + invalidationId;
+    }
+
+    /**
+     * Returns the cached user for the given key or null if there is no valid entry.
+     */
+    User get(String key) {
+        if (key == null) {
+            return null;
+        }
+
+        final Entry entry = cache.getIfPresent(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expiresAtMillis < System.currentTimeMillis()) {
+            cache.invalidate(key);
+            return null;
+        }
+
+        return entry.user;
+    }
+
+    /**
+     * Caches the given user locally and replicates it asynchronously to all other nodes of the cluster.
+     *
+     * @param epoch the epoch of this node at the time at which the authentication of the user was started
+     */
+    void put(String key, User user, String epoch) {
+        if (key == null || user == null || !store(key, user, epoch)) {
+            return;
+        }
+
+        if (clusterService.state().nodes().getSize() <= 1) {
+            return;
+        }
+
+        if (pendingEntryCount.incrementAndGet() > MAX_PENDING_ENTRIES) {
+            pendingEntryCount.decrementAndGet();
+            return;
+        }
+
+        pendingEntries.add(new AuthCacheUpdateRequest.Entry(key, user, epoch));
+
+        if (publishScheduled.compareAndSet(false, true)) {
+            try (ThreadContext.StoredContext ctx = threadContext.stashContext()) {
+                threadPool.schedule(this::publishPendingEntries, PUBLISH_DELAY, ThreadPool.Names.GENERIC);
+            } catch (Exception e) {
+                publishScheduled.set(false);
+                log.warn("Could not schedule replication of cached users", e);
+            }
+        }
+    }
+
+    /**
+     * Caches the given user on this node only. Used for entries replicated by other nodes.
+     *
+     * @return false if the entry was rejected because it was created with a different epoch
+     */
+    public boolean store(String key, User user, String epoch) {
+        if (!enabled || !Objects.equals(epoch, epoch())) {
+            return false;
+        }
+
+        cache.put(key, new Entry(user, System.currentTimeMillis() + ttlMillis));
+
+        if (!Objects.equals(epoch, epoch())) {
+            // The cache was invalidated concurrently
+            cache.invalidate(key);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes all entries on this node.
+     *
+     * @param invalidationId an id for the invalidation which is the same on all nodes; entries authenticated before
+     *                       the invalidation are rejected afterwards. If null, a random id is used; then, this node does
+     *                       not accept entries from other nodes until the next invalidation or configuration change.
+     */
+    public void invalidateAll(String invalidationId) {
+        this.invalidationId = invalidationId != null ? invalidationId : UUIDs.randomBase64UUID();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Removes all entries on this node without changing the epoch. Only to be used if the epoch has already been
+     * changed by a configuration change.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Removes the entries of the given users on this node.
+     */
+    public void invalidateUsers(Set<String> usernames) {
+        cache.asMap().values().removeIf(entry -> usernames.contains(entry.user.getName()));
+    }
+
+    /**
+     * Updates the epoch of this node with the versions of the loaded configuration documents. Must be called before the
+     * users affected by the configuration change are evicted.
+     */
+    public synchronized void onConfigurationChanged(ConfigurationMap configurationMap) {
+        for (CType<?> configType : configurationMap.keySet()) {
+            final SecurityDynamicConfiguration<?> configuration = configurationMap.get(configType);
+            configVersions.put(configType.toLCString(), configuration.getPrimaryTerm() + ":" + configuration.getSeqNo());
+        }
+
+        final String newConfigVersion = configVersions.toString();
+
+        if (!newConfigVersion.equals(configVersion)) {
+            configVersion = newConfigVersion;
+            // The new configuration version supersedes all earlier invalidations
+            invalidationId = "";
+        }
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private void publishPendingEntries() {
+        publishScheduled.set(false);
+
+        final List<AuthCacheUpdateRequest.Entry> entries = new ArrayList<>(Math.min(pendingEntryCount.get(), MAX_PENDING_ENTRIES));
+        AuthCacheUpdateRequest.Entry entry;
+
+        while ((entry = pendingEntries.poll()) != null) {
+            pendingEntryCount.decrementAndGet();
+            entries.add(entry);
+        }
+
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        final ClusterState state = clusterService.state();
+        final String localNodeId = state.nodes().getLocalNodeId();
+        final String[] nodeIds = state.nodes().getNodes().keySet().stream().filter(id -> !id.equals(localNodeId)).toArray(String[]::new);
+
+        if (nodeIds.length == 0) {
+            return;
+        }
+
+        final AuthCacheUpdateRequest request = new AuthCacheUpdateRequest(entries, nodeIds);
+
+        client.execute(AuthCacheUpdateAction.INSTANCE, request, ActionListener.wrap(response -> {
+            if (response.hasFailures() && log.isDebugEnabled()) {
+                log.debug("Could not replicate {} cached users to all nodes: {}", entries.size(), response.failures());
+            }
+        }, e -> log.warn("Could not replicate {} cached users", entries.size(), e)));
+    }
+
+    private static class Entry {
+        final User user;
+        final long expiresAtMillis;
+
+        Entry(User user, long expiresAtMillis) {
+            this.user = user;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -41,6 +41,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -52,6 +53,7 @@ import java.util.stream.Collectors;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -88,6 +90,7 @@ import org.opensearch.security.state.SecurityMetadata;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.ConfigHelper;
 import org.opensearch.security.support.SecurityIndexHandler;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.security.support.SecurityUtils;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
@@ -101,6 +104,7 @@ public class ConfigurationRepository implements ClusterStateListener {
     private final Client client;
     private final Cache<CType<?>, SecurityDynamicConfiguration<?>> configCache;
     private final List<ConfigurationChangeListener> configurationChangedListener;
+    private final Map<String, Long> buildTimeNanos = new ConcurrentHashMap<>();
     private final ConfigurationLoaderSecurity7 cl;
     private final Settings settings;
     private final Path configPath;
@@ -119,6 +123,9 @@ public class ConfigurationRepository implements ClusterStateListener {
 
     private final SecurityIndexHandler securityIndexHandler;
 
+    private final SecurityMetrics metrics;
+    private final SecurityMetrics.Histogram reloadTime;
+
     // visible for testing
     protected ConfigurationRepository(
         final String securityIndex,
@@ -128,7 +135,8 @@ public class ConfigurationRepository implements ClusterStateListener {
         final Client client,
         final ClusterService clusterService,
         final AuditLog auditLog,
-        final SecurityIndexHandler securityIndexHandler
+        final SecurityIndexHandler securityIndexHandler,
+        final SecurityMetrics metrics
     ) {
         this.securityIndex = securityIndex;
         this.settings = settings;
@@ -142,6 +150,8 @@ public class ConfigurationRepository implements ClusterStateListener {
         cl = new ConfigurationLoaderSecurity7(client, threadPool, settings, clusterService);
         configCache = CacheBuilder.newBuilder().build();
         this.securityIndexHandler = securityIndexHandler;
+        this.metrics = metrics;
+        this.reloadTime = metrics.histogram("config.reload");
     }
 
     private Path resolveConfigDir() {
@@ -482,7 +492,8 @@ public class ConfigurationRepository implements ClusterStateListener {
         final ThreadPool threadPool,
         Client client,
         ClusterService clusterService,
-        AuditLog auditLog
+        AuditLog auditLog,
+        SecurityMetrics metrics
     ) {
         final var securityIndex = settings.get(
             ConfigConstants.SECURITY_CONFIG_INDEX_NAME,
@@ -496,7 +507,8 @@ public class ConfigurationRepository implements ClusterStateListener {
             client,
             clusterService,
             auditLog,
-            new SecurityIndexHandler(securityIndex, settings, client)
+            new SecurityIndexHandler(securityIndex, settings, client),
+            metrics
         );
     }
 
@@ -553,8 +565,10 @@ public class ConfigurationRepository implements ClusterStateListener {
     }
 
     private void reloadConfiguration0(Collection<CType<?>> configTypes, boolean acceptInvalid) {
+        long start = System.nanoTime();
         ConfigurationMap loaded = getConfigurationsFromIndex(configTypes, false, acceptInvalid);
         notifyConfigurationListeners(loaded);
+        reloadTime.recordSince(start);
     }
 
     private void notifyConfigurationListeners(ConfigurationMap configuration) {
@@ -578,6 +592,23 @@ public class ConfigurationRepository implements ClusterStateListener {
         }
     }
 
+    /**
+     * Records how long the listeners took to build the data structures derived from the configuration, by component.
+     * Listeners should call this after each update; the values are reported by the config update action.
+     */
+    public void recordBuildTimes(Map<String, Long> componentToNanos) {
+        this.buildTimeNanos.putAll(componentToNanos);
+        componentToNanos.forEach((component, nanos) -> metrics.histogram("config.build." + component).record(nanos));
+    }
+
+    /**
+     * Returns the durations of the most recent builds of the data structures derived from the configuration, by
+     * component.
+     */
+    public Map<String, Long> getBuildTimes() {
+        return ImmutableSortedMap.copyOf(this.buildTimeNanos);
+    }
+
     /**
      * This retrieves the config directly from the index without caching involved
      * @param configTypes
@@ -0,0 +1,282 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalNotification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.FixedBitSet;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.security.privileges.dlsfls.FieldMasking;
+import org.opensearch.security.privileges.dlsfls.FieldPrivileges;
+import org.opensearch.security.support.SecurityMetrics;
+
+/**
+ * Caches the bitsets of documents matching a DLS query for index segments. The bitsets are keyed by the core cache key
+ * of the segment, the rendered DLS query, the FLS rule and the field masking rule (as FLS restrictions and masked fields
+ * influence the terms visible to the DLS query).
+ * <p>
+ * Bitsets of queries which are not cacheable according to Weight.isCacheable() are not stored.
+ * <p>
+ * The bitsets only depend on the immutable segment core; deleted documents are NOT reflected in the bitsets. Thus,
+ * users of this class need to apply the live docs of the segment reader on top of the cached bitset.
+ * <p>
+ * Entries are evicted when the segment core is closed or when the configured heap budget is exceeded.
+ */
+public class DlsBitsetCache {
+
+    /**
+     * The maximum heap size used by the cached bitsets. Each bitset needs maxDoc / 8 bytes. A value of 0 disables the cache.
+     */
+    public static final Setting<ByteSizeValue> MAX_SIZE = Setting.memorySizeSetting(
+        "plugins.security.dls.bitset_cache.max_size",
+        "1%",
+        Setting.Property.NodeScope
+    );
+
+    private static final Logger log = LogManager.getLogger(DlsBitsetCache.class);
+
+    private final Cache<Key, FixedBitSet> cache;
+    /**
+     * The keys of the cached entries per segment core. Segments are removed from this map when they are closed.
+     */
+    private final Map<IndexReader.CacheKey, Set<Key>> keysBySegment = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final SecurityMetrics.Histogram buildTime;
+
+    public DlsBitsetCache(Settings settings) {
+        this(settings, new SecurityMetrics());
+    }
+
+    public DlsBitsetCache(Settings settings, SecurityMetrics metrics) {
+        long maxSize = MAX_SIZE.get(settings).getBytes();
+
+        this.enabled = maxSize > 0;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumWeight(Math.max(maxSize, 0))
+            .weigher((Key key, FixedBitSet value) -> (int) Math.min(value.ramBytesUsed(), Integer.MAX_VALUE))
+            .removalListener(this::onRemoval)
+            .recordStats()
+            .build();
+        this.buildTime = metrics.histogram("dls.bitset_build");
+    }
+
+    /**
+     * Returns the bitset of documents of the given segment which match the given DLS query. If the bitset is not yet
+     * cached, the given loader is used to compute it.
+     * <p>
+     * The returned bitset is shared and MUST NOT be modified.
+     */
+    FixedBitSet getOrCompute(
+        LeafReader segmentReader,
+        Query dlsQuery,
+        FieldPrivileges.FlsRule flsRule,
+        FieldMasking.FieldMaskingRule fmRule,
+        Loader loader
+    ) throws IOException {
+        IndexReader.CacheHelper coreCacheHelper = segmentReader.getCoreCacheHelper();
+
+        if (!enabled || coreCacheHelper == null) {
+            return load(loader).bits;
+        }
+
+        IndexReader.CacheKey coreKey = coreCacheHelper.getKey();
+        Key key = new Key(coreKey, dlsQuery, flsRule, fmRule);
+        FixedBitSet cached = cache.getIfPresent(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        Set<Key> segmentKeys = getSegmentKeys(coreCacheHelper);
+        segmentKeys.add(key);
+
+        FixedBitSet result;
+
+        try {
+            // Cache.get() only blocks concurrent loads of the same key, whereas computeIfAbsent() on the map view
+            // would hold the segment lock of the cache while the bitset is computed
+            result = cache.get(key, () -> {
+                ComputedBitset computed = load(loader);
+
+                if (!computed.cacheable) {
+                    // Aborts the load, so that nothing is stored
+                    throw new UncacheableBitsetException(computed.bits);
+                }
+
+                return computed.bits;
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncacheableBitsetException uncacheable) {
+                segmentKeys.remove(key);
+                return uncacheable.bits;
+            } else if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            } else {
+                throw ExceptionsHelper.convertToOpenSearchException((Exception) e.getCause());
+            }
+        }
+
+        if (keysBySegment.get(coreKey) != segmentKeys) {
+            // The segment was closed while the bitset was computed; make sure that no orphaned entry remains
+            cache.invalidate(key);
+        }
+
+        return result;
+    }
+
+    private ComputedBitset load(Loader loader) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return loader.load();
+        } finally {
+            buildTime.recordSince(start);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public long getRamBytesUsed() {
+        return cache.asMap().values().stream().mapToLong(FixedBitSet::ramBytesUsed).sum();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    private Set<Key> getSegmentKeys(IndexReader.CacheHelper coreCacheHelper) {
+        IndexReader.CacheKey coreKey = coreCacheHelper.getKey();
+        Set<Key> segmentKeys = keysBySegment.get(coreKey);
+
+        if (segmentKeys == null) {
+            Set<Key> newSegmentKeys = ConcurrentHashMap.newKeySet();
+            segmentKeys = keysBySegment.putIfAbsent(coreKey, newSegmentKeys);
+
+            if (segmentKeys == null) {
+                segmentKeys = newSegmentKeys;
+                coreCacheHelper.addClosedListener(this::onSegmentClosed);
+            }
+        }
+
+        return segmentKeys;
+    }
+
+    private void onSegmentClosed(IndexReader.CacheKey coreKey) {
+        Set<Key> segmentKeys = keysBySegment.remove(coreKey);
+
+        if (segmentKeys != null) {
+            cache.invalidateAll(segmentKeys);
+        }
+
+        if (log.isTraceEnabled()) {
+            log.trace("Evicted DLS bitsets for closed segment {}; remaining entries: {}", coreKey, cache.size());
+        }
+    }
+
+    private void onRemoval(RemovalNotification<Key, FixedBitSet> notification) {
+        if (notification.wasEvicted()) {
+            Set<Key> segmentKeys = keysBySegment.get(notification.getKey().coreKey);
+
+            if (segmentKeys != null) {
+                segmentKeys.remove(notification.getKey());
+            }
+        }
+    }
+
+    /**
+     * Computes the DLS bitset of a segment.
+     */
+    @FunctionalInterface
+    interface Loader {
+        ComputedBitset load() throws IOException;
+    }
+
+    /**
+     * A computed DLS bitset together with the information whether it may be cached.
+     */
+    static class ComputedBitset {
+        final FixedBitSet bits;
+        final boolean cacheable;
+
+        ComputedBitset(FixedBitSet bits, boolean cacheable) {
+            this.bits = bits;
+            this.cacheable = cacheable;
+        }
+    }
+
+    /**
+     * Signals that a computed bitset must not be stored in the cache.
+     */
+    private static class UncacheableBitsetException extends Exception {
+        private final transient FixedBitSet bits;
+
+        UncacheableBitsetException(FixedBitSet bits) {
+            super(null, null, false, false);
+            this.bits = bits;
+        }
+    }
+
+    private static class Key {
+        private final IndexReader.CacheKey coreKey;
+        private final Query dlsQuery;
+        private final FieldPrivileges.FlsRule flsRule;
+        private final FieldMasking.FieldMaskingRule fmRule;
+        private final int hashCode;
+
+        Key(IndexReader.CacheKey coreKey, Query dlsQuery, FieldPrivileges.FlsRule flsRule, FieldMasking.FieldMaskingRule fmRule) {
+            this.coreKey = coreKey;
+            this.dlsQuery = dlsQuery;
+            this.flsRule = flsRule;
+            this.fmRule = fmRule;
+            this.hashCode = Objects.hash(System.identityHashCode(coreKey), dlsQuery, flsRule, fmRule);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return this.hashCode == that.hashCode
+                && this.coreKey == that.coreKey
+                && this.dlsQuery.equals(that.dlsQuery)
+                && this.flsRule.equals(that.flsRule)
+                && this.fmRule.equals(that.fmRule);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
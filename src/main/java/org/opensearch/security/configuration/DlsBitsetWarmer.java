@@ -0,0 +1,337 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Query;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.security.privileges.dlsfls.FieldMasking;
+import org.opensearch.security.privileges.dlsfls.FieldPrivileges;
+import org.opensearch.security.support.SecurityMetrics;
+
+/**
+ * Pre-computes the DLS bitsets of frequently used DLS restrictions for new index segments, so that the first request
+ * after a refresh or merge does not need to pay for building the bitsets.
+ * <p>
+ * Instances of this class track how often DLS restrictions are applied on the reader level (see DlsFlsFilterLeafReader).
+ * When a reader with a new version is acquired for a shard, the bitsets of the most frequently used restrictions are
+ * computed in the background and stored in the DlsBitsetCache. The usage counts are halved after each run; thus,
+ * restrictions which are no longer used are eventually dropped.
+ * <p>
+ * The warm-up is controlled by the dynamic index settings index.plugins.security.dls.warmer.max_queries (the number of
+ * restrictions which are warmed, 0 disables the warmer) and index.plugins.security.dls.warmer.max_time (the time
+ * budget of a single warm-up run).
+ * <p>
+ * There is one instance of this class per index. Instances of this class are thread-safe.
+ */
+public class DlsBitsetWarmer {
+
+    public static final Setting<Integer> MAX_QUERIES = Setting.intSetting(
+        "index.plugins.security.dls.warmer.max_queries",
+        0,
+        0,
+        Setting.Property.IndexScope,
+        Setting.Property.Dynamic
+    );
+
+    public static final Setting<TimeValue> MAX_TIME = Setting.timeSetting(
+        "index.plugins.security.dls.warmer.max_time",
+        TimeValue.timeValueSeconds(1),
+        TimeValue.ZERO,
+        Setting.Property.IndexScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * The maximum number of distinct restrictions for which the usage is tracked per index.
+     */
+    static final int MAX_TRACKED_RESTRICTIONS = 1000;
+
+    private static final Logger log = LogManager.getLogger(DlsBitsetWarmer.class);
+
+    private final IntSupplier maxQueries;
+    private final LongSupplier maxTimeNanos;
+    private final Executor executor;
+    private final DlsBitsetCache dlsBitsetCache;
+    private final RestrictedReaderFactory restrictedReaderFactory;
+    private final Map<Restriction, LongAdder> usage = new ConcurrentHashMap<>();
+    private final Map<ShardId, Long> warmedReaderVersions = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final SecurityMetrics.Counter warmedBitsets;
+    private final SecurityMetrics.Counter budgetExhausted;
+    private final SecurityMetrics.Counter failures;
+    private final SecurityMetrics.Histogram runTime;
+
+    /**
+     * @param indexSettings the settings of the index; the warm-up budget is read from these
+     * @param executor the executor for the warm-up runs
+     * @param dlsBitsetCache the cache which receives the computed bitsets
+     * @param restrictedReaderFactory creates the FLS and field masking restricted view on a segment which is needed for
+     *                                computing bitsets
+     * @param metrics the registry for the metrics of the warm-up runs
+     */
+    public DlsBitsetWarmer(
+        IndexSettings indexSettings,
+        Executor executor,
+        DlsBitsetCache dlsBitsetCache,
+        RestrictedReaderFactory restrictedReaderFactory,
+        SecurityMetrics metrics
+    ) {
+        this(
+            () -> indexSettings.getValue(MAX_QUERIES),
+            () -> indexSettings.getValue(MAX_TIME).nanos(),
+            executor,
+            dlsBitsetCache,
+            restrictedReaderFactory,
+            metrics
+        );
+    }
+
+    DlsBitsetWarmer(
+        IntSupplier maxQueries,
+        LongSupplier maxTimeNanos,
+        Executor executor,
+        DlsBitsetCache dlsBitsetCache,
+        RestrictedReaderFactory restrictedReaderFactory,
+        SecurityMetrics metrics
+    ) {
+        this.maxQueries = maxQueries;
+        this.maxTimeNanos = maxTimeNanos;
+        this.executor = executor;
+        this.dlsBitsetCache = dlsBitsetCache;
+        this.restrictedReaderFactory = restrictedReaderFactory;
+        this.warmedBitsets = metrics.counter("dls.warmer.bitsets");
+        this.budgetExhausted = metrics.counter("dls.warmer.budget_exhausted");
+        this.failures = metrics.counter("dls.warmer.failures");
+        this.runTime = metrics.histogram("dls.warmer.run");
+    }
+
+    /**
+     * Records that the given DLS restriction was applied on the reader level.
+     */
+    public void recordUsage(Query dlsQuery, FieldPrivileges.FlsRule flsRule, FieldMasking.FieldMaskingRule fmRule) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        Restriction restriction = new Restriction(dlsQuery, flsRule, fmRule);
+        LongAdder counter = usage.get(restriction);
+
+        if (counter == null) {
+            if (usage.size() >= MAX_TRACKED_RESTRICTIONS) {
+                return;
+            }
+
+            counter = usage.computeIfAbsent(restriction, k -> new LongAdder());
+        }
+
+        counter.increment();
+    }
+
+    /**
+     * Starts a warm-up run in the background if the given reader has not been warmed yet. If there is already a
+     * warm-up run in progress for this index, this does nothing; the reader will be considered again when it is
+     * acquired the next time.
+     */
+    public void maybeWarm(DirectoryReader reader, ShardId shardId) {
+        if (!isEnabled() || usage.isEmpty() || shardId == null) {
+            return;
+        }
+
+        long version = reader.getVersion();
+        Long warmedVersion = warmedReaderVersions.get(shardId);
+
+        if (warmedVersion != null && warmedVersion == version) {
+            return;
+        }
+
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (!reader.tryIncRef()) {
+            // The reader has already been closed
+            running.set(false);
+            return;
+        }
+
+        warmedReaderVersions.put(shardId, version);
+
+        try {
+            executor.execute(() -> {
+                try {
+                    warm(reader, shardId);
+                } finally {
+                    release(reader);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Could not start DLS warm-up for {}", shardId, e);
+            warmedReaderVersions.remove(shardId, version);
+            release(reader);
+        }
+    }
+
+    void warm(DirectoryReader reader, ShardId shardId) {
+        long start = System.nanoTime();
+        long budget = maxTimeNanos.getAsLong();
+        List<Restriction> restrictions = getMostFrequentlyUsed(maxQueries.getAsInt());
+        int computed = 0;
+
+        try {
+            for (Restriction restriction : restrictions) {
+                for (LeafReaderContext leaf : reader.leaves()) {
+                    if (System.nanoTime() - start > budget) {
+                        budgetExhausted.increment();
+                        log.debug("Budget for DLS warm-up of {} exhausted after {} bitsets", shardId, computed);
+                        return;
+                    }
+
+                    if (warm(leaf.reader(), restriction)) {
+                        computed++;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("Error while warming DLS bitsets for {}", shardId, e);
+        } finally {
+            warmedBitsets.add(computed);
+            runTime.recordSince(start);
+        }
+    }
+
+    /**
+     * Returns the given number of restrictions with the highest usage counts. Afterwards, the usage counts are halved.
+     */
+    List<Restriction> getMostFrequentlyUsed(int count) {
+        List<Map.Entry<Restriction, Long>> counts = new ArrayList<>(usage.size());
+
+        for (Map.Entry<Restriction, LongAdder> entry : usage.entrySet()) {
+            long value = entry.getValue().sumThenReset();
+
+            counts.add(Map.entry(entry.getKey(), value));
+
+            if (value / 2 > 0) {
+                entry.getValue().add(value / 2);
+            } else {
+                usage.remove(entry.getKey(), entry.getValue());
+            }
+        }
+
+        counts.sort(Map.Entry.<Restriction, Long>comparingByValue(Comparator.reverseOrder()));
+
+        List<Restriction> result = new ArrayList<>(Math.min(count, counts.size()));
+
+        for (int i = 0; i < count && i < counts.size(); i++) {
+            result.add(counts.get(i).getKey());
+        }
+
+        return result;
+    }
+
+    int getTrackedRestrictionCount() {
+        return usage.size();
+    }
+
+    private boolean warm(LeafReader segment, Restriction restriction) throws IOException {
+        boolean[] computed = new boolean[1];
+
+        dlsBitsetCache.getOrCompute(segment, restriction.dlsQuery, restriction.flsRule, restriction.fmRule, () -> {
+            computed[0] = true;
+            LeafReader restrictedReader = restriction.flsRule.isAllowAll() && restriction.fmRule.isAllowAll()
+                ? segment
+                : restrictedReaderFactory.create(segment, restriction.flsRule, restriction.fmRule);
+            return DlsFlsFilterLeafReader.computeDlsBitset(restriction.dlsQuery, restrictedReader);
+        });
+
+        return computed[0];
+    }
+
+    private void release(DirectoryReader reader) {
+        try {
+            reader.decRef();
+        } catch (Exception e) {
+            log.warn("Error while releasing reader after DLS warm-up", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean isEnabled() {
+        return dlsBitsetCache.isEnabled() && maxQueries.getAsInt() > 0;
+    }
+
+    /**
+     * Creates the view on a segment which is restricted by the given FLS and field masking rules. DLS queries need to
+     * be evaluated on this view, as both rules influence the terms visible to the query.
+     */
+    @FunctionalInterface
+    interface RestrictedReaderFactory {
+        LeafReader create(LeafReader segment, FieldPrivileges.FlsRule flsRule, FieldMasking.FieldMaskingRule fmRule);
+    }
+
+    static class Restriction {
+        private final Query dlsQuery;
+        private final FieldPrivileges.FlsRule flsRule;
+        private final FieldMasking.FieldMaskingRule fmRule;
+        private final int hashCode;
+
+        Restriction(Query dlsQuery, FieldPrivileges.FlsRule flsRule, FieldMasking.FieldMaskingRule fmRule) {
+            this.dlsQuery = dlsQuery;
+            this.flsRule = flsRule;
+            this.fmRule = fmRule;
+            this.hashCode = Objects.hash(dlsQuery, flsRule, fmRule);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Restriction that)) return false;
+            return this.hashCode == that.hashCode
+                && this.dlsQuery.equals(that.dlsQuery)
+                && this.flsRule.equals(that.flsRule)
+                && this.fmRule.equals(that.fmRule);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        Query getDlsQuery() {
+            return dlsQuery;
+        }
+    }
+}
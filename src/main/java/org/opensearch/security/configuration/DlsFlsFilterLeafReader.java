@@ -17,9 +17,7 @@ package org.opensearch.security.configuration;
 //https://github.com/salyh/elasticsearch-security-plugin/blob/4b53974a43b270ae77ebe79d635e2484230c9d01/src/main/java/org/elasticsearch/plugins/security/filter/DlsWriteFilter.java
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Set;
 
 import com.google.common.collect.Iterators;
@@ -44,14 +42,12 @@ import org.apache.lucene.index.TermState;
 import org.apache.lucene.index.TermVectors;
 import org.apache.lucene.index.Terms;
 import org.apache.lucene.index.TermsEnum;
-import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.AttributeSource;
-import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
@@ -69,6 +65,7 @@ import org.opensearch.security.compliance.ComplianceConfig;
 import org.opensearch.security.compliance.FieldReadCallback;
 import org.opensearch.security.privileges.dlsfls.FieldMasking;
 import org.opensearch.security.privileges.dlsfls.FieldPrivileges;
+import org.opensearch.security.privileges.dlsfls.FlsFieldVisibility;
 import org.opensearch.security.privileges.dlsfls.FlsStoredFieldVisitor;
 import org.opensearch.security.support.ConfigConstants;
 
@@ -82,6 +79,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
     private final ShardId shardId;
     private final FieldPrivileges.FlsRule flsRule;
     private final FieldMasking.FieldMaskingRule fmRule;
+    private final FlsFieldVisibility fieldVisibility;
     private final Set<String> metaFields;
 
     private DlsGetEvaluator dge = null;
@@ -96,7 +94,8 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
         final AuditLog auditlog,
         final FieldMasking.FieldMaskingRule fmRule,
         final ShardId shardId,
-        final Set<String> metaFields
+        final Set<String> metaFields,
+        final DlsBitsetCache dlsBitsetCache
     ) {
         super(delegate);
 
@@ -109,24 +108,11 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
         this.flsRule = flsRule;
         this.fmRule = fmRule;
         this.metaFields = metaFields;
+        this.fieldVisibility = new FlsFieldVisibility(delegate.getFieldInfos(), flsRule, fmRule, metaFields);
+        this.flsFieldInfos = fieldVisibility.getAllowedFieldInfos();
 
         try {
-            if (!flsRule.isAllowAll()) {
-                FieldInfos originalFieldInfos = delegate.getFieldInfos();
-                List<FieldInfo> restrictedFieldInfos = new ArrayList<>(originalFieldInfos.size());
-
-                for (FieldInfo fieldInfo : originalFieldInfos) {
-                    if (metaFields.contains(fieldInfo.name) || flsRule.isAllowed(fieldInfo.name)) {
-                        restrictedFieldInfos.add(fieldInfo);
-                    }
-                }
-
-                this.flsFieldInfos = new FieldInfos(restrictedFieldInfos.toArray(new FieldInfo[restrictedFieldInfos.size()]));
-            } else {
-                this.flsFieldInfos = delegate.getFieldInfos();
-            }
-
-            dge = new DlsGetEvaluator(dlsQuery, in, applyDlsHere());
+            dge = new DlsGetEvaluator(dlsQuery, in, dlsQuery != null && applyDlsHere(), dlsBitsetCache);
         } catch (IOException e) {
             throw ExceptionsHelper.convertToOpenSearchException(e);
         }
@@ -138,35 +124,30 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
         private final CacheHelper readerCacheHelper;
         private final boolean hasDeletions;
 
-        public DlsGetEvaluator(final Query dlsQuery, final LeafReader in, boolean applyDlsHere) throws IOException {
+        public DlsGetEvaluator(final Query dlsQuery, final LeafReader in, boolean applyDlsHere, final DlsBitsetCache dlsBitsetCache)
+            throws IOException {
             if (dlsQuery != null && applyDlsHere) {
-                // borrowed from Apache Lucene (Copyright Apache Software Foundation (ASF))
-                // https://github.com/apache/lucene-solr/blob/branch_6_3/lucene/misc/src/java/org/apache/lucene/index/PKIndexSplitter.java
-                final IndexSearcher searcher = new IndexSearcher(DlsFlsFilterLeafReader.this);
-                searcher.setQueryCache(null);
-                final Weight preserveWeight = searcher.rewrite(dlsQuery).createWeight(searcher, ScoreMode.COMPLETE_NO_SCORES, 1f);
-
-                final int maxDoc = in.maxDoc();
-                final FixedBitSet bits = new FixedBitSet(maxDoc);
-                final Scorer preserveScorer = preserveWeight.scorer(DlsFlsFilterLeafReader.this.getContext());
-
-                if (preserveScorer != null) {
-                    bits.or(preserveScorer.iterator());
-                }
+                // The bitset only depends on the segment core and is thus shared between readers; deletions are applied on top
+                final FixedBitSet bits = dlsBitsetCache.getOrCompute(
+                    in,
+                    dlsQuery,
+                    flsRule,
+                    fmRule,
+                    () -> computeDlsBitset(dlsQuery, DlsFlsFilterLeafReader.this)
+                );
 
                 if (in.hasDeletions()) {
                     final Bits oldLiveDocs = in.getLiveDocs();
                     assert oldLiveDocs != null;
-                    final DocIdSetIterator it = new BitSetIterator(bits, 0L);
-                    for (int i = it.nextDoc(); i != DocIdSetIterator.NO_MORE_DOCS; i = it.nextDoc()) {
-                        if (!oldLiveDocs.get(i)) {
-                            bits.clear(i);
-                        }
-                    }
+                    liveBits = new DlsLiveDocs(bits, oldLiveDocs);
+                } else {
+                    liveBits = bits;
                 }
 
-                liveBits = bits;
                 numDocs = in.numDocs();
+                // Lucene does not allow creating custom cache keys. As the live docs differ from the wrapped reader,
+                // we cannot re-use its reader cache helper. The query cache keys by the core cache helper, though,
+                // which is still delegated and valid, as cached doc id sets are always filtered by the live docs.
                 readerCacheHelper = null;
                 hasDeletions = true;
 
@@ -197,6 +178,53 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
         }
     }
 
+    /**
+     * Computes the bitset of all documents of the given reader which match the given DLS query. Deleted documents are
+     * not taken into account. The reader must provide the FLS restricted view on the segment, as FLS restrictions
+     * influence which documents are matched by the query. The result is only cacheable if the query is cacheable
+     * for the segment.
+     */
+    static DlsBitsetCache.ComputedBitset computeDlsBitset(final Query dlsQuery, final LeafReader flsRestrictedReader) throws IOException {
+        // borrowed from Apache Lucene (Copyright Apache Software Foundation (ASF))
+        // https://github.com/apache/lucene-solr/blob/branch_6_3/lucene/misc/src/java/org/apache/lucene/index/PKIndexSplitter.java
+        final IndexSearcher searcher = new IndexSearcher(flsRestrictedReader);
+        searcher.setQueryCache(null);
+        final Weight preserveWeight = searcher.rewrite(dlsQuery).createWeight(searcher, ScoreMode.COMPLETE_NO_SCORES, 1f);
+
+        final int maxDoc = flsRestrictedReader.maxDoc();
+        final FixedBitSet bits = new FixedBitSet(maxDoc);
+        final Scorer preserveScorer = preserveWeight.scorer(flsRestrictedReader.getContext());
+
+        if (preserveScorer != null) {
+            bits.or(preserveScorer.iterator());
+        }
+
+        return new DlsBitsetCache.ComputedBitset(bits, preserveWeight.isCacheable(flsRestrictedReader.getContext()));
+    }
+
+    /**
+     * Combines the shared DLS bitset of a segment with the live docs of a particular reader without copying the bitset.
+     */
+    private static class DlsLiveDocs implements Bits {
+        private final Bits dlsBits;
+        private final Bits liveDocs;
+
+        DlsLiveDocs(Bits dlsBits, Bits liveDocs) {
+            this.dlsBits = dlsBits;
+            this.liveDocs = liveDocs;
+        }
+
+        @Override
+        public boolean get(int index) {
+            return dlsBits.get(index) && liveDocs.get(index);
+        }
+
+        @Override
+        public int length() {
+            return dlsBits.length();
+        }
+    }
+
     private static class DlsFlsSubReaderWrapper extends FilterDirectoryReader.SubReaderWrapper {
 
         private final FieldPrivileges.FlsRule flsRule;
@@ -208,6 +236,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
         private final FieldMasking.FieldMaskingRule fmRule;
         private final ShardId shardId;
         private final Set<String> metaFields;
+        private final DlsBitsetCache dlsBitsetCache;
 
         public DlsFlsSubReaderWrapper(
             final FieldPrivileges.FlsRule flsRule,
@@ -218,7 +247,8 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             final AuditLog auditlog,
             final FieldMasking.FieldMaskingRule fmRule,
             ShardId shardId,
-            final Set<String> metaFields
+            final Set<String> metaFields,
+            final DlsBitsetCache dlsBitsetCache
         ) {
             this.flsRule = flsRule;
             this.dlsQuery = dlsQuery;
@@ -229,6 +259,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             this.fmRule = fmRule;
             this.shardId = shardId;
             this.metaFields = metaFields;
+            this.dlsBitsetCache = dlsBitsetCache;
         }
 
         @Override
@@ -243,7 +274,8 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
                 auditlog,
                 fmRule,
                 shardId,
-                metaFields
+                metaFields,
+                dlsBitsetCache
             );
         }
 
@@ -260,6 +292,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
         private final FieldMasking.FieldMaskingRule fmRule;
         private final ShardId shardId;
         private final Set<String> metaFields;
+        private final DlsBitsetCache dlsBitsetCache;
 
         public DlsFlsDirectoryReader(
             final DirectoryReader in,
@@ -271,7 +304,8 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             final AuditLog auditlog,
             final FieldMasking.FieldMaskingRule fmRule,
             ShardId shardId,
-            final Set<String> metaFields
+            final Set<String> metaFields,
+            final DlsBitsetCache dlsBitsetCache
         ) throws IOException {
             super(
                 in,
@@ -284,7 +318,8 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
                     auditlog,
                     fmRule,
                     shardId,
-                    metaFields
+                    metaFields,
+                    dlsBitsetCache
                 )
             );
             this.flsRule = flsRule;
@@ -296,6 +331,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             this.fmRule = fmRule;
             this.shardId = shardId;
             this.metaFields = metaFields;
+            this.dlsBitsetCache = dlsBitsetCache;
         }
 
         @Override
@@ -310,7 +346,8 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
                 auditlog,
                 fmRule,
                 shardId,
-                metaFields
+                metaFields,
+                dlsBitsetCache
             );
         }
 
@@ -382,7 +419,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             visitor = new ComplianceAwareStoredFieldVisitor(visitor);
         }
         if (!flsRule.isAllowAll() || !fmRule.isAllowAll()) {
-            visitor = new FlsStoredFieldVisitor(visitor, flsRule, fmRule, metaFields);
+            visitor = new FlsStoredFieldVisitor(visitor, flsRule, fmRule, fieldVisibility, metaFields);
         }
         return visitor;
     }
@@ -401,7 +438,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
     }
 
     private boolean isAllowed(String fieldName) {
-        return this.metaFields.contains(fieldName) || flsRule.isAllowed(fieldName);
+        return fieldVisibility.isAllowed(fieldName);
     }
 
     @Override
@@ -538,7 +575,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
     }
 
     private BinaryDocValues wrapBinaryDocValues(final String field, final BinaryDocValues binaryDocValues) {
-        FieldMasking.FieldMaskingRule.Field fmRuleField = fmRule.get(field);
+        FieldMasking.FieldMaskingRule.Field fmRuleField = fieldVisibility.getMasking(field);
 
         if (binaryDocValues == null || fmRuleField == null) {
             return binaryDocValues;
@@ -585,7 +622,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
     }
 
     private SortedDocValues wrapSortedDocValues(final String field, final SortedDocValues sortedDocValues) {
-        FieldMasking.FieldMaskingRule.Field fmRuleField = fmRule.get(field);
+        FieldMasking.FieldMaskingRule.Field fmRuleField = fieldVisibility.getMasking(field);
 
         if (sortedDocValues == null || fmRuleField == null) {
             return sortedDocValues;
@@ -662,7 +699,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
     }
 
     private SortedSetDocValues wrapSortedSetDocValues(final String field, final SortedSetDocValues sortedSetDocValues) {
-        FieldMasking.FieldMaskingRule.Field fmRuleField = fmRule.get(field);
+        FieldMasking.FieldMaskingRule.Field fmRuleField = fieldVisibility.getMasking(field);
 
         if (sortedSetDocValues == null || fmRuleField == null) {
             return sortedSetDocValues;
@@ -754,7 +791,7 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
             return null;
         }
 
-        if (fmRule.isMasked(field)) {
+        if (fieldVisibility.isMasked(field)) {
             return null;
         }
 
@@ -964,21 +1001,21 @@ class DlsFlsFilterLeafReader extends SequentialStoredFieldsLeafReader {
         return new DlsFlsStoredFields(in.storedFields());
     }
 
-    private String getRuntimeActionName() {
-        return (String) threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_ACTION_NAME);
-    }
-
-    private boolean isSuggest() {
-        return threadContext.getTransient("_opendistro_security_issuggest") == Boolean.TRUE;
+    private boolean applyDlsHere() {
+        return isDlsAppliedOnReaderLevel(threadContext);
     }
 
-    private boolean applyDlsHere() {
-        if (isSuggest()) {
+    /**
+     * Returns true if the DLS query of the current request is applied by this reader (i.e., by DLS bitsets) rather
+     * than by the search request.
+     */
+    static boolean isDlsAppliedOnReaderLevel(ThreadContext threadContext) {
+        if (threadContext.getTransient("_opendistro_security_issuggest") == Boolean.TRUE) {
             // we need to apply it here
             return true;
         }
 
-        final String action = getRuntimeActionName();
+        final String action = threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_ACTION_NAME);
         assert action != null;
         // we need to apply here if it is not a search request
         // (a get for example)
@@ -68,6 +68,7 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.security.OpenSearchSecurityPlugin;
 import org.opensearch.security.privileges.DocumentAllowList;
+import org.opensearch.security.privileges.PrivilegesBuildExecutor;
 import org.opensearch.security.privileges.PrivilegesEvaluationContext;
 import org.opensearch.security.privileges.PrivilegesEvaluationException;
 import org.opensearch.security.privileges.dlsfls.DlsFlsBaseContext;
@@ -82,6 +83,7 @@ import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.HeaderHelper;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
@@ -102,6 +104,11 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
     private final AtomicReference<DlsFlsProcessedConfig> dlsFlsProcessedConfig = new AtomicReference<>();
     private final FieldMasking.Config fieldMaskingConfig;
     private final Settings settings;
+    private final PrivilegesBuildExecutor buildExecutor;
+    private final SecurityMetrics metrics;
+    private final SecurityMetrics.Histogram valveTime;
+    private final SecurityMetrics.Counter restrictedRequests;
+    private final SecurityMetrics.Counter filterLevelRequests;
 
     public DlsFlsValveImpl(
         Settings settings,
@@ -110,7 +117,9 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         IndexNameExpressionResolver resolver,
         NamedXContentRegistry namedXContentRegistry,
         ThreadPool threadPool,
-        DlsFlsBaseContext dlsFlsBaseContext
+        DlsFlsBaseContext dlsFlsBaseContext,
+        PrivilegesBuildExecutor buildExecutor,
+        SecurityMetrics metrics
     ) {
         super();
         this.nodeClient = nodeClient;
@@ -122,6 +131,11 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         this.fieldMaskingConfig = FieldMasking.Config.fromSettings(settings);
         this.dlsFlsBaseContext = dlsFlsBaseContext;
         this.settings = settings;
+        this.buildExecutor = buildExecutor;
+        this.metrics = metrics;
+        this.valveTime = metrics.histogram("dls_fls.valve");
+        this.restrictedRequests = metrics.counter("dls_fls.restricted_requests");
+        this.filterLevelRequests = metrics.counter("dls_fls.filter_level_requests");
 
         clusterService.addListener(event -> {
             DlsFlsProcessedConfig config = dlsFlsProcessedConfig.get();
@@ -146,6 +160,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         DlsFlsProcessedConfig config = this.dlsFlsProcessedConfig.get();
         ActionRequest request = context.getRequest();
         IndexResolverReplacer.Resolved resolved = context.getResolvedRequest();
+        long start = System.nanoTime();
 
         try {
             boolean hasDlsRestrictions = !config.getDocumentPrivileges().isUnrestricted(context, resolved);
@@ -156,6 +171,8 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
                 return true;
             }
 
+            restrictedRequests.increment();
+
             if (threadContext.getHeader(ConfigConstants.OPENDISTRO_SECURITY_FILTER_LEVEL_DLS_DONE) != null) {
                 if (log.isDebugEnabled()) {
                     log.debug(
@@ -328,6 +345,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
             }
 
             if (doFilterLevelDls && hasDlsRestrictions) {
+                filterLevelRequests.increment();
                 return DlsFilterLevelActionHandler.handle(
                     context,
                     dlsRestrictionMap,
@@ -349,6 +367,8 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         } catch (RuntimeException e) {
             log.error(e);
             throw e;
+        } finally {
+            valveTime.recordSince(start);
         }
     }
 
@@ -693,7 +713,9 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
                         clusterService.state().metadata().getIndicesLookup(),
                         namedXContentRegistry,
                         settings,
-                        fieldMaskingConfig
+                        fieldMaskingConfig,
+                        buildExecutor,
+                        metrics
                     )
                 );
 
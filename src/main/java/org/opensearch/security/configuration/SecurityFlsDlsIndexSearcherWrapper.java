@@ -22,6 +22,7 @@ import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.Query;
 
@@ -29,6 +30,7 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.mapper.SeqNoFieldMapper;
@@ -46,6 +48,7 @@ import org.opensearch.security.privileges.dlsfls.DlsRestriction;
 import org.opensearch.security.privileges.dlsfls.FieldMasking;
 import org.opensearch.security.privileges.dlsfls.FieldPrivileges;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityMetrics;
 
 public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapper {
 
@@ -61,6 +64,8 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
     private final LongSupplier nowInMillis;
     private final Supplier<DlsFlsProcessedConfig> dlsFlsProcessedConfigSupplier;
     private final DlsFlsBaseContext dlsFlsBaseContext;
+    private final DlsBitsetCache dlsBitsetCache;
+    private final DlsBitsetWarmer dlsBitsetWarmer;
 
     public SecurityFlsDlsIndexSearcherWrapper(
         final IndexService indexService,
@@ -71,7 +76,9 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
         final ComplianceIndexingOperationListener ciol,
         final PrivilegesEvaluator evaluator,
         final Supplier<DlsFlsProcessedConfig> dlsFlsProcessedConfigSupplier,
-        final DlsFlsBaseContext dlsFlsBaseContext
+        final DlsFlsBaseContext dlsFlsBaseContext,
+        final DlsBitsetCache dlsBitsetCache,
+        final SecurityMetrics metrics
     ) {
         super(indexService, settings, adminDNs, evaluator);
         Set<String> metadataFieldsCopy;
@@ -103,6 +110,14 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
         log.debug("FLS/DLS {} enabled for index {}", this, indexService.index().getName());
         this.dlsFlsProcessedConfigSupplier = dlsFlsProcessedConfigSupplier;
         this.dlsFlsBaseContext = dlsFlsBaseContext;
+        this.dlsBitsetCache = dlsBitsetCache;
+        this.dlsBitsetWarmer = new DlsBitsetWarmer(
+            indexService.getIndexSettings(),
+            this::executeWarmup,
+            dlsBitsetCache,
+            this::createRestrictedReader,
+            metrics
+        );
     }
 
     @SuppressWarnings("unchecked")
@@ -110,6 +125,8 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
     protected DirectoryReader dlsFlsWrap(final DirectoryReader reader, boolean isAdmin) throws IOException {
 
         final ShardId shardId = ShardUtils.extractShardId(reader);
+        dlsBitsetWarmer.maybeWarm(reader, shardId);
+
         PrivilegesEvaluationContext privilegesEvaluationContext = this.dlsFlsBaseContext.getPrivilegesEvaluationContext();
 
         if (log.isTraceEnabled()) {
@@ -127,7 +144,8 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
                 auditlog,
                 FieldMasking.FieldMaskingRule.ALLOW_ALL,
                 shardId,
-                metaFields
+                metaFields,
+                dlsBitsetCache
             );
         }
 
@@ -185,6 +203,10 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
                 );
             }
 
+            if (dlsQuery != null && DlsFlsFilterLeafReader.isDlsAppliedOnReaderLevel(threadContext)) {
+                dlsBitsetWarmer.recordUsage(dlsQuery, flsRule, fmRule);
+            }
+
             return new DlsFlsFilterLeafReader.DlsFlsDirectoryReader(
                 reader,
                 flsRule,
@@ -195,7 +217,8 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
                 auditlog,
                 fmRule,
                 shardId,
-                metaFields
+                metaFields,
+                dlsBitsetCache
             );
 
         } catch (PrivilegesEvaluationException e) {
@@ -203,4 +226,27 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SystemIndexSearcherWrapp
             throw new OpenSearchException("Error while evaluating DLS/FLS", e);
         }
     }
+
+    private void executeWarmup(Runnable command) {
+        // Warm-up runs are not performed on behalf of the user whose request triggered them
+        try (ThreadContext.StoredContext ctx = threadContext.stashContext()) {
+            indexService.getThreadPool().generic().execute(command);
+        }
+    }
+
+    private LeafReader createRestrictedReader(LeafReader segment, FieldPrivileges.FlsRule flsRule, FieldMasking.FieldMaskingRule fmRule) {
+        return new DlsFlsFilterLeafReader(
+            segment,
+            flsRule,
+            null,
+            indexService,
+            threadContext,
+            clusterService,
+            auditlog,
+            fmRule,
+            ShardUtils.extractShardId(segment),
+            metaFields,
+            dlsBitsetCache
+        );
+    }
 }
@@ -70,7 +70,7 @@ public class FlushCacheApiAction extends AbstractApiAction {
                 Method.DELETE,
                 (channel, request, client) -> client.execute(
                     ConfigUpdateAction.INSTANCE,
-                    new ConfigUpdateRequest(CType.lcStringValues().toArray(new String[0])),
+                    new ConfigUpdateRequest(CType.lcStringValues().toArray(new String[0])).setInvalidateAllCaches(true),
                     new ActionListener<>() {
 
                         @Override
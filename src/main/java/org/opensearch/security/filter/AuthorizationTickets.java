@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.filter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.primitives.Bytes;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.support.replication.ReplicationRequest;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.security.configuration.Salt;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.HeaderHelper;
+import org.opensearch.security.user.User;
+import org.opensearch.tasks.Task;
+
+/**
+ * Authorization tickets allow nodes to skip the privilege evaluation for replicated shard level requests (such as
+ * indices:data/write/bulk[s]) which have already been authorized by the node which coordinates the request.
+ * <p>
+ * When SecurityFilter grants such a request, it stores a ticket in the thread context. SecurityInterceptor attaches
+ * the ticket to the outgoing transport requests for the same action. The node receiving the request accepts the
+ * ticket if:
+ * <ul>
+ *     <li>the request was received over the transport layer from a node of this cluster (inter cluster request),</li>
+ *     <li>the parent task of the request is the task for which the ticket was issued and</li>
+ *     <li>the HMAC of the ticket is valid for the action, the user and the indices of the request.</li>
+ * </ul>
+ * The HMAC key is derived from the compliance salt and the cluster UUID; tickets issued by other clusters are thus
+ * not accepted. As the default compliance salt is publicly known, tickets are only issued and accepted if a custom
+ * salt has been configured with plugins.security.compliance.salt.
+ */
+public class AuthorizationTickets {
+
+    /**
+     * This setting controls whether authorization tickets are issued and accepted. Defaults to true; however, tickets
+     * are only used if a custom compliance salt is configured.
+     */
+    public static Setting<Boolean> ENABLED = Setting.boolSetting(
+        "plugins.security.privileges_evaluation.authorization_tickets.enabled",
+        true,
+        Setting.Property.NodeScope
+    );
+
+    private static final Logger log = LogManager.getLogger(AuthorizationTickets.class);
+    private static final char SEPARATOR = ':';
+
+    private final boolean enabled;
+    private final byte[] salt;
+    private final ClusterService clusterService;
+    private volatile Key key;
+
+    public AuthorizationTickets(Settings settings, ClusterService clusterService) {
+        this.salt = Salt.from(settings).getSalt16();
+        this.clusterService = clusterService;
+
+        if (ENABLED.get(settings) && isDefaultSalt(salt)) {
+            log.info(
+                "Authorization tickets are disabled, as {} is not configured; configure a random salt identical on all nodes",
+                ConfigConstants.SECURITY_COMPLIANCE_SALT
+            );
+            this.enabled = false;
+        } else {
+            this.enabled = ENABLED.get(settings);
+        }
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Stores a ticket for the given granted request in the thread context, if the request is eligible.
+     */
+    void issue(ThreadContext threadContext, String action, ActionRequest request, Task task, User user) {
+        if (!enabled || task == null || user == null || !(request instanceof ReplicationRequest)) {
+            return;
+        }
+
+        final HashFunction hmac = hmac();
+
+        if (hmac == null) {
+            return;
+        }
+
+        final String nodeId = clusterService.localNode().getId();
+        final String signature = sign(hmac, nodeId, task.getId(), action, user, (ReplicationRequest<?>) request);
+
+        threadContext.putTransient(
+            ConfigConstants.OPENDISTRO_SECURITY_AUTHORIZATION_TICKET,
+            new Ticket(action, nodeId + SEPARATOR + task.getId() + SEPARATOR + signature)
+        );
+    }
+
+    /**
+     * Returns true if the request carries a valid ticket, i.e., if it has already been authorized by the node
+     * coordinating it. Tickets are only accepted on inter cluster transport requests; requests of other channel types,
+     * including requests without channel type, must be evaluated as usual.
+     */
+    boolean verify(ThreadContext threadContext, String action, ActionRequest request, User user) {
+        if (!enabled || user == null || !(request instanceof ReplicationRequest) || !HeaderHelper.isInterClusterRequest(threadContext)) {
+            return false;
+        }
+
+        final String ticket = threadContext.getHeader(ConfigConstants.OPENDISTRO_SECURITY_AUTHORIZATION_TICKET_HEADER);
+
+        if (ticket == null) {
+            return false;
+        }
+
+        final int signatureSeparator = ticket.lastIndexOf(SEPARATOR);
+        final int taskSeparator = signatureSeparator > 0 ? ticket.lastIndexOf(SEPARATOR, signatureSeparator - 1) : -1;
+
+        if (taskSeparator <= 0) {
+            log.debug("Ignoring malformed authorization ticket for {}", action);
+            return false;
+        }
+
+        final ReplicationRequest<?> replicationRequest = (ReplicationRequest<?>) request;
+        final String nodeId = ticket.substring(0, taskSeparator);
+        final long taskId;
+
+        try {
+            taskId = Long.parseLong(ticket.substring(taskSeparator + 1, signatureSeparator));
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring malformed authorization ticket for {}", action);
+            return false;
+        }
+
+        if (!new TaskId(nodeId, taskId).equals(replicationRequest.getParentTask())) {
+            return false;
+        }
+
+        final HashFunction hmac = hmac();
+
+        if (hmac == null) {
+            return false;
+        }
+
+        final String expected = sign(hmac, nodeId, taskId, action, user, replicationRequest);
+        final boolean valid = MessageDigest.isEqual(
+            expected.getBytes(StandardCharsets.UTF_8),
+            ticket.substring(signatureSeparator + 1).getBytes(StandardCharsets.UTF_8)
+        );
+
+        if (!valid) {
+            log.warn("Invalid authorization ticket for {} by {} from node {}", action, user.getName(), nodeId);
+        }
+
+        return valid;
+    }
+
+    private static String sign(HashFunction hmac, String nodeId, long taskId, String action, User user, ReplicationRequest<?> request) {
+        final Hasher hasher = hmac.newHasher()
+            .putString(nodeId, StandardCharsets.UTF_8)
+            .putByte((byte) 0)
+            .putLong(taskId)
+            .putString(action, StandardCharsets.UTF_8)
+            .putByte((byte) 0)
+            .putString(user.getName(), StandardCharsets.UTF_8)
+            .putByte((byte) 0);
+
+        for (String index : request.indices()) {
+            hasher.putString(String.valueOf(index), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+
+        return hasher.hash().toString();
+    }
+
+    private static boolean isDefaultSalt(byte[] salt) {
+        return Arrays.equals(salt, ConfigConstants.SECURITY_COMPLIANCE_SALT_DEFAULT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private HashFunction hmac() {
+        final ClusterState state = clusterService.state();
+
+        if (state == null || !state.metadata().clusterUUIDCommitted()) {
+            return null;
+        }
+
+        final String clusterUUID = state.metadata().clusterUUID();
+        Key key = this.key;
+
+        if (key == null || !key.clusterUUID.equals(clusterUUID)) {
+            key = new Key(clusterUUID, Hashing.hmacSha256(Bytes.concat(salt, clusterUUID.getBytes(StandardCharsets.UTF_8))));
+            this.key = key;
+        }
+
+        return key.hmac;
+    }
+
+    /**
+     * A ticket for a granted request. Stored as transient in the thread context; SecurityInterceptor sends it as
+     * header along with outgoing requests for the same action.
+     */
+    public static class Ticket {
+        private final String action;
+        private final String value;
+
+        Ticket(String action, String value) {
+            this.action = action;
+            this.value = value;
+        }
+
+        public String getAction() {
+            return action;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    private static class Key {
+        final String clusterUUID;
+        final HashFunction hmac;
+
+        Key(String clusterUUID, HashFunction hmac) {
+            this.clusterUUID = clusterUUID;
+            this.hmac = hmac;
+        }
+    }
+}
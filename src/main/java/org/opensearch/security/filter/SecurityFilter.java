@@ -83,6 +83,7 @@ import org.opensearch.security.configuration.CompatConfig;
 import org.opensearch.security.configuration.DlsFlsRequestValve;
 import org.opensearch.security.http.XFFResolver;
 import org.opensearch.security.privileges.PrivilegesEvaluationContext;
+import org.opensearch.security.privileges.PrivilegesEvaluationTrace;
 import org.opensearch.security.privileges.PrivilegesEvaluator;
 import org.opensearch.security.privileges.PrivilegesEvaluatorResponse;
 import org.opensearch.security.resolver.IndexResolverReplacer;
@@ -113,6 +114,7 @@ public class SecurityFilter implements ActionFilter {
     private final WildcardMatcher immutableIndicesMatcher;
     private final RolesInjector rolesInjector;
     private final UserInjector userInjector;
+    private final AuthorizationTickets authorizationTickets;
 
     public SecurityFilter(
         final Settings settings,
@@ -140,6 +142,7 @@ public class SecurityFilter implements ActionFilter {
         );
         this.rolesInjector = new RolesInjector(auditLog);
         this.userInjector = new UserInjector(settings, threadPool, auditLog, xffResolver);
+        this.authorizationTickets = new AuthorizationTickets(settings, cs);
         log.info("{} indices are made immutable.", immutableIndicesMatcher);
     }
 
@@ -369,6 +372,16 @@ public class SecurityFilter implements ActionFilter {
                 return;
             }
 
+            if (authorizationTickets.verify(threadContext, action, request, user)) {
+                if (log.isTraceEnabled()) {
+                    log.trace("Request {} for user {} has already been authorized by the coordinating node", action, user.getName());
+                }
+                auditLog.logGrantedPrivileges(action, request, task);
+                auditLog.logIndexEvent(action, request, task);
+                chain.proceed(task, action, request, listener);
+                return;
+            }
+
             if (log.isTraceEnabled()) {
                 log.trace("Evaluate permissions for user: {}", user.getName());
             }
@@ -383,9 +396,14 @@ public class SecurityFilter implements ActionFilter {
             if (pres.isAllowed()) {
                 auditLog.logGrantedPrivileges(action, request, task);
                 auditLog.logIndexEvent(action, request, task);
-                if (!dlsFlsValve.invoke(context, listener)) {
+                long dlsFlsStart = context.getTrace().start();
+                boolean proceed = dlsFlsValve.invoke(context, listener);
+                context.getTrace().end("dls_fls", dlsFlsStart);
+                reportTrace(action, context);
+                if (!proceed) {
                     return;
                 }
+                authorizationTickets.issue(threadContext, action, request, task, user);
                 final CreateIndexRequestBuilder createIndexRequestBuilder = pres.getCreateIndexRequestBuilder();
                 if (createIndexRequestBuilder == null) {
                     chain.proceed(task, action, request, listener);
@@ -460,6 +478,7 @@ public class SecurityFilter implements ActionFilter {
                         : String.format("no permissions for %s and %s", pres.getMissingPrivileges(), user);
                 }
                 log.debug(err);
+                reportTrace(action, context);
 
                 listener.onFailure(new OpenSearchSecurityException(err, RestStatus.FORBIDDEN));
             }
@@ -476,6 +495,19 @@ public class SecurityFilter implements ActionFilter {
         }
     }
 
+    /**
+     * If tracing of the privilege evaluation is enabled for the current request, this logs the recorded timings and
+     * returns them to the client in a response header.
+     */
+    private void reportTrace(String action, PrivilegesEvaluationContext context) {
+        PrivilegesEvaluationTrace trace = context.getTrace();
+
+        if (trace.isEnabled()) {
+            log.info("Privileges evaluation trace for {} [Action [{}]]: {}", context.getUser(), action, trace);
+            threadContext.addResponseHeader(PrivilegesEvaluationTrace.HEADER, action + ": " + trace);
+        }
+    }
+
     private static boolean isUserAdmin(User user, final AdminDNs adminDns) {
         if (user != null && adminDns.isAdmin(user)) {
             return true;
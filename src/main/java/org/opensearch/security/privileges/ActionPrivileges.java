@@ -12,17 +12,26 @@
 package org.opensearch.security.privileges;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -42,9 +51,6 @@ import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.support.WildcardMatcher;
 
 import com.selectivem.collections.CheckTable;
-import com.selectivem.collections.CompactMapGroupBuilder;
-import com.selectivem.collections.DeduplicatingCompactSubSetBuilder;
-import com.selectivem.collections.ImmutableCompactSubSet;
 
 /**
  * This class converts role configuration into pre-computed, optimized data structures for checking privileges.
@@ -61,7 +67,7 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
      * continue to work correctly, but it will be slower.
      * <p>
      * This settings defaults to 10 MB. This is a generous limit. Experiments have shown that an example setup with
-     * 10,000 indices and 1,000 roles requires about 1 MB of heap. 100,000 indices and 100 roles require about 9 MB of heap.
+     * 10,000 indices and 100 roles requires about 300 kB of heap; the size grows about linearly with the number of indices.
      * (Of course, these numbers can vary widely based on the actual role configuration).
      */
     public static Setting<ByteSizeValue> PRECOMPUTED_PRIVILEGES_MAX_HEAP_SIZE = Setting.memorySizeSetting(
@@ -70,8 +76,23 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
         Setting.Property.NodeScope
     );
 
+    /**
+     * This setting controls the maximum number of entries in the index privilege decision cache (see the inner class
+     * DecisionCache). The cache stores positive decisions for combinations of mapped roles, actions and indices; it is
+     * cleared whenever the cluster state metadata changes. Setting this to 0 disables the cache.
+     * <p>
+     * This setting defaults to 10,000 entries.
+     */
+    public static Setting<Integer> DECISION_CACHE_MAX_SIZE = Setting.intSetting(
+        "plugins.security.privileges_evaluation.decision_cache.max_size",
+        10_000,
+        0,
+        Setting.Property.NodeScope
+    );
+
     private static final Logger log = LogManager.getLogger(ActionPrivileges.class);
 
+    private final RoleIdDictionary roleIdDictionary;
     private final ClusterPrivileges cluster;
     private final IndexPrivileges index;
     private final SecurityDynamicConfiguration<RoleV7> roles;
@@ -80,8 +101,12 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
     private final ImmutableSet<String> wellKnownIndexActions;
     private final Supplier<Map<String, IndexAbstraction>> indexMetadataSupplier;
     private final ByteSizeValue statefulIndexMaxHeapSize;
+    private final int decisionCacheMaxSize;
+    private final PrivilegesBuildExecutor buildExecutor;
 
     private final AtomicReference<StatefulIndexPrivileges> statefulIndex = new AtomicReference<>();
+    private final AtomicReference<DecisionCache> decisionCache = new AtomicReference<>();
+    private volatile StatefulIndexUpdateStats statefulIndexUpdateStats = StatefulIndexUpdateStats.NONE;
 
     public ActionPrivileges(
         SecurityDynamicConfiguration<RoleV7> roles,
@@ -91,16 +116,61 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
         ImmutableSet<String> wellKnownClusterActions,
         ImmutableSet<String> wellKnownIndexActions,
         ImmutableSet<String> explicitlyRequiredIndexActions,
-        Map<String, Set<String>> pluginToClusterActions
+        Map<String, Set<String>> pluginToClusterActions,
+        PrivilegesBuildExecutor buildExecutor
     ) {
-        this.cluster = new ClusterPrivileges(roles, actionGroups, wellKnownClusterActions, pluginToClusterActions);
-        this.index = new IndexPrivileges(roles, actionGroups, wellKnownIndexActions, explicitlyRequiredIndexActions);
+        RoleIdDictionary roleIdDictionary = new RoleIdDictionary(roles.getCEntries().keySet());
+        Supplier<ClusterPrivileges> cluster = buildExecutor.submit(
+            () -> new ClusterPrivileges(
+                roleIdDictionary,
+                roles,
+                actionGroups,
+                wellKnownClusterActions,
+                pluginToClusterActions,
+                buildExecutor
+            )
+        );
+        this.index = new IndexPrivileges(
+            roleIdDictionary,
+            roles,
+            actionGroups,
+            wellKnownIndexActions,
+            explicitlyRequiredIndexActions,
+            buildExecutor
+        );
+        this.cluster = cluster.get();
+        this.roleIdDictionary = roleIdDictionary;
         this.roles = roles;
         this.actionGroups = actionGroups;
         this.wellKnownClusterActions = wellKnownClusterActions;
         this.wellKnownIndexActions = wellKnownIndexActions;
         this.indexMetadataSupplier = indexMetadataSupplier;
         this.statefulIndexMaxHeapSize = PRECOMPUTED_PRIVILEGES_MAX_HEAP_SIZE.get(settings);
+        this.decisionCacheMaxSize = DECISION_CACHE_MAX_SIZE.get(settings);
+        this.buildExecutor = buildExecutor;
+    }
+
+    public ActionPrivileges(
+        SecurityDynamicConfiguration<RoleV7> roles,
+        FlattenedActionGroups actionGroups,
+        Supplier<Map<String, IndexAbstraction>> indexMetadataSupplier,
+        Settings settings,
+        ImmutableSet<String> wellKnownClusterActions,
+        ImmutableSet<String> wellKnownIndexActions,
+        ImmutableSet<String> explicitlyRequiredIndexActions,
+        Map<String, Set<String>> pluginToClusterActions
+    ) {
+        this(
+            roles,
+            actionGroups,
+            indexMetadataSupplier,
+            settings,
+            wellKnownClusterActions,
+            wellKnownIndexActions,
+            explicitlyRequiredIndexActions,
+            pluginToClusterActions,
+            PrivilegesBuildExecutor.SEQUENTIAL
+        );
     }
 
     public ActionPrivileges(
@@ -141,11 +211,11 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
     }
 
     public PrivilegesEvaluatorResponse hasClusterPrivilege(PrivilegesEvaluationContext context, String action) {
-        return cluster.providesPrivilege(context, action, context.getMappedRoles());
+        return cluster.providesPrivilege(context, action);
     }
 
     public PrivilegesEvaluatorResponse hasAnyClusterPrivilege(PrivilegesEvaluationContext context, Set<String> actions) {
-        return cluster.providesAnyPrivilege(context, actions, context.getMappedRoles());
+        return cluster.providesAnyPrivilege(context, actions);
     }
 
     /**
@@ -159,7 +229,7 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
      * Otherwise, allowed will be false and missingPrivileges will contain the name of the given action.
      */
     public PrivilegesEvaluatorResponse hasExplicitClusterPrivilege(PrivilegesEvaluationContext context, String action) {
-        return cluster.providesExplicitPrivilege(context, action, context.getMappedRoles());
+        return cluster.providesExplicitPrivilege(context, action);
     }
 
     /**
@@ -189,6 +259,34 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
             return PrivilegesEvaluatorResponse.ok();
         }
 
+        DecisionCache decisionCache = this.decisionCache.get();
+        DecisionCache.Key decisionCacheKey = null;
+
+        if (decisionCache != null && !this.index.dependsOnUserOrTime(context)) {
+            decisionCacheKey = new DecisionCache.Key(context.getMappedRoleSet(this.roleIdDictionary), actions, resolvedIndices);
+
+            if (decisionCache.isAllowed(decisionCacheKey)) {
+                return PrivilegesEvaluatorResponse.ok();
+            }
+        }
+
+        response = this.providesIndexPrivilege(context, actions, resolvedIndices);
+
+        if (decisionCacheKey != null && response.isAllowed()) {
+            decisionCache.putAllowed(decisionCacheKey);
+        }
+
+        return response;
+    }
+
+    /**
+     * Performs the actual check for hasIndexPrivilege() without consulting the decision cache.
+     */
+    private PrivilegesEvaluatorResponse providesIndexPrivilege(
+        PrivilegesEvaluationContext context,
+        Set<String> actions,
+        IndexResolverReplacer.Resolved resolvedIndices
+    ) {
         // TODO one might want to consider to create a semantic wrapper for action in order to be better tell apart
         // what's the action and what's the index in the generic parameters of CheckTable.
         CheckTable<String, String> checkTable = CheckTable.create(
@@ -236,20 +334,49 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
     /**
      * Updates the stateful index configuration with the given indices. Should be normally only called by
      * updateStatefulIndexPrivilegesAsync(). Package visible for testing.
+     * <p>
+     * If only a small fraction of the indices has changed compared to the currently used StatefulIndexPrivileges
+     * instance, the update is performed incrementally: Only the privileges for the changed indices are computed
+     * and layered on top of the existing instance. Otherwise, the StatefulIndexPrivileges instance is re-built
+     * from scratch.
      */
     void updateStatefulIndexPrivileges(Map<String, IndexAbstraction> indices, long metadataVersion) {
-        StatefulIndexPrivileges statefulIndex = this.statefulIndex.get();
+        this.updateStatefulIndex(StatefulIndexPrivileges.relevantOnly(indices), metadataVersion);
 
-        indices = StatefulIndexPrivileges.relevantOnly(indices);
+        // The new decision cache must only be published after statefulIndex has been replaced. hasIndexPrivilege() reads
+        // the decision cache before statefulIndex; thus, decisions computed with the old statefulIndex can only end up in
+        // the old decision cache, which is discarded.
+        this.updateDecisionCache(metadataVersion);
+    }
+
+    private void updateStatefulIndex(Map<String, IndexAbstraction> indices, long metadataVersion) {
+        StatefulIndexPrivileges statefulIndex = this.statefulIndex.get();
 
-        if (statefulIndex == null || !statefulIndex.indices.equals(indices)) {
-            long start = System.currentTimeMillis();
+        if (statefulIndex == null) {
+            long start = System.nanoTime();
             this.statefulIndex.set(
-                new StatefulIndexPrivileges(roles, actionGroups, wellKnownIndexActions, indices, metadataVersion, statefulIndexMaxHeapSize)
+                new StatefulIndexPrivileges(
+                    roleIdDictionary,
+                    roles,
+                    actionGroups,
+                    wellKnownIndexActions,
+                    indices,
+                    metadataVersion,
+                    statefulIndexMaxHeapSize,
+                    buildExecutor
+                )
             );
-            long duration = System.currentTimeMillis() - start;
-            log.debug("Updating StatefulIndexPrivileges took {} ms", duration);
-        } else {
+            this.statefulIndexUpdateStats = this.statefulIndexUpdateStats.fullRebuild(indices.size(), System.nanoTime() - start);
+            log.debug("Building StatefulIndexPrivileges took {}", this.statefulIndexUpdateStats);
+            return;
+        }
+
+        ClusterStateMetadataDependentPrivileges.IndicesDelta delta = ClusterStateMetadataDependentPrivileges.IndicesDelta.compute(
+            statefulIndex.indices,
+            indices
+        );
+
+        if (delta.isEmpty()) {
             synchronized (this) {
                 // Even if the indices did not change, update the metadataVersion in statefulIndex to reflect
                 // that the instance is up-to-date.
@@ -257,6 +384,51 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
                     statefulIndex.metadataVersion = metadataVersion;
                 }
             }
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        if (statefulIndex.canApplyIncrementally(delta)) {
+            this.statefulIndex.set(
+                new StatefulIndexPrivileges(statefulIndex, delta, roles, actionGroups, indices, metadataVersion, statefulIndexMaxHeapSize)
+            );
+            this.statefulIndexUpdateStats = this.statefulIndexUpdateStats.incrementalUpdate(delta.size(), System.nanoTime() - start);
+        } else {
+            this.statefulIndex.set(
+                new StatefulIndexPrivileges(
+                    roleIdDictionary,
+                    roles,
+                    actionGroups,
+                    wellKnownIndexActions,
+                    indices,
+                    metadataVersion,
+                    statefulIndexMaxHeapSize,
+                    buildExecutor
+                )
+            );
+            this.statefulIndexUpdateStats = this.statefulIndexUpdateStats.fullRebuild(delta.size(), System.nanoTime() - start);
+        }
+
+        log.debug("Updating StatefulIndexPrivileges with {} took {}", delta, this.statefulIndexUpdateStats);
+    }
+
+    /**
+     * Replaces the decision cache by an empty one if the given metadata version is newer than the version the
+     * current decision cache was created for. Decisions cached for older metadata versions might be invalid, as
+     * aliases or data streams might have changed.
+     */
+    private void updateDecisionCache(long metadataVersion) {
+        if (this.decisionCacheMaxSize <= 0) {
+            return;
+        }
+
+        synchronized (this.decisionCache) {
+            DecisionCache decisionCache = this.decisionCache.get();
+
+            if (decisionCache == null || decisionCache.metadataVersion < metadataVersion) {
+                this.decisionCache.set(new DecisionCache(this.decisionCacheMaxSize, metadataVersion));
+            }
         }
     }
 
@@ -271,6 +443,56 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
         return statefulIndex != null ? statefulIndex.metadataVersion : 0;
     }
 
+    /**
+     * Returns the number of entries in the decision cache. Package visible for testing.
+     */
+    long getDecisionCacheSize() {
+        DecisionCache decisionCache = this.decisionCache.get();
+        return decisionCache != null ? decisionCache.cache.size() : 0;
+    }
+
+    /**
+     * Returns statistics about the updates of the pre-computed index privileges.
+     */
+    public StatefulIndexUpdateStats getStatefulIndexUpdateStats() {
+        return this.statefulIndexUpdateStats;
+    }
+
+    /**
+     * Returns statistics about the current state of the pre-computed index privileges.
+     */
+    public StatefulIndexStats getStatefulIndexStats() {
+        StatefulIndexPrivileges statefulIndex = this.statefulIndex.get();
+
+        if (statefulIndex == null) {
+            return StatefulIndexStats.INACTIVE;
+        }
+
+        return new StatefulIndexStats(
+            statefulIndex.capped,
+            statefulIndex.estimatedByteSize,
+            statefulIndex.indices.size(),
+            statefulIndex.actionToIndexToRoles.size(),
+            statefulIndex.numberOfDistinctTables,
+            statefulIndex.updatedIndices.size()
+        );
+    }
+
+    /**
+     * Returns the time in nanoseconds which was needed to build the components of this instance. The pre-computed
+     * index privileges are built asynchronously; for these, the duration of the last update is returned.
+     */
+    public Map<String, Long> getBuildTimes() {
+        return ImmutableMap.of(
+            "action_privileges.cluster",
+            this.cluster.buildTimeNanos,
+            "action_privileges.index",
+            this.index.buildTimeNanos,
+            "action_privileges.stateful_index",
+            this.statefulIndexUpdateStats.getLastUpdateDurationNanos()
+        );
+    }
+
     int getEstimatedStatefulIndexByteSize() {
         StatefulIndexPrivileges statefulIndex = this.statefulIndex.get();
 
@@ -282,15 +504,33 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
     }
 
     /**
-     * Pre-computed, optimized cluster privilege maps. Instances of this class are immutable.
+     * Pre-computed, optimized cluster privilege maps. Apart from the nonWellKnownActionToRoles cache, instances of this
+     * class are immutable.
      * <p>
      * The data structures in this class are optimized for answering the question
      * "I have action A and roles [x,y,z]. Do I have authorization to execute the action?".
      * <p>
      * The check will be possible in time O(1) for "well-known" actions when the user actually has the privileges.
+     * For other actions, the check is O(1) after the first check of the respective action.
      */
     static class ClusterPrivileges {
 
+        /**
+         * The maximum number of actions which are not well-known for which the roles are kept in
+         * nonWellKnownActionToRoles. Usually, there are by magnitudes fewer distinct actions.
+         */
+        static final int NON_WELL_KNOWN_ACTIONS_CACHE_MAX_SIZE = 1000;
+
+        /**
+         * The dictionary which was used to create the RoleSet instances in this object.
+         */
+        private final RoleIdDictionary roleIdDictionary;
+
+        /**
+         * The time it took to build this instance.
+         */
+        private final long buildTimeNanos;
+
         /**
          * Maps names of actions to the roles that provide a privilege for the respective action.
          * Note that the mapping is not comprehensive, additionally the data structures rolesWithWildcardPermissions
@@ -299,13 +539,13 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
          * This does not include privileges obtained via "*" action patterns. This is both meant as a
          * optimization and to support explicit privileges.
          */
-        private final ImmutableMap<String, ImmutableCompactSubSet<String>> actionToRoles;
+        private final ImmutableMap<String, RoleIdDictionary.RoleSet> actionToRoles;
 
         /**
-         * This contains all role names that provide wildcard (*) privileges for cluster actions.
+         * This contains all roles that provide wildcard (*) privileges for cluster actions.
          * This avoids a blow-up of the actionToRoles object by such roles.
          */
-        private final ImmutableSet<String> rolesWithWildcardPermissions;
+        private final RoleIdDictionary.RoleSet rolesWithWildcardPermissions;
 
         /**
          * This maps role names to a matcher which matches the action names this role provides privileges for.
@@ -318,6 +558,16 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
          */
         private final ImmutableMap<String, WildcardMatcher> rolesToActionMatcher;
 
+        /**
+         * A reverse index built from rolesToActionMatcher: Maps names of actions which are not well-known to the roles
+         * that provide a privilege for the respective action. The entries are computed on the first check of an
+         * action by testing the action against the matchers of all roles. As a new instance of this class is created
+         * for each configuration update, the entries never need to be invalidated.
+         */
+        private final Cache<String, RoleIdDictionary.RoleSet> nonWellKnownActionToRoles = CacheBuilder.newBuilder()
+            .maximumSize(NON_WELL_KNOWN_ACTIONS_CACHE_MAX_SIZE)
+            .build();
+
         private final ImmutableMap<String, WildcardMatcher> usersToActionMatcher;
 
         private final ImmutableSet<String> wellKnownClusterActions;
@@ -331,64 +581,40 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
          * kind of nice.
          */
         ClusterPrivileges(
+            RoleIdDictionary roleIdDictionary,
             SecurityDynamicConfiguration<RoleV7> roles,
             FlattenedActionGroups actionGroups,
             ImmutableSet<String> wellKnownClusterActions,
-            Map<String, Set<String>> pluginToClusterActions
+            Map<String, Set<String>> pluginToClusterActions,
+            PrivilegesBuildExecutor buildExecutor
         ) {
-            DeduplicatingCompactSubSetBuilder<String> roleSetBuilder = new DeduplicatingCompactSubSetBuilder<>(
-                roles.getCEntries().keySet()
-            );
-            Map<String, DeduplicatingCompactSubSetBuilder.SubSetBuilder<String>> actionToRoles = new HashMap<>();
-            ImmutableSet.Builder<String> rolesWithWildcardPermissions = ImmutableSet.builder();
+            long start = System.nanoTime();
+            Map<String, RoleIdDictionary.RoleSet.Builder> actionToRoles = new HashMap<>();
+            RoleIdDictionary.RoleSet.Builder rolesWithWildcardPermissions = roleIdDictionary.builder();
             ImmutableMap.Builder<String, WildcardMatcher> rolesToActionMatcher = ImmutableMap.builder();
             ImmutableMap.Builder<String, WildcardMatcher> usersToActionMatcher = ImmutableMap.builder();
 
-            for (Map.Entry<String, RoleV7> entry : roles.getCEntries().entrySet()) {
-                try {
-                    String roleName = entry.getKey();
-                    RoleV7 role = entry.getValue();
-
-                    roleSetBuilder.next(roleName);
-
-                    ImmutableSet<String> permissionPatterns = actionGroups.resolve(role.getCluster_permissions());
-
-                    // This list collects all the matchers for action names that will be found for the current role
-                    List<WildcardMatcher> wildcardMatchers = new ArrayList<>();
+            // The roles are processed in parallel; the results are merged afterwards in the order of the configuration
+            List<RoleResult> roleResults = buildExecutor.map(
+                roles.getCEntries().entrySet(),
+                entry -> processRole(entry.getKey(), entry.getValue(), actionGroups, wellKnownClusterActions)
+            );
 
-                    for (String permission : permissionPatterns) {
-                        // If we have a permission which does not use any pattern, we just simply add it to the
-                        // "actionToRoles" map.
-                        // Otherwise, we match the pattern against the provided well-known cluster actions and add
-                        // these to the "actionToRoles" map. Additionally, for the case that the well-known cluster
-                        // actions are not complete, we also collect the matcher to be used as a last resort later.
+            for (RoleResult roleResult : roleResults) {
+                if (roleResult == null) {
+                    continue;
+                }
 
-                        if (WildcardMatcher.isExact(permission)) {
-                            actionToRoles.computeIfAbsent(permission, k -> roleSetBuilder.createSubSetBuilder()).add(roleName);
-                        } else if (permission.equals("*")) {
-                            // Special case: Roles with a wildcard "*" giving privileges for all actions. We will not resolve
-                            // this stuff, but just note separately that this role just gets all the cluster privileges.
-                            rolesWithWildcardPermissions.add(roleName);
-                        } else {
-                            WildcardMatcher wildcardMatcher = WildcardMatcher.from(permission);
-                            Set<String> matchedActions = wildcardMatcher.getMatchAny(
-                                wellKnownClusterActions,
-                                Collectors.toUnmodifiableSet()
-                            );
-
-                            for (String action : matchedActions) {
-                                actionToRoles.computeIfAbsent(action, k -> roleSetBuilder.createSubSetBuilder()).add(roleName);
-                            }
+                for (String action : roleResult.actions) {
+                    actionToRoles.computeIfAbsent(action, k -> roleIdDictionary.builder()).add(roleResult.roleName);
+                }
 
-                            wildcardMatchers.add(wildcardMatcher);
-                        }
-                    }
+                if (roleResult.wildcardPermissions) {
+                    rolesWithWildcardPermissions.add(roleResult.roleName);
+                }
 
-                    if (!wildcardMatchers.isEmpty()) {
-                        rolesToActionMatcher.put(roleName, WildcardMatcher.from(wildcardMatchers));
-                    }
-                } catch (Exception e) {
-                    log.error("Unexpected exception while processing role: {}\nIgnoring role.", entry.getKey(), e);
+                if (roleResult.actionMatcher != null) {
+                    rolesToActionMatcher.put(roleResult.roleName, roleResult.actionMatcher);
                 }
             }
 
@@ -400,15 +626,82 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
                 }
             }
 
-            DeduplicatingCompactSubSetBuilder.Completed<String> completedRoleSetBuilder = roleSetBuilder.build();
-
+            this.roleIdDictionary = roleIdDictionary;
             this.actionToRoles = actionToRoles.entrySet()
                 .stream()
-                .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> entry.getValue().build(completedRoleSetBuilder)));
+                .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> entry.getValue().build()));
             this.rolesWithWildcardPermissions = rolesWithWildcardPermissions.build();
             this.rolesToActionMatcher = rolesToActionMatcher.build();
             this.usersToActionMatcher = usersToActionMatcher.build();
             this.wellKnownClusterActions = wellKnownClusterActions;
+            this.buildTimeNanos = System.nanoTime() - start;
+        }
+
+        /**
+         * Computes the cluster privileges provided by a single role. Returns null if the role could not be processed.
+         */
+        private static RoleResult processRole(
+            String roleName,
+            RoleV7 role,
+            FlattenedActionGroups actionGroups,
+            ImmutableSet<String> wellKnownClusterActions
+        ) {
+            try {
+                Set<String> actions = new HashSet<>();
+                boolean wildcardPermissions = false;
+
+                ImmutableSet<String> permissionPatterns = actionGroups.resolve(role.getCluster_permissions());
+
+                // This list collects all the matchers for action names that will be found for the current role
+                List<WildcardMatcher> wildcardMatchers = new ArrayList<>();
+
+                for (String permission : permissionPatterns) {
+                    // If we have a permission which does not use any pattern, we just simply add it to the
+                    // "actionToRoles" map.
+                    // Otherwise, we match the pattern against the provided well-known cluster actions and add
+                    // these to the "actionToRoles" map. Additionally, for the case that the well-known cluster
+                    // actions are not complete, we also collect the matcher to be used as a last resort later.
+
+                    if (WildcardMatcher.isExact(permission)) {
+                        actions.add(permission);
+                    } else if (permission.equals("*")) {
+                        // Special case: Roles with a wildcard "*" giving privileges for all actions. We will not resolve
+                        // this stuff, but just note separately that this role just gets all the cluster privileges.
+                        wildcardPermissions = true;
+                    } else {
+                        WildcardMatcher wildcardMatcher = WildcardMatcher.from(permission);
+                        actions.addAll(wildcardMatcher.getMatchAny(wellKnownClusterActions, Collectors.toUnmodifiableSet()));
+                        wildcardMatchers.add(wildcardMatcher);
+                    }
+                }
+
+                return new RoleResult(
+                    roleName,
+                    actions,
+                    wildcardPermissions,
+                    wildcardMatchers.isEmpty() ? null : WildcardMatcher.from(wildcardMatchers)
+                );
+            } catch (Exception e) {
+                log.error("Unexpected exception while processing role: {}\nIgnoring role.", roleName, e);
+                return null;
+            }
+        }
+
+        /**
+         * The cluster privileges provided by a single role.
+         */
+        private static class RoleResult {
+            final String roleName;
+            final Set<String> actions;
+            final boolean wildcardPermissions;
+            final WildcardMatcher actionMatcher;
+
+            RoleResult(String roleName, Set<String> actions, boolean wildcardPermissions, WildcardMatcher actionMatcher) {
+                this.roleName = roleName;
+                this.actions = actions;
+                this.wildcardPermissions = wildcardPermissions;
+                this.actionMatcher = actionMatcher;
+            }
         }
 
         /**
@@ -416,29 +709,24 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
          * provided roles. Returns a PrivilegesEvaluatorResponse with allowed=true if privileges are available.
          * Otherwise, allowed will be false and missingPrivileges will contain the name of the given action.
          */
-        PrivilegesEvaluatorResponse providesPrivilege(PrivilegesEvaluationContext context, String action, Set<String> roles) {
+        PrivilegesEvaluatorResponse providesPrivilege(PrivilegesEvaluationContext context, String action) {
+            RoleIdDictionary.RoleSet roleSet = context.getMappedRoleSet(this.roleIdDictionary);
 
             // 1: Check roles with wildcards
-            if (CollectionUtils.containsAny(roles, this.rolesWithWildcardPermissions)) {
+            if (this.rolesWithWildcardPermissions.intersects(roleSet)) {
                 return PrivilegesEvaluatorResponse.ok();
             }
 
             // 2: Check well-known actions - this should cover most cases
-            ImmutableCompactSubSet<String> rolesWithPrivileges = this.actionToRoles.get(action);
+            RoleIdDictionary.RoleSet rolesWithPrivileges = this.actionToRoles.get(action);
 
-            if (rolesWithPrivileges != null && rolesWithPrivileges.containsAny(roles)) {
+            if (rolesWithPrivileges != null && rolesWithPrivileges.intersects(roleSet)) {
                 return PrivilegesEvaluatorResponse.ok();
             }
 
             // 3: Only if everything else fails: Check the matchers in case we have a non-well-known action
-            if (!this.wellKnownClusterActions.contains(action)) {
-                for (String role : roles) {
-                    WildcardMatcher matcher = this.rolesToActionMatcher.get(role);
-
-                    if (matcher != null && matcher.test(action)) {
-                        return PrivilegesEvaluatorResponse.ok();
-                    }
-                }
+            if (!this.wellKnownClusterActions.contains(action) && rolesWithActionPatternPrivileges(action).intersects(roleSet)) {
+                return PrivilegesEvaluatorResponse.ok();
             }
 
             // 4: If plugin is performing the action, check if plugin has permission
@@ -462,24 +750,19 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
          * Returns a PrivilegesEvaluatorResponse with allowed=true if privileges are available.
          * Otherwise, allowed will be false and missingPrivileges will contain the name of the given action.
          */
-        PrivilegesEvaluatorResponse providesExplicitPrivilege(PrivilegesEvaluationContext context, String action, Set<String> roles) {
+        PrivilegesEvaluatorResponse providesExplicitPrivilege(PrivilegesEvaluationContext context, String action) {
+            RoleIdDictionary.RoleSet roleSet = context.getMappedRoleSet(this.roleIdDictionary);
 
             // 1: Check well-known actions - this should cover most cases
-            ImmutableCompactSubSet<String> rolesWithPrivileges = this.actionToRoles.get(action);
+            RoleIdDictionary.RoleSet rolesWithPrivileges = this.actionToRoles.get(action);
 
-            if (rolesWithPrivileges != null && rolesWithPrivileges.containsAny(roles)) {
+            if (rolesWithPrivileges != null && rolesWithPrivileges.intersects(roleSet)) {
                 return PrivilegesEvaluatorResponse.ok();
             }
 
             // 2: Only if everything else fails: Check the matchers in case we have a non-well-known action
-            if (!this.wellKnownClusterActions.contains(action)) {
-                for (String role : roles) {
-                    WildcardMatcher matcher = this.rolesToActionMatcher.get(role);
-
-                    if (matcher != null && matcher.test(action)) {
-                        return PrivilegesEvaluatorResponse.ok();
-                    }
-                }
+            if (!this.wellKnownClusterActions.contains(action) && rolesWithActionPatternPrivileges(action).intersects(roleSet)) {
+                return PrivilegesEvaluatorResponse.ok();
             }
 
             return PrivilegesEvaluatorResponse.insufficient(action);
@@ -490,31 +773,27 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
          * provided roles. Returns a PrivilegesEvaluatorResponse with allowed=true if privileges are available.
          * Otherwise, allowed will be false and missingPrivileges will contain the name of the given action.
          */
-        PrivilegesEvaluatorResponse providesAnyPrivilege(PrivilegesEvaluationContext context, Set<String> actions, Set<String> roles) {
+        PrivilegesEvaluatorResponse providesAnyPrivilege(PrivilegesEvaluationContext context, Set<String> actions) {
+            RoleIdDictionary.RoleSet roleSet = context.getMappedRoleSet(this.roleIdDictionary);
+
             // 1: Check roles with wildcards
-            if (CollectionUtils.containsAny(roles, this.rolesWithWildcardPermissions)) {
+            if (this.rolesWithWildcardPermissions.intersects(roleSet)) {
                 return PrivilegesEvaluatorResponse.ok();
             }
 
             // 2: Check well-known actions - this should cover most cases
             for (String action : actions) {
-                ImmutableCompactSubSet<String> rolesWithPrivileges = this.actionToRoles.get(action);
+                RoleIdDictionary.RoleSet rolesWithPrivileges = this.actionToRoles.get(action);
 
-                if (rolesWithPrivileges != null && rolesWithPrivileges.containsAny(roles)) {
+                if (rolesWithPrivileges != null && rolesWithPrivileges.intersects(roleSet)) {
                     return PrivilegesEvaluatorResponse.ok();
                 }
             }
 
             // 3: Only if everything else fails: Check the matchers in case we have a non-well-known action
             for (String action : actions) {
-                if (!this.wellKnownClusterActions.contains(action)) {
-                    for (String role : roles) {
-                        WildcardMatcher matcher = this.rolesToActionMatcher.get(role);
-
-                        if (matcher != null && matcher.test(action)) {
-                            return PrivilegesEvaluatorResponse.ok();
-                        }
-                    }
+                if (!this.wellKnownClusterActions.contains(action) && rolesWithActionPatternPrivileges(action).intersects(roleSet)) {
+                    return PrivilegesEvaluatorResponse.ok();
                 }
             }
 
@@ -534,6 +813,29 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
                 return PrivilegesEvaluatorResponse.insufficient("any of " + actions);
             }
         }
+
+        /**
+         * Returns the roles which provide privileges for the given action via action patterns, using the
+         * nonWellKnownActionToRoles reverse index.
+         */
+        RoleIdDictionary.RoleSet rolesWithActionPatternPrivileges(String action) {
+            RoleIdDictionary.RoleSet result = this.nonWellKnownActionToRoles.getIfPresent(action);
+
+            if (result == null) {
+                RoleIdDictionary.RoleSet.Builder builder = this.roleIdDictionary.builder();
+
+                for (Map.Entry<String, WildcardMatcher> entry : this.rolesToActionMatcher.entrySet()) {
+                    if (entry.getValue().test(action)) {
+                        builder.add(entry.getKey());
+                    }
+                }
+
+                result = builder.build();
+                this.nonWellKnownActionToRoles.put(action, result);
+            }
+
+            return result;
+        }
     }
 
     /**
@@ -571,7 +873,7 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
          * This allows to answer the question "given an action and a set of roles, do I have wildcard index privileges"
          * in O(1)
          */
-        private final ImmutableMap<String, ImmutableCompactSubSet<String>> actionToRolesWithWildcardIndexPrivileges;
+        private final ImmutableMap<String, RoleIdDictionary.RoleSet> actionToRolesWithWildcardIndexPrivileges;
 
         /**
          * A pre-defined set of action names that is used to pre-compute the result of action patterns.
@@ -591,6 +893,22 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
          */
         private final ImmutableMap<String, ImmutableMap<String, IndexPattern>> rolesToExplicitActionToIndexPattern;
 
+        /**
+         * Contains all roles which use index patterns with user attributes or date math. Privilege
+         * decisions for these roles cannot be cached across requests.
+         */
+        private final RoleIdDictionary.RoleSet rolesWithDynamicIndexPatterns;
+
+        /**
+         * The dictionary which was used to create the RoleSet instances in this object.
+         */
+        private final RoleIdDictionary roleIdDictionary;
+
+        /**
+         * The time it took to build this instance.
+         */
+        private final long buildTimeNanos;
+
         /**
          * Creates pre-computed index privileges based on the given parameters.
          * <p>
@@ -600,134 +918,188 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
          * kind of nice.
          */
         IndexPrivileges(
+            RoleIdDictionary roleIdDictionary,
             SecurityDynamicConfiguration<RoleV7> roles,
             FlattenedActionGroups actionGroups,
             ImmutableSet<String> wellKnownIndexActions,
-            ImmutableSet<String> explicitlyRequiredIndexActions
+            ImmutableSet<String> explicitlyRequiredIndexActions,
+            PrivilegesBuildExecutor buildExecutor
         ) {
-            DeduplicatingCompactSubSetBuilder<String> roleSetBuilder = new DeduplicatingCompactSubSetBuilder<>(
-                roles.getCEntries().keySet()
+            long start = System.nanoTime();
+            ImmutableMap.Builder<String, ImmutableMap<String, IndexPattern>> rolesToActionToIndexPattern = ImmutableMap.builder();
+            ImmutableMap.Builder<String, ImmutableMap<WildcardMatcher, IndexPattern>> rolesToActionPatternToIndexPattern = ImmutableMap
+                .builder();
+            Map<String, RoleIdDictionary.RoleSet.Builder> actionToRolesWithWildcardIndexPrivileges = new HashMap<>();
+            ImmutableMap.Builder<String, ImmutableMap<String, IndexPattern>> rolesToExplicitActionToIndexPattern = ImmutableMap.builder();
+
+            // The roles are processed in parallel; the results are merged afterwards in the order of the configuration
+            List<RoleResult> roleResults = buildExecutor.map(
+                roles.getCEntries().entrySet(),
+                entry -> processRole(entry.getKey(), entry.getValue(), actionGroups, wellKnownIndexActions, explicitlyRequiredIndexActions)
             );
 
-            Map<String, Map<String, IndexPattern.Builder>> rolesToActionToIndexPattern = new HashMap<>();
-            Map<String, Map<WildcardMatcher, IndexPattern.Builder>> rolesToActionPatternToIndexPattern = new HashMap<>();
-            Map<String, DeduplicatingCompactSubSetBuilder.SubSetBuilder<String>> actionToRolesWithWildcardIndexPrivileges = new HashMap<>();
-            Map<String, Map<String, IndexPattern.Builder>> rolesToExplicitActionToIndexPattern = new HashMap<>();
+            for (RoleResult roleResult : roleResults) {
+                if (roleResult == null) {
+                    continue;
+                }
 
-            for (Map.Entry<String, RoleV7> entry : roles.getCEntries().entrySet()) {
-                try {
-                    String roleName = entry.getKey();
-                    RoleV7 role = entry.getValue();
+                if (!roleResult.actionToIndexPattern.isEmpty()) {
+                    rolesToActionToIndexPattern.put(roleResult.roleName, roleResult.actionToIndexPattern);
+                }
 
-                    roleSetBuilder.next(roleName);
+                if (!roleResult.actionPatternToIndexPattern.isEmpty()) {
+                    rolesToActionPatternToIndexPattern.put(roleResult.roleName, roleResult.actionPatternToIndexPattern);
+                }
 
-                    for (RoleV7.Index indexPermissions : role.getIndex_permissions()) {
-                        ImmutableSet<String> permissions = actionGroups.resolve(indexPermissions.getAllowed_actions());
-
-                        for (String permission : permissions) {
-                            // If we have a permission which does not use any pattern, we just simply add it to the
-                            // "rolesToActionToIndexPattern" map.
-                            // Otherwise, we match the pattern against the provided well-known index actions and add
-                            // these to the "rolesToActionToIndexPattern" map. Additionally, for the case that the
-                            // well-known index actions are not complete, we also collect the actionMatcher to be used
-                            // as a last resort later.
-
-                            if (WildcardMatcher.isExact(permission)) {
-                                rolesToActionToIndexPattern.computeIfAbsent(roleName, k -> new HashMap<>())
-                                    .computeIfAbsent(permission, k -> new IndexPattern.Builder())
-                                    .add(indexPermissions.getIndex_patterns());
+                if (!roleResult.explicitActionToIndexPattern.isEmpty()) {
+                    rolesToExplicitActionToIndexPattern.put(roleResult.roleName, roleResult.explicitActionToIndexPattern);
+                }
 
-                                if (explicitlyRequiredIndexActions.contains(permission)) {
-                                    rolesToExplicitActionToIndexPattern.computeIfAbsent(roleName, k -> new HashMap<>())
-                                        .computeIfAbsent(permission, k -> new IndexPattern.Builder())
-                                        .add(indexPermissions.getIndex_patterns());
-                                }
+                for (String action : roleResult.actionsWithWildcardIndexPrivileges) {
+                    actionToRolesWithWildcardIndexPrivileges.computeIfAbsent(action, k -> roleIdDictionary.builder())
+                        .add(roleResult.roleName);
+                }
+            }
 
-                                if (indexPermissions.getIndex_patterns().contains("*")) {
-                                    actionToRolesWithWildcardIndexPrivileges.computeIfAbsent(
-                                        permission,
-                                        k -> roleSetBuilder.createSubSetBuilder()
-                                    ).add(roleName);
-                                }
-                            } else {
-                                WildcardMatcher actionMatcher = WildcardMatcher.from(permission);
+            this.rolesToActionToIndexPattern = rolesToActionToIndexPattern.build();
+            this.rolesToActionPatternToIndexPattern = rolesToActionPatternToIndexPattern.build();
+            this.actionToRolesWithWildcardIndexPrivileges = actionToRolesWithWildcardIndexPrivileges.entrySet()
+                .stream()
+                .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> entry.getValue().build()));
+            this.rolesToExplicitActionToIndexPattern = rolesToExplicitActionToIndexPattern.build();
 
-                                for (String action : actionMatcher.iterateMatching(wellKnownIndexActions)) {
-                                    rolesToActionToIndexPattern.computeIfAbsent(roleName, k -> new HashMap<>())
-                                        .computeIfAbsent(action, k -> new IndexPattern.Builder())
-                                        .add(indexPermissions.getIndex_patterns());
+            this.rolesWithDynamicIndexPatterns = roleIdDictionary.builder()
+                .addAll(roleIdDictionary.toRoleSet(rolesWithDynamicIndexPatterns(this.rolesToActionToIndexPattern)))
+                .addAll(roleIdDictionary.toRoleSet(rolesWithDynamicIndexPatterns(this.rolesToActionPatternToIndexPattern)))
+                .build();
 
-                                    if (indexPermissions.getIndex_patterns().contains("*")) {
-                                        actionToRolesWithWildcardIndexPrivileges.computeIfAbsent(
-                                            permission,
-                                            k -> roleSetBuilder.createSubSetBuilder()
-                                        ).add(roleName);
-                                    }
-                                }
+            this.roleIdDictionary = roleIdDictionary;
+            this.wellKnownIndexActions = wellKnownIndexActions;
+            this.explicitlyRequiredIndexActions = explicitlyRequiredIndexActions;
+            this.buildTimeNanos = System.nanoTime() - start;
+        }
 
-                                rolesToActionPatternToIndexPattern.computeIfAbsent(roleName, k -> new HashMap<>())
-                                    .computeIfAbsent(actionMatcher, k -> new IndexPattern.Builder())
+        /**
+         * Computes the index privileges provided by a single role. Returns null if the role could not be processed.
+         */
+        private static RoleResult processRole(
+            String roleName,
+            RoleV7 role,
+            FlattenedActionGroups actionGroups,
+            ImmutableSet<String> wellKnownIndexActions,
+            ImmutableSet<String> explicitlyRequiredIndexActions
+        ) {
+            try {
+                Map<String, IndexPattern.Builder> actionToIndexPattern = new HashMap<>();
+                Map<WildcardMatcher, IndexPattern.Builder> actionPatternToIndexPattern = new HashMap<>();
+                Map<String, IndexPattern.Builder> explicitActionToIndexPattern = new HashMap<>();
+                Set<String> actionsWithWildcardIndexPrivileges = new HashSet<>();
+
+                for (RoleV7.Index indexPermissions : role.getIndex_permissions()) {
+                    ImmutableSet<String> permissions = actionGroups.resolve(indexPermissions.getAllowed_actions());
+
+                    for (String permission : permissions) {
+                        // If we have a permission which does not use any pattern, we just simply add it to the
+                        // "rolesToActionToIndexPattern" map.
+                        // Otherwise, we match the pattern against the provided well-known index actions and add
+                        // these to the "rolesToActionToIndexPattern" map. Additionally, for the case that the
+                        // well-known index actions are not complete, we also collect the actionMatcher to be used
+                        // as a last resort later.
+
+                        if (WildcardMatcher.isExact(permission)) {
+                            actionToIndexPattern.computeIfAbsent(permission, k -> new IndexPattern.Builder())
+                                .add(indexPermissions.getIndex_patterns());
+
+                            if (explicitlyRequiredIndexActions.contains(permission)) {
+                                explicitActionToIndexPattern.computeIfAbsent(permission, k -> new IndexPattern.Builder())
                                     .add(indexPermissions.getIndex_patterns());
+                            }
 
-                                if (actionMatcher != WildcardMatcher.ANY) {
-                                    for (String action : actionMatcher.iterateMatching(explicitlyRequiredIndexActions)) {
-                                        rolesToExplicitActionToIndexPattern.computeIfAbsent(roleName, k -> new HashMap<>())
-                                            .computeIfAbsent(action, k -> new IndexPattern.Builder())
-                                            .add(indexPermissions.getIndex_patterns());
-                                    }
+                            if (indexPermissions.getIndex_patterns().contains("*")) {
+                                actionsWithWildcardIndexPrivileges.add(permission);
+                            }
+                        } else {
+                            WildcardMatcher actionMatcher = WildcardMatcher.from(permission);
+
+                            for (String action : actionMatcher.iterateMatching(wellKnownIndexActions)) {
+                                actionToIndexPattern.computeIfAbsent(action, k -> new IndexPattern.Builder())
+                                    .add(indexPermissions.getIndex_patterns());
+
+                                if (indexPermissions.getIndex_patterns().contains("*")) {
+                                    actionsWithWildcardIndexPrivileges.add(permission);
+                                }
+                            }
+
+                            actionPatternToIndexPattern.computeIfAbsent(actionMatcher, k -> new IndexPattern.Builder())
+                                .add(indexPermissions.getIndex_patterns());
+
+                            if (actionMatcher != WildcardMatcher.ANY) {
+                                for (String action : actionMatcher.iterateMatching(explicitlyRequiredIndexActions)) {
+                                    explicitActionToIndexPattern.computeIfAbsent(action, k -> new IndexPattern.Builder())
+                                        .add(indexPermissions.getIndex_patterns());
                                 }
                             }
                         }
                     }
-                } catch (Exception e) {
-                    log.error("Unexpected exception while processing role: {}\nIgnoring role.", entry.getKey(), e);
                 }
+
+                return new RoleResult(
+                    roleName,
+                    build(actionToIndexPattern),
+                    build(actionPatternToIndexPattern),
+                    build(explicitActionToIndexPattern),
+                    actionsWithWildcardIndexPrivileges
+                );
+            } catch (Exception e) {
+                log.error("Unexpected exception while processing role: {}\nIgnoring role.", roleName, e);
+                return null;
             }
+        }
 
-            DeduplicatingCompactSubSetBuilder.Completed<String> completedRoleSetBuilder = roleSetBuilder.build();
+        private static <K> ImmutableMap<K, IndexPattern> build(Map<K, IndexPattern.Builder> map) {
+            return map.entrySet().stream().collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> entry.getValue().build()));
+        }
 
-            this.rolesToActionToIndexPattern = rolesToActionToIndexPattern.entrySet()
-                .stream()
-                .collect(
-                    ImmutableMap.toImmutableMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue()
-                            .entrySet()
-                            .stream()
-                            .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry2 -> entry2.getValue().build()))
-                    )
-                );
+        /**
+         * The index privileges provided by a single role.
+         */
+        private static class RoleResult {
+            final String roleName;
+            final ImmutableMap<String, IndexPattern> actionToIndexPattern;
+            final ImmutableMap<WildcardMatcher, IndexPattern> actionPatternToIndexPattern;
+            final ImmutableMap<String, IndexPattern> explicitActionToIndexPattern;
+            final Set<String> actionsWithWildcardIndexPrivileges;
+
+            RoleResult(
+                String roleName,
+                ImmutableMap<String, IndexPattern> actionToIndexPattern,
+                ImmutableMap<WildcardMatcher, IndexPattern> actionPatternToIndexPattern,
+                ImmutableMap<String, IndexPattern> explicitActionToIndexPattern,
+                Set<String> actionsWithWildcardIndexPrivileges
+            ) {
+                this.roleName = roleName;
+                this.actionToIndexPattern = actionToIndexPattern;
+                this.actionPatternToIndexPattern = actionPatternToIndexPattern;
+                this.explicitActionToIndexPattern = explicitActionToIndexPattern;
+                this.actionsWithWildcardIndexPrivileges = actionsWithWildcardIndexPrivileges;
+            }
+        }
 
-            this.rolesToActionPatternToIndexPattern = rolesToActionPatternToIndexPattern.entrySet()
-                .stream()
-                .collect(
-                    ImmutableMap.toImmutableMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue()
-                            .entrySet()
-                            .stream()
-                            .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry2 -> entry2.getValue().build()))
-                    )
-                );
-
-            this.actionToRolesWithWildcardIndexPrivileges = actionToRolesWithWildcardIndexPrivileges.entrySet()
-                .stream()
-                .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> entry.getValue().build(completedRoleSetBuilder)));
+        /**
+         * Returns true if the result of providesPrivilege() for the mapped roles of the given context might depend on
+         * the attributes of the current user or on the current time.
+         */
+        boolean dependsOnUserOrTime(PrivilegesEvaluationContext context) {
+            return !this.rolesWithDynamicIndexPatterns.isEmpty()
+                && this.rolesWithDynamicIndexPatterns.intersects(context.getMappedRoleSet(this.roleIdDictionary));
+        }
 
-            this.rolesToExplicitActionToIndexPattern = rolesToExplicitActionToIndexPattern.entrySet()
+        private static <K> List<String> rolesWithDynamicIndexPatterns(ImmutableMap<String, ImmutableMap<K, IndexPattern>> roleMap) {
+            return roleMap.entrySet()
                 .stream()
-                .collect(
-                    ImmutableMap.toImmutableMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue()
-                            .entrySet()
-                            .stream()
-                            .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry2 -> entry2.getValue().build()))
-                    )
-                );
-
-            this.wellKnownIndexActions = wellKnownIndexActions;
-            this.explicitlyRequiredIndexActions = explicitlyRequiredIndexActions;
+                .filter(entry -> entry.getValue().values().stream().anyMatch(IndexPattern::hasDynamicPattern))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
         }
 
         /**
@@ -845,12 +1217,12 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
          * the user's privileges.
          */
         PrivilegesEvaluatorResponse providesWildcardPrivilege(PrivilegesEvaluationContext context, Set<String> actions) {
-            ImmutableSet<String> effectiveRoles = context.getMappedRoles();
+            RoleIdDictionary.RoleSet effectiveRoles = context.getMappedRoleSet(this.roleIdDictionary);
 
             for (String action : actions) {
-                ImmutableCompactSubSet<String> rolesWithWildcardIndexPrivileges = this.actionToRolesWithWildcardIndexPrivileges.get(action);
+                RoleIdDictionary.RoleSet rolesWithWildcardIndexPrivileges = this.actionToRolesWithWildcardIndexPrivileges.get(action);
 
-                if (rolesWithWildcardIndexPrivileges == null || !rolesWithWildcardIndexPrivileges.containsAny(effectiveRoles)) {
+                if (rolesWithWildcardIndexPrivileges == null || !rolesWithWildcardIndexPrivileges.intersects(effectiveRoles)) {
                     return null;
                 }
             }
@@ -927,12 +1299,39 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
      */
     static class StatefulIndexPrivileges {
 
+        /**
+         * The maximum ratio of updated indices to all indices for which incremental updates are performed. If more
+         * indices have been updated, the instance will be re-built from scratch.
+         */
+        static final double MAX_INCREMENTAL_UPDATE_RATIO = 0.1;
+
+        /**
+         * The number of roles which are processed in parallel before their results are merged into the data structure.
+         */
+        static final int PARALLEL_BUILD_CHUNK_SIZE = 16;
+
         /**
          * Maps concrete action names to concrete index names and then to the roles which provide privileges for the
          * combination of action and index. This map can contain besides indices also names of data streams and aliases.
          * For aliases and data streams, it will then contain both the actual alias/data stream and the backing indices.
+         * <p>
+         * Actions with equal privileges share the same IndexRoleTable instance.
          */
-        private final Map<String, Map<String, ImmutableCompactSubSet<String>>> actionToIndexToRoles;
+        private final ImmutableMap<String, IndexRoleTable> actionToIndexToRoles;
+
+        /**
+         * Contains the names of the indices, aliases and data streams which have changed since the actionToIndexToRoles
+         * map was built. For these, the entries in actionToIndexToRoles are obsolete; actionToUpdatedIndexToRoles must
+         * be used instead. For instances which were built from scratch, this is empty.
+         */
+        private final ImmutableSet<String> updatedIndices;
+
+        /**
+         * Maps concrete action names to the names of updated indices and then to the roles which provide privileges for the
+         * combination of action and index. This has the same semantics as actionToIndexToRoles, but only covers the
+         * indices listed in updatedIndices.
+         */
+        private final ImmutableMap<String, ImmutableMap<String, RoleIdDictionary.RoleSet>> actionToUpdatedIndexToRoles;
 
         /**
          * The index information that was used to construct this instance.
@@ -944,8 +1343,20 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
          */
         private final ImmutableSet<String> wellKnownIndexActions;
 
+        /**
+         * The dictionary which was used to create the RoleSet instances in this object.
+         */
+        private final RoleIdDictionary roleIdDictionary;
+
         private final int estimatedByteSize;
 
+        /**
+         * True if the size limit was reached while building this instance; then, actionToIndexToRoles is incomplete.
+         */
+        private final boolean capped;
+
+        private final int numberOfDistinctTables;
+
         private long metadataVersion;
 
         /**
@@ -956,25 +1367,20 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
          * just results in fewer available privileges.
          */
         StatefulIndexPrivileges(
+            RoleIdDictionary roleIdDictionary,
             SecurityDynamicConfiguration<RoleV7> roles,
             FlattenedActionGroups actionGroups,
             ImmutableSet<String> wellKnownIndexActions,
             Map<String, IndexAbstraction> indices,
             long metadataVersion,
-            ByteSizeValue statefulIndexMaxHeapSize
+            ByteSizeValue statefulIndexMaxHeapSize,
+            PrivilegesBuildExecutor buildExecutor
         ) {
-            Map<
-                String,
-                CompactMapGroupBuilder.MapBuilder<String, DeduplicatingCompactSubSetBuilder.SubSetBuilder<String>>> actionToIndexToRoles =
-                    new HashMap<>();
-            DeduplicatingCompactSubSetBuilder<String> roleSetBuilder = new DeduplicatingCompactSubSetBuilder<>(
-                roles.getCEntries().keySet()
-            );
-            CompactMapGroupBuilder<String, DeduplicatingCompactSubSetBuilder.SubSetBuilder<String>> indexMapBuilder =
-                new CompactMapGroupBuilder<>(indices.keySet(), (k2) -> roleSetBuilder.createSubSetBuilder());
+            IndexRoleTable.IndexIds indexIds = new IndexRoleTable.IndexIds(indices.keySet());
+            Map<String, List<IndexRoleTable.Grant>> actionToGrants = new HashMap<>();
 
             // We iterate here through the present RoleV7 instances and nested through their "index_permissions" sections.
-            // During the loop, the actionToIndexToRoles map is being built.
+            // During the loop, the actionToGrants map is being built.
             // For that, action patterns from the role will be matched against the "well-known actions" to build
             // a concrete action map and index patterns from the role will be matched against the present indices
             // to build a concrete index map.
@@ -982,64 +1388,190 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
             // The complexity of this loop is O(n*m) where n is dependent on the structure of the roles configuration
             // and m is the number of matched indices. This formula does not take the loop through matchedActions in
             // account, as this is bound by a constant number and thus does not need to be considered in the O() notation.
+            //
+            // Matching the index patterns against the indices is the expensive part of the loop; it is done in parallel
+            // for chunks of roles. The chunks keep the size of the intermediate results bounded.
+
+            List<Map.Entry<String, RoleV7>> roleEntries = new ArrayList<>(roles.getCEntries().entrySet());
+
+            for (List<Map.Entry<String, RoleV7>> chunk : Lists.partition(roleEntries, PARALLEL_BUILD_CHUNK_SIZE)) {
+                List<List<IndexGrant>> chunkGrants = buildExecutor.map(
+                    chunk,
+                    entry -> matchIndices(entry.getKey(), entry.getValue(), actionGroups, wellKnownIndexActions, indices, indexIds)
+                );
+
+                for (int i = 0; i < chunk.size(); i++) {
+                    List<IndexGrant> grants = chunkGrants.get(i);
+
+                    if (grants == null) {
+                        continue;
+                    }
+
+                    int roleId = roleIdDictionary.getRoleId(chunk.get(i).getKey());
+
+                    for (IndexGrant grant : grants) {
+                        // The grant is shared by all its actions; this allows to identify actions with equal privileges
+                        IndexRoleTable.Grant tableGrant = new IndexRoleTable.Grant(roleId, grant.indexIds);
+
+                        for (String action : grant.actions) {
+                            actionToGrants.computeIfAbsent(action, k -> new ArrayList<>()).add(tableGrant);
+                        }
+                    }
+                }
+            }
+
+            // Actions which are always granted together have equal grant lists; for these, only one table is built
+            Map<List<IndexRoleTable.Grant>, List<String>> grantsToActions = new LinkedHashMap<>();
+
+            for (Map.Entry<String, List<IndexRoleTable.Grant>> entry : actionToGrants.entrySet()) {
+                grantsToActions.computeIfAbsent(entry.getValue(), k -> new ArrayList<>()).add(entry.getKey());
+            }
+
+            List<IndexRoleTable> tables = buildExecutor.map(
+                grantsToActions.keySet(),
+                grants -> IndexRoleTable.build(indexIds, roleIdDictionary, grants)
+            );
+
+            ImmutableMap.Builder<String, IndexRoleTable> actionToIndexToRoles = ImmutableMap.builder();
+            Map<IndexRoleTable, IndexRoleTable> distinctTables = new HashMap<>();
+            Set<RoleIdDictionary.RoleSet> distinctRoleSets = Sets.newIdentityHashSet();
+            long estimatedByteSize = indexIds.getEstimatedByteSize();
+            boolean capped = false;
+            Iterator<List<String>> actionsIterator = grantsToActions.values().iterator();
+
+            for (IndexRoleTable table : tables) {
+                List<String> actions = actionsIterator.next();
+                IndexRoleTable existingTable = distinctTables.get(table);
+
+                if (existingTable != null) {
+                    table = existingTable;
+                } else {
+                    long tableByteSize = table.getEstimatedByteSize();
+
+                    for (RoleIdDictionary.RoleSet roleSet : table.roleSets()) {
+                        if (!distinctRoleSets.contains(roleSet)) {
+                            tableByteSize += roleSet.getEstimatedByteSize();
+                        }
+                    }
+
+                    if (estimatedByteSize + tableByteSize > statefulIndexMaxHeapSize.getBytes()) {
+                        log.info(
+                            "Size of precomputed index privileges exceeds configured limit ({}). Using capped data structure."
+                                + "This might lead to slightly lower performance during privilege evaluation. Consider raising {}.",
+                            statefulIndexMaxHeapSize,
+                            PRECOMPUTED_PRIVILEGES_MAX_HEAP_SIZE.getKey()
+                        );
+                        capped = true;
+                        break;
+                    }
+
+                    estimatedByteSize += tableByteSize;
+                    distinctRoleSets.addAll(Arrays.asList(table.roleSets()));
+                    distinctTables.put(table, table);
+                }
+
+                for (String action : actions) {
+                    actionToIndexToRoles.put(action, table);
+                }
+            }
+
+            this.actionToIndexToRoles = actionToIndexToRoles.build();
+            this.estimatedByteSize = (int) estimatedByteSize;
+            this.capped = capped;
+            this.numberOfDistinctTables = distinctTables.size();
+            log.debug(
+                "Estimated size of StatefulIndexPermissions data structure: {}; {} actions; {} distinct tables",
+                this.estimatedByteSize,
+                this.actionToIndexToRoles.size(),
+                this.numberOfDistinctTables
+            );
+
+            this.roleIdDictionary = roleIdDictionary;
+            this.updatedIndices = ImmutableSet.of();
+            this.actionToUpdatedIndexToRoles = ImmutableMap.of();
+            this.indices = ImmutableMap.copyOf(indices);
+            this.metadataVersion = metadataVersion;
+            this.wellKnownIndexActions = wellKnownIndexActions;
+        }
+
+        /**
+         * Creates pre-computed index privileges by applying the given changes to an existing instance. The
+         * actionToIndexToRoles map of the existing instance is re-used; privileges are only computed for the indices
+         * affected by the given delta and for the indices which have already been updated in the existing instance.
+         * <p>
+         * The complexity of this constructor is O(n*m) where n is dependent on the structure of the roles configuration
+         * and m is the number of updated indices. Thus, it is much cheaper than building the instance from scratch.
+         */
+        StatefulIndexPrivileges(
+            StatefulIndexPrivileges base,
+            ClusterStateMetadataDependentPrivileges.IndicesDelta delta,
+            SecurityDynamicConfiguration<RoleV7> roles,
+            FlattenedActionGroups actionGroups,
+            Map<String, IndexAbstraction> indices,
+            long metadataVersion,
+            ByteSizeValue statefulIndexMaxHeapSize
+        ) {
+            ImmutableSet<String> updatedIndices = ImmutableSet.<String>builder()
+                .addAll(base.updatedIndices)
+                .addAll(delta.getAffected())
+                .build();
+            Map<String, Map<String, RoleIdDictionary.RoleSet.Builder>> actionToUpdatedIndexToRoles = new HashMap<>();
+            int estimatedByteSize = base.estimatedByteSize + updatedIndices.size() * 8;
+            boolean capped = base.capped;
 
             top: for (Map.Entry<String, RoleV7> entry : roles.getCEntries().entrySet()) {
                 try {
                     String roleName = entry.getKey();
                     RoleV7 role = entry.getValue();
 
-                    roleSetBuilder.next(roleName);
-
                     for (RoleV7.Index indexPermissions : role.getIndex_permissions()) {
-                        ImmutableSet<String> permissions = actionGroups.resolve(indexPermissions.getAllowed_actions());
-
                         if (indexPermissions.getIndex_patterns().contains("*")) {
                             // Wildcard index patterns are handled in the static IndexPermissions object.
-                            // This avoids having to build huge data structures - when a very easy shortcut is available.
                             continue;
                         }
 
                         WildcardMatcher indexMatcher = IndexPattern.from(indexPermissions.getIndex_patterns()).getStaticPattern();
 
                         if (indexMatcher == WildcardMatcher.NONE) {
-                            // The pattern is likely blank because there are only templated patterns.
                             // Index patterns with templates are not handled here, but in the static IndexPermissions object
                             continue;
                         }
 
-                        for (String permission : permissions) {
+                        List<String> matchedIndices = new ArrayList<>();
+
+                        for (String index : updatedIndices) {
+                            if (providesPrivilege(indexMatcher, index, indices)) {
+                                matchedIndices.add(index);
+                            }
+                        }
+
+                        if (matchedIndices.isEmpty()) {
+                            continue;
+                        }
+
+                        for (String permission : actionGroups.resolve(indexPermissions.getAllowed_actions())) {
                             WildcardMatcher actionMatcher = WildcardMatcher.from(permission);
-                            Collection<String> matchedActions = actionMatcher.getMatchAny(wellKnownIndexActions, Collectors.toList());
-
-                            for (Map.Entry<String, IndexAbstraction> indicesEntry : indexMatcher.iterateMatching(
-                                indices.entrySet(),
-                                Map.Entry::getKey
-                            )) {
-                                for (String action : matchedActions) {
-                                    CompactMapGroupBuilder.MapBuilder<
-                                        String,
-                                        DeduplicatingCompactSubSetBuilder.SubSetBuilder<String>> indexToRoles = actionToIndexToRoles
-                                            .computeIfAbsent(action, k -> indexMapBuilder.createMapBuilder());
-
-                                    indexToRoles.get(indicesEntry.getKey()).add(roleName);
-
-                                    if (indicesEntry.getValue() instanceof IndexAbstraction.Alias) {
-                                        // For aliases we additionally add the sub-indices to the privilege map
-                                        for (IndexMetadata subIndex : indicesEntry.getValue().getIndices()) {
-                                            indexToRoles.get(subIndex.getIndex().getName()).add(roleName);
-                                        }
-                                    }
 
-                                    if (roleSetBuilder.getEstimatedByteSize() + indexMapBuilder
-                                        .getEstimatedByteSize() > statefulIndexMaxHeapSize.getBytes()) {
-                                        log.info(
-                                            "Size of precomputed index privileges exceeds configured limit ({}). Using capped data structure."
-                                                + "This might lead to slightly lower performance during privilege evaluation. Consider raising {}.",
-                                            statefulIndexMaxHeapSize,
-                                            PRECOMPUTED_PRIVILEGES_MAX_HEAP_SIZE.getKey()
-                                        );
-                                        break top;
-                                    }
+                            for (String action : actionMatcher.iterateMatching(base.wellKnownIndexActions)) {
+                                Map<String, RoleIdDictionary.RoleSet.Builder> indexToRoles = actionToUpdatedIndexToRoles.computeIfAbsent(
+                                    action,
+                                    k -> new HashMap<>()
+                                );
+
+                                for (String index : matchedIndices) {
+                                    indexToRoles.computeIfAbsent(index, k -> base.roleIdDictionary.builder()).add(roleName);
+                                    estimatedByteSize += 8;
+                                }
+
+                                if (estimatedByteSize > statefulIndexMaxHeapSize.getBytes()) {
+                                    log.info(
+                                        "Size of precomputed index privileges exceeds configured limit ({}). Using capped data structure."
+                                            + "This might lead to slightly lower performance during privilege evaluation. Consider raising {}.",
+                                        statefulIndexMaxHeapSize,
+                                        PRECOMPUTED_PRIVILEGES_MAX_HEAP_SIZE.getKey()
+                                    );
+                                    capped = true;
+                                    break top;
                                 }
                             }
                         }
@@ -1049,23 +1581,130 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
                 }
             }
 
-            DeduplicatingCompactSubSetBuilder.Completed<String> completedRoleSetBuilder = roleSetBuilder.build();
-
-            this.estimatedByteSize = roleSetBuilder.getEstimatedByteSize() + indexMapBuilder.getEstimatedByteSize();
-            log.debug("Estimated size of StatefulIndexPermissions data structure: {}", this.estimatedByteSize);
-
-            this.actionToIndexToRoles = actionToIndexToRoles.entrySet()
+            this.actionToIndexToRoles = base.actionToIndexToRoles;
+            this.roleIdDictionary = base.roleIdDictionary;
+            this.updatedIndices = updatedIndices;
+            this.actionToUpdatedIndexToRoles = actionToUpdatedIndexToRoles.entrySet()
                 .stream()
                 .collect(
                     ImmutableMap.toImmutableMap(
                         Map.Entry::getKey,
-                        entry -> entry.getValue().build(subSetBuilder -> subSetBuilder.build(completedRoleSetBuilder))
+                        entry -> entry.getValue()
+                            .entrySet()
+                            .stream()
+                            .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry2 -> entry2.getValue().build()))
                     )
                 );
-
+            this.estimatedByteSize = estimatedByteSize;
+            this.capped = capped;
+            this.numberOfDistinctTables = base.numberOfDistinctTables;
             this.indices = ImmutableMap.copyOf(indices);
             this.metadataVersion = metadataVersion;
-            this.wellKnownIndexActions = wellKnownIndexActions;
+            this.wellKnownIndexActions = base.wellKnownIndexActions;
+        }
+
+        /**
+         * Matches the index permissions of the given role against the given indices. For aliases, the returned indices
+         * also contain the member indices. Returns null if the role could not be processed.
+         */
+        private static List<IndexGrant> matchIndices(
+            String roleName,
+            RoleV7 role,
+            FlattenedActionGroups actionGroups,
+            ImmutableSet<String> wellKnownIndexActions,
+            Map<String, IndexAbstraction> indices,
+            IndexRoleTable.IndexIds indexIds
+        ) {
+            try {
+                List<IndexGrant> result = new ArrayList<>();
+
+                for (RoleV7.Index indexPermissions : role.getIndex_permissions()) {
+                    if (indexPermissions.getIndex_patterns().contains("*")) {
+                        // Wildcard index patterns are handled in the static IndexPermissions object.
+                        // This avoids having to build huge data structures - when a very easy shortcut is available.
+                        continue;
+                    }
+
+                    WildcardMatcher indexMatcher = IndexPattern.from(indexPermissions.getIndex_patterns()).getStaticPattern();
+
+                    if (indexMatcher == WildcardMatcher.NONE) {
+                        // The pattern is likely blank because there are only templated patterns.
+                        // Index patterns with templates are not handled here, but in the static IndexPermissions object
+                        continue;
+                    }
+
+                    Set<String> matchedActions = new HashSet<>();
+
+                    for (String permission : actionGroups.resolve(indexPermissions.getAllowed_actions())) {
+                        WildcardMatcher.from(permission).getMatchAny(wellKnownIndexActions, Collectors.toCollection(() -> matchedActions));
+                    }
+
+                    if (matchedActions.isEmpty()) {
+                        continue;
+                    }
+
+                    List<String> matchedIndices = new ArrayList<>();
+
+                    for (Map.Entry<String, IndexAbstraction> indicesEntry : indexMatcher.iterateMatching(
+                        indices.entrySet(),
+                        Map.Entry::getKey
+                    )) {
+                        matchedIndices.add(indicesEntry.getKey());
+
+                        if (indicesEntry.getValue() instanceof IndexAbstraction.Alias) {
+                            // For aliases we additionally add the sub-indices to the privilege map
+                            for (IndexMetadata subIndex : indicesEntry.getValue().getIndices()) {
+                                matchedIndices.add(subIndex.getIndex().getName());
+                            }
+                        }
+                    }
+
+                    if (!matchedIndices.isEmpty()) {
+                        result.add(new IndexGrant(matchedActions, indexIds.toSortedIds(matchedIndices)));
+                    }
+                }
+
+                return result;
+            } catch (Exception e) {
+                log.error("Unexpected exception while processing role: {}\nIgnoring role.", roleName, e);
+                return null;
+            }
+        }
+
+        /**
+         * Returns true if the given index matcher provides privileges for the index with the given name. This also
+         * considers privileges inherited from aliases the index is member of.
+         */
+        private static boolean providesPrivilege(WildcardMatcher indexMatcher, String index, Map<String, IndexAbstraction> indices) {
+            IndexAbstraction indexAbstraction = indices.get(index);
+
+            if (indexAbstraction == null) {
+                // The index was removed; thus, there are no privileges
+                return false;
+            }
+
+            if (indexMatcher.test(index)) {
+                return true;
+            }
+
+            if (indexAbstraction instanceof IndexAbstraction.Index) {
+                for (String alias : indexAbstraction.getWriteIndex().getAliases().keySet()) {
+                    if (indices.containsKey(alias) && indexMatcher.test(alias)) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Returns true if the given delta is small enough to be applied incrementally to this instance. If the
+         * number of updated indices gets too large, the instance should be rather re-built from scratch in order to
+         * keep the lookups fast and the heap usage low.
+         */
+        boolean canApplyIncrementally(ClusterStateMetadataDependentPrivileges.IndicesDelta delta) {
+            return this.updatedIndices.size() + delta.size() <= this.indices.size() * MAX_INCREMENTAL_UPDATE_RATIO;
         }
 
         /**
@@ -1093,12 +1732,13 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
             CheckTable<String, String> checkTable,
             Map<String, IndexAbstraction> indexMetadata
         ) {
-            ImmutableSet<String> effectiveRoles = context.getMappedRoles();
+            RoleIdDictionary.RoleSet effectiveRoles = context.getMappedRoleSet(this.roleIdDictionary);
 
             for (String action : actions) {
-                Map<String, ImmutableCompactSubSet<String>> indexToRoles = actionToIndexToRoles.get(action);
+                IndexRoleTable indexToRoles = actionToIndexToRoles.get(action);
+                ImmutableMap<String, RoleIdDictionary.RoleSet> updatedIndexToRoles = actionToUpdatedIndexToRoles.get(action);
 
-                if (indexToRoles != null) {
+                if (indexToRoles != null || updatedIndexToRoles != null) {
                     for (String index : resolvedIndices.getAllIndices()) {
                         String lookupIndex = index;
 
@@ -1109,11 +1749,24 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
                             lookupIndex = backingIndexToDataStream(index, indexMetadata);
                         }
 
-                        ImmutableCompactSubSet<String> rolesWithPrivileges = indexToRoles.get(lookupIndex);
+                        if (this.updatedIndices.contains(lookupIndex)) {
+                            // The index was changed after actionToIndexToRoles has been built. Only use the updated information.
+                            RoleIdDictionary.RoleSet rolesWithPrivileges = updatedIndexToRoles != null
+                                ? updatedIndexToRoles.get(lookupIndex)
+                                : null;
+
+                            if (rolesWithPrivileges != null && rolesWithPrivileges.intersects(effectiveRoles)) {
+                                if (checkTable.check(index, action)) {
+                                    return PrivilegesEvaluatorResponse.ok();
+                                }
+                            }
+                        } else if (indexToRoles != null) {
+                            RoleIdDictionary.RoleSet rolesWithPrivileges = indexToRoles.get(lookupIndex);
 
-                        if (rolesWithPrivileges != null && rolesWithPrivileges.containsAny(effectiveRoles)) {
-                            if (checkTable.check(index, action)) {
-                                return PrivilegesEvaluatorResponse.ok();
+                            if (rolesWithPrivileges != null && rolesWithPrivileges.intersects(effectiveRoles)) {
+                                if (checkTable.check(index, action)) {
+                                    return PrivilegesEvaluatorResponse.ok();
+                                }
                             }
                         }
                     }
@@ -1188,6 +1841,258 @@ public class ActionPrivileges extends ClusterStateMetadataDependentPrivileges {
 
             return builder.build();
         }
+
+        /**
+         * The actions and indices a single index permission of a role provides privileges for.
+         */
+        private static class IndexGrant {
+            final Collection<String> actions;
+            final int[] indexIds;
+
+            IndexGrant(Collection<String> actions, int[] indexIds) {
+                this.actions = actions;
+                this.indexIds = indexIds;
+            }
+        }
     }
 
+    /**
+     * Statistics about the updates of the pre-computed index privileges (see StatefulIndexPrivileges). Instances of
+     * this class are immutable.
+     */
+    public static class StatefulIndexUpdateStats {
+        static final StatefulIndexUpdateStats NONE = new StatefulIndexUpdateStats(false, 0, 0, 0, 0);
+
+        private final boolean lastUpdateIncremental;
+        private final int lastUpdateDeltaSize;
+        private final long lastUpdateDurationNanos;
+        private final long fullRebuildCount;
+        private final long incrementalUpdateCount;
+
+        StatefulIndexUpdateStats(
+            boolean lastUpdateIncremental,
+            int lastUpdateDeltaSize,
+            long lastUpdateDurationNanos,
+            long fullRebuildCount,
+            long incrementalUpdateCount
+        ) {
+            this.lastUpdateIncremental = lastUpdateIncremental;
+            this.lastUpdateDeltaSize = lastUpdateDeltaSize;
+            this.lastUpdateDurationNanos = lastUpdateDurationNanos;
+            this.fullRebuildCount = fullRebuildCount;
+            this.incrementalUpdateCount = incrementalUpdateCount;
+        }
+
+        StatefulIndexUpdateStats fullRebuild(int deltaSize, long durationNanos) {
+            return new StatefulIndexUpdateStats(false, deltaSize, durationNanos, fullRebuildCount + 1, incrementalUpdateCount);
+        }
+
+        StatefulIndexUpdateStats incrementalUpdate(int deltaSize, long durationNanos) {
+            return new StatefulIndexUpdateStats(true, deltaSize, durationNanos, fullRebuildCount, incrementalUpdateCount + 1);
+        }
+
+        /**
+         * Returns true if the last update was performed incrementally; false if it was a full rebuild.
+         */
+        public boolean isLastUpdateIncremental() {
+            return lastUpdateIncremental;
+        }
+
+        /**
+         * Returns the number of indices, aliases and data streams which were affected by the last update. For the
+         * initial build, this is the total number of indices, aliases and data streams.
+         */
+        public int getLastUpdateDeltaSize() {
+            return lastUpdateDeltaSize;
+        }
+
+        public long getLastUpdateDurationNanos() {
+            return lastUpdateDurationNanos;
+        }
+
+        public long getFullRebuildCount() {
+            return fullRebuildCount;
+        }
+
+        public long getIncrementalUpdateCount() {
+            return incrementalUpdateCount;
+        }
+
+        @Override
+        public String toString() {
+            return (lastUpdateIncremental ? "incremental update" : "full rebuild")
+                + " [delta size: "
+                + lastUpdateDeltaSize
+                + "; duration: "
+                + (lastUpdateDurationNanos / 1_000_000)
+                + " ms]";
+        }
+    }
+
+    /**
+     * Statistics about the current state of the pre-computed index privileges (see StatefulIndexPrivileges). Instances
+     * of this class are immutable.
+     */
+    public static class StatefulIndexStats {
+        static final StatefulIndexStats INACTIVE = new StatefulIndexStats(false, false, 0, 0, 0, 0, 0);
+
+        private final boolean active;
+        private final boolean capped;
+        private final long estimatedByteSize;
+        private final int numberOfIndices;
+        private final int numberOfActions;
+        private final int numberOfDistinctTables;
+        private final int numberOfUpdatedIndices;
+
+        StatefulIndexStats(
+            boolean capped,
+            long estimatedByteSize,
+            int numberOfIndices,
+            int numberOfActions,
+            int numberOfDistinctTables,
+            int numberOfUpdatedIndices
+        ) {
+            this(true, capped, estimatedByteSize, numberOfIndices, numberOfActions, numberOfDistinctTables, numberOfUpdatedIndices);
+        }
+
+        private StatefulIndexStats(
+            boolean active,
+            boolean capped,
+            long estimatedByteSize,
+            int numberOfIndices,
+            int numberOfActions,
+            int numberOfDistinctTables,
+            int numberOfUpdatedIndices
+        ) {
+            this.active = active;
+            this.capped = capped;
+            this.estimatedByteSize = estimatedByteSize;
+            this.numberOfIndices = numberOfIndices;
+            this.numberOfActions = numberOfActions;
+            this.numberOfDistinctTables = numberOfDistinctTables;
+            this.numberOfUpdatedIndices = numberOfUpdatedIndices;
+        }
+
+        /**
+         * Returns true if pre-computed index privileges are available; if not, all index privileges are evaluated
+         * using the slower pattern based code path.
+         */
+        public boolean isActive() {
+            return active;
+        }
+
+        /**
+         * Returns true if the configured heap size limit was reached. Then, the pre-computed index privileges only
+         * cover a part of the actions; the remaining actions are evaluated using the slower pattern based code path.
+         */
+        public boolean isCapped() {
+            return capped;
+        }
+
+        public long getEstimatedByteSize() {
+            return estimatedByteSize;
+        }
+
+        public int getNumberOfIndices() {
+            return numberOfIndices;
+        }
+
+        public int getNumberOfActions() {
+            return numberOfActions;
+        }
+
+        /**
+         * Returns the number of distinct index to role tables. Actions with equal privileges share a table.
+         */
+        public int getNumberOfDistinctTables() {
+            return numberOfDistinctTables;
+        }
+
+        /**
+         * Returns the number of indices which have been incrementally updated since the last full rebuild.
+         */
+        public int getNumberOfUpdatedIndices() {
+            return numberOfUpdatedIndices;
+        }
+
+        @Override
+        public String toString() {
+            if (!active) {
+                return "inactive";
+            }
+
+            return (capped ? "capped" : "complete")
+                + " [estimated size: "
+                + estimatedByteSize
+                + " bytes; indices: "
+                + numberOfIndices
+                + "; actions: "
+                + numberOfActions
+                + "; distinct tables: "
+                + numberOfDistinctTables
+                + "]";
+        }
+    }
+
+    /**
+     * A bounded cache for positive decisions of hasIndexPrivilege(). Most requests repeat the same combination of
+     * mapped roles, actions and indices; for these, the check is reduced to a single hash lookup.
+     * <p>
+     * Only decisions which grant full privileges are cached; partial or negative decisions carry request specific
+     * information (like the check table) and are thus always re-computed. Additionally, decisions which depend on
+     * user attributes or date math are never cached.
+     * <p>
+     * An instance of this class is only valid for a single metadata version; if the metadata changes, ActionPrivileges
+     * will replace it by an empty instance. If the role or action group configuration changes, a new ActionPrivileges
+     * instance is created, which implicitly discards the cache.
+     */
+    static class DecisionCache {
+        private final Cache<Key, Boolean> cache;
+        private final long metadataVersion;
+
+        DecisionCache(int maxSize, long metadataVersion) {
+            this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+            this.metadataVersion = metadataVersion;
+        }
+
+        boolean isAllowed(Key key) {
+            return this.cache.getIfPresent(key) != null;
+        }
+
+        void putAllowed(Key key) {
+            this.cache.put(key, Boolean.TRUE);
+        }
+
+        static class Key {
+            private final RoleIdDictionary.RoleSet mappedRoles;
+            private final ImmutableSet<String> actions;
+            private final ImmutableSet<String> indices;
+            private final boolean localAll;
+            private final int hashCode;
+
+            Key(RoleIdDictionary.RoleSet mappedRoles, Set<String> actions, IndexResolverReplacer.Resolved resolvedIndices) {
+                this.mappedRoles = mappedRoles;
+                this.actions = ImmutableSet.copyOf(actions);
+                this.indices = ImmutableSet.copyOf(resolvedIndices.getAllIndices());
+                this.localAll = resolvedIndices.isLocalAll();
+                this.hashCode = Objects.hash(mappedRoles, actions, indices, localAll);
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) return true;
+                if (!(o instanceof Key that)) return false;
+                return this.hashCode == that.hashCode
+                    && this.localAll == that.localAll
+                    && Objects.equals(this.mappedRoles, that.mappedRoles)
+                    && Objects.equals(this.actions, that.actions)
+                    && Objects.equals(this.indices, that.indices);
+            }
+
+            @Override
+            public int hashCode() {
+                return hashCode;
+            }
+        }
+    }
 }
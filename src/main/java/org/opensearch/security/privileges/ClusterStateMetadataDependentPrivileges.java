@@ -10,11 +10,19 @@
  */
 package org.opensearch.security.privileges;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.Future;
 
+import com.google.common.collect.ImmutableSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import org.opensearch.cluster.metadata.IndexAbstraction;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.threadpool.ThreadPool;
@@ -95,4 +103,150 @@ public abstract class ClusterStateMetadataDependentPrivileges {
 
     protected abstract long getCurrentlyUsedMetadataVersion();
 
+    /**
+     * Describes the differences between two index abstraction maps (as returned by Metadata.getIndicesLookup()). This
+     * allows subclasses to update their data structures incrementally instead of re-building them from scratch on each
+     * metadata change.
+     * <p>
+     * Two index abstractions with the same name are considered to be equivalent if they have the same type and the
+     * same relationships to other index abstractions (i.e., aliases, members, parent data streams). Other changes of the
+     * metadata (like mappings or settings) are not relevant for privileges evaluation and are thus ignored.
+     */
+    public static class IndicesDelta {
+        private final ImmutableSet<String> added;
+        private final ImmutableSet<String> removed;
+        private final ImmutableSet<String> changed;
+        private final ImmutableSet<String> affected;
+
+        IndicesDelta(
+            ImmutableSet<String> added,
+            ImmutableSet<String> removed,
+            ImmutableSet<String> changed,
+            ImmutableSet<String> affected
+        ) {
+            this.added = added;
+            this.removed = removed;
+            this.changed = changed;
+            this.affected = affected;
+        }
+
+        /**
+         * Computes the differences between the given index abstraction maps. The complexity is O(n) with n being the
+         * number of index abstractions.
+         */
+        public static IndicesDelta compute(Map<String, IndexAbstraction> oldIndices, Map<String, IndexAbstraction> newIndices) {
+            ImmutableSet.Builder<String> added = ImmutableSet.builder();
+            ImmutableSet.Builder<String> removed = ImmutableSet.builder();
+            ImmutableSet.Builder<String> changed = ImmutableSet.builder();
+            Set<String> affected = new HashSet<>();
+
+            for (Map.Entry<String, IndexAbstraction> entry : newIndices.entrySet()) {
+                IndexAbstraction oldIndexAbstraction = oldIndices.get(entry.getKey());
+
+                if (oldIndexAbstraction == null) {
+                    added.add(entry.getKey());
+                    affected.add(entry.getKey());
+                    affected.addAll(memberNames(entry.getValue()));
+                } else if (!isEquivalent(oldIndexAbstraction, entry.getValue())) {
+                    changed.add(entry.getKey());
+                    affected.add(entry.getKey());
+                    affected.addAll(memberNames(oldIndexAbstraction));
+                    affected.addAll(memberNames(entry.getValue()));
+                }
+            }
+
+            for (Map.Entry<String, IndexAbstraction> entry : oldIndices.entrySet()) {
+                if (!newIndices.containsKey(entry.getKey())) {
+                    removed.add(entry.getKey());
+                    affected.add(entry.getKey());
+                    affected.addAll(memberNames(entry.getValue()));
+                }
+            }
+
+            return new IndicesDelta(added.build(), removed.build(), changed.build(), ImmutableSet.copyOf(affected));
+        }
+
+        /**
+         * The names of index abstractions which are only present in the new map.
+         */
+        public ImmutableSet<String> getAdded() {
+            return added;
+        }
+
+        /**
+         * The names of index abstractions which are only present in the old map.
+         */
+        public ImmutableSet<String> getRemoved() {
+            return removed;
+        }
+
+        /**
+         * The names of index abstractions which are present in both maps, but have changed relationships.
+         */
+        public ImmutableSet<String> getChanged() {
+            return changed;
+        }
+
+        /**
+         * The names of all index abstractions whose privileges might be different due to the changes. This includes
+         * the added, removed and changed index abstractions, and additionally the members of added, removed or changed
+         * aliases.
+         */
+        public ImmutableSet<String> getAffected() {
+            return affected;
+        }
+
+        public boolean isEmpty() {
+            return affected.isEmpty();
+        }
+
+        public int size() {
+            return affected.size();
+        }
+
+        @Override
+        public String toString() {
+            return "IndicesDelta [added=" + added.size() + ", removed=" + removed.size() + ", changed=" + changed.size() + "]";
+        }
+
+        static boolean isEquivalent(IndexAbstraction a, IndexAbstraction b) {
+            if (a == b) {
+                return true;
+            }
+
+            if (a.getType() != b.getType()) {
+                return false;
+            }
+
+            if (a instanceof IndexAbstraction.Index) {
+                IndexMetadata aIndexMetadata = a.getWriteIndex();
+                IndexMetadata bIndexMetadata = b.getWriteIndex();
+
+                return aIndexMetadata.getState() == bIndexMetadata.getState()
+                    && Objects.equals(parentDataStreamName(a), parentDataStreamName(b))
+                    && aIndexMetadata.getAliases().keySet().equals(bIndexMetadata.getAliases().keySet());
+            } else {
+                return memberNames(a).equals(memberNames(b));
+            }
+        }
+
+        private static Set<String> memberNames(IndexAbstraction indexAbstraction) {
+            if (indexAbstraction instanceof IndexAbstraction.Index) {
+                return ImmutableSet.of();
+            }
+
+            List<IndexMetadata> members = indexAbstraction.getIndices();
+            Set<String> result = new HashSet<>(members.size());
+
+            for (IndexMetadata member : members) {
+                result.add(member.getIndex().getName());
+            }
+
+            return result;
+        }
+
+        private static String parentDataStreamName(IndexAbstraction indexAbstraction) {
+            return indexAbstraction.getParentDataStream() != null ? indexAbstraction.getParentDataStream().getName() : null;
+        }
+    }
 }
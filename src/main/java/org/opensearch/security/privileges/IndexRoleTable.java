@@ -0,0 +1,252 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A compact, immutable mapping from index names to the roles which provide privileges for an index. This is used by
+ * ActionPrivileges.StatefulIndexPrivileges to store the pre-computed privileges of a single action.
+ * <p>
+ * Index names are represented by integer ids, which are assigned by an IndexIds instance shared by all tables of a
+ * StatefulIndexPrivileges instance. Each table only stores the indices for which roles are present; the ids of these
+ * are kept in a sorted int array and the corresponding role sets in a parallel array. Thus, the size of a table is
+ * proportional to the number of indices for which privileges exist, not to the total number of indices.
+ * <p>
+ * As many actions are granted together (via action groups or patterns), the tables of different actions are often
+ * equal. Tables implement equals() and hashCode() based on their contents; this allows deduplicating them.
+ */
+final class IndexRoleTable {
+
+    /**
+     * The assumed size of an object reference, in bytes. This is the size with compressed oops, which is the default
+     * for heaps smaller than 32 GB.
+     */
+    static final int REFERENCE_BYTE_SIZE = 4;
+
+    private final IndexIds indexIds;
+    private final int[] ids;
+    private final RoleIdDictionary.RoleSet[] roleSets;
+    private final int hashCode;
+
+    private IndexRoleTable(IndexIds indexIds, int[] ids, RoleIdDictionary.RoleSet[] roleSets) {
+        this.indexIds = indexIds;
+        this.ids = ids;
+        this.roleSets = roleSets;
+        this.hashCode = 31 * Arrays.hashCode(ids) + Arrays.hashCode(roleSets);
+    }
+
+    /**
+     * Returns the roles which provide privileges for the given index or null if there are none.
+     */
+    RoleIdDictionary.RoleSet get(String index) {
+        int id = this.indexIds.get(index);
+
+        if (id == -1) {
+            return null;
+        }
+
+        int position = Arrays.binarySearch(this.ids, id);
+
+        return position >= 0 ? this.roleSets[position] : null;
+    }
+
+    /**
+     * Returns the number of indices for which roles are present.
+     */
+    int size() {
+        return this.ids.length;
+    }
+
+    /**
+     * Returns the approximate number of bytes this instance occupies on the heap. This does not include the shared
+     * IndexIds instance and the RoleSet instances, as these are shared between tables.
+     */
+    int getEstimatedByteSize() {
+        return 48 + this.ids.length * (4 + REFERENCE_BYTE_SIZE);
+    }
+
+    RoleIdDictionary.RoleSet[] roleSets() {
+        return this.roleSets;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IndexRoleTable that)) return false;
+        return this.hashCode == that.hashCode
+            && this.indexIds == that.indexIds
+            && Arrays.equals(this.ids, that.ids)
+            && Arrays.equals(this.roleSets, that.roleSets);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    /**
+     * Builds a table from the given grants. Each grant associates a role with a sorted array of index ids; for an
+     * index, the resulting role set is the union of the roles of all grants containing the index.
+     */
+    static IndexRoleTable build(IndexIds indexIds, RoleIdDictionary roleIdDictionary, List<Grant> grants) {
+        int numberOfPairs = 0;
+
+        for (Grant grant : grants) {
+            numberOfPairs += grant.indexIds.length;
+        }
+
+        // Each pair consists of the index id in the upper 32 bits and the role id in the lower 32 bits. Thus, sorting
+        // the pairs groups them by index.
+        long[] pairs = new long[numberOfPairs];
+        int i = 0;
+
+        for (Grant grant : grants) {
+            for (int indexId : grant.indexIds) {
+                pairs[i++] = ((long) indexId << 32) | grant.roleId;
+            }
+        }
+
+        Arrays.sort(pairs);
+
+        int[] ids = new int[numberOfPairs];
+        RoleIdDictionary.RoleSet[] roleSets = new RoleIdDictionary.RoleSet[numberOfPairs];
+        int size = 0;
+        i = 0;
+
+        while (i < numberOfPairs) {
+            int indexId = (int) (pairs[i] >>> 32);
+            RoleIdDictionary.RoleSet.Builder roleSetBuilder = roleIdDictionary.builder();
+
+            for (; i < numberOfPairs && (int) (pairs[i] >>> 32) == indexId; i++) {
+                roleSetBuilder.add((int) pairs[i]);
+            }
+
+            ids[size] = indexId;
+            roleSets[size] = roleSetBuilder.build();
+            size++;
+        }
+
+        return new IndexRoleTable(indexIds, Arrays.copyOf(ids, size), Arrays.copyOf(roleSets, size));
+    }
+
+    /**
+     * A grant of privileges by a role on a set of indices. Instances are compared by identity; a grant which applies
+     * to several actions is shared by these. This allows to recognize actions with equal grants before building
+     * their tables.
+     */
+    static final class Grant {
+        final int roleId;
+        final int[] indexIds;
+
+        Grant(int roleId, int[] indexIds) {
+            this.roleId = roleId;
+            this.indexIds = indexIds;
+        }
+    }
+
+    /**
+     * Assigns dense integer ids to index names. The ids are looked up using an open addressing hash table, which
+     * requires considerably less heap than a HashMap with boxed values.
+     * <p>
+     * Instances of this class are immutable.
+     */
+    static final class IndexIds {
+        private final String[] names;
+        private final int[] slots;
+        private final int mask;
+
+        IndexIds(Collection<String> names) {
+            this.names = names.toArray(new String[0]);
+
+            // The table is kept at most half full; slots contain the id plus one, 0 denotes an empty slot
+            int capacity = Integer.highestOneBit(Math.max(this.names.length, 1) * 2 - 1) << 1;
+            this.slots = new int[capacity];
+            this.mask = capacity - 1;
+
+            for (int id = 0; id < this.names.length; id++) {
+                int slot = spread(this.names[id].hashCode()) & this.mask;
+
+                while (this.slots[slot] != 0) {
+                    slot = (slot + 1) & this.mask;
+                }
+
+                this.slots[slot] = id + 1;
+            }
+        }
+
+        /**
+         * Returns the id of the given index name or -1 if the name is unknown.
+         */
+        int get(String name) {
+            int slot = spread(name.hashCode()) & this.mask;
+
+            for (;;) {
+                int value = this.slots[slot];
+
+                if (value == 0) {
+                    return -1;
+                } else if (this.names[value - 1].equals(name)) {
+                    return value - 1;
+                }
+
+                slot = (slot + 1) & this.mask;
+            }
+        }
+
+        /**
+         * Converts the given index names to a sorted array of distinct ids. Unknown names are ignored.
+         */
+        int[] toSortedIds(Collection<String> names) {
+            int[] result = new int[names.size()];
+            int size = 0;
+
+            for (String name : names) {
+                int id = get(name);
+
+                if (id != -1) {
+                    result[size++] = id;
+                }
+            }
+
+            Arrays.sort(result, 0, size);
+
+            // Remove duplicates; these occur when indices are matched both directly and via an alias
+            int distinct = 0;
+
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || result[distinct - 1] != result[i]) {
+                    result[distinct++] = result[i];
+                }
+            }
+
+            return distinct == result.length ? result : Arrays.copyOf(result, distinct);
+        }
+
+        int size() {
+            return this.names.length;
+        }
+
+        /**
+         * Returns the approximate number of bytes this instance occupies on the heap. The index names are not
+         * included, as these are shared with the cluster state.
+         */
+        int getEstimatedByteSize() {
+            return 64 + this.names.length * REFERENCE_BYTE_SIZE + this.slots.length * 4;
+        }
+
+        private static int spread(int hashCode) {
+            return hashCode ^ (hashCode >>> 16);
+        }
+    }
+}
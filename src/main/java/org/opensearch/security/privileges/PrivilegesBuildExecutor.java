@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+
+/**
+ * Provides a ForkJoinPool for building the pre-computed privilege data structures (ActionPrivileges,
+ * DlsFlsProcessedConfig) in parallel. These data structures are re-built on each configuration update; with large
+ * role configurations, a sequential build can take several seconds, during which the node keeps using the old
+ * configuration.
+ * <p>
+ * One instance is created per node; it is shared by all components of the node and bounded by the configured parallelism.
+ * The instance must be closed when the node shuts down. A ForkJoinPool is used instead of the node's ThreadPool, as
+ * the build tasks wait for nested tasks; in a ForkJoinPool, waiting threads execute the nested tasks themselves instead
+ * of blocking a thread of a bounded pool.
+ * <p>
+ * If the parallelism is 1, or if the pool is already closed, all work is done sequentially on the calling thread.
+ */
+public class PrivilegesBuildExecutor implements Closeable {
+
+    /**
+     * The maximum number of threads used for building the pre-computed privilege data structures. Defaults to the
+     * number of available processors, but not more than 4.
+     */
+    public static Setting<Integer> PARALLELISM = Setting.intSetting(
+        "plugins.security.privileges_evaluation.precomputed_privileges.build_parallelism",
+        Math.min(4, Runtime.getRuntime().availableProcessors()),
+        1,
+        Setting.Property.NodeScope
+    );
+
+    private static final Logger log = LogManager.getLogger(PrivilegesBuildExecutor.class);
+
+    /**
+     * Does all work sequentially on the calling thread.
+     */
+    public static final PrivilegesBuildExecutor SEQUENTIAL = new PrivilegesBuildExecutor(1);
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates an executor according to the given node settings.
+     */
+    public PrivilegesBuildExecutor(Settings settings) {
+        this(PARALLELISM.get(settings));
+    }
+
+    PrivilegesBuildExecutor(int parallelism) {
+        this.pool = parallelism > 1 ? createPool(parallelism) : null;
+    }
+
+    /**
+     * Applies the given function to all items and returns the results in the order of the items. The function is
+     * executed in parallel, if possible. Thus, the function must be thread-safe.
+     */
+    public <T, R> List<R> map(Collection<T> items, Function<T, R> function) {
+        if (pool == null || items.size() < 2) {
+            return mapSequentially(items, function);
+        }
+
+        if (ForkJoinTask.getPool() == pool) {
+            // We are already running in the pool; parallel streams use the pool of the current thread
+            return items.parallelStream().map(function).collect(Collectors.toList());
+        }
+
+        try {
+            return pool.submit(() -> items.parallelStream().map(function).collect(Collectors.toList())).join();
+        } catch (RejectedExecutionException e) {
+            log.debug("Pool is shut down; building sequentially", e);
+            return mapSequentially(items, function);
+        }
+    }
+
+    /**
+     * Starts computing the given task, in parallel if possible. The result is available via the returned supplier,
+     * which waits for the completion of the task if necessary.
+     */
+    public <T> Supplier<T> submit(Supplier<T> task) {
+        if (pool != null) {
+            Callable<T> callable = task::get;
+
+            try {
+                ForkJoinTask<T> forkJoinTask = ForkJoinTask.getPool() == pool ? ForkJoinTask.adapt(callable).fork() : pool.submit(callable);
+                return forkJoinTask::join;
+            } catch (RejectedExecutionException e) {
+                log.debug("Pool is shut down; building sequentially", e);
+            }
+        }
+
+        T result = task.get();
+        return () -> result;
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private static <T, R> List<R> mapSequentially(Collection<T> items, Function<T, R> function) {
+        List<R> result = new ArrayList<>(items.size());
+
+        for (T item : items) {
+            result.add(function.apply(item));
+        }
+
+        return result;
+    }
+
+    private static ForkJoinPool createPool(int parallelism) {
+        AtomicInteger threadCounter = new AtomicInteger();
+
+        return new ForkJoinPool(parallelism, forkJoinPool -> {
+            // The default thread factory creates threads without any permissions if a security manager is present
+            ForkJoinWorkerThread thread = new ForkJoinWorkerThread(forkJoinPool) {
+            };
+            thread.setName("opensearch-security-privileges-build-" + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+}
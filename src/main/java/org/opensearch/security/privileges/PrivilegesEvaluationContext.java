@@ -42,9 +42,12 @@ public class PrivilegesEvaluationContext {
     private Map<String, IndexAbstraction> indicesLookup;
     private final Task task;
     private ImmutableSet<String> mappedRoles;
+    private RoleIdDictionary.RoleSet mappedRoleSet;
+    private RoleIdDictionary mappedRoleSetDictionary;
     private final IndexResolverReplacer indexResolverReplacer;
     private final IndexNameExpressionResolver indexNameExpressionResolver;
     private final Supplier<ClusterState> clusterStateSupplier;
+    private PrivilegesEvaluationTrace trace = PrivilegesEvaluationTrace.DISABLED;
 
     /**
      * This caches the ready to use WildcardMatcher instances for the current request. Many index patterns have
@@ -114,8 +117,10 @@ public class PrivilegesEvaluationContext {
         IndexResolverReplacer.Resolved result = this.resolvedRequest;
 
         if (result == null) {
+            long start = trace.start();
             result = indexResolverReplacer.resolveRequest(request);
             this.resolvedRequest = result;
+            trace.end("index_resolution", start);
         }
 
         return result;
@@ -139,6 +144,33 @@ public class PrivilegesEvaluationContext {
      */
     void setMappedRoles(ImmutableSet<String> mappedRoles) {
         this.mappedRoles = mappedRoles;
+        this.mappedRoleSet = null;
+        this.mappedRoleSetDictionary = null;
+    }
+
+    /**
+     * Returns the mapped roles as RoleSet for the given dictionary. The RoleSet is computed once per request and
+     * dictionary.
+     */
+    RoleIdDictionary.RoleSet getMappedRoleSet(RoleIdDictionary dictionary) {
+        if (this.mappedRoleSetDictionary != dictionary) {
+            this.mappedRoleSet = dictionary.getRoleSet(this.mappedRoles);
+            this.mappedRoleSetDictionary = dictionary;
+        }
+
+        return this.mappedRoleSet;
+    }
+
+    /**
+     * Returns the trace which records the time spent in the stages of the privilege evaluation. If tracing is not
+     * enabled for this request, PrivilegesEvaluationTrace.DISABLED is returned.
+     */
+    public PrivilegesEvaluationTrace getTrace() {
+        return trace;
+    }
+
+    void setTrace(PrivilegesEvaluationTrace trace) {
+        this.trace = trace;
     }
 
     public Supplier<ClusterState> getClusterStateSupplier() {
@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.support.WildcardMatcher;
+import org.opensearch.security.user.User;
+
+/**
+ * Records the time spent in the stages of the privilege evaluation of a single request. This allows diagnosing slow
+ * authorization without attaching a profiler.
+ * <p>
+ * Tracing is opt-in: it is enabled for the users listed in the setting plugins.security.privileges_evaluation.trace.users
+ * and, if plugins.security.privileges_evaluation.trace.header_enabled is true, for requests carrying the HTTP header
+ * X-Security-Authz-Trace: true. For all other requests, the DISABLED instance is used, whose methods do not do anything.
+ * <p>
+ * The recorded timings are returned to the client in the response header X-Security-Authz-Trace.
+ * <p>
+ * Like PrivilegesEvaluationContext, instances of this class are request-scoped and not thread-safe.
+ */
+public class PrivilegesEvaluationTrace {
+
+    /**
+     * The name of the header which enables tracing for a request and which carries the timings in the response.
+     */
+    public static final String HEADER = "X-Security-Authz-Trace";
+
+    /**
+     * Users for which the privilege evaluation is always traced. Supports patterns.
+     */
+    public static final Setting<List<String>> USERS = Setting.listSetting(
+        "plugins.security.privileges_evaluation.trace.users",
+        Collections.emptyList(),
+        Function.identity(),
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * If true, the privilege evaluation of a request is traced if the request carries the header
+     * X-Security-Authz-Trace: true. Defaults to false.
+     */
+    public static final Setting<Boolean> HEADER_ENABLED = Setting.boolSetting(
+        "plugins.security.privileges_evaluation.trace.header_enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    public static final PrivilegesEvaluationTrace DISABLED = new PrivilegesEvaluationTrace(false);
+
+    private final boolean enabled;
+    private final Map<String, Long> stageNanos;
+
+    private PrivilegesEvaluationTrace(boolean enabled) {
+        this.enabled = enabled;
+        this.stageNanos = enabled ? new LinkedHashMap<>() : Collections.emptyMap();
+    }
+
+    /**
+     * Returns the point in time at which a stage starts. Pass the value to end() when the stage is complete.
+     */
+    public long start() {
+        return this.enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time elapsed since the given start time for the given stage. If a stage is recorded several times,
+     * the times are added up.
+     */
+    public void end(String stage, long start) {
+        if (this.enabled) {
+            this.stageNanos.merge(stage, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the recorded stages with their time in nanoseconds, in the order in which they were recorded.
+     */
+    public Map<String, Long> getStageNanos() {
+        return Collections.unmodifiableMap(this.stageNanos);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+
+        for (Map.Entry<String, Long> entry : this.stageNanos.entrySet()) {
+            if (result.length() != 0) {
+                result.append(", ");
+            }
+
+            result.append(entry.getKey()).append('=').append(entry.getValue()).append("ns");
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Decides, based on the node settings, whether the privilege evaluation of a request is traced.
+     */
+    public static class Factory {
+        private final WildcardMatcher users;
+        private final boolean headerEnabled;
+
+        public Factory(Settings settings) {
+            this.users = WildcardMatcher.from(USERS.get(settings));
+            this.headerEnabled = HEADER_ENABLED.get(settings);
+        }
+
+        public PrivilegesEvaluationTrace create(User user, ThreadContext threadContext) {
+            if (this.users != WildcardMatcher.NONE && user != null && this.users.test(user.getName())) {
+                return new PrivilegesEvaluationTrace(true);
+            }
+
+            if (this.headerEnabled && "true".equalsIgnoreCase(threadContext.getHeader(HEADER))) {
+                return new PrivilegesEvaluationTrace(true);
+            }
+
+            return DISABLED;
+        }
+    }
+}
@@ -102,6 +102,7 @@ import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v7.ActionGroupsV7;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
 import org.opensearch.tasks.Task;
@@ -156,7 +157,12 @@ public class PrivilegesEvaluator {
     private final NamedXContentRegistry namedXContentRegistry;
     private final Settings settings;
     private final Map<String, Set<String>> pluginToClusterActions;
+    private final PrivilegesBuildExecutor buildExecutor;
     private final AtomicReference<ActionPrivileges> actionPrivileges = new AtomicReference<>();
+    private final PrivilegesEvaluationTrace.Factory traceFactory;
+    private final SecurityMetrics.Histogram evaluationTime;
+    private final SecurityMetrics.Counter allowed;
+    private final SecurityMetrics.Counter denied;
 
     public PrivilegesEvaluator(
         final ClusterService clusterService,
@@ -170,7 +176,9 @@ public class PrivilegesEvaluator {
         final PrivilegesInterceptor privilegesInterceptor,
         final ClusterInfoHolder clusterInfoHolder,
         final IndexResolverReplacer irr,
-        NamedXContentRegistry namedXContentRegistry
+        NamedXContentRegistry namedXContentRegistry,
+        PrivilegesBuildExecutor buildExecutor,
+        SecurityMetrics metrics
     ) {
 
         super();
@@ -182,6 +190,7 @@ public class PrivilegesEvaluator {
         this.pluginToClusterActions = new HashMap<>();
         this.clusterStateSupplier = clusterStateSupplier;
         this.settings = settings;
+        this.buildExecutor = buildExecutor;
 
         this.checkSnapshotRestoreWritePrivileges = settings.getAsBoolean(
             ConfigConstants.SECURITY_CHECK_SNAPSHOT_RESTORE_WRITE_PRIVILEGES,
@@ -197,6 +206,10 @@ public class PrivilegesEvaluator {
         pitPrivilegesEvaluator = new PitPrivilegesEvaluator();
         this.namedXContentRegistry = namedXContentRegistry;
         this.configurationRepository = configurationRepository;
+        this.traceFactory = new PrivilegesEvaluationTrace.Factory(settings);
+        this.evaluationTime = metrics.histogram("privileges_evaluation");
+        this.allowed = metrics.counter("privileges_evaluation.allowed");
+        this.denied = metrics.counter("privileges_evaluation.denied");
 
         if (configurationRepository != null) {
             configurationRepository.subscribeOnChange(configMap -> {
@@ -238,7 +251,11 @@ public class PrivilegesEvaluator {
                 flattenedActionGroups,
                 () -> clusterStateSupplier.get().metadata().getIndicesLookup(),
                 settings,
-                pluginToClusterActions
+                WellKnownActions.CLUSTER_ACTIONS,
+                WellKnownActions.INDEX_ACTIONS,
+                WellKnownActions.EXPLICITLY_REQUIRED_INDEX_ACTIONS,
+                pluginToClusterActions,
+                buildExecutor
             );
             Metadata metadata = clusterStateSupplier.get().metadata();
             actionPrivileges.updateStatefulIndexPrivileges(metadata.getIndicesLookup(), metadata.version());
@@ -247,6 +264,10 @@ public class PrivilegesEvaluator {
             if (oldInstance != null) {
                 oldInstance.shutdown();
             }
+
+            if (configurationRepository != null) {
+                configurationRepository.recordBuildTimes(actionPrivileges.getBuildTimes());
+            }
         }
     }
 
@@ -304,10 +325,26 @@ public class PrivilegesEvaluator {
             throw new OpenSearchSecurityException("OpenSearch Security is not initialized.");
         }
 
+        PrivilegesEvaluationTrace trace = traceFactory.create(user, threadContext);
+        long start = trace.start();
+
         TransportAddress caller = threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_REMOTE_ADDRESS);
         ImmutableSet<String> mappedRoles = ImmutableSet.copyOf((injectedRoles == null) ? mapRoles(user, caller) : injectedRoles);
 
-        return new PrivilegesEvaluationContext(user, mappedRoles, action0, request, task, irr, resolver, clusterStateSupplier);
+        trace.end("role_mapping", start);
+
+        PrivilegesEvaluationContext context = new PrivilegesEvaluationContext(
+            user,
+            mappedRoles,
+            action0,
+            request,
+            task,
+            irr,
+            resolver,
+            clusterStateSupplier
+        );
+        context.setTrace(trace);
+        return context;
     }
 
     public PrivilegesEvaluatorResponse evaluate(PrivilegesEvaluationContext context) {
@@ -316,6 +353,21 @@ public class PrivilegesEvaluator {
             throw new OpenSearchSecurityException("OpenSearch Security is not initialized.");
         }
 
+        PrivilegesEvaluationTrace trace = context.getTrace();
+        long start = System.nanoTime();
+
+        try {
+            PrivilegesEvaluatorResponse response = evaluate(context, trace);
+            (response.isAllowed() ? allowed : denied).increment();
+            return response;
+        } finally {
+            evaluationTime.recordSince(start);
+            trace.end("privileges_evaluation", start);
+        }
+    }
+
+    private PrivilegesEvaluatorResponse evaluate(PrivilegesEvaluationContext context, PrivilegesEvaluationTrace trace) {
+
         String action0 = context.getAction();
         ImmutableSet<String> mappedRoles = context.getMappedRoles();
         User user = context.getUser();
@@ -375,7 +427,9 @@ public class PrivilegesEvaluator {
             // No further access check for the default tenant is necessary, as access will be also checked on the TransportShardBulkAction
             // level.
 
+            long start = trace.start();
             presponse = actionPrivileges.hasClusterPrivilege(context, action0);
+            trace.end("cluster_privileges", start);
 
             if (!presponse.allowed) {
                 log.info(
@@ -396,23 +450,47 @@ public class PrivilegesEvaluator {
         }
 
         // check snapshot/restore requests
-        if (snapshotRestoreEvaluator.evaluate(request, task, action0, clusterInfoHolder, presponse).isComplete()) {
+        long start = trace.start();
+        boolean complete = snapshotRestoreEvaluator.evaluate(request, task, action0, clusterInfoHolder, presponse).isComplete();
+        trace.end("snapshot_restore", start);
+
+        if (complete) {
             return presponse;
         }
 
         // Security index access
-        if (systemIndexAccessEvaluator.evaluate(request, task, action0, requestedResolved, presponse, context, actionPrivileges, user)
-            .isComplete()) {
+        start = trace.start();
+        complete = systemIndexAccessEvaluator.evaluate(
+            request,
+            task,
+            action0,
+            requestedResolved,
+            presponse,
+            context,
+            actionPrivileges,
+            user
+        ).isComplete();
+        trace.end("system_index_access", start);
+
+        if (complete) {
             return presponse;
         }
 
         // Protected index access
-        if (protectedIndexAccessEvaluator.evaluate(request, task, action0, requestedResolved, presponse, mappedRoles).isComplete()) {
+        start = trace.start();
+        complete = protectedIndexAccessEvaluator.evaluate(request, task, action0, requestedResolved, presponse, mappedRoles).isComplete();
+        trace.end("protected_index_access", start);
+
+        if (complete) {
             return presponse;
         }
 
         // check access for point in time requests
-        if (pitPrivilegesEvaluator.evaluate(request, context, actionPrivileges, action0, presponse, irr).isComplete()) {
+        start = trace.start();
+        complete = pitPrivilegesEvaluator.evaluate(request, context, actionPrivileges, action0, presponse, irr).isComplete();
+        trace.end("pit", start);
+
+        if (complete) {
             return presponse;
         }
 
@@ -430,7 +508,9 @@ public class PrivilegesEvaluator {
                 return PrivilegesEvaluatorResponse.insufficient(action0);
             }
 
+            start = trace.start();
             presponse = actionPrivileges.hasClusterPrivilege(context, action0);
+            trace.end("cluster_privileges", start);
 
             if (!presponse.allowed) {
                 log.info(
@@ -451,6 +531,7 @@ public class PrivilegesEvaluator {
                 } else {
                     if (privilegesInterceptor.getClass() != PrivilegesInterceptor.class) {
 
+                        start = trace.start();
                         final PrivilegesInterceptor.ReplaceResult replaceResult = privilegesInterceptor.replaceDashboardsIndex(
                             request,
                             action0,
@@ -459,6 +540,7 @@ public class PrivilegesEvaluator {
                             requestedResolved,
                             mapTenants(user, mappedRoles)
                         );
+                        trace.end("privileges_interceptor", start);
 
                         if (isDebugEnabled) {
                             log.debug("Result from privileges interceptor for cluster perm: {}", replaceResult);
@@ -490,7 +572,11 @@ public class PrivilegesEvaluator {
         }
 
         // term aggregations
-        if (termsAggregationEvaluator.evaluate(requestedResolved, request, context, actionPrivileges, presponse).isComplete()) {
+        start = trace.start();
+        complete = termsAggregationEvaluator.evaluate(requestedResolved, request, context, actionPrivileges, presponse).isComplete();
+        trace.end("terms_aggregation", start);
+
+        if (complete) {
             return presponse;
         }
 
@@ -513,6 +599,7 @@ public class PrivilegesEvaluator {
 
         if (privilegesInterceptor.getClass() != PrivilegesInterceptor.class) {
 
+            start = trace.start();
             final PrivilegesInterceptor.ReplaceResult replaceResult = privilegesInterceptor.replaceDashboardsIndex(
                 request,
                 action0,
@@ -521,6 +608,7 @@ public class PrivilegesEvaluator {
                 requestedResolved,
                 mapTenants(user, mappedRoles)
             );
+            trace.end("privileges_interceptor", start);
 
             if (isDebugEnabled) {
                 log.debug("Result from privileges interceptor: {}", replaceResult);
@@ -540,7 +628,9 @@ public class PrivilegesEvaluator {
 
         boolean dnfofPossible = dnfofEnabled && DNFOF_MATCHER.test(action0);
 
+        start = trace.start();
         presponse = actionPrivileges.hasIndexPrivilege(context, allIndexPermsRequired, requestedResolved);
+        trace.end("index_privileges", start);
 
         if (presponse.isPartiallyOk()) {
             if (dnfofPossible) {
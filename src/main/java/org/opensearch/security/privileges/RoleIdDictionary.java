@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Assigns dense integer ids to the role names of a role configuration. This allows to represent sets of roles as
+ * bitsets (see RoleSet); checking whether two role sets intersect then boils down to a few word-wise AND operations,
+ * independent of the number of roles in the sets.
+ * <p>
+ * An instance of this class is created together with each ActionPrivileges instance, i.e., it is re-built whenever the
+ * role configuration changes. RoleSet instances are only comparable if they were created by the same dictionary.
+ * <p>
+ * Instances of this class are thread-safe.
+ */
+public class RoleIdDictionary {
+
+    /**
+     * The maximum number of distinct mapped role sets for which the RoleSet is kept in the cache. Usually, there are
+     * by magnitudes fewer distinct mapped role sets than users.
+     */
+    static final int MAPPED_ROLES_CACHE_MAX_SIZE = 1000;
+
+    private final ImmutableMap<String, Integer> roleToId;
+    private final ImmutableList<String> idToRole;
+    private final int numberOfWords;
+    private final Interner<RoleSet> interner = Interners.newWeakInterner();
+    private final Cache<ImmutableSet<String>, RoleSet> mappedRolesCache = CacheBuilder.newBuilder()
+        .maximumSize(MAPPED_ROLES_CACHE_MAX_SIZE)
+        .build();
+
+    public RoleIdDictionary(Collection<String> roleNames) {
+        ImmutableMap.Builder<String, Integer> roleToId = ImmutableMap.builder();
+        ImmutableList.Builder<String> idToRole = ImmutableList.builder();
+        int id = 0;
+
+        for (String roleName : ImmutableSet.copyOf(roleNames)) {
+            roleToId.put(roleName, id++);
+            idToRole.add(roleName);
+        }
+
+        this.roleToId = roleToId.build();
+        this.idToRole = idToRole.build();
+        this.numberOfWords = (id + 63) >>> 6;
+    }
+
+    /**
+     * Returns the interned RoleSet for the given mapped roles. Role names which are not part of the role
+     * configuration are ignored, as these cannot provide any privileges.
+     */
+    public RoleSet getRoleSet(ImmutableSet<String> mappedRoles) {
+        if (mappedRoles.isEmpty()) {
+            return RoleSet.EMPTY;
+        }
+
+        try {
+            return this.mappedRolesCache.get(mappedRoles, () -> toRoleSet(mappedRoles));
+        } catch (ExecutionException e) {
+            // toRoleSet() does not throw checked exceptions
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Converts the given role names to an interned RoleSet. Role names which are not part of the role configuration
+     * are ignored.
+     */
+    public RoleSet toRoleSet(Collection<String> roleNames) {
+        RoleSet.Builder builder = builder();
+
+        for (String roleName : roleNames) {
+            builder.add(roleName);
+        }
+
+        return builder.build();
+    }
+
+    public RoleSet.Builder builder() {
+        return new RoleSet.Builder(this);
+    }
+
+    /**
+     * Returns the id of the role with the given name or -1 if the role is not part of the role configuration.
+     */
+    public int getRoleId(String roleName) {
+        Integer id = this.roleToId.get(roleName);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Returns the role name for the given id.
+     */
+    public String getRoleName(int id) {
+        return this.idToRole.get(id);
+    }
+
+    public int size() {
+        return this.idToRole.size();
+    }
+
+    /**
+     * An immutable set of roles, represented as bitset of role ids. Instances are created by RoleIdDictionary.
+     */
+    public static final class RoleSet {
+        static final RoleSet EMPTY = new RoleSet(new long[0]);
+
+        private final long[] words;
+        private final int hashCode;
+
+        private RoleSet(long[] words) {
+            this.words = words;
+            this.hashCode = Arrays.hashCode(words);
+        }
+
+        /**
+         * Returns true if this set and the given set have at least one role in common.
+         */
+        public boolean intersects(RoleSet other) {
+            long[] a = this.words;
+            long[] b = other.words;
+            int n = Math.min(a.length, b.length);
+
+            for (int i = 0; i < n; i++) {
+                if ((a[i] & b[i]) != 0) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        public boolean contains(int id) {
+            int word = id >>> 6;
+            return word < this.words.length && (this.words[word] & (1L << id)) != 0;
+        }
+
+        public boolean isEmpty() {
+            return this.words.length == 0;
+        }
+
+        public int size() {
+            int result = 0;
+
+            for (long word : this.words) {
+                result += Long.bitCount(word);
+            }
+
+            return result;
+        }
+
+        /**
+         * Returns the approximate number of bytes this instance occupies on the heap.
+         */
+        int getEstimatedByteSize() {
+            return 32 + this.words.length * 8;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RoleSet that)) return false;
+            return this.hashCode == that.hashCode && Arrays.equals(this.words, that.words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return "RoleSet{size=" + size() + "}";
+        }
+
+        public static final class Builder {
+            private final RoleIdDictionary dictionary;
+            private final long[] words;
+
+            private Builder(RoleIdDictionary dictionary) {
+                this.dictionary = dictionary;
+                this.words = new long[dictionary.numberOfWords];
+            }
+
+            /**
+             * Adds the role with the given name. Role names which are not part of the dictionary are ignored.
+             */
+            public Builder add(String roleName) {
+                Integer id = this.dictionary.roleToId.get(roleName);
+
+                if (id != null) {
+                    this.words[id >>> 6] |= 1L << id;
+                }
+
+                return this;
+            }
+
+            /**
+             * Adds the role with the given id, as returned by RoleIdDictionary.getRoleId().
+             */
+            public Builder add(int roleId) {
+                this.words[roleId >>> 6] |= 1L << roleId;
+                return this;
+            }
+
+            public Builder addAll(RoleSet roleSet) {
+                for (int i = 0; i < roleSet.words.length; i++) {
+                    this.words[i] |= roleSet.words[i];
+                }
+
+                return this;
+            }
+
+            /**
+             * Returns an interned RoleSet; equal role sets created by the same dictionary share the same instance.
+             */
+            public RoleSet build() {
+                int length = this.words.length;
+
+                // Trailing empty words are trimmed; this keeps sets of low role ids small
+                while (length > 0 && this.words[length - 1] == 0) {
+                    length--;
+                }
+
+                if (length == 0) {
+                    return EMPTY;
+                }
+
+                return this.dictionary.interner.intern(new RoleSet(Arrays.copyOf(this.words, length)));
+            }
+        }
+    }
+}
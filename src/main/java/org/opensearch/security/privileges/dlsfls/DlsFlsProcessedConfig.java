@@ -11,6 +11,10 @@
 package org.opensearch.security.privileges.dlsfls;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.google.common.collect.ImmutableMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -20,8 +24,10 @@ import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.security.privileges.ClusterStateMetadataDependentPrivileges;
+import org.opensearch.security.privileges.PrivilegesBuildExecutor;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
+import org.opensearch.security.support.SecurityMetrics;
 
 /**
  * Encapsulates the processed DLS/FLS configuration from roles.yml.
@@ -33,6 +39,7 @@ public class DlsFlsProcessedConfig extends ClusterStateMetadataDependentPrivileg
     private final DocumentPrivileges documentPrivileges;
     private final FieldPrivileges fieldPrivileges;
     private final FieldMasking fieldMasking;
+    private final ImmutableMap<String, Long> buildTimes;
     private long metadataVersionEffective = -1;
 
     public DlsFlsProcessedConfig(
@@ -40,11 +47,30 @@ public class DlsFlsProcessedConfig extends ClusterStateMetadataDependentPrivileg
         Map<String, IndexAbstraction> indexMetadata,
         NamedXContentRegistry xContentRegistry,
         Settings settings,
-        FieldMasking.Config fieldMaskingConfig
+        FieldMasking.Config fieldMaskingConfig,
+        PrivilegesBuildExecutor buildExecutor,
+        SecurityMetrics metrics
     ) {
-        this.documentPrivileges = new DocumentPrivileges(rolesConfiguration, indexMetadata, xContentRegistry, settings);
-        this.fieldPrivileges = new FieldPrivileges(rolesConfiguration, indexMetadata, settings);
-        this.fieldMasking = new FieldMasking(rolesConfiguration, indexMetadata, fieldMaskingConfig, settings);
+        // The three components are independent of each other; thus, they can be built concurrently
+        Map<String, Long> buildTimes = new ConcurrentHashMap<>();
+        Supplier<DocumentPrivileges> documentPrivileges = buildExecutor.submit(
+            timed(
+                "dls_fls.document",
+                buildTimes,
+                () -> new DocumentPrivileges(rolesConfiguration, indexMetadata, xContentRegistry, settings, metrics)
+            )
+        );
+        Supplier<FieldPrivileges> fieldPrivileges = buildExecutor.submit(
+            timed("dls_fls.field", buildTimes, () -> new FieldPrivileges(rolesConfiguration, indexMetadata, settings))
+        );
+        this.fieldMasking = timed(
+            "dls_fls.field_masking",
+            buildTimes,
+            () -> new FieldMasking(rolesConfiguration, indexMetadata, fieldMaskingConfig, settings)
+        ).get();
+        this.documentPrivileges = documentPrivileges.get();
+        this.fieldPrivileges = fieldPrivileges.get();
+        this.buildTimes = ImmutableMap.copyOf(buildTimes);
     }
 
     public DocumentPrivileges getDocumentPrivileges() {
@@ -59,6 +85,13 @@ public class DlsFlsProcessedConfig extends ClusterStateMetadataDependentPrivileg
         return this.fieldMasking;
     }
 
+    /**
+     * Returns the time in nanoseconds which was needed to build the components of this instance.
+     */
+    public Map<String, Long> getBuildTimes() {
+        return this.buildTimes;
+    }
+
     @Override
     protected void updateClusterStateMetadata(Metadata metadata) {
         long start = System.currentTimeMillis();
@@ -78,4 +111,13 @@ public class DlsFlsProcessedConfig extends ClusterStateMetadataDependentPrivileg
     protected long getCurrentlyUsedMetadataVersion() {
         return this.metadataVersionEffective;
     }
+
+    private static <T> Supplier<T> timed(String component, Map<String, Long> buildTimes, Supplier<T> supplier) {
+        return () -> {
+            long start = System.nanoTime();
+            T result = supplier.get();
+            buildTimes.put(component, System.nanoTime() - start);
+            return result;
+        };
+    }
 }
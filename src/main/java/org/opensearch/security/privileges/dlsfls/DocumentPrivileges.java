@@ -16,9 +16,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.logging.log4j.util.Strings;
 
 import org.opensearch.cluster.metadata.IndexAbstraction;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.xcontent.DeprecationHandler;
@@ -33,6 +36,7 @@ import org.opensearch.security.privileges.PrivilegesEvaluationException;
 import org.opensearch.security.privileges.UserAttributes;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
+import org.opensearch.security.support.SecurityMetrics;
 
 /**
  * This class converts role configuration into pre-computed, optimized data structures for checking DLS privileges.
@@ -45,6 +49,20 @@ import org.opensearch.security.securityconf.impl.v7.RoleV7;
  */
 public class DocumentPrivileges extends AbstractRuleBasedPrivileges<DocumentPrivileges.DlsQuery, DlsRestriction> {
 
+    /**
+     * This setting controls the maximum number of entries in the cache for DLS queries with user attribute references
+     * (see RenderedQueryCache). The cache lives as long as the role configuration; thus, it is cleared whenever the
+     * role configuration changes. Setting this to 0 disables the cache.
+     * <p>
+     * This setting defaults to 10,000 entries.
+     */
+    public static Setting<Integer> RENDERED_QUERY_CACHE_MAX_SIZE = Setting.intSetting(
+        "plugins.security.dls.rendered_query_cache.max_size",
+        10_000,
+        0,
+        Setting.Property.NodeScope
+    );
+
     private final NamedXContentRegistry xContentRegistry;
 
     public DocumentPrivileges(
@@ -53,16 +71,39 @@ public class DocumentPrivileges extends AbstractRuleBasedPrivileges<DocumentPriv
         NamedXContentRegistry xContentRegistry,
         Settings settings
     ) {
-        super(roles, indexMetadata, (rolePermissions) -> roleToRule(rolePermissions, xContentRegistry), settings);
+        this(roles, indexMetadata, xContentRegistry, settings, new SecurityMetrics());
+    }
+
+    public DocumentPrivileges(
+        SecurityDynamicConfiguration<RoleV7> roles,
+        Map<String, IndexAbstraction> indexMetadata,
+        NamedXContentRegistry xContentRegistry,
+        Settings settings,
+        SecurityMetrics metrics
+    ) {
+        this(roles, indexMetadata, xContentRegistry, settings, RenderedQueryCache.create(settings, metrics));
+    }
+
+    private DocumentPrivileges(
+        SecurityDynamicConfiguration<RoleV7> roles,
+        Map<String, IndexAbstraction> indexMetadata,
+        NamedXContentRegistry xContentRegistry,
+        Settings settings,
+        RenderedQueryCache renderedQueryCache
+    ) {
+        super(roles, indexMetadata, (rolePermissions) -> roleToRule(rolePermissions, xContentRegistry, renderedQueryCache), settings);
         this.xContentRegistry = xContentRegistry;
     }
 
-    static DlsQuery roleToRule(RoleV7.Index rolePermissions, NamedXContentRegistry xContentRegistry)
-        throws PrivilegesConfigurationValidationException {
+    static DlsQuery roleToRule(
+        RoleV7.Index rolePermissions,
+        NamedXContentRegistry xContentRegistry,
+        RenderedQueryCache renderedQueryCache
+    ) throws PrivilegesConfigurationValidationException {
         String dlsQueryTemplate = rolePermissions.getDls();
 
         if (dlsQueryTemplate != null && !Strings.isBlank(dlsQueryTemplate)) {
-            return DlsQuery.create(dlsQueryTemplate, xContentRegistry);
+            return DlsQuery.create(dlsQueryTemplate, xContentRegistry, renderedQueryCache);
         } else {
             return null;
         }
@@ -133,9 +174,14 @@ public class DocumentPrivileges extends AbstractRuleBasedPrivileges<DocumentPriv
         }
 
         static DlsQuery create(String queryString, NamedXContentRegistry xContentRegistry)
+            throws PrivilegesConfigurationValidationException {
+            return create(queryString, xContentRegistry, null);
+        }
+
+        static DlsQuery create(String queryString, NamedXContentRegistry xContentRegistry, RenderedQueryCache renderedQueryCache)
             throws PrivilegesConfigurationValidationException {
             if (queryString.contains("${")) {
-                return new DlsQuery.Dynamic(queryString, xContentRegistry);
+                return new DlsQuery.Dynamic(queryString, xContentRegistry, renderedQueryCache);
             } else {
                 return new DlsQuery.Constant(queryString, xContentRegistry);
             }
@@ -162,27 +208,98 @@ public class DocumentPrivileges extends AbstractRuleBasedPrivileges<DocumentPriv
         /**
          * Represents a DLS query with user attribute references like "${user.name}". These queries are parsed
          * during privilege evaluation time, after user attribute interpolation has been performed.
+         * <p>
+         * If a RenderedQueryCache is available, the parsed queries are re-used for all requests which render to the
+         * same query string.
          */
         static class Dynamic extends DlsQuery {
             private final NamedXContentRegistry xContentRegistry;
+            private final RenderedQueryCache renderedQueryCache;
 
-            Dynamic(String queryString, NamedXContentRegistry xContentRegistry) {
+            Dynamic(String queryString, NamedXContentRegistry xContentRegistry, RenderedQueryCache renderedQueryCache) {
                 super(queryString);
                 this.xContentRegistry = xContentRegistry;
+                this.renderedQueryCache = renderedQueryCache;
             }
 
             @Override
             RenderedDlsQuery evaluate(PrivilegesEvaluationContext context) throws PrivilegesEvaluationException {
                 String effectiveQueryString = UserAttributes.replaceProperties(this.queryString, context);
+
+                if (renderedQueryCache != null) {
+                    RenderedDlsQuery cached = renderedQueryCache.get(effectiveQueryString);
+
+                    if (cached != null) {
+                        return cached;
+                    }
+                }
+
+                RenderedDlsQuery result;
+
                 try {
-                    return new RenderedDlsQuery(parseQuery(effectiveQueryString, xContentRegistry), effectiveQueryString);
+                    result = new RenderedDlsQuery(parseQuery(effectiveQueryString, xContentRegistry), effectiveQueryString);
                 } catch (Exception e) {
                     throw new PrivilegesEvaluationException("Invalid DLS query: " + effectiveQueryString, e);
                 }
+
+                if (renderedQueryCache != null) {
+                    renderedQueryCache.put(effectiveQueryString, result);
+                }
+
+                return result;
             }
         }
     }
 
+    /**
+     * Caches parsed DLS queries by their rendered source, i.e., by the query string which results from interpolating
+     * the user attributes into a DLS query template. The rendered source is an exact fingerprint of the template and
+     * the values of the attributes referenced by the template; thus, users with the same attribute values share cache
+     * entries. Queries which could not be parsed are not cached.
+     * <p>
+     * Parsed QueryBuilder instances are not modified after parsing; this is also relied on by DlsQuery.Constant, which
+     * shares one instance for all requests.
+     * <p>
+     * There is one instance of this class per DocumentPrivileges instance. Thus, the cache is discarded when the role
+     * configuration changes.
+     */
+    static class RenderedQueryCache {
+        static RenderedQueryCache create(Settings settings, SecurityMetrics metrics) {
+            int maxSize = RENDERED_QUERY_CACHE_MAX_SIZE.get(settings);
+            return maxSize > 0 ? new RenderedQueryCache(maxSize, metrics) : null;
+        }
+
+        private final Cache<String, RenderedDlsQuery> cache;
+        private final SecurityMetrics.Counter hits;
+        private final SecurityMetrics.Counter misses;
+
+        RenderedQueryCache(int maxSize, SecurityMetrics metrics) {
+            this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+            this.hits = metrics.counter("dls.rendered_query_cache.hits");
+            this.misses = metrics.counter("dls.rendered_query_cache.misses");
+        }
+
+        RenderedDlsQuery get(String renderedSource) {
+            RenderedDlsQuery result = cache.getIfPresent(renderedSource);
+
+            if (result != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+
+            return result;
+        }
+
+        void put(String renderedSource, RenderedDlsQuery query) {
+            cache.put(renderedSource, query);
+        }
+
+        long size() {
+            return cache.size();
+        }
+    }
+
     /**
      * This is a DLS query where any templates (like ${user.name}) have been interpolated and which has been
      * successfully parsed to a QueryBuilder instance.
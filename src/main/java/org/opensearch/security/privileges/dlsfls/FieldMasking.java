@@ -14,7 +14,9 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -22,6 +24,8 @@ import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.lucene.util.BytesRef;
@@ -121,6 +125,23 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
 
         public abstract List<String> getSource();
 
+        /**
+         * Two rules are equal if they consist of the same masking expressions in the same order; all allow-all rules
+         * are equal.
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FieldMaskingRule that)) return false;
+            if (this.isAllowAll() || that.isAllowAll()) return this.isAllowAll() == that.isAllowAll();
+            return this.getSource().equals(that.getSource());
+        }
+
+        @Override
+        public int hashCode() {
+            return isAllowAll() ? 0 : getSource().hashCode();
+        }
+
         /**
          * A rule which was derived directly from exactly one role.
          */
@@ -228,6 +249,10 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
         /**
          * Represents a single field that is supposed to be masked. Combines a single expression with the global
          * configuration.
+         * <p>
+         * Masked values only depend on the input value and the configuration. As the cardinality of masked fields is
+         * often low, instances can optionally keep a bounded cache of recently masked values. The cache size is
+         * configured by the setting plugins.security.masked_fields.cache_size; it is disabled by default.
          */
         public static class Field {
             private final FieldMaskingExpression expression;
@@ -237,6 +262,12 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
             private final byte[] saltBytes;
             private final boolean useLegacyDefaultAlgorithm;
 
+            /**
+             * Maps input values to masked values. The keys are either String or BytesRef instances; the values are
+             * String instances for String keys and byte[] instances for BytesRef keys. Null if caching is disabled.
+             */
+            private final Cache<Object, Object> cache;
+
             Field(FieldMaskingExpression expression, FieldMasking.Config fieldMaskingConfig) {
                 this.expression = expression;
                 this.hashAlgorithm = expression.getAlgoName() != null ? expression.getAlgoName()
@@ -245,6 +276,9 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
                 this.useLegacyDefaultAlgorithm = fieldMaskingConfig.useLegacyDefaultAlgorithm();
                 this.salt = fieldMaskingConfig.getSalt();
                 this.saltBytes = this.salt.getSalt16();
+                this.cache = fieldMaskingConfig.getCacheSize() > 0
+                    ? CacheBuilder.newBuilder().maximumSize(fieldMaskingConfig.getCacheSize()).build()
+                    : null;
             }
 
             public WildcardMatcher getPattern() {
@@ -252,19 +286,22 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
             }
 
             public byte[] apply(byte[] value) {
-                if (expression.getRegexReplacements() != null) {
-                    return applyRegexReplacements(value, expression.getRegexReplacements());
-                } else if (this.useLegacyDefaultAlgorithm) {
-                    return blake2bHash(value, true);
-                } else if (this.hashAlgorithm != null) {
-                    return customHash(value, this.hashAlgorithm);
-                } else {
-                    return blake2bHash(value, false);
-                }
+                return apply(value, 0, value.length);
             }
 
             public String apply(String value) {
-                return new String(apply(value.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+                if (cache == null) {
+                    return applyUncached(value);
+                }
+
+                String result = (String) cache.getIfPresent(value);
+
+                if (result == null) {
+                    result = applyUncached(value);
+                    cache.put(value, result);
+                }
+
+                return result;
             }
 
             public BytesRef apply(BytesRef value) {
@@ -272,7 +309,20 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
                     return null;
                 }
 
-                return new BytesRef(apply(BytesRef.deepCopyOf(value).bytes));
+                if (cache == null) {
+                    return new BytesRef(apply(value.bytes, value.offset, value.length));
+                }
+
+                byte[] result = (byte[]) cache.getIfPresent(value);
+
+                if (result == null) {
+                    result = apply(value.bytes, value.offset, value.length);
+                    // The BytesRef instance might be re-used by the caller; thus, we need to copy it for the cache
+                    cache.put(BytesRef.deepCopyOf(value), result);
+                }
+
+                // The cached array is shared; BytesRef consumers must not modify the referenced bytes
+                return new BytesRef(result);
             }
 
             @Override
@@ -288,31 +338,47 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
                 return expression;
             }
 
-            private static byte[] customHash(byte[] in, String algorithm) {
-                try {
-                    MessageDigest digest = MessageDigest.getInstance(algorithm);
-                    return Hex.encode(digest.digest(in));
-                } catch (NoSuchAlgorithmException e) {
-                    throw new IllegalArgumentException(e);
+            long getCacheSize() {
+                return cache != null ? cache.size() : 0;
+            }
+
+            private String applyUncached(String value) {
+                if (expression.getRegexReplacements() != null) {
+                    return applyRegexReplacements(value, expression.getRegexReplacements());
+                } else {
+                    return new String(apply(value.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
                 }
             }
 
-            private byte[] applyRegexReplacements(byte[] value, List<FieldMaskingExpression.RegexReplacement> regexReplacements) {
-                String string = new String(value, StandardCharsets.UTF_8);
+            private byte[] apply(byte[] value, int offset, int length) {
+                if (expression.getRegexReplacements() != null) {
+                    String string = new String(value, offset, length, StandardCharsets.UTF_8);
+                    return applyRegexReplacements(string, expression.getRegexReplacements()).getBytes(StandardCharsets.UTF_8);
+                } else if (this.useLegacyDefaultAlgorithm) {
+                    return blake2bHash(value, offset, length, true);
+                } else if (this.hashAlgorithm != null) {
+                    return customHash(value, offset, length, this.hashAlgorithm);
+                } else {
+                    return blake2bHash(value, offset, length, false);
+                }
+            }
+
+            private static byte[] customHash(byte[] in, int offset, int length, String algorithm) {
+                MessageDigest digest = Digests.get().messageDigest(algorithm);
+                digest.update(in, offset, length);
+                return Hex.encode(digest.digest());
+            }
+
+            private static String applyRegexReplacements(String string, List<FieldMaskingExpression.RegexReplacement> regexReplacements) {
                 for (FieldMaskingExpression.RegexReplacement rr : regexReplacements) {
                     string = rr.getRegex().matcher(string).replaceAll(rr.getReplacement());
                 }
-                return string.getBytes(StandardCharsets.UTF_8);
+                return string;
             }
 
-            private byte[] blake2bHash(byte[] in, boolean useLegacyDefaultAlgorithm) {
-                final Blake2b hash;
-                if (useLegacyDefaultAlgorithm) {
-                    hash = new Blake2b(null, 32, null, saltBytes);
-                } else {
-                    hash = new Blake2b(null, 32, saltBytes, null);
-                }
-                hash.update(in, 0, in.length);
+            private byte[] blake2bHash(byte[] in, int offset, int length, boolean useLegacyDefaultAlgorithm) {
+                final Blake2b hash = Digests.get().blake2b(saltBytes, useLegacyDefaultAlgorithm);
+                hash.update(in, offset, length);
                 final byte[] out = new byte[hash.getDigestSize()];
                 hash.digest(out, 0);
 
@@ -320,6 +386,57 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
             }
         }
 
+        /**
+         * Holds digest instances which are re-used for all masked values hashed by a thread. Digest instances are not
+         * thread-safe; thus, each thread needs its own instances.
+         */
+        static class Digests {
+            private static final ThreadLocal<Digests> INSTANCE = ThreadLocal.withInitial(Digests::new);
+
+            static Digests get() {
+                return INSTANCE.get();
+            }
+
+            private final Map<String, MessageDigest> messageDigests = new HashMap<>();
+
+            private Blake2b blake2b;
+            private byte[] blake2bSaltBytes;
+            private boolean blake2bLegacy;
+
+            MessageDigest messageDigest(String algorithm) {
+                MessageDigest result = messageDigests.get(algorithm);
+
+                if (result == null) {
+                    try {
+                        result = MessageDigest.getInstance(algorithm);
+                    } catch (NoSuchAlgorithmException e) {
+                        throw new IllegalArgumentException(e);
+                    }
+                    messageDigests.put(algorithm, result);
+                } else {
+                    result.reset();
+                }
+
+                return result;
+            }
+
+            Blake2b blake2b(byte[] saltBytes, boolean useLegacyDefaultAlgorithm) {
+                if (blake2b == null || blake2bLegacy != useLegacyDefaultAlgorithm || !Arrays.equals(blake2bSaltBytes, saltBytes)) {
+                    if (useLegacyDefaultAlgorithm) {
+                        blake2b = new Blake2b(null, 32, null, saltBytes);
+                    } else {
+                        blake2b = new Blake2b(null, 32, saltBytes, null);
+                    }
+                    blake2bSaltBytes = saltBytes;
+                    blake2bLegacy = useLegacyDefaultAlgorithm;
+                } else {
+                    blake2b.reset();
+                }
+
+                return blake2b;
+            }
+        }
+
         static String stripKeywordSuffix(String field) {
             if (field.endsWith(".keyword")) {
                 return field.substring(0, field.length() - ".keyword".length());
@@ -471,7 +588,11 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
         public static final String BLAKE2B_LEGACY_DEFAULT = "BLAKE2B_LEGACY_DEFAULT";
 
         public static Config fromSettings(Settings settings) {
-            return new Config(settings.get(ConfigConstants.SECURITY_MASKED_FIELDS_ALGORITHM_DEFAULT), Salt.from(settings));
+            int cacheSize = settings.getAsInt(
+                ConfigConstants.SECURITY_MASKED_FIELDS_CACHE_SIZE,
+                ConfigConstants.SECURITY_MASKED_FIELDS_CACHE_SIZE_DEFAULT
+            );
+            return new Config(settings.get(ConfigConstants.SECURITY_MASKED_FIELDS_ALGORITHM_DEFAULT), Salt.from(settings), cacheSize);
         }
 
         public static final Config DEFAULT = fromSettings(Settings.EMPTY);
@@ -479,11 +600,13 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
         private final String defaultHashAlgorithm;
         private final Salt salt;
         private final boolean useLegacyDefaultAlgorithm;
+        private final int cacheSize;
 
-        Config(String defaultHashAlgorithm, Salt salt) {
+        Config(String defaultHashAlgorithm, Salt salt, int cacheSize) {
             this.defaultHashAlgorithm = defaultHashAlgorithm;
             this.salt = salt;
             this.useLegacyDefaultAlgorithm = BLAKE2B_LEGACY_DEFAULT.equalsIgnoreCase(defaultHashAlgorithm);
+            this.cacheSize = cacheSize;
         }
 
         public String getDefaultHashAlgorithm() {
@@ -497,6 +620,13 @@ public class FieldMasking extends AbstractRuleBasedPrivileges<FieldMasking.Field
         public boolean useLegacyDefaultAlgorithm() {
             return useLegacyDefaultAlgorithm;
         }
+
+        /**
+         * The maximum number of masked values which are cached per masked field expression. 0 disables the cache.
+         */
+        public int getCacheSize() {
+            return cacheSize;
+        }
     }
 
 }
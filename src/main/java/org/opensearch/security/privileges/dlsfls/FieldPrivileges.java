@@ -241,6 +241,35 @@ public class FieldPrivileges extends AbstractRuleBasedPrivileges<FieldPrivileges
             }
         }
 
+        /**
+         * Two FlsRules are equal if they allow the same fields. The source roles are not regarded.
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FlsRule that)) return false;
+            if (this.allowAll || that.allowAll) return this.allowAll == that.allowAll;
+            return this.excluding == that.excluding
+                && new HashSet<>(this.effectivePatterns).equals(new HashSet<>(that.effectivePatterns))
+                && new HashSet<>(this.objectOnlyPatterns).equals(new HashSet<>(that.objectOnlyPatterns));
+        }
+
+        @Override
+        public int hashCode() {
+            if (allowAll) {
+                return 1;
+            }
+            // Set semantics: The hash codes of the elements are summed up independently of their order
+            int hashCode = excluding ? 31 : 0;
+            for (FlsPattern pattern : effectivePatterns) {
+                hashCode += pattern.hashCode();
+            }
+            for (FlsPattern pattern : objectOnlyPatterns) {
+                hashCode += 17 * pattern.hashCode();
+            }
+            return hashCode;
+        }
+
         public List<String> getSource() {
             return patterns.stream().map(FlsPattern::getSource).collect(ImmutableList.toImmutableList());
         }
@@ -10,11 +10,8 @@
  */
 package org.opensearch.security.privileges.dlsfls;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Set;
@@ -23,6 +20,16 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 
 /**
  * Implements document transformation for FLS and field masking using a chained streaming parser and generator.
@@ -31,10 +38,32 @@ import com.fasterxml.jackson.core.JsonToken;
  * This class is supposed to operate on _source documents. It will filter these document and remove fields disallowed
  * by FLS, and mask fields when required for field masking.
  * <p>
+ * Documents are read and written in their original XContentType; JSON, SMILE, CBOR and YAML are supported. The source
+ * is parsed directly from the backing array of the BytesReference, if there is one. The filtered document is written
+ * into a buffer which is reused by subsequent calls on the same thread; thus, the only allocation proportional to the
+ * document size is the final result array.
+ * <p>
  * While FLS applies to attributes of any type, field masking is only available for string valued attributes.
  */
 class FlsDocumentFilter {
     private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final SmileFactory SMILE_FACTORY = new SmileFactory();
+    private static final CBORFactory CBOR_FACTORY = new CBORFactory();
+    private static final YAMLFactory YAML_FACTORY = new YAMLFactory();
+
+    static {
+        // Keep binary values compatible to the SMILE documents written by OpenSearch
+        SMILE_FACTORY.configure(SmileGenerator.Feature.ENCODE_BINARY_AS_7BIT, false);
+    }
+
+    /**
+     * Output buffers which are retained by a thread are limited to this size. Larger buffers are released after use.
+     */
+    static final int MAX_REUSED_BUFFER_SIZE = 1024 * 1024;
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private static final ThreadLocal<ReusableOutputStream> OUTPUT_BUFFERS = ThreadLocal.withInitial(ReusableOutputStream::new);
 
     static byte[] filter(
         byte[] bytes,
@@ -42,21 +71,52 @@ class FlsDocumentFilter {
         FieldMasking.FieldMaskingRule fieldMaskingRule,
         Set<String> metaFields
     ) throws IOException {
-        try (InputStream in = new ByteArrayInputStream(bytes); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            filter(in, out, flsRule, fieldMaskingRule, metaFields);
-            return out.toByteArray();
-        }
+        return BytesReference.toBytes(filter(new BytesArray(bytes), flsRule, fieldMaskingRule, metaFields));
     }
 
-    static void filter(
-        InputStream in,
-        OutputStream out,
+    /**
+     * Filters the given source document. The XContentType of the document is auto-detected; documents of unknown type
+     * are treated as JSON. The result has the same XContentType as the source document.
+     */
+    static BytesReference filter(
+        BytesReference source,
         FieldPrivileges.FlsRule flsRule,
         FieldMasking.FieldMaskingRule fieldMaskingRule,
         Set<String> metaFields
     ) throws IOException {
-        try (JsonParser parser = JSON_FACTORY.createParser(in); JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
-            new FlsDocumentFilter(parser, generator, flsRule, fieldMaskingRule, metaFields).copy();
+        JsonFactory factory = factoryFor(source);
+        ReusableOutputStream out = OUTPUT_BUFFERS.get();
+
+        try {
+            try (JsonParser parser = createParser(factory, source); JsonGenerator generator = factory.createGenerator(out)) {
+                new FlsDocumentFilter(parser, generator, flsRule, fieldMaskingRule, metaFields).copy();
+            }
+
+            return new BytesArray(out.toByteArray());
+        } finally {
+            out.release();
+        }
+    }
+
+    private static JsonFactory factoryFor(BytesReference source) {
+        MediaType mediaType = source.length() != 0 ? MediaTypeRegistry.xContentType(source) : null;
+
+        if (mediaType == XContentType.SMILE) {
+            return SMILE_FACTORY;
+        } else if (mediaType == XContentType.CBOR) {
+            return CBOR_FACTORY;
+        } else if (mediaType == XContentType.YAML) {
+            return YAML_FACTORY;
+        } else {
+            return JSON_FACTORY;
+        }
+    }
+
+    private static JsonParser createParser(JsonFactory factory, BytesReference source) throws IOException {
+        if (source.hasArray()) {
+            return factory.createParser(source.array(), source.arrayOffset(), source.length());
+        } else {
+            return factory.createParser(source.streamInput());
         }
     }
 
@@ -65,6 +125,11 @@ class FlsDocumentFilter {
     private final FieldPrivileges.FlsRule flsRule;
     private final FieldMasking.FieldMaskingRule fieldMaskingRule;
 
+    /**
+     * True for SMILE and CBOR. These formats encode numbers in binary form; thus, their type must be preserved.
+     */
+    private final boolean binaryFormat;
+
     /**
      * Names of meta fields. Meta fields will be always kept included in the documents, even if the FLS or
      * fieldMaskingRule would forbid them.
@@ -89,6 +154,7 @@ class FlsDocumentFilter {
         this.flsRule = flsRule;
         this.fieldMaskingRule = fieldMaskingRule;
         this.metaFields = metaFields;
+        this.binaryFormat = generator.canWriteBinaryNatively();
     }
 
     @SuppressWarnings("incomplete-switch")
@@ -175,11 +241,8 @@ class FlsDocumentFilter {
                     break;
 
                 case VALUE_NUMBER_FLOAT:
-                    generator.writeNumber(parser.getDecimalValue());
-                    break;
-
                 case VALUE_NUMBER_INT:
-                    generator.writeNumber(parser.getBigIntegerValue());
+                    copyNumber();
                     break;
 
                 case VALUE_STRING:
@@ -188,7 +251,7 @@ class FlsDocumentFilter {
                     if (field != null) {
                         generator.writeString(field.apply(parser.getText()));
                     } else {
-                        generator.writeString(parser.getText());
+                        generator.copyCurrentEvent(parser);
                     }
                     break;
 
@@ -204,4 +267,56 @@ class FlsDocumentFilter {
         }
     }
 
+    private void copyNumber() throws IOException {
+        if (!binaryFormat) {
+            // For text formats, we can just copy the textual representation. This avoids parsing the number and
+            // preserves its precision.
+            generator.writeNumber(parser.getText());
+            return;
+        }
+
+        switch (parser.getNumberType()) {
+            case INT:
+                generator.writeNumber(parser.getIntValue());
+                break;
+            case LONG:
+                generator.writeNumber(parser.getLongValue());
+                break;
+            case BIG_INTEGER:
+                generator.writeNumber(parser.getBigIntegerValue());
+                break;
+            case FLOAT:
+                generator.writeNumber(parser.getFloatValue());
+                break;
+            case DOUBLE:
+                generator.writeNumber(parser.getDoubleValue());
+                break;
+            default:
+                generator.writeNumber(parser.getDecimalValue());
+                break;
+        }
+    }
+
+    /**
+     * A ByteArrayOutputStream which is reused for several documents. Buffers which grew beyond MAX_REUSED_BUFFER_SIZE
+     * are not retained in order to avoid keeping large amounts of heap per thread.
+     */
+    static class ReusableOutputStream extends ByteArrayOutputStream {
+        ReusableOutputStream() {
+            super(INITIAL_BUFFER_SIZE);
+        }
+
+        void release() {
+            reset();
+
+            if (buf.length > MAX_REUSED_BUFFER_SIZE) {
+                buf = new byte[INITIAL_BUFFER_SIZE];
+            }
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+
 }
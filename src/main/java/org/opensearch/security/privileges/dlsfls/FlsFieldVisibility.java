@@ -0,0 +1,226 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.privileges.dlsfls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.util.FixedBitSet;
+
+import org.opensearch.ExceptionsHelper;
+
+/**
+ * Provides the FLS and field masking decisions for the fields of a single segment reader.
+ * <p>
+ * Evaluating an FlsRule requires testing the field name against all patterns of the rule. As the decisions are needed
+ * per field and document when reading stored fields, this is done only once per segment: the decisions are stored
+ * in a bitmap indexed by FieldInfo.number. The bitmaps only depend on the FieldInfos instance of the segment and the
+ * FlsRule; thus, they are cached and shared by all readers of a segment which use an equal FlsRule. The cache uses
+ * weak keys; entries are removed when the FieldInfos instance is no longer reachable.
+ * <p>
+ * FieldMaskingRule instances are usually created per request; thus, the field masking decisions are only cached per
+ * instance of this class.
+ * <p>
+ * Instances of this class are thread-safe.
+ */
+public class FlsFieldVisibility {
+
+    /**
+     * The maximum number of distinct FlsRules for which tables are cached per segment.
+     */
+    static final int MAX_CACHED_RULES_PER_SEGMENT = 64;
+
+    private static final Cache<FieldInfos, Map<FieldPrivileges.FlsRule, Table>> tables = CacheBuilder.newBuilder().weakKeys().build();
+
+    private static final Object NOT_MASKED = new Object();
+
+    private final FieldInfos fieldInfos;
+    private final FieldPrivileges.FlsRule flsRule;
+    private final FieldMasking.FieldMaskingRule fieldMaskingRule;
+    private final Set<String> metaFields;
+    private final Table table;
+    private final Object[] maskingByFieldNumber;
+
+    public FlsFieldVisibility(
+        FieldInfos fieldInfos,
+        FieldPrivileges.FlsRule flsRule,
+        FieldMasking.FieldMaskingRule fieldMaskingRule,
+        Set<String> metaFields
+    ) {
+        this.fieldInfos = fieldInfos;
+        this.flsRule = flsRule;
+        this.fieldMaskingRule = fieldMaskingRule;
+        this.metaFields = metaFields;
+        this.table = flsRule.isAllowAll() ? null : getTable(fieldInfos, flsRule, metaFields);
+        this.maskingByFieldNumber = fieldMaskingRule.isAllowAll()
+            ? null
+            : new Object[table != null ? table.names.length : maxFieldNumber(fieldInfos) + 1];
+    }
+
+    /**
+     * Returns true if FLS allows access to the given field.
+     */
+    public boolean isAllowed(FieldInfo fieldInfo) {
+        if (table == null) {
+            return true;
+        }
+
+        int number = fieldInfo.number;
+
+        // The name check guards against FieldInfo instances which do not belong to the segment
+        if (number < table.names.length && table.names[number] == fieldInfo.name) {
+            return table.allowed.get(number);
+        } else {
+            return isAllowedByRule(fieldInfo.name);
+        }
+    }
+
+    /**
+     * Returns true if FLS allows access to the given field.
+     */
+    public boolean isAllowed(String field) {
+        if (table == null) {
+            return true;
+        }
+
+        FieldInfo fieldInfo = fieldInfos.fieldInfo(field);
+
+        if (fieldInfo != null) {
+            return isAllowed(fieldInfo);
+        } else {
+            return isAllowedByRule(field);
+        }
+    }
+
+    /**
+     * Returns the field infos of the segment reduced to the fields allowed by FLS.
+     */
+    public FieldInfos getAllowedFieldInfos() {
+        return table != null ? table.allowedFieldInfos : fieldInfos;
+    }
+
+    /**
+     * Returns the masking which applies to the given field or null if the field is not masked.
+     */
+    public FieldMasking.FieldMaskingRule.Field getMasking(FieldInfo fieldInfo) {
+        if (maskingByFieldNumber == null) {
+            return null;
+        }
+
+        int number = fieldInfo.number;
+
+        if (number >= maskingByFieldNumber.length || fieldInfos.fieldInfo(number) != fieldInfo) {
+            return fieldMaskingRule.get(fieldInfo.name);
+        }
+
+        Object result = maskingByFieldNumber[number];
+
+        if (result == null) {
+            // Concurrent threads might compute the same value; this is harmless, as the value is always the same
+            FieldMasking.FieldMaskingRule.Field field = fieldMaskingRule.get(fieldInfo.name);
+            maskingByFieldNumber[number] = field != null ? field : NOT_MASKED;
+            return field;
+        }
+
+        return result != NOT_MASKED ? (FieldMasking.FieldMaskingRule.Field) result : null;
+    }
+
+    /**
+     * Returns the masking which applies to the given field or null if the field is not masked.
+     */
+    public FieldMasking.FieldMaskingRule.Field getMasking(String field) {
+        if (maskingByFieldNumber == null) {
+            return null;
+        }
+
+        FieldInfo fieldInfo = fieldInfos.fieldInfo(field);
+
+        if (fieldInfo != null) {
+            return getMasking(fieldInfo);
+        } else {
+            return fieldMaskingRule.get(field);
+        }
+    }
+
+    public boolean isMasked(String field) {
+        return getMasking(field) != null;
+    }
+
+    private boolean isAllowedByRule(String field) {
+        return metaFields.contains(field) || flsRule.isAllowed(field);
+    }
+
+    private static Table getTable(FieldInfos fieldInfos, FieldPrivileges.FlsRule flsRule, Set<String> metaFields) {
+        try {
+            Map<FieldPrivileges.FlsRule, Table> ruleToTable = tables.get(fieldInfos, ConcurrentHashMap::new);
+            Table table = ruleToTable.get(flsRule);
+
+            if (table == null) {
+                table = new Table(fieldInfos, flsRule, metaFields);
+
+                if (ruleToTable.size() < MAX_CACHED_RULES_PER_SEGMENT) {
+                    ruleToTable.putIfAbsent(flsRule, table);
+                }
+            }
+
+            return table;
+        } catch (ExecutionException e) {
+            throw ExceptionsHelper.convertToOpenSearchException(e);
+        }
+    }
+
+    private static int maxFieldNumber(FieldInfos fieldInfos) {
+        int result = -1;
+
+        for (FieldInfo fieldInfo : fieldInfos) {
+            result = Math.max(result, fieldInfo.number);
+        }
+
+        return result;
+    }
+
+    /**
+     * The FLS decisions for the fields of a segment. Tables must not reference the FieldInfos instance they were
+     * created for, as they are values of a cache with weak keys.
+     */
+    static class Table {
+        final String[] names;
+        final FixedBitSet allowed;
+        final FieldInfos allowedFieldInfos;
+
+        Table(FieldInfos fieldInfos, FieldPrivileges.FlsRule flsRule, Set<String> metaFields) {
+            int size = maxFieldNumber(fieldInfos) + 1;
+            List<FieldInfo> allowedFieldInfoList = new ArrayList<>(fieldInfos.size());
+
+            this.names = new String[size];
+            this.allowed = new FixedBitSet(Math.max(size, 1));
+
+            for (FieldInfo fieldInfo : fieldInfos) {
+                this.names[fieldInfo.number] = fieldInfo.name;
+
+                if (metaFields.contains(fieldInfo.name) || flsRule.isAllowed(fieldInfo.name)) {
+                    this.allowed.set(fieldInfo.number);
+                    allowedFieldInfoList.add(fieldInfo);
+                }
+            }
+
+            this.allowedFieldInfos = new FieldInfos(allowedFieldInfoList.toArray(new FieldInfo[0]));
+        }
+    }
+}
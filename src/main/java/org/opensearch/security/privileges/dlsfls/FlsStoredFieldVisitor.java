@@ -26,6 +26,7 @@ import org.opensearch.OpenSearchException;
  *     <li>Filter the _source document and remove fields disallowed by FLS, and mask fields when required for field masking</li>
  *     <li>Filter out other fields disallowed by FLS by using the needsField() method</li>
  * </ul>
+ * The per-field decisions are looked up in an FlsFieldVisibility instance, which caches them per segment.
  */
 public class FlsStoredFieldVisitor extends StoredFieldVisitor {
     private static final Logger log = LogManager.getLogger(FlsStoredFieldVisitor.class);
@@ -33,18 +34,21 @@ public class FlsStoredFieldVisitor extends StoredFieldVisitor {
     private final StoredFieldVisitor delegate;
     private final FieldPrivileges.FlsRule flsRule;
     private final FieldMasking.FieldMaskingRule fieldMaskingRule;
+    private final FlsFieldVisibility fieldVisibility;
     private final Set<String> metaFields;
 
     public FlsStoredFieldVisitor(
         StoredFieldVisitor delegate,
         FieldPrivileges.FlsRule flsRule,
         FieldMasking.FieldMaskingRule fieldMaskingRule,
+        FlsFieldVisibility fieldVisibility,
         Set<String> metaFields
     ) {
         super();
         this.delegate = delegate;
         this.flsRule = flsRule;
         this.fieldMaskingRule = fieldMaskingRule;
+        this.fieldVisibility = fieldVisibility;
         this.metaFields = metaFields;
 
         if (log.isDebugEnabled()) {
@@ -62,7 +66,7 @@ public class FlsStoredFieldVisitor extends StoredFieldVisitor {
             }
         } else {
             // See https://github.com/opensearch-project/security/pull/4826
-            FieldMasking.FieldMaskingRule.Field field = this.fieldMaskingRule.get(fieldInfo.name);
+            FieldMasking.FieldMaskingRule.Field field = this.fieldVisibility.getMasking(fieldInfo);
 
             if (field != null) {
                 delegate.binaryField(fieldInfo, field.apply(value));
@@ -74,7 +78,7 @@ public class FlsStoredFieldVisitor extends StoredFieldVisitor {
 
     @Override
     public void stringField(FieldInfo fieldInfo, String value) throws IOException {
-        FieldMasking.FieldMaskingRule.Field field = this.fieldMaskingRule.get(fieldInfo.name);
+        FieldMasking.FieldMaskingRule.Field field = this.fieldVisibility.getMasking(fieldInfo);
 
         if (field != null) {
             delegate.stringField(fieldInfo, field.apply(value));
@@ -85,7 +89,7 @@ public class FlsStoredFieldVisitor extends StoredFieldVisitor {
 
     @Override
     public Status needsField(FieldInfo fieldInfo) throws IOException {
-        return metaFields.contains(fieldInfo.name) || flsRule.isAllowed(fieldInfo.name) ? delegate.needsField(fieldInfo) : Status.NO;
+        return fieldVisibility.isAllowed(fieldInfo) ? delegate.needsField(fieldInfo) : Status.NO;
     }
 
     @Override
@@ -38,10 +38,13 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -85,6 +88,7 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.IndexAbstraction;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.util.IndexUtils;
 import org.opensearch.core.index.Index;
 import org.opensearch.index.IndexNotFoundException;
@@ -104,21 +108,61 @@ import static org.opensearch.cluster.metadata.IndexAbstraction.Type.ALIAS;
 
 public class IndexResolverReplacer {
 
+    /**
+     * This setting controls the maximum number of entries in the cache for resolved index patterns. The cache maps
+     * combinations of requested index patterns, indices options and the cross cluster search flag to the resolved
+     * aliases, indices and data streams; it is cleared whenever the cluster state metadata changes. Patterns containing
+     * date math expressions are never cached. Setting this to 0 disables the cache.
+     * <p>
+     * This setting defaults to 10,000 entries.
+     */
+    public static Setting<Integer> RESOLVED_PATTERNS_CACHE_MAX_SIZE = Setting.intSetting(
+        "plugins.security.privileges_evaluation.resolved_patterns_cache.max_size",
+        10_000,
+        0,
+        Setting.Property.NodeScope
+    );
+
     private static final Set<String> NULL_SET = new HashSet<>(Collections.singleton(null));
     private final Logger log = LogManager.getLogger(this.getClass());
     private final IndexNameExpressionResolver resolver;
     private final Supplier<ClusterState> clusterStateSupplier;
     private final ClusterInfoHolder clusterInfoHolder;
     private volatile boolean respectRequestIndicesOptions = false;
+    /**
+     * Caches resolved index patterns across requests. The entries are only valid for the metadata version they
+     * were resolved against; the whole cache is cleared as soon as a new metadata version is observed.
+     * Null if the cache is disabled.
+     */
+    private final Cache<AlreadyResolvedKey, ResolvedPatterns> resolvedPatternsCache;
+    private final AtomicLong resolvedPatternsCacheHits = new AtomicLong();
+    private final AtomicLong resolvedPatternsCacheMisses = new AtomicLong();
+    private volatile long resolvedPatternsCacheMetadataVersion = -1;
 
     public IndexResolverReplacer(
         IndexNameExpressionResolver resolver,
         Supplier<ClusterState> clusterStateSupplier,
         ClusterInfoHolder clusterInfoHolder
+    ) {
+        this(resolver, clusterStateSupplier, clusterInfoHolder, 0);
+    }
+
+    /**
+     * @param resolvedPatternsCacheMaxSize the maximum number of resolved index patterns which are cached across
+     *                                     requests; 0 disables the cache
+     */
+    public IndexResolverReplacer(
+        IndexNameExpressionResolver resolver,
+        Supplier<ClusterState> clusterStateSupplier,
+        ClusterInfoHolder clusterInfoHolder,
+        int resolvedPatternsCacheMaxSize
     ) {
         this.resolver = resolver;
         this.clusterStateSupplier = clusterStateSupplier;
         this.clusterInfoHolder = clusterInfoHolder;
+        this.resolvedPatternsCache = resolvedPatternsCacheMaxSize > 0
+            ? CacheBuilder.newBuilder().maximumSize(resolvedPatternsCacheMaxSize).build()
+            : null;
     }
 
     private static boolean isAllWithNoRemote(final String... requestedPatterns) {
@@ -160,56 +204,148 @@ public class IndexResolverReplacer {
         return false;
     }
 
-    private class ResolvedIndicesProvider implements IndicesProvider {
-        private final ImmutableSet.Builder<String> aliases;
-        private final ImmutableSet.Builder<String> allIndices;
-        private final ImmutableSet.Builder<String> originalRequested;
-        private final ImmutableSet.Builder<String> remoteIndices;
-        // set of previously resolved index requests to avoid resolving
-        // the same index more than once while processing bulk requests
-        private final Set<AlreadyResolvedKey> alreadyResolved;
-        private final String name;
+    private static final class AlreadyResolvedKey {
 
-        private final class AlreadyResolvedKey {
+        private final IndicesOptions indicesOptions;
 
-            private final IndicesOptions indicesOptions;
+        private final boolean enableCrossClusterResolution;
 
-            private final boolean enableCrossClusterResolution;
+        private final String[] original;
 
-            private final String[] original;
+        private AlreadyResolvedKey(final IndicesOptions indicesOptions, final boolean enableCrossClusterResolution) {
+            this(indicesOptions, enableCrossClusterResolution, null);
+        }
 
-            private AlreadyResolvedKey(final IndicesOptions indicesOptions, final boolean enableCrossClusterResolution) {
-                this(indicesOptions, enableCrossClusterResolution, null);
-            }
+        private AlreadyResolvedKey(
+            final IndicesOptions indicesOptions,
+            final boolean enableCrossClusterResolution,
+            final String[] original
+        ) {
+            this.indicesOptions = indicesOptions;
+            this.enableCrossClusterResolution = enableCrossClusterResolution;
+            this.original = original;
+        }
 
-            private AlreadyResolvedKey(
-                final IndicesOptions indicesOptions,
-                final boolean enableCrossClusterResolution,
-                final String[] original
-            ) {
-                this.indicesOptions = indicesOptions;
-                this.enableCrossClusterResolution = enableCrossClusterResolution;
-                this.original = original;
+        /**
+         * Date math expressions resolve to different indices over time; these cannot be cached across requests.
+         */
+        private boolean isCacheable() {
+            if (original == null) {
+                return true;
             }
-
-            @Override
-            public boolean equals(Object o) {
-                if (this == o) return true;
-                if (o == null || getClass() != o.getClass()) return false;
-                AlreadyResolvedKey that = (AlreadyResolvedKey) o;
-                return enableCrossClusterResolution == that.enableCrossClusterResolution
-                    && Objects.equals(indicesOptions, that.indicesOptions)
-                    && Arrays.equals(original, that.original);
+            for (String pattern : original) {
+                if (pattern != null && pattern.startsWith("<")) {
+                    return false;
+                }
             }
+            return true;
+        }
 
-            @Override
-            public int hashCode() {
-                int result = Objects.hash(indicesOptions, enableCrossClusterResolution);
-                result = 31 * result + Arrays.hashCode(original);
-                return result;
+        /**
+         * The original array belongs to the request; the cache must not keep a reference to it.
+         */
+        private AlreadyResolvedKey copy() {
+            return new AlreadyResolvedKey(indicesOptions, enableCrossClusterResolution, original == null ? null : original.clone());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            AlreadyResolvedKey that = (AlreadyResolvedKey) o;
+            return enableCrossClusterResolution == that.enableCrossClusterResolution
+                && Objects.equals(indicesOptions, that.indicesOptions)
+                && Arrays.equals(original, that.original);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(indicesOptions, enableCrossClusterResolution);
+            result = 31 * result + Arrays.hashCode(original);
+            return result;
+        }
+    }
+
+    /**
+     * The result of resolving one set of index patterns against a particular version of the cluster metadata.
+     * Instances are immutable and can thus be shared between requests.
+     */
+    private static final class ResolvedPatterns {
+        private static final ResolvedPatterns LOCAL_ALL = new ResolvedPatterns(
+            Resolved.All_SET,
+            Resolved.All_SET,
+            Resolved.All_SET,
+            ImmutableSet.of(),
+            -1
+        );
+
+        private final ImmutableSet<String> aliases;
+        private final ImmutableSet<String> allIndices;
+        private final ImmutableSet<String> originalRequested;
+        private final ImmutableSet<String> remoteIndices;
+        private final long metadataVersion;
+
+        private ResolvedPatterns(
+            ImmutableSet<String> aliases,
+            ImmutableSet<String> allIndices,
+            ImmutableSet<String> originalRequested,
+            ImmutableSet<String> remoteIndices,
+            long metadataVersion
+        ) {
+            this.aliases = aliases;
+            this.allIndices = allIndices;
+            this.originalRequested = originalRequested;
+            this.remoteIndices = remoteIndices;
+            this.metadataVersion = metadataVersion;
+        }
+    }
+
+    private ResolvedPatterns getCachedResolvedPatterns(AlreadyResolvedKey key, ClusterState state) {
+        final long metadataVersion = state.metadata().version();
+
+        if (metadataVersion > resolvedPatternsCacheMetadataVersion) {
+            synchronized (resolvedPatternsCache) {
+                if (metadataVersion > resolvedPatternsCacheMetadataVersion) {
+                    resolvedPatternsCache.invalidateAll();
+                    resolvedPatternsCacheMetadataVersion = metadataVersion;
+                }
             }
         }
 
+        final ResolvedPatterns resolvedPatterns = resolvedPatternsCache.getIfPresent(key);
+
+        // Entries might have been added concurrently by threads which still operated on an older cluster state
+        if (resolvedPatterns != null && resolvedPatterns.metadataVersion == metadataVersion) {
+            resolvedPatternsCacheHits.incrementAndGet();
+            return resolvedPatterns;
+        } else {
+            resolvedPatternsCacheMisses.incrementAndGet();
+            return null;
+        }
+    }
+
+    public long getResolvedPatternsCacheHits() {
+        return resolvedPatternsCacheHits.get();
+    }
+
+    public long getResolvedPatternsCacheMisses() {
+        return resolvedPatternsCacheMisses.get();
+    }
+
+    public long getResolvedPatternsCacheSize() {
+        return resolvedPatternsCache != null ? resolvedPatternsCache.size() : 0;
+    }
+
+    private class ResolvedIndicesProvider implements IndicesProvider {
+        private final ImmutableSet.Builder<String> aliases;
+        private final ImmutableSet.Builder<String> allIndices;
+        private final ImmutableSet.Builder<String> originalRequested;
+        private final ImmutableSet.Builder<String> remoteIndices;
+        // set of previously resolved index requests to avoid resolving
+        // the same index more than once while processing bulk requests
+        private final Set<AlreadyResolvedKey> alreadyResolved;
+        private final String name;
+
         ResolvedIndicesProvider(Object request) {
             aliases = ImmutableSet.builder();
             allIndices = ImmutableSet.builder();
@@ -219,11 +355,12 @@ public class IndexResolverReplacer {
             name = request.getClass().getSimpleName();
         }
 
-        private void resolveIndexPatterns(
+        private ResolvedPatterns resolveIndexPatterns(
             final String name,
             final IndicesOptions indicesOptions,
             final boolean enableCrossClusterResolution,
-            final String[] original
+            final String[] original,
+            final ClusterState state
         ) {
             final boolean isTraceEnabled = log.isTraceEnabled();
             if (isTraceEnabled) {
@@ -234,8 +371,7 @@ public class IndexResolverReplacer {
                 if (isTraceEnabled) {
                     log.trace(Arrays.toString(original) + " is an ALL pattern without any remote indices");
                 }
-                resolveToLocalAll();
-                return;
+                return ResolvedPatterns.LOCAL_ALL;
             }
 
             Set<String> remoteIndices;
@@ -246,7 +382,7 @@ public class IndexResolverReplacer {
             if (remoteClusterService != null && remoteClusterService.isCrossClusterSearchEnabled() && enableCrossClusterResolution) {
                 remoteIndices = new HashSet<>();
                 final Map<String, OriginalIndices> remoteClusterIndices = OpenSearchSecurityPlugin.GuiceHolder.getRemoteClusterService()
-                    .groupIndices(indicesOptions, original, idx -> resolver.hasIndexAbstraction(idx, clusterStateSupplier.get()));
+                    .groupIndices(indicesOptions, original, idx -> resolver.hasIndexAbstraction(idx, state));
                 final Set<String> remoteClusters = remoteClusterIndices.keySet()
                     .stream()
                     .filter(k -> !RemoteClusterService.LOCAL_CLUSTER_GROUP_KEY.equals(k))
@@ -299,7 +435,6 @@ public class IndexResolverReplacer {
             }
 
             else {
-                final ClusterState state = clusterStateSupplier.get();
                 final Set<String> dateResolvedLocalRequestedPatterns = localRequestedPatterns.stream()
                     .map(resolver::resolveDateMathExpression)
                     .collect(Collectors.toSet());
@@ -355,27 +490,20 @@ public class IndexResolverReplacer {
                 );
             }
 
-            resolveTo(matchingAliases, matchingAllIndices, matchingDataStreams, original, remoteIndices);
+            return new ResolvedPatterns(
+                ImmutableSet.copyOf(matchingAliases),
+                ImmutableSet.<String>builder().addAll(matchingAllIndices).addAll(matchingDataStreams).build(),
+                ImmutableSet.copyOf(original),
+                ImmutableSet.copyOf(remoteIndices),
+                state.metadata().version()
+            );
         }
 
-        private void resolveToLocalAll() {
-            aliases.add(Resolved.ANY);
-            allIndices.add(Resolved.ANY);
-            originalRequested.add(Resolved.ANY);
-        }
-
-        private void resolveTo(
-            Iterable<String> matchingAliases,
-            Iterable<String> matchingAllIndices,
-            Iterable<String> matchingDataStreams,
-            String[] original,
-            Iterable<String> remoteIndices
-        ) {
-            aliases.addAll(matchingAliases);
-            allIndices.addAll(matchingAllIndices);
-            allIndices.addAll(matchingDataStreams);
-            originalRequested.add(original);
-            this.remoteIndices.addAll(remoteIndices);
+        private void resolveTo(ResolvedPatterns resolvedPatterns) {
+            aliases.addAll(resolvedPatterns.aliases);
+            allIndices.addAll(resolvedPatterns.allIndices);
+            originalRequested.addAll(resolvedPatterns.originalRequested);
+            remoteIndices.addAll(resolvedPatterns.remoteIndices);
         }
 
         @Override
@@ -392,7 +520,25 @@ public class IndexResolverReplacer {
                 alreadyResolvedKey = new AlreadyResolvedKey(indicesOptions, enableCrossClusterResolution);
             }
             if (alreadyResolved.add(alreadyResolvedKey)) {
-                resolveIndexPatterns(localRequest.getClass().getSimpleName(), indicesOptions, enableCrossClusterResolution, original);
+                final ClusterState state = clusterStateSupplier.get();
+                final boolean cacheable = resolvedPatternsCache != null && alreadyResolvedKey.isCacheable();
+                ResolvedPatterns resolvedPatterns = cacheable ? getCachedResolvedPatterns(alreadyResolvedKey, state) : null;
+
+                if (resolvedPatterns == null) {
+                    resolvedPatterns = resolveIndexPatterns(
+                        localRequest.getClass().getSimpleName(),
+                        indicesOptions,
+                        enableCrossClusterResolution,
+                        original,
+                        state
+                    );
+
+                    if (cacheable && resolvedPatterns != ResolvedPatterns.LOCAL_ALL) {
+                        resolvedPatternsCache.put(alreadyResolvedKey.copy(), resolvedPatterns);
+                    }
+                }
+
+                resolveTo(resolvedPatterns);
             }
             return IndicesProvider.NOOP;
         }
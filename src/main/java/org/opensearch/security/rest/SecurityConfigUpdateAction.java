@@ -103,7 +103,8 @@ public class SecurityConfigUpdateAction extends BaseRestHandler {
         if (user == null || !adminDns.isAdmin(user)) {
             return channel -> channel.sendResponse(new BytesRestResponse(RestStatus.FORBIDDEN, ""));
         } else {
-            ConfigUpdateRequest configUpdateRequest = new ConfigUpdateRequest(configTypes);
+            // securityadmin -rl relies on this endpoint to flush all security caches
+            ConfigUpdateRequest configUpdateRequest = new ConfigUpdateRequest(configTypes).setInvalidateAllCaches(true);
             return channel -> {
                 client.execute(ConfigUpdateAction.INSTANCE, configUpdateRequest, new NodesResponseRestListener<>(channel));
             };
@@ -53,6 +53,7 @@ import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.securityconf.impl.v7.TenantV7;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.HostResolverMode;
+import org.opensearch.security.support.ReverseDnsResolver;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
 
@@ -65,6 +66,7 @@ public class ConfigModelV7 extends ConfigModel {
     private RoleMappingHolder roleMappingHolder;
     private SecurityDynamicConfiguration<RoleV7> roles;
     private SecurityDynamicConfiguration<TenantV7> tenants;
+    private final ReverseDnsResolver reverseDnsResolver;
 
     public ConfigModelV7(
         SecurityDynamicConfiguration<RoleV7> roles,
@@ -72,11 +74,13 @@ public class ConfigModelV7 extends ConfigModel {
         SecurityDynamicConfiguration<ActionGroupsV7> actiongroups,
         SecurityDynamicConfiguration<TenantV7> tenants,
         DynamicConfigModel dcm,
-        Settings opensearchSettings
+        Settings opensearchSettings,
+        ReverseDnsResolver reverseDnsResolver
     ) {
 
         this.roles = roles;
         this.tenants = tenants;
+        this.reverseDnsResolver = reverseDnsResolver;
 
         try {
             rolesMappingResolution = ConfigConstants.RolesMappingResolution.valueOf(
@@ -243,9 +247,9 @@ public class ConfigModelV7 extends ConfigModel {
         private ListMultimap<String, String> hosts;
         private final String hostResolverMode;
 
-        private List<WildcardMatcher> userMatchers;
-        private List<WildcardMatcher> barMatchers;
-        private List<WildcardMatcher> hostMatchers;
+        private WildcardMatcher.PatternTrie userMatchers;
+        private WildcardMatcher.PatternTrie barMatchers;
+        private WildcardMatcher.PatternTrie hostMatchers;
 
         private RoleMappingHolder(final SecurityDynamicConfiguration<RoleMappingsV7> rolemappings, final String hostResolverMode) {
 
@@ -281,9 +285,9 @@ public class ConfigModelV7 extends ConfigModel {
                     }
                 }
 
-                userMatchers = WildcardMatcher.matchers(users.keySet());
-                barMatchers = WildcardMatcher.matchers(bars.keySet());
-                hostMatchers = WildcardMatcher.matchers(hosts.keySet());
+                userMatchers = WildcardMatcher.compile(users.keySet());
+                barMatchers = WildcardMatcher.compile(bars.keySet());
+                hostMatchers = WildcardMatcher.compile(hosts.keySet());
             }
         }
 
@@ -309,10 +313,10 @@ public class ConfigModelV7 extends ConfigModel {
             if (((rolesMappingResolution == ConfigConstants.RolesMappingResolution.BOTH
                 || rolesMappingResolution == ConfigConstants.RolesMappingResolution.MAPPING_ONLY))) {
 
-                for (String p : WildcardMatcher.getAllMatchingPatterns(userMatchers, user.getName())) {
+                for (String p : userMatchers.getAllMatchingPatterns(user.getName())) {
                     securityRoles.addAll(users.get(p));
                 }
-                for (String p : WildcardMatcher.getAllMatchingPatterns(barMatchers, user.getRoles())) {
+                for (String p : barMatchers.getAllMatchingPatterns(user.getRoles())) {
                     securityRoles.addAll(bars.get(p));
                 }
 
@@ -326,7 +330,7 @@ public class ConfigModelV7 extends ConfigModel {
                     // IPV4 or IPv6 (compressed and without scope identifiers)
                     final String ipAddress = caller.getAddress();
 
-                    for (String p : WildcardMatcher.getAllMatchingPatterns(hostMatchers, ipAddress)) {
+                    for (String p : hostMatchers.getAllMatchingPatterns(ipAddress)) {
                         securityRoles.addAll(hosts.get(p));
                     }
 
@@ -335,17 +339,19 @@ public class ConfigModelV7 extends ConfigModel {
                             || hostResolverMode.equalsIgnoreCase(HostResolverMode.IP_HOSTNAME_LOOKUP.getValue()))) {
                         final String hostName = caller.address().getHostString();
 
-                        for (String p : WildcardMatcher.getAllMatchingPatterns(hostMatchers, hostName)) {
+                        for (String p : hostMatchers.getAllMatchingPatterns(hostName)) {
                             securityRoles.addAll(hosts.get(p));
                         }
                     }
 
                     if (caller.address() != null && hostResolverMode.equalsIgnoreCase(HostResolverMode.IP_HOSTNAME_LOOKUP.getValue())) {
 
-                        final String resolvedHostName = caller.address().getHostName();
+                        final String resolvedHostName = ReverseDnsResolver.getHostName(reverseDnsResolver, caller.address());
 
-                        for (String p : WildcardMatcher.getAllMatchingPatterns(hostMatchers, resolvedHostName)) {
-                            securityRoles.addAll(hosts.get(p));
+                        if (resolvedHostName != null) {
+                            for (String p : hostMatchers.getAllMatchingPatterns(resolvedHostName)) {
+                                securityRoles.addAll(hosts.get(p));
+                            }
                         }
                     }
                 }
@@ -32,6 +32,7 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.google.common.collect.ImmutableList;
@@ -62,6 +63,7 @@ import org.opensearch.security.securityconf.impl.v7.RoleMappingsV7;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.securityconf.impl.v7.TenantV7;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.ReverseDnsResolver;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
@@ -127,6 +129,7 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
     private final Path configPath;
     private final InternalAuthenticationBackend iab;
     private final ClusterInfoHolder cih;
+    private final ReverseDnsResolver reverseDnsResolver;
 
     SecurityDynamicConfiguration<?> config;
 
@@ -137,13 +140,15 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
         Client client,
         ThreadPool threadPool,
         ClusterInfoHolder cih,
-        PasswordHasher passwordHasher
+        PasswordHasher passwordHasher,
+        ReverseDnsResolver reverseDnsResolver
     ) {
         super();
         this.cr = cr;
         this.opensearchSettings = opensearchSettings;
         this.configPath = configPath;
         this.cih = cih;
+        this.reverseDnsResolver = reverseDnsResolver;
         this.iab = new InternalAuthenticationBackend(passwordHasher);
 
         if (opensearchSettings.getAsBoolean(ConfigConstants.SECURITY_UNSUPPORTED_LOAD_STATIC_RESOURCES, true)) {
@@ -271,7 +276,7 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
         // rebuild v7 Models
         dcm = new DynamicConfigModelV7(getConfigV7(config), opensearchSettings, configPath, iab, this.cih);
         ium = new InternalUsersModelV7(internalusers, roles, rolesmapping);
-        cm = new ConfigModelV7(roles, rolesmapping, actionGroups, tenants, dcm, opensearchSettings);
+        cm = new ConfigModelV7(roles, rolesmapping, actionGroups, tenants, dcm, opensearchSettings, reverseDnsResolver);
 
         // notify subscribers
         eventBus.post(cm);
@@ -367,6 +372,11 @@ public class DynamicConfigFactory implements Initializable, ConfigurationChangeL
                     .collect(ImmutableList.toImmutableList());
         }
 
+        @Override
+        public Set<String> getUsernames() {
+            return internalUserV7SecurityDynamicConfiguration.getCEntries().keySet();
+        }
+
         // Remove any hidden rolesmapping from the security roles
         private boolean isRolesMappingHidden(String rolename) {
             final RoleMappingsV7 roleMapping = rolesMappingsV7SecurityDynamicConfiguration.getCEntry(rolename);
@@ -110,6 +110,17 @@ public abstract class DynamicConfigModel {
 
     public abstract Settings getDynamicOnBehalfOfSettings();
 
+    /**
+     * Returns a fingerprint of the configuration of each authentication domain, keyed by the domain name.
+     * Used to detect which domains have changed between two config models.
+     */
+    public abstract Map<String, String> getAuthcDomainFingerprints();
+
+    /**
+     * Returns a fingerprint of the configuration of each authorization domain, keyed by the domain name.
+     */
+    public abstract Map<String, String> getAuthzDomainFingerprints();
+
     protected final Map<String, String> authImplMap = new HashMap<>();
 
     public DynamicConfigModel() {
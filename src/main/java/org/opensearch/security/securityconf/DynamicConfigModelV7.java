@@ -28,14 +28,17 @@
 package org.opensearch.security.securityconf;
 
 import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.SortedSet;
@@ -45,6 +48,7 @@ import com.google.common.base.Strings;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
+import com.google.common.hash.Hashing;
 
 import org.opensearch.SpecialPermission;
 import org.opensearch.common.settings.Settings;
@@ -72,6 +76,8 @@ import static org.opensearch.security.util.AuthTokenUtils.isKeyNull;
 
 public class DynamicConfigModelV7 extends DynamicConfigModel {
 
+    private static final String ON_BEHALF_OF_DOMAIN_NAME = "on_behalf_of";
+
     private final ConfigV7 config;
     private final Settings opensearchSettings;
     private final Path configPath;
@@ -234,6 +240,29 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
             .build();
     }
 
+    @Override
+    public Map<String, String> getAuthcDomainFingerprints() {
+        final Map<String, String> result = new HashMap<>();
+        for (final Entry<String, AuthcDomain> ad : config.dynamic.authc.getDomains().entrySet()) {
+            result.put(ad.getKey(), fingerprint(ad.getValue()));
+        }
+        result.put(ON_BEHALF_OF_DOMAIN_NAME, fingerprint(getDynamicOnBehalfOfSettings()));
+        return result;
+    }
+
+    @Override
+    public Map<String, String> getAuthzDomainFingerprints() {
+        final Map<String, String> result = new HashMap<>();
+        for (final Entry<String, AuthzDomain> ad : config.dynamic.authz.getDomains().entrySet()) {
+            result.put(ad.getKey(), fingerprint(ad.getValue()));
+        }
+        return result;
+    }
+
+    private static String fingerprint(Object domainConfig) {
+        return Hashing.sha256().hashString(String.valueOf(domainConfig), StandardCharsets.UTF_8).toString();
+    }
+
     private void buildAAA() {
 
         final SortedSet<AuthDomain> restAuthDomains0 = new TreeSet<>();
@@ -345,6 +374,7 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
                         );
 
                     final AuthDomain _ad = new AuthDomain(
+                        ad.getKey(),
                         authenticationBackend,
                         httpAuthenticator,
                         ad.getValue().http_authenticator.challenge,
@@ -379,6 +409,7 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
         Settings oboSettings = getDynamicOnBehalfOfSettings();
         if (!isKeyNull(oboSettings, "signing_key") && !isKeyNull(oboSettings, "encryption_key")) {
             final AuthDomain _ad = new AuthDomain(
+                ON_BEHALF_OF_DOMAIN_NAME,
                 new NoOpAuthenticationBackend(Settings.EMPTY, null),
                 new OnBehalfOfAuthenticator(getDynamicOnBehalfOfSettings(), this.cih.getClusterName()),
                 false,
@@ -29,6 +29,7 @@ package org.opensearch.security.securityconf;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public abstract class InternalUsersModel {
 
@@ -44,4 +45,6 @@ public abstract class InternalUsersModel {
 
     public abstract List<String> getSecurityRoles(String user);
 
+    public abstract Set<String> getUsernames();
+
 }
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.io.Serializable;
+import java.net.InetSocketAddress;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.security.user.User;
+
+/**
+ * Provides a compact binary encoding for the user and remote address transport headers, which are sent along with
+ * every transport request. In contrast to the other formats supported by Base64Helper, the encoding is self-describing:
+ * encoded values start with a prefix which is not part of the Base64 alphabet. Thus, the values can be decoded
+ * without knowing the version of the sending node.
+ * <p>
+ * Encoded users carry a hash of their content. Receiving nodes keep a LRU cache of already decoded users keyed by
+ * this hash; a search fanning out to many shards thus only needs to decode the user header once per node. As User
+ * objects are mutable, the cache never hands out the cached instance itself, but only copies of it.
+ * <p>
+ * Subclasses of User are encoded as plain User objects, like it is done by UserInjector.InjectedUser for JDK
+ * serialization. The subclass specific properties are only used during authentication and thus are not needed on
+ * other nodes.
+ */
+public class Base64CompactHelper {
+
+    /**
+     * The first version which is able to decode the compact format.
+     */
+    public static final Version FIRST_SUPPORTED_VERSION = Version.V_3_0_0;
+
+    private static final String PREFIX = "~c1:";
+    private static final char HASH_SEPARATOR = ':';
+    private static final byte TYPE_USER = 1;
+    private static final byte TYPE_ADDRESS = 2;
+
+    private static final Cache<String, CachedUser> userCache = CacheBuilder.newBuilder().maximumSize(1000).recordStats().build();
+
+    public static boolean isSupported(final Version version) {
+        return version != null && version.onOrAfter(FIRST_SUPPORTED_VERSION);
+    }
+
+    public static boolean isCompact(final String string) {
+        return string != null && string.startsWith(PREFIX);
+    }
+
+    public static String serializeUser(final User user) {
+        Preconditions.checkArgument(user != null, "user must not be null");
+
+        try (BytesStreamOutput out = new BytesStreamOutput(128)) {
+            out.writeByte(TYPE_USER);
+            user.writeTo(out);
+            out.writeBoolean(user.isInjected());
+            final byte[] bytes = BytesReference.toBytes(out.bytes());
+            return PREFIX + Hashing.murmur3_128().hashBytes(bytes) + HASH_SEPARATOR + BaseEncoding.base64().encode(bytes);
+        } catch (final Exception e) {
+            throw new OpenSearchException("Instance {} of class {} is not serializable", e, user, user.getClass());
+        }
+    }
+
+    public static String serializeAddress(final InetSocketAddress address) {
+        Preconditions.checkArgument(address != null, "address must not be null");
+
+        try (BytesStreamOutput out = new BytesStreamOutput(32)) {
+            out.writeByte(TYPE_ADDRESS);
+            new TransportAddress(address).writeTo(out);
+            // Addresses are cheap to decode; these are not cached and thus do not need a hash
+            return PREFIX + HASH_SEPARATOR + BaseEncoding.base64().encode(BytesReference.toBytes(out.bytes()));
+        } catch (final Exception e) {
+            throw new OpenSearchException("Instance {} of class {} is not serializable", e, address, address.getClass());
+        }
+    }
+
+    public static Serializable deserializeObject(final String string) {
+        Preconditions.checkArgument(isCompact(string), "string is not in the compact format");
+
+        final int separator = string.indexOf(HASH_SEPARATOR, PREFIX.length());
+        Preconditions.checkArgument(separator != -1, "string is not in the compact format");
+
+        final String hash = string.substring(PREFIX.length(), separator);
+        final String encoded = string.substring(separator + 1);
+
+        if (!hash.isEmpty()) {
+            final CachedUser cachedUser = userCache.getIfPresent(hash);
+
+            // The comparison of the content makes sure that a forged hash cannot yield a different user
+            if (cachedUser != null && cachedUser.encoded.equals(encoded)) {
+                return copy(cachedUser.user);
+            }
+        }
+
+        try (BytesStreamInput in = new BytesStreamInput(BaseEncoding.base64().decode(encoded))) {
+            switch (in.readByte()) {
+                case TYPE_USER:
+                    final User user = new User(in);
+                    user.setInjected(in.readBoolean());
+                    if (!hash.isEmpty()) {
+                        userCache.put(hash, new CachedUser(encoded, user));
+                    }
+                    return copy(user);
+                case TYPE_ADDRESS:
+                    return new TransportAddress(in).address();
+                default:
+                    throw new IllegalArgumentException("Unknown type in compact header");
+            }
+        } catch (final Exception e) {
+            throw new OpenSearchException(e);
+        }
+    }
+
+    public static CacheStats getUserCacheStats() {
+        return userCache.stats();
+    }
+
+    static void clearUserCache() {
+        userCache.invalidateAll();
+    }
+
+    private static User copy(final User user) {
+        final User copy = new User(user.getName());
+        copy.addRoles(user.getRoles());
+        copy.addSecurityRoles(user.getSecurityRoles());
+        copy.setRequestedTenant(user.getRequestedTenant());
+        copy.addAttributes(user.getCustomAttributesMap());
+        copy.setInjected(user.isInjected());
+        return copy;
+    }
+
+    private static class CachedUser {
+        final String encoded;
+        final User user;
+
+        CachedUser(String encoded, User user) {
+            this.encoded = encoded;
+            this.user = user;
+        }
+    }
+}
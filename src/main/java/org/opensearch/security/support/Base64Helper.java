@@ -43,6 +43,9 @@ public class Base64Helper {
     }
 
     public static Serializable deserializeObject(final String string, final boolean useJDKDeserialization) {
+        if (Base64CompactHelper.isCompact(string)) {
+            return Base64CompactHelper.deserializeObject(string);
+        }
         return useJDKDeserialization ? Base64JDKHelper.deserializeObject(string) : Base64CustomHelper.deserializeObject(string);
     }
 
@@ -115,6 +115,9 @@ public class ConfigConstants {
     public static final String OPENDISTRO_SECURITY_USER = OPENDISTRO_SECURITY_CONFIG_PREFIX + "user";
     public static final String OPENDISTRO_SECURITY_USER_HEADER = OPENDISTRO_SECURITY_CONFIG_PREFIX + "user_header";
 
+    public static final String OPENDISTRO_SECURITY_AUTHORIZATION_TICKET = OPENDISTRO_SECURITY_CONFIG_PREFIX + "authz_ticket";
+    public static final String OPENDISTRO_SECURITY_AUTHORIZATION_TICKET_HEADER = OPENDISTRO_SECURITY_CONFIG_PREFIX + "authz_ticket_header";
+
     // persistent header. This header is set once and cannot be stashed
     public static final String OPENDISTRO_SECURITY_AUTHENTICATED_USER = OPENDISTRO_SECURITY_CONFIG_PREFIX + "authenticated_user";
 
@@ -174,6 +177,9 @@ public class ConfigConstants {
     public static final String SECURITY_AUDIT_CONFIG_ENDPOINTS = "plugins.security.audit.endpoints";
     public static final String SECURITY_AUDIT_THREADPOOL_SIZE = "plugins.security.audit.threadpool.size";
     public static final String SECURITY_AUDIT_THREADPOOL_MAX_QUEUE_LEN = "plugins.security.audit.threadpool.max_queue_len";
+    public static final String SECURITY_AUDIT_THREADPOOL_QUEUE_TYPE = "plugins.security.audit.threadpool.queue_type";
+    public static final String SECURITY_AUDIT_THREADPOOL_OVERFLOW_POLICY = "plugins.security.audit.threadpool.overflow_policy";
+    public static final String SECURITY_AUDIT_THREADPOOL_SAMPLE_RATE = "plugins.security.audit.threadpool.sample_rate";
     public static final String OPENDISTRO_SECURITY_AUDIT_LOG_REQUEST_BODY = "opendistro_security.audit.log_request_body";
     public static final String OPENDISTRO_SECURITY_AUDIT_RESOLVE_INDICES = "opendistro_security.audit.resolve_indices";
     public static final String OPENDISTRO_SECURITY_AUDIT_ENABLE_REST = "opendistro_security.audit.enable_rest";
@@ -207,6 +213,15 @@ public class ConfigConstants {
     public static final String SECURITY_AUDIT_OPENSEARCH_INDEX = "index";
     public static final String SECURITY_AUDIT_OPENSEARCH_TYPE = "type";
 
+    // Internal OpenSearch bulk mode
+    public static final String SECURITY_AUDIT_OPENSEARCH_BULK_ENABLED = "bulk.enabled";
+    public static final String SECURITY_AUDIT_OPENSEARCH_BULK_MAX_ACTIONS = "bulk.max_actions";
+    public static final int SECURITY_AUDIT_OPENSEARCH_BULK_MAX_ACTIONS_DEFAULT = 500;
+    public static final String SECURITY_AUDIT_OPENSEARCH_BULK_FLUSH_INTERVAL = "bulk.flush_interval";
+    public static final long SECURITY_AUDIT_OPENSEARCH_BULK_FLUSH_INTERVAL_DEFAULT_MS = 1000L;
+    public static final String SECURITY_AUDIT_OPENSEARCH_BULK_MAX_RETRIES = "bulk.max_retries";
+    public static final int SECURITY_AUDIT_OPENSEARCH_BULK_MAX_RETRIES_DEFAULT = 3;
+
     // External OpenSearch
     public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_HTTP_ENDPOINTS = "http_endpoints";
     public static final String SECURITY_AUDIT_EXTERNAL_OPENSEARCH_USERNAME = "username";
@@ -252,6 +267,9 @@ public class ConfigConstants {
     public static final String SECURITY_DISABLED = "plugins.security.disabled";
 
     public static final String SECURITY_CACHE_TTL_MINUTES = "plugins.security.cache.ttl_minutes";
+    public static final String SECURITY_CACHE_REFRESH_AHEAD_PERCENT = "plugins.security.cache.refresh_ahead_percent";
+    public static final String SECURITY_CACHE_SHARED_ENABLED = "plugins.security.cache.shared.enabled";
+    public static final String SECURITY_CACHE_SHARED_MAX_SIZE = "plugins.security.cache.shared.max_size";
     public static final String SECURITY_ALLOW_UNSAFE_DEMOCERTIFICATES = "plugins.security.allow_unsafe_democertificates";
     public static final String SECURITY_ALLOW_DEFAULT_INIT_SECURITYINDEX = "plugins.security.allow_default_init_securityindex";
 
@@ -359,6 +377,8 @@ public class ConfigConstants {
     public static final String SECURITY_SYSTEM_INDICES_KEY = "plugins.security.system_indices.indices";
     public static final List<String> SECURITY_SYSTEM_INDICES_DEFAULT = Collections.emptyList();
     public static final String SECURITY_MASKED_FIELDS_ALGORITHM_DEFAULT = "plugins.security.masked_fields.algorithm.default";
+    public static final String SECURITY_MASKED_FIELDS_CACHE_SIZE = "plugins.security.masked_fields.cache_size";
+    public static final int SECURITY_MASKED_FIELDS_CACHE_SIZE_DEFAULT = 0;
 
     public static final String TENANCY_PRIVATE_TENANT_NAME = "private";
     public static final String TENANCY_GLOBAL_TENANT_NAME = "global";
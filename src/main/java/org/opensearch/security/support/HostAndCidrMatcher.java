@@ -70,9 +70,24 @@ public class HostAndCidrMatcher {
      * @param hostResolverMode The resolution mode. Must be one of {@link HostResolverMode} to enable hostname matching
      * @return true if the address matches any configured hostname pattern, false otherwise,
      *         if the address is null, or if the resolver mode is invalid
-     * @implNote This method may perform DNS lookups which could impact performance
+     * @implNote No DNS lookups are performed; only host names already carried by the address are matched
      */
     public boolean matchesHostname(InetAddress address, String hostResolverMode) {
+        return matchesHostname(address, hostResolverMode, null);
+    }
+
+    /**
+     * Checks if the provided IP address matches any of the configured hostname patterns.
+     * This method can perform DNS lookups depending on the hostResolverMode.
+     *
+     * @param address The IP address to check
+     * @param hostResolverMode The resolution mode. Must be one of {@link HostResolverMode} to enable hostname matching
+     * @param reverseDnsResolver The resolver of the node; may be null to disable DNS lookups
+     * @return true if the address matches any configured hostname pattern, false otherwise,
+     *         if the address is null, or if the resolver mode is invalid
+     * @implNote DNS lookups are performed by ReverseDnsResolver; if the host name is not resolved in time, only the IP address is matched
+     */
+    public boolean matchesHostname(InetAddress address, String hostResolverMode, ReverseDnsResolver reverseDnsResolver) {
         if (address == null || hostMatcher == null) {
             return false;
         }
@@ -81,12 +96,9 @@ public class HostAndCidrMatcher {
         if (hostResolverMode != null
             && (hostResolverMode.equalsIgnoreCase(HostResolverMode.IP_HOSTNAME.getValue())
                 || hostResolverMode.equalsIgnoreCase(HostResolverMode.IP_HOSTNAME_LOOKUP.getValue()))) {
-            try {
-                final String hostName = address.getHostName();  // potential blocking call
+            final String hostName = ReverseDnsResolver.getHostName(reverseDnsResolver, address);
+            if (hostName != null) {
                 valuesToCheck.add(hostName);
-            } catch (Exception e) {
-                log.warn("Failed to resolve hostname for {}: {}", address.getHostAddress(), e.getMessage());
-                return false;
             }
         }
         return valuesToCheck.stream().anyMatch(hostMatcher);
@@ -101,6 +113,19 @@ public class HostAndCidrMatcher {
      *         false otherwise
      */
     public boolean matches(InetAddress address, String hostResolverMode) {
-        return matchesHostname(address, hostResolverMode) || matchesCidr(address);
+        return matches(address, hostResolverMode, null);
+    }
+
+    /**
+     * Checks if the provided IP address matches either hostname patterns or CIDR ranges.
+     *
+     * @param address The IP address to check
+     * @param hostResolverMode The resolution mode for hostname matching
+     * @param reverseDnsResolver The resolver of the node; may be null to disable DNS lookups
+     * @return true if the address matches either hostname patterns or CIDR ranges,
+     *         false otherwise
+     */
+    public boolean matches(InetAddress address, String hostResolverMode, ReverseDnsResolver reverseDnsResolver) {
+        return matchesHostname(address, hostResolverMode, reverseDnsResolver) || matchesCidr(address);
     }
 }
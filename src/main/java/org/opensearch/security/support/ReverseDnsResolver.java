@@ -0,0 +1,316 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.net.InetAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Performs reverse DNS lookups for the host based role mapping and host matching (HostResolverMode.IP_HOSTNAME_LOOKUP).
+ * <p>
+ * InetAddress.getHostName() blocks the calling thread until the DNS server answers; a slow DNS server thus stalls
+ * the transport and HTTP threads. This class performs the lookups on the THREAD_POOL_NAME executor of the node's
+ * ThreadPool and caches the results with separate TTLs for successful and failed lookups; concurrent lookups of the
+ * same address are merged.
+ * <p>
+ * If the host name of an address is not cached yet, the calling thread waits at most for the configured timeout. If
+ * the lookup does not finish in time, the address is treated as unresolved; that is, only the IP address is matched.
+ * The lookup still finishes in the background and fills the cache for subsequent requests. If a cached host name has
+ * expired, it is still returned while it is refreshed in the background; thus, host name based role mappings do not
+ * flap when the positive TTL elapses.
+ * <p>
+ * One instance is created per node.
+ */
+public class ReverseDnsResolver {
+
+    public static final String THREAD_POOL_NAME = "security_reverse_dns";
+
+    public static Setting<TimeValue> POSITIVE_TTL = Setting.timeSetting(
+        "plugins.security.reverse_dns.positive_ttl",
+        TimeValue.timeValueMinutes(10),
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    public static Setting<TimeValue> NEGATIVE_TTL = Setting.timeSetting(
+        "plugins.security.reverse_dns.negative_ttl",
+        TimeValue.timeValueMinutes(1),
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    public static Setting<TimeValue> TIMEOUT = Setting.timeSetting(
+        "plugins.security.reverse_dns.timeout",
+        TimeValue.timeValueMillis(100),
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    public static Setting<Integer> CACHE_MAX_SIZE = Setting.intSetting(
+        "plugins.security.reverse_dns.cache.max_size",
+        10_000,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    private static final Logger log = LogManager.getLogger(ReverseDnsResolver.class);
+    private static final int MAX_THREADS = 4;
+    private static final int MAX_QUEUED_LOOKUPS = 1000;
+
+    private final long positiveTtlNanos;
+    private final long negativeTtlNanos;
+    private final long timeoutNanos;
+    private final Cache<InetAddress, Entry> cache;
+    private final ConcurrentHashMap<InetAddress, CompletableFuture<String>> pendingLookups = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final LookupFunction lookupFunction;
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong failedLookups = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final SecurityMetrics.Histogram lookupTime;
+
+    public ReverseDnsResolver(Settings settings, ThreadPool threadPool, SecurityMetrics metrics) {
+        this(
+            settings,
+            threadPool.executor(THREAD_POOL_NAME),
+            address -> InetAddress.getByAddress(address.getAddress()).getHostName(),
+            metrics
+        );
+    }
+
+    ReverseDnsResolver(Settings settings, Executor executor, LookupFunction lookupFunction, SecurityMetrics metrics) {
+        this.positiveTtlNanos = POSITIVE_TTL.get(settings).nanos();
+        this.negativeTtlNanos = NEGATIVE_TTL.get(settings).nanos();
+        this.timeoutNanos = TIMEOUT.get(settings).nanos();
+        // Expired host names are kept for another positive TTL, so that they can be served while they are refreshed
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_MAX_SIZE.get(settings))
+            .expireAfterWrite(Math.max(2 * positiveTtlNanos, negativeTtlNanos), TimeUnit.NANOSECONDS)
+            .build();
+        this.executor = executor;
+        this.lookupFunction = lookupFunction;
+        this.lookupTime = metrics.histogram("reverse_dns.lookup_time");
+    }
+
+    /**
+     * The bounded executor for the lookups; it must be registered with the node's ThreadPool.
+     */
+    public static ExecutorBuilder<?> executorBuilder(Settings settings) {
+        return new FixedExecutorBuilder(settings, THREAD_POOL_NAME, MAX_THREADS, MAX_QUEUED_LOOKUPS);
+    }
+
+    /**
+     * Returns the host name of the given address. Returns null if the address could not be resolved or if the lookup
+     * did not finish within the configured timeout.
+     * If the address already carries a host name (e.g., because it was created from a host name), no lookup is
+     * performed.
+     * <p>
+     * The resolver may be null; then, only host names already carried by the address are returned.
+     */
+    public static String getHostName(final ReverseDnsResolver resolver, final InetAddress address) {
+        if (address == null) {
+            return null;
+        }
+
+        if (resolver == null) {
+            return knownHostName(address);
+        }
+
+        return resolver.getHostName(address);
+    }
+
+    /**
+     * Returns the host name of the given address. Returns null if the address could not be resolved or if the lookup
+     * did not finish within the configured timeout. An expired host name is returned while it is refreshed in the
+     * background.
+     * If the address already carries a host name (e.g., because it was created from a host name), no lookup is
+     * performed.
+     */
+    public String getHostName(final InetAddress address) {
+        if (address == null) {
+            return null;
+        }
+
+        final String knownHostName = knownHostName(address);
+
+        if (knownHostName != null) {
+            return knownHostName;
+        }
+
+        final Entry entry = cache.getIfPresent(address);
+
+        if (entry != null && entry.expiresAtNanos - System.nanoTime() > 0) {
+            cacheHits.incrementAndGet();
+            return entry.hostName;
+        }
+
+        final CompletableFuture<String> lookup = startLookup(address);
+
+        if (entry != null && entry.hostName != null) {
+            staleHits.incrementAndGet();
+            return entry.hostName;
+        }
+
+        cacheMisses.incrementAndGet();
+
+        if (lookup == null) {
+            return null;
+        }
+
+        if (timeoutNanos <= 0) {
+            return lookup.getNow(null);
+        }
+
+        try {
+            return lookup.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.incrementAndGet();
+            log.debug("Reverse DNS lookup for {} timed out; treating it as unresolved", address.getHostAddress());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    /**
+     * The number of requests which were served with an expired host name while it was being refreshed.
+     */
+    public long getStaleHits() {
+        return staleHits.get();
+    }
+
+    public long getLookups() {
+        return lookups.get();
+    }
+
+    public long getFailedLookups() {
+        return failedLookups.get();
+    }
+
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    /**
+     * Returns the pending lookup of the given address or starts a new one. Returns null if the lookup was rejected
+     * by the executor.
+     */
+    private CompletableFuture<String> startLookup(InetAddress address) {
+        final CompletableFuture<String> pending = pendingLookups.get(address);
+
+        if (pending != null) {
+            return pending;
+        }
+
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        final CompletableFuture<String> concurrent = pendingLookups.putIfAbsent(address, future);
+
+        if (concurrent != null) {
+            return concurrent;
+        }
+
+        try {
+            executor.execute(() -> future.complete(lookup(address)));
+            return future;
+        } catch (RejectedExecutionException e) {
+            pendingLookups.remove(address, future);
+            future.complete(null);
+            log.warn("Too many pending reverse DNS lookups; treating {} as unresolved", address.getHostAddress());
+            return null;
+        }
+    }
+
+    private String lookup(InetAddress address) {
+        final long start = System.nanoTime();
+        String hostName = null;
+
+        try {
+            hostName = lookupFunction.apply(address);
+            // InetAddress returns the textual IP address if the lookup fails
+            if (hostName != null && hostName.equals(address.getHostAddress())) {
+                hostName = null;
+            }
+        } catch (Exception e) {
+            log.debug("Reverse DNS lookup for {} failed", address.getHostAddress(), e);
+        }
+
+        final long now = System.nanoTime();
+        lookupTime.record(now - start);
+
+        if (hostName == null) {
+            failedLookups.incrementAndGet();
+            cache.put(address, new Entry(null, now + negativeTtlNanos));
+        } else {
+            cache.put(address, new Entry(hostName, now + positiveTtlNanos));
+        }
+
+        pendingLookups.remove(address);
+        lookups.incrementAndGet();
+        return hostName;
+    }
+
+    private static String knownHostName(InetAddress address) {
+        // InetAddress.toString() returns "hostname/literal IP address"; the host name part is empty if unknown
+        final String string = address.toString();
+        final int separator = string.indexOf('/');
+        return separator > 0 ? string.substring(0, separator) : null;
+    }
+
+    @FunctionalInterface
+    interface LookupFunction {
+        String apply(InetAddress address) throws Exception;
+    }
+
+    private static class Entry {
+        final String hostName;
+        final long expiresAtNanos;
+
+        Entry(String hostName, long expiresAtNanos) {
+            this.hostName = hostName;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.support;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Registry for runtime metrics of the security plugin. There is one instance per node, which is created by
+ * OpenSearchSecurityPlugin and passed to the components which record metrics. The metrics are reported by the
+ * _plugins/_security/stats endpoint.
+ * <p>
+ * There are three kinds of metrics:
+ * <ul>
+ *     <li>Counters, which count events.</li>
+ *     <li>Histograms, which record the distribution of durations in nanoseconds.</li>
+ *     <li>Gauges, which report a current value, such as a queue size. Gauges are evaluated when a snapshot is taken.</li>
+ * </ul>
+ * Counters and histograms are based on LongAdder instances; thus, recording values is lock-free and scales with many
+ * concurrent threads. Components should look up their metrics once and keep them in fields, as the lookup involves
+ * a hash map access.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class SecurityMetrics {
+
+    private static final Logger log = LogManager.getLogger(SecurityMetrics.class);
+
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the counter with the given name; the counter is created if it does not exist yet.
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, k -> new Counter());
+    }
+
+    /**
+     * Returns the histogram with the given name; the histogram is created if it does not exist yet.
+     */
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, k -> new Histogram());
+    }
+
+    /**
+     * Registers a gauge with the given name. An already registered gauge with the same name is replaced.
+     */
+    public void gauge(String name, LongSupplier supplier) {
+        gauges.put(name, supplier);
+    }
+
+    /**
+     * Removes the gauge with the given name, if it is still registered with the given supplier.
+     */
+    public void removeGauge(String name, LongSupplier supplier) {
+        gauges.remove(name, supplier);
+    }
+
+    public Map<String, Long> getCounterValues() {
+        Map<String, Long> result = new TreeMap<>();
+        counters.forEach((name, counter) -> result.put(name, counter.get()));
+        return result;
+    }
+
+    public Map<String, Long> getGaugeValues() {
+        Map<String, Long> result = new TreeMap<>();
+        gauges.forEach((name, supplier) -> {
+            try {
+                result.put(name, supplier.getAsLong());
+            } catch (RuntimeException e) {
+                log.warn("Error while reading gauge {}", name, e);
+            }
+        });
+        return result;
+    }
+
+    public Map<String, HistogramSnapshot> getHistogramSnapshots() {
+        Map<String, HistogramSnapshot> result = new TreeMap<>();
+        histograms.forEach((name, histogram) -> result.put(name, histogram.snapshot()));
+        return result;
+    }
+
+    /**
+     * A monotonically increasing counter.
+     */
+    public static final class Counter {
+        private final LongAdder value = new LongAdder();
+
+        private Counter() {}
+
+        public void increment() {
+            value.increment();
+        }
+
+        public void add(long delta) {
+            value.add(delta);
+        }
+
+        public long get() {
+            return value.sum();
+        }
+    }
+
+    /**
+     * Records the distribution of durations in nanoseconds. Values are counted in buckets with a relative width of
+     * 25%: each power of two is divided into four linear sub-buckets. Thus, percentiles are reported with an error of at
+     * most 25%, independent of the magnitude of the values. This needs a constant amount of memory, regardless of the
+     * number of recorded values.
+     */
+    public static final class Histogram {
+        static final int SUB_BUCKET_BITS = 2;
+        static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        static final int BUCKETS = (63 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private Histogram() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Records the given duration in nanoseconds. Negative values are recorded as 0.
+         */
+        public void record(long nanos) {
+            long value = Math.max(nanos, 0);
+            buckets[bucketIndex(value)].increment();
+            count.increment();
+            sum.add(value);
+            max.accumulate(value);
+        }
+
+        /**
+         * Records the time elapsed since the given start time, which must have been obtained by System.nanoTime().
+         */
+        public void recordSince(long startNanos) {
+            record(System.nanoTime() - startNanos);
+        }
+
+        public HistogramSnapshot snapshot() {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets[i].sum();
+                total += counts[i];
+            }
+
+            long maxValue = max.get();
+
+            return new HistogramSnapshot(
+                total,
+                sum.sum(),
+                maxValue,
+                percentile(counts, total, 0.5, maxValue),
+                percentile(counts, total, 0.9, maxValue),
+                percentile(counts, total, 0.99, maxValue)
+            );
+        }
+
+        static int bucketIndex(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        /**
+         * Returns the largest value which is counted in the bucket with the given index.
+         */
+        static long bucketUpperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+
+            int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+            int subBucket = index % SUB_BUCKETS;
+            long lowerBound = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+
+            return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+        }
+
+        private static long percentile(long[] counts, long total, double percentile, long maxValue) {
+            if (total == 0) {
+                return 0;
+            }
+
+            long threshold = (long) Math.ceil(total * percentile);
+            long cumulative = 0;
+
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+
+                if (cumulative >= threshold) {
+                    return Math.min(bucketUpperBound(i), maxValue);
+                }
+            }
+
+            return maxValue;
+        }
+    }
+
+    /**
+     * A point-in-time view of a histogram. Percentiles are approximate, see Histogram.
+     */
+    public static final class HistogramSnapshot implements Writeable, ToXContentObject {
+        private final long count;
+        private final long sumNanos;
+        private final long maxNanos;
+        private final long p50Nanos;
+        private final long p90Nanos;
+        private final long p99Nanos;
+
+        public HistogramSnapshot(long count, long sumNanos, long maxNanos, long p50Nanos, long p90Nanos, long p99Nanos) {
+            this.count = count;
+            this.sumNanos = sumNanos;
+            this.maxNanos = maxNanos;
+            this.p50Nanos = p50Nanos;
+            this.p90Nanos = p90Nanos;
+            this.p99Nanos = p99Nanos;
+        }
+
+        public HistogramSnapshot(StreamInput in) throws IOException {
+            this.count = in.readVLong();
+            this.sumNanos = in.readVLong();
+            this.maxNanos = in.readVLong();
+            this.p50Nanos = in.readVLong();
+            this.p90Nanos = in.readVLong();
+            this.p99Nanos = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(count);
+            out.writeVLong(sumNanos);
+            out.writeVLong(maxNanos);
+            out.writeVLong(p50Nanos);
+            out.writeVLong(p90Nanos);
+            out.writeVLong(p99Nanos);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSumNanos() {
+            return sumNanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getP90Nanos() {
+            return p90Nanos;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("count", count);
+            builder.field("sum_nanos", sumNanos);
+            builder.field("mean_nanos", count != 0 ? sumNanos / count : 0);
+            builder.field("max_nanos", maxNanos);
+            builder.field("p50_nanos", p50Nanos);
+            builder.field("p90_nanos", p90Nanos);
+            builder.field("p99_nanos", p99Nanos);
+            builder.endObject();
+            return builder;
+        }
+
+        @Override
+        public String toString() {
+            return "HistogramSnapshot [count=" + count + ", sumNanos=" + sumNanos + ", maxNanos=" + maxNanos + "]";
+        }
+    }
+}
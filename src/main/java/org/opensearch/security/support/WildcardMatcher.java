@@ -26,10 +26,14 @@
 
 package org.opensearch.security.support;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -168,7 +172,7 @@ public abstract class WildcardMatcher implements Predicate<String> {
         return from(pattern, true);
     }
 
-    // This may in future use more optimized techniques to combine multiple WildcardMatchers in a single automaton
+    // Combinations of many simple patterns are internally compiled into a PatternTrie, see MatcherCombiner
     public static <T> WildcardMatcher from(Stream<T> stream, boolean caseSensitive) {
         Collection<WildcardMatcher> matchers = stream.map(t -> {
             if (t == null) {
@@ -344,6 +348,16 @@ public abstract class WildcardMatcher implements Predicate<String> {
         return pattern.stream().filter(p -> p.matchAny(candidates)).map(Objects::toString).collect(Collectors.toList());
     }
 
+    /**
+     * Compiles the given case-sensitive patterns into a single PatternTrie. In contrast to a list of single matchers,
+     * the returned object can determine all patterns matching a candidate string in one pass over the candidate string,
+     * independently of the number of patterns. Use this if you need to test against large numbers of patterns, like
+     * role mappings do.
+     */
+    public static PatternTrie compile(Collection<String> patterns) {
+        return new PatternTrie(patterns);
+    }
+
     public static boolean isExact(String pattern) {
         return pattern == null || !(pattern.contains("*") || pattern.contains("?") || (pattern.startsWith("/") && pattern.endsWith("/")));
     }
@@ -511,23 +525,281 @@ public abstract class WildcardMatcher implements Predicate<String> {
         }
     }
 
+    /**
+     * Combines a set of patterns into a trie which is interpreted as a non-deterministic finite automaton. Simple patterns
+     * (which only use * and ? as wildcards) and exact patterns share the trie nodes for common prefixes. Nodes which are
+     * reached via a * edge have an implicit self-loop consuming any character.
+     * <p>
+     * Matching walks the trie in a single pass over the candidate string while keeping track of the set of active nodes.
+     * Thus, the costs depend on the length of the candidate string and the number of simultaneously active nodes, but
+     * not on the total number of patterns. Regular expression patterns cannot be merged into the trie; these are tested
+     * one by one.
+     * <p>
+     * Instances of this class are immutable after construction and thus thread-safe.
+     */
+    public static final class PatternTrie extends WildcardMatcher {
+
+        private final Node root = new Node(false);
+        private final ImmutableSet<String> patterns;
+        private final List<WildcardMatcher> regexMatchers;
+
+        private PatternTrie(Collection<String> patterns) {
+            this.patterns = ImmutableSet.copyOf(patterns);
+            List<WildcardMatcher> regexMatchers = new ArrayList<>();
+
+            for (String pattern : this.patterns) {
+                if (pattern.length() > 1 && pattern.startsWith("/") && pattern.endsWith("/")) {
+                    regexMatchers.add(new RegexMatcher(pattern, true));
+                } else {
+                    add(pattern);
+                }
+            }
+
+            this.regexMatchers = regexMatchers;
+        }
+
+        /**
+         * Returns all patterns (in their original string representation) which match the given candidate string.
+         */
+        public List<String> getAllMatchingPatterns(String candidate) {
+            List<String> result = new ArrayList<>();
+            collectMatchingPatterns(candidate, result);
+            return result;
+        }
+
+        /**
+         * Returns all patterns (in their original string representation) which match at least one of the given candidate
+         * strings. Each pattern is contained at most once in the result.
+         */
+        public List<String> getAllMatchingPatterns(Collection<String> candidates) {
+            LinkedHashSet<String> result = new LinkedHashSet<>();
+
+            for (String candidate : candidates) {
+                collectMatchingPatterns(candidate, result);
+            }
+
+            return new ArrayList<>(result);
+        }
+
+        @Override
+        public boolean test(String candidate) {
+            List<Node> active = new ArrayList<>();
+            addWithClosure(active, root);
+
+            for (int i = 0; i < candidate.length(); i++) {
+                for (Node node : active) {
+                    if (node.star && !node.patterns.isEmpty()) {
+                        // A pattern ending with * matches any remainder of the candidate string
+                        return true;
+                    }
+                }
+
+                active = step(active, candidate.charAt(i));
+
+                if (active.isEmpty()) {
+                    return testRegexMatchers(candidate);
+                }
+            }
+
+            for (Node node : active) {
+                if (!node.patterns.isEmpty()) {
+                    return true;
+                }
+            }
+
+            return testRegexMatchers(candidate);
+        }
+
+        public boolean isEmpty() {
+            return patterns.isEmpty();
+        }
+
+        private void collectMatchingPatterns(String candidate, Collection<String> result) {
+            List<Node> active = new ArrayList<>();
+            addWithClosure(active, root);
+
+            for (int i = 0; i < candidate.length() && !active.isEmpty(); i++) {
+                active = step(active, candidate.charAt(i));
+            }
+
+            for (Node node : active) {
+                result.addAll(node.patterns);
+            }
+
+            for (WildcardMatcher regexMatcher : regexMatchers) {
+                if (regexMatcher.test(candidate)) {
+                    result.add(regexMatcher.toString());
+                }
+            }
+        }
+
+        private boolean testRegexMatchers(String candidate) {
+            for (WildcardMatcher regexMatcher : regexMatchers) {
+                if (regexMatcher.test(candidate)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private void add(String pattern) {
+            Node node = root;
+
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+
+                if (c == '*') {
+                    if (node.star) {
+                        // ** is equivalent to *
+                        continue;
+                    }
+                    if (node.starChild == null) {
+                        node.starChild = new Node(true);
+                    }
+                    node = node.starChild;
+                } else if (c == '?') {
+                    if (node.anyCharChild == null) {
+                        node.anyCharChild = new Node(false);
+                    }
+                    node = node.anyCharChild;
+                } else {
+                    if (node.children == null) {
+                        node.children = new HashMap<>();
+                    }
+                    node = node.children.computeIfAbsent(c, (k) -> new Node(false));
+                }
+            }
+
+            node.addPattern(pattern);
+        }
+
+        private static List<Node> step(List<Node> active, char c) {
+            List<Node> next = new ArrayList<>(active.size() + 2);
+
+            for (Node node : active) {
+                if (node.star) {
+                    addWithClosure(next, node);
+                }
+
+                if (node.children != null) {
+                    Node child = node.children.get(c);
+                    if (child != null) {
+                        addWithClosure(next, child);
+                    }
+                }
+
+                if (node.anyCharChild != null) {
+                    addWithClosure(next, node.anyCharChild);
+                }
+            }
+
+            return next;
+        }
+
+        /**
+         * Adds the node and - as * can also match the empty string - a possibly existing star child to the set of
+         * active nodes. The sets of active nodes are usually very small, thus a list is used here.
+         */
+        private static void addWithClosure(List<Node> active, Node node) {
+            if (!active.contains(node)) {
+                active.add(node);
+            }
+
+            if (node.starChild != null && !active.contains(node.starChild)) {
+                active.add(node.starChild);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PatternTrie that = (PatternTrie) o;
+            return patterns.equals(that.patterns);
+        }
+
+        @Override
+        public int hashCode() {
+            return patterns.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return patterns.toString();
+        }
+
+        private static final class Node {
+            private final boolean star;
+            private Map<Character, Node> children;
+            private Node anyCharChild;
+            private Node starChild;
+            private List<String> patterns = List.of();
+
+            Node(boolean star) {
+                this.star = star;
+            }
+
+            void addPattern(String pattern) {
+                if (patterns.isEmpty()) {
+                    patterns = new ArrayList<>(1);
+                }
+                patterns.add(pattern);
+            }
+        }
+    }
+
     // MatcherCombiner is a combination of a set of matchers
     // matches if any of the set do
     // Empty MultiMatcher always returns false
+    // If the set contains many simple or exact matchers, these are compiled into a PatternTrie
     private static final class MatcherCombiner extends WildcardMatcher {
 
+        static final int COMPILE_THRESHOLD = 8;
+
         private final Collection<WildcardMatcher> wildcardMatchers;
+        private final PatternTrie compiledMatchers;
+        private final List<WildcardMatcher> uncompiledMatchers;
         private final int hashCode;
 
         MatcherCombiner(Collection<WildcardMatcher> wildcardMatchers) {
             Preconditions.checkArgument(wildcardMatchers.size() > 1);
             this.wildcardMatchers = wildcardMatchers;
             hashCode = wildcardMatchers.hashCode();
+
+            List<String> compilablePatterns = new ArrayList<>();
+            List<WildcardMatcher> uncompiledMatchers = new ArrayList<>();
+
+            for (WildcardMatcher matcher : wildcardMatchers) {
+                if (matcher instanceof Exact || matcher instanceof SimpleMatcher) {
+                    compilablePatterns.add(matcher.toString());
+                } else {
+                    uncompiledMatchers.add(matcher);
+                }
+            }
+
+            if (compilablePatterns.size() >= COMPILE_THRESHOLD) {
+                this.compiledMatchers = new PatternTrie(compilablePatterns);
+                this.uncompiledMatchers = uncompiledMatchers;
+            } else {
+                this.compiledMatchers = null;
+                this.uncompiledMatchers = new ArrayList<>(wildcardMatchers);
+            }
         }
 
         @Override
         public boolean test(String candidate) {
-            return wildcardMatchers.stream().anyMatch(m -> m.test(candidate));
+            if (compiledMatchers != null && compiledMatchers.test(candidate)) {
+                return true;
+            }
+
+            for (WildcardMatcher matcher : uncompiledMatchers) {
+                if (matcher.test(candidate)) {
+                    return true;
+                }
+            }
+
+            return false;
         }
 
         @Override
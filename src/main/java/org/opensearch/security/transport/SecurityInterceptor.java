@@ -57,10 +57,12 @@ import org.opensearch.security.auditlog.AuditLog;
 import org.opensearch.security.auditlog.AuditLog.Origin;
 import org.opensearch.security.auth.BackendRegistry;
 import org.opensearch.security.configuration.ClusterInfoHolder;
+import org.opensearch.security.filter.AuthorizationTickets;
 import org.opensearch.security.privileges.dlsfls.DlsFlsLegacyHeaders;
 import org.opensearch.security.ssl.SslExceptionHandler;
 import org.opensearch.security.ssl.transport.PrincipalExtractor;
 import org.opensearch.security.ssl.transport.SSLConfig;
+import org.opensearch.security.support.Base64CompactHelper;
 import org.opensearch.security.support.Base64Helper;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.HeaderHelper;
@@ -77,6 +79,11 @@ import org.opensearch.transport.TransportResponseHandler;
 
 public class SecurityInterceptor {
 
+    private static final List<String> COMPACT_HEADER_NAMES = List.of(
+        ConfigConstants.OPENDISTRO_SECURITY_USER_HEADER,
+        ConfigConstants.OPENDISTRO_SECURITY_REMOTE_ADDRESS_HEADER
+    );
+
     protected final Logger log = LogManager.getLogger(getClass());
     private BackendRegistry backendRegistry;
     private AuditLog auditLog;
@@ -152,10 +159,14 @@ public class SecurityInterceptor {
         final String origCCSTransientFls = getThreadContext().getTransient(ConfigConstants.OPENDISTRO_SECURITY_FLS_FIELDS_CCS);
         final String origCCSTransientMf = getThreadContext().getTransient(ConfigConstants.OPENDISTRO_SECURITY_MASKED_FIELD_CCS);
         final DlsFlsLegacyHeaders dlsFlsLegacyHeaders = getThreadContext().getTransient(DlsFlsLegacyHeaders.TRANSIENT_HEADER);
+        final AuthorizationTickets.Ticket authorizationTicket = getThreadContext().getTransient(
+            ConfigConstants.OPENDISTRO_SECURITY_AUTHORIZATION_TICKET
+        );
 
         final boolean isDebugEnabled = log.isDebugEnabled();
 
         final var serializationFormat = SerializationFormat.determineFormat(connection.getVersion());
+        final boolean useCompactHeaders = Base64CompactHelper.isSupported(connection.getVersion());
         final boolean isSameNodeRequest = localNode != null && localNode.equals(connection.getNode());
 
         try (ThreadContext.StoredContext stashedContext = getThreadContext().stashContext()) {
@@ -189,6 +200,10 @@ public class SecurityInterceptor {
                 dlsFlsLegacyHeaders.performHeaderDecoration(connection, request, headerMap);
             }
 
+            if (authorizationTicket != null && authorizationTicket.getAction().equals(action)) {
+                headerMap.put(ConfigConstants.OPENDISTRO_SECURITY_AUTHORIZATION_TICKET_HEADER, authorizationTicket.getValue());
+            }
+
             if (OpenSearchSecurityPlugin.GuiceHolder.getRemoteClusterService().isCrossClusterSearchEnabled()
                 && clusterInfoHolder.isInitialized()
                 && (action.equals(ClusterSearchShardsAction.NAME) || action.equals(SearchAction.NAME))
@@ -237,6 +252,21 @@ public class SecurityInterceptor {
                 );
             }
 
+            if (!useCompactHeaders) {
+                // Headers received from other nodes might be in the compact format, which the target node cannot decode
+                for (String k : COMPACT_HEADER_NAMES) {
+                    if (Base64CompactHelper.isCompact(headerMap.get(k))) {
+                        headerMap.put(
+                            k,
+                            Base64Helper.serializeObject(
+                                Base64CompactHelper.deserializeObject(headerMap.get(k)),
+                                serializationFormat == SerializationFormat.JDK
+                            )
+                        );
+                    }
+                }
+            }
+
             try {
                 if (clusterInfoHolder.getMinNodeVersion() == null || clusterInfoHolder.getMinNodeVersion().before(Version.V_2_14_0)) {
                     if (serializationFormat == SerializationFormat.JDK) {
@@ -267,7 +297,8 @@ public class SecurityInterceptor {
                 injectedUserString,
                 injectedRolesString,
                 isSameNodeRequest,
-                serializationFormat
+                serializationFormat,
+                useCompactHeaders
             );
 
             if (actionTraceEnabled.get()) {
@@ -296,7 +327,8 @@ public class SecurityInterceptor {
         final String injectedUserString,
         final String injectedRolesString,
         final boolean isSameNodeRequest,
-        final SerializationFormat format
+        final SerializationFormat format,
+        final boolean useCompactHeaders
     ) {
         // keep original address
 
@@ -338,7 +370,9 @@ public class SecurityInterceptor {
             if (transportAddress != null) {
                 getThreadContext().putHeader(
                     ConfigConstants.OPENDISTRO_SECURITY_REMOTE_ADDRESS_HEADER,
-                    Base64Helper.serializeObject(transportAddress.address(), useJDKSerialization)
+                    useCompactHeaders
+                        ? Base64CompactHelper.serializeAddress(transportAddress.address())
+                        : Base64Helper.serializeObject(transportAddress.address(), useJDKSerialization)
                 );
             }
 
@@ -348,7 +382,9 @@ public class SecurityInterceptor {
                 if (origUser != null) {
                     getThreadContext().putHeader(
                         ConfigConstants.OPENDISTRO_SECURITY_USER_HEADER,
-                        Base64Helper.serializeObject(origUser, useJDKSerialization)
+                        useCompactHeaders
+                            ? Base64CompactHelper.serializeUser(origUser)
+                            : Base64Helper.serializeObject(origUser, useJDKSerialization)
                     );
                 } else if (StringUtils.isNotEmpty(injectedRolesString)) {
                     getThreadContext().putHeader(ConfigConstants.OPENDISTRO_SECURITY_INJECTED_ROLES_HEADER, injectedRolesString);
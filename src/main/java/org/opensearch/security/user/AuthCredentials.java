@@ -155,6 +155,17 @@ public final class AuthCredentials {
         nativeCredentials = null;
     }
 
+    /**
+     * Creates a copy of these credentials, including the secrets. The secrets of the copy need to be cleared separately.
+     */
+    public AuthCredentials copy() {
+        final AuthCredentials copy = new AuthCredentials(username, getPassword(), nativeCredentials, backendRoles.toArray(new String[0]));
+        copy.securityRoles.addAll(securityRoles);
+        copy.attributes.putAll(attributes);
+        copy.complete = complete;
+        return copy;
+    }
+
     public String getUsername() {
         return username;
     }
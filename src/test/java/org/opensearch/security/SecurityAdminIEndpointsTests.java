@@ -11,6 +11,9 @@
 
 package org.opensearch.security;
 
+import java.util.Iterator;
+
+import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.http.HttpStatus;
 import org.junit.Test;
 
@@ -19,6 +22,7 @@ import org.opensearch.security.test.SingleClusterTest;
 import org.opensearch.security.test.helper.file.FileHelper;
 import org.opensearch.security.test.helper.rest.RestHelper;
 
+import static org.opensearch.security.DefaultObjectMapper.readTree;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
@@ -163,4 +167,52 @@ public class SecurityAdminIEndpointsTests extends SingleClusterTest {
 
     }
 
+    @Test
+    public void testConfigUpdateFlushesAuthenticationCaches() throws Exception {
+        final Settings settings = Settings.builder()
+            .put("plugins.security.ssl.http.enabled", true)
+            .put("plugins.security.ssl.http.keystore_filepath", FileHelper.getAbsoluteFilePathFromClassPath("node-0-keystore.jks"))
+            .put("plugins.security.ssl.http.truststore_filepath", FileHelper.getAbsoluteFilePathFromClassPath("truststore.jks"))
+            .putList("plugins.security.nodes_dn", "CN=node-*.example.com,OU=SSL,O=Test,L=Test,C=DE")
+            .build();
+        setup(settings);
+        final RestHelper rh = restHelper();
+        rh.enableHTTPClientSSL = true;
+        rh.trustHTTPServerCertificate = true;
+        rh.sendAdminCertificate = false;
+        final RestHelper adminRh = restHelper();
+        adminRh.enableHTTPClientSSL = true;
+        adminRh.trustHTTPServerCertificate = true;
+        adminRh.keystore = "kirk-keystore.jks";
+
+        assertThat(
+            rh.executeGetRequest("_plugins/_security/authinfo", encodeBasicHeader("nagilum", "nagilum")).getStatusCode(),
+            is(HttpStatus.SC_OK)
+        );
+        final long missesBefore = authCacheMisses(rh);
+
+        // Reloading the roles does not affect the cached users; still, all caches are flushed as requested by securityadmin -rl
+        assertThat(
+            adminRh.executePutRequest("_plugins/_security/configupdate?config_types=roles", "").getStatusCode(),
+            is(HttpStatus.SC_OK)
+        );
+
+        assertThat(
+            rh.executeGetRequest("_plugins/_security/authinfo", encodeBasicHeader("nagilum", "nagilum")).getStatusCode(),
+            is(HttpStatus.SC_OK)
+        );
+        assertThat(authCacheMisses(rh), is(missesBefore + 1));
+    }
+
+    private static long authCacheMisses(RestHelper rh) throws Exception {
+        final RestHelper.HttpResponse res = rh.executeGetRequest("_plugins/_security/stats", encodeBasicHeader("nagilum", "nagilum"));
+        assertThat(res.getBody(), res.getStatusCode(), is(HttpStatus.SC_OK));
+
+        long result = 0;
+        for (Iterator<JsonNode> nodes = readTree(res.getBody()).get("nodes").elements(); nodes.hasNext();) {
+            result += nodes.next().path("counters").path("auth_cache.misses").asLong();
+        }
+        return result;
+    }
+
 }
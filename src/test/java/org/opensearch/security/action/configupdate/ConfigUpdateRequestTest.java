@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.configupdate;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ConfigUpdateRequestTest {
+
+    @Test
+    public void serialization_invalidateAllCaches() throws IOException {
+        ConfigUpdateRequest request = new ConfigUpdateRequest(new String[] { "config", "internalusers" }).setInvalidateAllCaches(true);
+
+        ConfigUpdateRequest result = roundTrip(request, Version.CURRENT);
+
+        assertThat(result.getConfigTypes(), arrayContaining("config", "internalusers"));
+        assertThat(result.isInvalidateAllCaches(), is(true));
+        assertThat(result.getInvalidationId(), is(notNullValue()));
+        assertThat(result.getInvalidationId(), is(request.getInvalidationId()));
+    }
+
+    @Test
+    public void serialization_selectiveInvalidation() throws IOException {
+        ConfigUpdateRequest request = new ConfigUpdateRequest(new String[] { "internalusers" }).setInvalidateAllCaches(false);
+
+        ConfigUpdateRequest result = roundTrip(request, Version.CURRENT);
+
+        assertThat(result.isInvalidateAllCaches(), is(false));
+        assertThat(result.getInvalidationId(), is(nullValue()));
+    }
+
+    @Test
+    public void serialization_olderVersion() throws IOException {
+        ConfigUpdateRequest request = new ConfigUpdateRequest(new String[] { "internalusers" }).setInvalidateAllCaches(false);
+
+        ConfigUpdateRequest result = roundTrip(request, Version.V_2_14_0);
+
+        // Older nodes expect the caches to be invalidated on every config update
+        assertThat(result.getConfigTypes(), arrayContaining("internalusers"));
+        assertThat(result.isInvalidateAllCaches(), is(true));
+        assertThat(result.getInvalidationId(), is(nullValue()));
+    }
+
+    static ConfigUpdateRequest roundTrip(ConfigUpdateRequest request, Version version) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(version);
+            request.writeTo(out);
+
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                return new ConfigUpdateRequest(in);
+            }
+        }
+    }
+}
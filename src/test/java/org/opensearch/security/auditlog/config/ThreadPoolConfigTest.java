@@ -83,5 +83,22 @@ public class ThreadPoolConfigTest {
         ThreadPoolConfig config = ThreadPoolConfig.getConfig(settings);
         assertThat(config.getThreadPoolSize(), is(8));
         assertThat(config.getThreadPoolMaxQueueLen(), is(50));
+        assertThat(config.getQueueType(), is(ThreadPoolConfig.QueueType.EXECUTOR));
+    }
+
+    @Test
+    public void testRingBufferGenerationFromSettings() {
+        // arrange
+        Settings settings = Settings.builder()
+            .put("plugins.security.audit.threadpool.queue_type", "ring_buffer")
+            .put("plugins.security.audit.threadpool.overflow_policy", "sample")
+            .put("plugins.security.audit.threadpool.sample_rate", "5")
+            .build();
+
+        // assert
+        ThreadPoolConfig config = ThreadPoolConfig.getConfig(settings);
+        assertThat(config.getQueueType(), is(ThreadPoolConfig.QueueType.RING_BUFFER));
+        assertThat(config.getOverflowPolicy(), is(ThreadPoolConfig.OverflowPolicy.SAMPLE));
+        assertThat(config.getSampleRate(), is(5));
     }
 }
@@ -25,6 +25,7 @@ import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -40,6 +41,8 @@ import org.opensearch.security.securityconf.impl.CType;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -131,6 +134,22 @@ public class AuditMessageTest {
         assertThat(TEST_TRANSPORT_HEADERS, is(message.getAsMap().get(AuditMessage.TRANSPORT_REQUEST_HEADERS)));
     }
 
+    @Test
+    public void testToBytesReference() {
+        final BytesReference bytes = message.toBytesReference();
+        assertThat(message.toBytesReference(), sameInstance(bytes));
+        assertThat(XContentHelper.convertToMap(bytes, false, XContentType.JSON).v2().get(AuditMessage.CATEGORY), is("AUTHENTICATED"));
+        assertThat(message.toJson(), is(bytes.utf8ToString()));
+
+        message.addPrivilege("indices:data/read/search");
+        final BytesReference modified = message.toBytesReference();
+        assertThat(modified, not(sameInstance(bytes)));
+        assertThat(
+            XContentHelper.convertToMap(modified, false, XContentType.JSON).v2().get(AuditMessage.PRIVILEGE),
+            is("indices:data/read/search")
+        );
+    }
+
     @Test
     public void testBCryptHashIsRedacted() {
         final String internalUsersDocId = CType.INTERNALUSERS.toLCString();
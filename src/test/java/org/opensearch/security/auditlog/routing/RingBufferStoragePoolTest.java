@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.routing;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.config.ThreadPoolConfig;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditCategory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.sink.AuditLogSink;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class RingBufferStoragePoolTest {
+
+    @Test
+    public void storesAllMessages() throws Exception {
+        BlockingSink sink = new BlockingSink(new CountDownLatch(0));
+        RingBufferStoragePool pool = create(ThreadPoolConfig.OverflowPolicy.DROP_NEWEST, 1024);
+
+        for (int i = 0; i < 500; i++) {
+            pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        }
+
+        pool.close();
+
+        assertThat(sink.messages.size(), is(500));
+        assertThat(pool.getDroppedTotal(), is(0L));
+    }
+
+    @Test
+    public void wakesUpIdleConsumer() throws Exception {
+        BlockingSink sink = new BlockingSink(new CountDownLatch(0));
+        RingBufferStoragePool pool = create(ThreadPoolConfig.OverflowPolicy.DROP_NEWEST, 16);
+
+        // Lets the consumer thread go idle
+        Thread.sleep(100);
+
+        long start = System.nanoTime();
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        assertThat(sink.started.await(10, TimeUnit.SECONDS), is(true));
+
+        // The consumer is signalled by the producer and does not wait for the park timeout
+        assertThat(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500), is(true));
+
+        start = System.nanoTime();
+        pool.close();
+        assertThat(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(500), is(true));
+    }
+
+    @Test
+    public void dropNewest() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        BlockingSink sink = new BlockingSink(latch);
+        RingBufferStoragePool pool = create(ThreadPoolConfig.OverflowPolicy.DROP_NEWEST, 4);
+
+        // One message is taken by the blocked consumer thread, four fill the buffer
+        submitAndWaitForConsumer(pool, sink, AuditCategory.FAILED_LOGIN);
+        for (int i = 0; i < 4; i++) {
+            pool.submit(MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN), sink);
+        }
+
+        AuditMessage dropped = MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES);
+        pool.submit(dropped, sink);
+
+        assertThat(pool.getDroppedCount(AuditCategory.MISSING_PRIVILEGES), is(1L));
+        assertThat(pool.getDroppedCount(AuditCategory.FAILED_LOGIN), is(0L));
+
+        latch.countDown();
+        pool.close();
+
+        assertThat(sink.messages.size(), is(5));
+        assertThat(sink.messages.contains(dropped), is(false));
+    }
+
+    @Test
+    public void dropOldest() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        BlockingSink sink = new BlockingSink(latch);
+        RingBufferStoragePool pool = create(ThreadPoolConfig.OverflowPolicy.DROP_OLDEST, 4);
+
+        submitAndWaitForConsumer(pool, sink, AuditCategory.FAILED_LOGIN);
+        for (int i = 0; i < 4; i++) {
+            pool.submit(MockAuditMessageFactory.validAuditMessage(AuditCategory.MISSING_PRIVILEGES), sink);
+        }
+
+        AuditMessage newest = MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN);
+        pool.submit(newest, sink);
+
+        assertThat(pool.getDroppedCount(AuditCategory.MISSING_PRIVILEGES), is(1L));
+
+        latch.countDown();
+        pool.close();
+
+        assertThat(sink.messages.size(), is(5));
+        assertThat(sink.messages.contains(newest), is(true));
+    }
+
+    @Test
+    public void sample() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        BlockingSink sink = new BlockingSink(latch);
+        RingBufferStoragePool pool = create(ThreadPoolConfig.OverflowPolicy.SAMPLE, 64);
+
+        submitAndWaitForConsumer(pool, sink, AuditCategory.FAILED_LOGIN);
+        for (int i = 0; i < 100; i++) {
+            pool.submit(MockAuditMessageFactory.validAuditMessage(AuditCategory.FAILED_LOGIN), sink);
+        }
+
+        // The first 33 messages fill the buffer up to half of its capacity; afterwards only every 10th message is accepted
+        assertThat(pool.size(), is(33 + 7));
+        assertThat(pool.getDroppedCount(AuditCategory.FAILED_LOGIN), is(60L));
+
+        latch.countDown();
+        pool.close();
+    }
+
+    @Test
+    public void block() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        BlockingSink sink = new BlockingSink(latch);
+        RingBufferStoragePool pool = create(ThreadPoolConfig.OverflowPolicy.BLOCK, 2);
+
+        submitAndWaitForConsumer(pool, sink, AuditCategory.FAILED_LOGIN);
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+        pool.submit(MockAuditMessageFactory.validAuditMessage(), sink);
+
+        Thread producer = new Thread(() -> pool.submit(MockAuditMessageFactory.validAuditMessage(), sink));
+        producer.start();
+        producer.join(200);
+        assertThat(producer.isAlive(), is(true));
+
+        latch.countDown();
+        producer.join(10_000);
+        assertThat(producer.isAlive(), is(false));
+
+        pool.close();
+
+        assertThat(sink.messages.size(), is(4));
+        assertThat(pool.getDroppedTotal(), is(0L));
+    }
+
+    static RingBufferStoragePool create(ThreadPoolConfig.OverflowPolicy overflowPolicy, int capacity) {
+        return new RingBufferStoragePool(new ThreadPoolConfig(1, capacity, ThreadPoolConfig.QueueType.RING_BUFFER, overflowPolicy, 10));
+    }
+
+    static void submitAndWaitForConsumer(RingBufferStoragePool pool, BlockingSink sink, AuditCategory category)
+        throws InterruptedException {
+        pool.submit(MockAuditMessageFactory.validAuditMessage(category), sink);
+        assertThat(sink.started.await(10, TimeUnit.SECONDS), is(true));
+    }
+
+    static class BlockingSink extends AuditLogSink {
+        final List<AuditMessage> messages = new CopyOnWriteArrayList<>();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch latch;
+
+        BlockingSink(CountDownLatch latch) {
+            super("blocking", Settings.EMPTY, null, null);
+            this.latch = latch;
+        }
+
+        @Override
+        protected boolean doStore(AuditMessage msg) {
+            started.countDown();
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            messages.add(msg);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequestBuilder;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.security.auditlog.helper.LoggingSink;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.SecurityMetrics;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AbstractInternalOpenSearchSinkTest {
+
+    private Client client;
+    private BulkRequestBuilder bulkRequestBuilder;
+    private ActionFuture<BulkResponse> bulkFuture;
+    private LoggingSink fallbackSink;
+    private SecurityMetrics metrics;
+    private TestSink sink;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        client = mock(Client.class);
+        bulkRequestBuilder = mock(BulkRequestBuilder.class);
+        bulkFuture = mock(ActionFuture.class);
+        when(client.prepareBulk()).thenReturn(bulkRequestBuilder);
+        when(bulkRequestBuilder.setTimeout(any(TimeValue.class))).thenReturn(bulkRequestBuilder);
+        when(bulkRequestBuilder.execute()).thenReturn(bulkFuture);
+
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+
+        fallbackSink = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        metrics = new SecurityMetrics();
+
+        Settings settings = Settings.builder()
+            .put("sink.bulk.enabled", true)
+            .put("sink.bulk.max_actions", 3)
+            .put("sink.bulk.max_retries", 2)
+            .build();
+        sink = new TestSink(settings, client, threadPool, fallbackSink, metrics);
+    }
+
+    @Test
+    public void bulk_retriesFailedMessages() {
+        when(bulkFuture.actionGet()).thenReturn(response(false, true, false), response(false));
+
+        storeMessages(3);
+
+        // Only the failed message is sent again
+        verify(bulkRequestBuilder, times(2)).execute();
+        verify(bulkRequestBuilder, times(4)).add(any(IndexRequest.class));
+        assertThat(sink.getBulkStats().getRetriedMessages(), is(1L));
+        assertThat(sink.getBulkStats().getFailedMessages(), is(0L));
+        assertThat(fallbackSink.messages, is(empty()));
+        assertThat(metrics.getHistogramSnapshots().get("audit.bulk.test.flush_time").getCount(), is(1L));
+    }
+
+    @Test
+    public void bulk_givesUpAfterMaxRetries() {
+        when(bulkFuture.actionGet()).thenThrow(new IllegalStateException("cluster unavailable"));
+
+        List<AuditMessage> messages = storeMessages(3);
+
+        verify(bulkRequestBuilder, times(3)).execute();
+        assertThat(sink.getBulkStats().getRetriedMessages(), is(6L));
+        assertThat(sink.getBulkStats().getFailedMessages(), is(3L));
+        assertThat(fallbackSink.messages, is(messages));
+    }
+
+    @Test
+    public void bulk_partialFailure() {
+        when(bulkFuture.actionGet()).thenReturn(response(false, true, false), response(true), response(true));
+
+        List<AuditMessage> messages = storeMessages(3);
+
+        verify(bulkRequestBuilder, times(3)).execute();
+        assertThat(sink.getBulkStats().getRetriedMessages(), is(2L));
+        assertThat(sink.getBulkStats().getFailedMessages(), is(1L));
+        assertThat(fallbackSink.messages, contains(messages.get(1)));
+    }
+
+    @Test
+    public void bulk_interruptedWhileRetrying() {
+        when(bulkFuture.actionGet()).thenThrow(new IllegalStateException("cluster unavailable"));
+
+        Thread.currentThread().interrupt();
+        List<AuditMessage> messages;
+        try {
+            messages = storeMessages(3);
+        } finally {
+            // Clears the interrupt status for the following tests
+            assertThat(Thread.interrupted(), is(true));
+        }
+
+        verify(bulkRequestBuilder, times(1)).execute();
+        assertThat(sink.getBulkStats().getRetriedMessages(), is(0L));
+        assertThat(sink.getBulkStats().getFailedMessages(), is(3L));
+        assertThat(fallbackSink.messages, is(messages));
+    }
+
+    List<AuditMessage> storeMessages(int count) {
+        List<AuditMessage> result = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            AuditMessage msg = MockAuditMessageFactory.validAuditMessage();
+            result.add(msg);
+            assertThat(sink.doStore(msg), is(true));
+        }
+
+        return result;
+    }
+
+    static BulkResponse response(boolean... failedItems) {
+        BulkItemResponse[] items = new BulkItemResponse[failedItems.length];
+
+        for (int i = 0; i < failedItems.length; i++) {
+            if (failedItems[i]) {
+                items[i] = new BulkItemResponse(
+                    i,
+                    DocWriteRequest.OpType.INDEX,
+                    new BulkItemResponse.Failure("audit", String.valueOf(i), new Exception("rejected"))
+                );
+            } else {
+                items[i] = new BulkItemResponse(
+                    i,
+                    DocWriteRequest.OpType.INDEX,
+                    new IndexResponse(new ShardId("audit", "_na_", 0), String.valueOf(i), 1, 1, 1, true)
+                );
+            }
+        }
+
+        return new BulkResponse(items, 10L);
+    }
+
+    static class TestSink extends AbstractInternalOpenSearchSink {
+
+        TestSink(Settings settings, Client client, ThreadPool threadPool, AuditLogSink fallbackSink, SecurityMetrics metrics) {
+            super("test", settings, "sink", client, threadPool, fallbackSink, null, null, metrics);
+        }
+
+        @Override
+        protected boolean createIndexIfAbsent(String indexName) {
+            return true;
+        }
+
+        @Override
+        public boolean doStore(AuditMessage msg) {
+            return doStore(msg, "audit");
+        }
+    }
+}
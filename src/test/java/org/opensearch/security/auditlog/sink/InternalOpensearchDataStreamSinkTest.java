@@ -141,6 +141,24 @@ public class InternalOpensearchDataStreamSinkTest extends AbstractAuditlogUnitTe
         this.testTemplate(settings, "template-security", "datastream-security");
     }
 
+    @Test
+    public void testBulkMode() throws Exception {
+
+        // Set config to use a datastream as auditlog, written with bulk requests.
+        Settings settings = Settings.builder()
+            .put("plugins.security.audit.type", "internal_opensearch_data_stream")
+            .put(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_LOG_REQUEST_BODY, false)
+            .put(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_RESOLVE_INDICES, false)
+            .put(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_CONFIG_DISABLED_TRANSPORT_CATEGORIES, "NONE")
+            .put(ConfigConstants.OPENDISTRO_SECURITY_AUDIT_CONFIG_DISABLED_REST_CATEGORIES, "NONE")
+            .put("plugins.security.audit.threadpool.size", 10) // must be greater 0
+            .put("plugins.security.audit.config.bulk.enabled", true)
+            .put("plugins.security.audit.config.bulk.max_actions", 5)
+            .put("plugins.security.audit.config.bulk.flush_interval", "100ms")
+            .build();
+        this.testTemplate(settings, "opensearch-security-auditlog", "opensearch-security-auditlog");
+    }
+
     @Test
     public void testWithoutManagedtemplate() throws Exception {
 
@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.securityconf.InternalUsersModel;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityMetrics;
+import org.opensearch.security.user.AuthCredentials;
+import org.opensearch.security.user.User;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BackendRegistryCacheTest {
+
+    private ThreadPool threadPool;
+    private SharedAuthenticationCache sharedCache;
+    private CountingBackend backend;
+    private SecurityMetrics metrics;
+
+    @Before
+    public void setUp() {
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(threadPool.generic()).thenReturn(MoreExecutors.newDirectExecutorService());
+        sharedCache = mock(SharedAuthenticationCache.class);
+        backend = new CountingBackend();
+        metrics = new SecurityMetrics();
+    }
+
+    @Test
+    public void onInternalUsersModelChanged_evictsOnlyChangedUsers() {
+        BackendRegistry subject = create(Settings.EMPTY);
+        AuthDomain authDomain = new AuthDomain("basic", backend, null, false, 0);
+        subject.onInternalUsersModelChanged(internalUsers(Map.of("user1", "hash1", "user2", "hash2", "user3", "hash3")));
+
+        subject.authcz(credentials("user1"), authDomain);
+        subject.authcz(credentials("user2"), authDomain);
+        assertThat(backend.calls.get(), is(2));
+
+        // user3 is not cached on this node, but might be cached in the shared cache
+        subject.onInternalUsersModelChanged(internalUsers(Map.of("user1", "new_hash1", "user2", "hash2", "user3", "new_hash3")));
+
+        verify(sharedCache).invalidateUsers(Set.of("user1", "user3"));
+
+        subject.authcz(credentials("user1"), authDomain);
+        subject.authcz(credentials("user2"), authDomain);
+        assertThat(backend.calls.get(), is(3));
+    }
+
+    @Test
+    public void onInternalUsersModelChanged_removedUser() {
+        BackendRegistry subject = create(Settings.EMPTY);
+        AuthDomain authDomain = new AuthDomain("basic", backend, null, false, 0);
+        subject.onInternalUsersModelChanged(internalUsers(Map.of("user1", "hash1", "user2", "hash2")));
+
+        subject.authcz(credentials("user1"), authDomain);
+        subject.onInternalUsersModelChanged(internalUsers(Map.of("user2", "hash2")));
+
+        verify(sharedCache).invalidateUsers(Set.of("user1"));
+    }
+
+    @Test
+    public void onDynamicConfigModelChanged_evictsOnlyUsersOfChangedAuthDomains() {
+        BackendRegistry subject = create(Settings.EMPTY);
+        AuthDomain authDomainA = new AuthDomain("a", backend, null, false, 0);
+        AuthDomain authDomainB = new AuthDomain("b", backend, null, false, 1);
+        subject.onDynamicConfigModelChanged(dynamicConfig(Map.of("a", "1", "b", "1")));
+
+        subject.authcz(credentials("user1"), authDomainA);
+        subject.authcz(credentials("user2"), authDomainB);
+        assertThat(backend.calls.get(), is(2));
+
+        subject.onDynamicConfigModelChanged(dynamicConfig(Map.of("a", "2", "b", "1")));
+
+        subject.authcz(credentials("user1"), authDomainA);
+        subject.authcz(credentials("user2"), authDomainB);
+        assertThat(backend.calls.get(), is(3));
+    }
+
+    @Test
+    public void refreshAhead() throws Exception {
+        BackendRegistry subject = create(refreshAheadSettings());
+        AuthDomain authDomain = new AuthDomain("basic", backend, null, false, 0);
+
+        subject.authcz(credentials("user1"), authDomain);
+        // The refresh ahead threshold is 1% of 1 minute
+        Thread.sleep(700);
+
+        // The cache hit triggers a refresh in the background
+        assertThat(subject.authcz(credentials("user1"), authDomain).getName(), is("user1"));
+        assertThat(backend.calls.get(), is(2));
+
+        // The refreshed entry is fresh again
+        subject.authcz(credentials("user1"), authDomain);
+        assertThat(backend.calls.get(), is(2));
+    }
+
+    @Test
+    public void refreshAhead_failedRefreshEvictsEntry() throws Exception {
+        BackendRegistry subject = create(refreshAheadSettings());
+        AuthDomain authDomain = new AuthDomain("basic", backend, null, false, 0);
+
+        subject.authcz(credentials("user1"), authDomain);
+        Thread.sleep(700);
+
+        // The password has been changed in the backend
+        backend.failing.set(true);
+        subject.authcz(credentials("user1"), authDomain);
+        assertThat(backend.calls.get(), is(2));
+
+        // The entry was evicted; thus, the next request is authenticated in the foreground and fails
+        assertThat(subject.authcz(credentials("user1"), authDomain), is(nullValue()));
+        assertThat(backend.calls.get(), is(3));
+    }
+
+    @Test
+    public void authenticationTime_recordsOnlyBackendCalls() {
+        BackendRegistry subject = create(Settings.EMPTY);
+        AuthDomain authDomain = new AuthDomain(backend, null, false, 0);
+        DynamicConfigModel dynamicConfig = dynamicConfig(Map.of());
+        when(dynamicConfig.getRestAuthDomains()).thenReturn(new TreeSet<>(Set.of(authDomain)));
+        subject.onDynamicConfigModelChanged(dynamicConfig);
+
+        subject.authcz(credentials("user1"), authDomain);
+        subject.authcz(credentials("user1"), authDomain);
+
+        // The auth domain has no name; thus, it is reported by the type of its backend
+        assertThat(metrics.getHistogramSnapshots().get("authentication.counting").getCount(), is(1L));
+        assertThat(metrics.getHistogramSnapshots(), not(hasKey("authentication.null")));
+        assertThat(metrics.getCounterValues().get("auth_cache.requests"), is(2L));
+        assertThat(metrics.getCounterValues().get("auth_cache.misses"), is(1L));
+    }
+
+    BackendRegistry create(Settings settings) {
+        return new BackendRegistry(settings, null, null, null, threadPool, sharedCache, null, metrics);
+    }
+
+    static Settings refreshAheadSettings() {
+        return Settings.builder()
+            .put(ConfigConstants.SECURITY_CACHE_TTL_MINUTES, 1)
+            .put(ConfigConstants.SECURITY_CACHE_REFRESH_AHEAD_PERCENT, 1)
+            .build();
+    }
+
+    static AuthCredentials credentials(String username) {
+        return new AuthCredentials(username, "secret".getBytes(StandardCharsets.UTF_8));
+    }
+
+    static InternalUsersModel internalUsers(Map<String, String> usernameToHash) {
+        InternalUsersModel result = mock(InternalUsersModel.class);
+        when(result.getUsernames()).thenReturn(usernameToHash.keySet());
+        usernameToHash.forEach((username, hash) -> {
+            when(result.exists(username)).thenReturn(true);
+            when(result.getHash(username)).thenReturn(hash);
+        });
+        return result;
+    }
+
+    static DynamicConfigModel dynamicConfig(Map<String, String> authcDomainFingerprints) {
+        DynamicConfigModel result = mock(DynamicConfigModel.class);
+        when(result.getAuthcDomainFingerprints()).thenReturn(authcDomainFingerprints);
+        when(result.getAuthzDomainFingerprints()).thenReturn(Map.of());
+        return result;
+    }
+
+    static class CountingBackend implements AuthenticationBackend {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicBoolean failing = new AtomicBoolean();
+
+        @Override
+        public String getType() {
+            return "counting";
+        }
+
+        @Override
+        public User authenticate(AuthCredentials credentials) throws OpenSearchSecurityException {
+            calls.incrementAndGet();
+
+            if (failing.get()) {
+                throw new OpenSearchSecurityException("invalid credentials");
+            }
+
+            return new User(credentials.getUsername());
+        }
+
+        @Override
+        public boolean exists(User user) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.action.authcache.AuthCacheUpdateAction;
+import org.opensearch.security.action.authcache.AuthCacheUpdateRequest;
+import org.opensearch.security.configuration.ConfigurationMap;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.user.AuthCredentials;
+import org.opensearch.security.user.User;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class SharedAuthenticationCacheTest {
+
+    private Client client;
+    private ClusterService clusterService;
+    private ThreadPool threadPool;
+
+    @Before
+    public void setUp() {
+        client = mock(Client.class);
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+
+        Metadata metadata = mock(Metadata.class);
+        when(metadata.clusterUUIDCommitted()).thenReturn(true);
+        when(metadata.clusterUUID()).thenReturn("cluster_uuid");
+
+        DiscoveryNodes nodes = mock(DiscoveryNodes.class);
+        when(nodes.getLocalNodeId()).thenReturn("local");
+        when(nodes.getNodes()).thenReturn(Map.of("local", mock(DiscoveryNode.class)));
+
+        ClusterState state = mock(ClusterState.class);
+        when(state.metadata()).thenReturn(metadata);
+        when(state.nodes()).thenReturn(nodes);
+
+        clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(state);
+    }
+
+    @Test
+    public void key() {
+        SharedAuthenticationCache subject = create(true);
+
+        String key = subject.key(credentials("user", "secret"), "basic_internal_auth_domain");
+
+        assertThat(key, is(subject.key(credentials("user", "secret"), "basic_internal_auth_domain")));
+        assertThat(key, not(is(subject.key(credentials("user", "other_secret"), "basic_internal_auth_domain"))));
+        // Domains with the same backend type must not share entries
+        assertThat(key, not(is(subject.key(credentials("user", "secret"), "other_internal_auth_domain"))));
+        assertThat(subject.key(new AuthCredentials("user", (Object) "token"), "basic_internal_auth_domain"), is(nullValue()));
+    }
+
+    @Test
+    public void putAndGet() {
+        SharedAuthenticationCache subject = create(true);
+        String key = subject.key(credentials("user", "secret"), "internal");
+        User user = new User("user");
+
+        subject.put(key, user, subject.epoch());
+
+        assertThat(subject.get(key), sameInstance(user));
+        // Single node cluster; nothing to replicate
+        verifyNoInteractions(client);
+    }
+
+    @Test
+    public void put_replicatedInBatches() {
+        when(clusterService.state().nodes().getSize()).thenReturn(2);
+        when(clusterService.state().nodes().getNodes()).thenReturn(
+            Map.of("local", mock(DiscoveryNode.class), "remote", mock(DiscoveryNode.class))
+        );
+        SharedAuthenticationCache subject = create(true);
+
+        subject.put(subject.key(credentials("user1", "secret"), "internal"), new User("user1"), subject.epoch());
+        subject.put(subject.key(credentials("user2", "secret"), "internal"), new User("user2"), subject.epoch());
+
+        ArgumentCaptor<Runnable> publish = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(1)).schedule(publish.capture(), eq(SharedAuthenticationCache.PUBLISH_DELAY), eq(ThreadPool.Names.GENERIC));
+        verifyNoInteractions(client);
+
+        publish.getValue().run();
+
+        ArgumentCaptor<AuthCacheUpdateRequest> request = ArgumentCaptor.forClass(AuthCacheUpdateRequest.class);
+        verify(client, times(1)).execute(eq(AuthCacheUpdateAction.INSTANCE), request.capture(), any());
+        assertThat(request.getValue().getEntries().size(), is(2));
+        assertThat(request.getValue().nodesIds(), is(new String[] { "remote" }));
+    }
+
+    @Test
+    public void invalidateAll() {
+        SharedAuthenticationCache subject = create(true);
+        String key = subject.key(credentials("user", "secret"), "internal");
+        String epoch = subject.epoch();
+
+        subject.store(key, new User("user"), epoch);
+        subject.invalidateAll("invalidation_1");
+
+        assertThat(subject.get(key), is(nullValue()));
+        // Entries replicated by other nodes which were created before the invalidation must be rejected
+        assertThat(subject.store(key, new User("user"), epoch), is(false));
+        // Entries created by other nodes after the same invalidation are accepted
+        SharedAuthenticationCache other = create(true);
+        other.invalidateAll("invalidation_1");
+        assertThat(subject.store(key, new User("user"), other.epoch()), is(true));
+    }
+
+    @Test
+    public void onConfigurationChanged() throws Exception {
+        SharedAuthenticationCache subject = create(true);
+        String key = subject.key(credentials("user", "secret"), "internal");
+
+        subject.onConfigurationChanged(ConfigurationMap.of(config(CType.INTERNALUSERS, 1)));
+        String epoch = subject.epoch();
+        subject.invalidateAll("invalidation_1");
+        subject.onConfigurationChanged(ConfigurationMap.of(config(CType.INTERNALUSERS, 2)));
+
+        // Entries authenticated with an earlier configuration version are rejected
+        assertThat(subject.store(key, new User("user"), epoch), is(false));
+
+        // A new configuration version supersedes earlier invalidations; thus, nodes which did not see the
+        // invalidation agree on the epoch
+        SharedAuthenticationCache other = create(true);
+        other.onConfigurationChanged(ConfigurationMap.of(config(CType.INTERNALUSERS, 2)));
+        assertThat(other.epoch(), is(subject.epoch()));
+        assertThat(subject.store(key, new User("user"), other.epoch()), is(true));
+    }
+
+    @Test
+    public void invalidateUsers() {
+        SharedAuthenticationCache subject = create(true);
+        String key1 = subject.key(credentials("user1", "secret"), "internal");
+        String key2 = subject.key(credentials("user2", "secret"), "internal");
+
+        subject.store(key1, new User("user1"), subject.epoch());
+        subject.store(key2, new User("user2"), subject.epoch());
+        subject.invalidateUsers(Set.of("user1"));
+
+        assertThat(subject.get(key1), is(nullValue()));
+        assertThat(subject.get(key2).getName(), is("user2"));
+    }
+
+    @Test
+    public void disabled() {
+        SharedAuthenticationCache subject = create(false);
+
+        assertThat(subject.key(credentials("user", "secret"), "internal"), is(nullValue()));
+        assertThat(subject.store("key", new User("user"), subject.epoch()), is(false));
+    }
+
+    SharedAuthenticationCache create(boolean enabled) {
+        Settings settings = Settings.builder().put(ConfigConstants.SECURITY_CACHE_SHARED_ENABLED, enabled).build();
+        return new SharedAuthenticationCache(settings, client, clusterService, threadPool);
+    }
+
+    static SecurityDynamicConfiguration<?> config(CType<?> configType, long seqNo) throws Exception {
+        String json = "{\"_meta\": {\"type\": \"" + configType.toLCString() + "\", \"config_version\": 2}}";
+        return SecurityDynamicConfiguration.fromJson(json, configType, 2, seqNo, 1);
+    }
+
+    static AuthCredentials credentials(String username, String password) {
+        return new AuthCredentials(username, password.getBytes(StandardCharsets.UTF_8));
+    }
+}
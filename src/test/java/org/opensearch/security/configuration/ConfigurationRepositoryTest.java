@@ -36,6 +36,7 @@ import org.opensearch.security.state.SecurityConfig;
 import org.opensearch.security.state.SecurityMetadata;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.SecurityIndexHandler;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.security.transport.SecurityInterceptorTests;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
@@ -114,7 +115,8 @@ public class ConfigurationRepositoryTest {
             localClient,
             clusterService,
             auditLog,
-            securityIndexHandler
+            securityIndexHandler,
+            new SecurityMetrics()
         );
     }
 
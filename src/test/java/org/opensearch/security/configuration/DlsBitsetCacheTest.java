@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.FixedBitSet;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.privileges.dlsfls.FieldMasking;
+import org.opensearch.security.privileges.dlsfls.FieldPrivileges;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class DlsBitsetCacheTest {
+
+    static final Query DLS_QUERY = new TermQuery(new Term("dept", "a"));
+    static final FieldMasking.FieldMaskingRule FM_ALLOW_ALL = FieldMasking.FieldMaskingRule.ALLOW_ALL;
+
+    @Test
+    public void getOrCompute_cachedPerSegmentAndQuery() throws Exception {
+        DlsBitsetCache subject = new DlsBitsetCache(Settings.EMPTY);
+        AtomicInteger loads = new AtomicInteger();
+
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            LeafReader segment = reader.leaves().get(0).reader();
+
+            FixedBitSet first = subject.getOrCompute(
+                segment,
+                DLS_QUERY,
+                FieldPrivileges.FlsRule.ALLOW_ALL,
+                FM_ALLOW_ALL,
+                () -> load(segment, loads)
+            );
+            FixedBitSet second = subject.getOrCompute(
+                segment,
+                new TermQuery(new Term("dept", "a")),
+                FieldPrivileges.FlsRule.ALLOW_ALL,
+                FM_ALLOW_ALL,
+                () -> load(segment, loads)
+            );
+
+            assertThat(second, sameInstance(first));
+            assertThat(loads.get(), is(1));
+            assertThat(subject.size(), is(1L));
+
+            subject.getOrCompute(
+                segment,
+                new TermQuery(new Term("dept", "b")),
+                FieldPrivileges.FlsRule.ALLOW_ALL,
+                FM_ALLOW_ALL,
+                () -> load(segment, loads)
+            );
+
+            assertThat(loads.get(), is(2));
+            assertThat(subject.size(), is(2L));
+        }
+
+        // Closing the reader closes the segment cores and must evict the entries
+        assertThat(subject.size(), is(0L));
+    }
+
+    @Test
+    public void getOrCompute_disabled() throws Exception {
+        DlsBitsetCache subject = new DlsBitsetCache(Settings.builder().put(DlsBitsetCache.MAX_SIZE.getKey(), "0b").build());
+        AtomicInteger loads = new AtomicInteger();
+
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            LeafReader segment = reader.leaves().get(0).reader();
+
+            subject.getOrCompute(segment, DLS_QUERY, FieldPrivileges.FlsRule.ALLOW_ALL, FM_ALLOW_ALL, () -> load(segment, loads));
+            subject.getOrCompute(segment, DLS_QUERY, FieldPrivileges.FlsRule.ALLOW_ALL, FM_ALLOW_ALL, () -> load(segment, loads));
+
+            assertThat(loads.get(), is(2));
+            assertThat(subject.size(), is(0L));
+        }
+    }
+
+    @Test
+    public void getOrCompute_separateEntriesPerMaskingRule() throws Exception {
+        DlsBitsetCache subject = new DlsBitsetCache(Settings.EMPTY);
+        AtomicInteger loads = new AtomicInteger();
+        FieldMasking.FieldMaskingRule fmRule = FieldMasking.FieldMaskingRule.of(FieldMasking.Config.DEFAULT, "dept");
+
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            LeafReader segment = reader.leaves().get(0).reader();
+
+            FixedBitSet unmasked = subject.getOrCompute(
+                segment,
+                DLS_QUERY,
+                FieldPrivileges.FlsRule.ALLOW_ALL,
+                FM_ALLOW_ALL,
+                () -> load(segment, loads)
+            );
+            FixedBitSet masked = subject.getOrCompute(
+                segment,
+                DLS_QUERY,
+                FieldPrivileges.FlsRule.ALLOW_ALL,
+                fmRule,
+                () -> load(segment, loads)
+            );
+            FixedBitSet maskedAgain = subject.getOrCompute(
+                segment,
+                DLS_QUERY,
+                FieldPrivileges.FlsRule.ALLOW_ALL,
+                FieldMasking.FieldMaskingRule.of(FieldMasking.Config.DEFAULT, "dept"),
+                () -> load(segment, loads)
+            );
+
+            assertThat(masked, not(sameInstance(unmasked)));
+            assertThat(maskedAgain, sameInstance(masked));
+            assertThat(loads.get(), is(2));
+            assertThat(subject.size(), is(2L));
+        }
+    }
+
+    @Test
+    public void getOrCompute_notCacheable() throws Exception {
+        DlsBitsetCache subject = new DlsBitsetCache(Settings.EMPTY);
+        AtomicInteger loads = new AtomicInteger();
+
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            LeafReader segment = reader.leaves().get(0).reader();
+
+            subject.getOrCompute(segment, DLS_QUERY, FieldPrivileges.FlsRule.ALLOW_ALL, FM_ALLOW_ALL, () -> {
+                loads.incrementAndGet();
+                return new DlsBitsetCache.ComputedBitset(new FixedBitSet(segment.maxDoc()), false);
+            });
+            subject.getOrCompute(segment, DLS_QUERY, FieldPrivileges.FlsRule.ALLOW_ALL, FM_ALLOW_ALL, () -> load(segment, loads));
+
+            assertThat(loads.get(), is(2));
+            assertThat(subject.size(), is(1L));
+        }
+    }
+
+    @Test
+    public void getOrCompute_computeDlsBitset() throws Exception {
+        DlsBitsetCache subject = new DlsBitsetCache(Settings.EMPTY);
+
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            LeafReader segment = reader.leaves().get(0).reader();
+
+            FixedBitSet bits = subject.getOrCompute(
+                segment,
+                DLS_QUERY,
+                FieldPrivileges.FlsRule.ALLOW_ALL,
+                FM_ALLOW_ALL,
+                () -> DlsFlsFilterLeafReader.computeDlsBitset(DLS_QUERY, segment)
+            );
+
+            assertThat(bits.cardinality(), is(5));
+            assertThat(subject.size(), is(1L));
+        }
+    }
+
+    static DlsBitsetCache.ComputedBitset load(LeafReader segment, AtomicInteger loads) {
+        loads.incrementAndGet();
+        FixedBitSet result = new FixedBitSet(segment.maxDoc());
+        result.set(0);
+        return new DlsBitsetCache.ComputedBitset(result, true);
+    }
+
+    static Directory createIndex() throws Exception {
+        Directory directory = new ByteBuffersDirectory();
+
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < 10; i++) {
+                Document document = new Document();
+                document.add(new StringField("dept", i % 2 == 0 ? "a" : "b", Field.Store.NO));
+                writer.addDocument(document);
+            }
+        }
+
+        return directory;
+    }
+}
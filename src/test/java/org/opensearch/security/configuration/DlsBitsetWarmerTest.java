@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.FixedBitSet;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.security.privileges.dlsfls.FieldMasking;
+import org.opensearch.security.privileges.dlsfls.FieldPrivileges;
+import org.opensearch.security.support.SecurityMetrics;
+
+import static org.opensearch.security.configuration.DlsBitsetCacheTest.DLS_QUERY;
+import static org.opensearch.security.configuration.DlsBitsetCacheTest.FM_ALLOW_ALL;
+import static org.opensearch.security.configuration.DlsBitsetCacheTest.createIndex;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+public class DlsBitsetWarmerTest {
+
+    static final ShardId SHARD_ID = new ShardId("index", "uuid", 0);
+    static final DlsBitsetWarmer.RestrictedReaderFactory UNRESTRICTED = (segment, flsRule, fmRule) -> segment;
+
+    @Test
+    public void maybeWarm() throws Exception {
+        DlsBitsetCache cache = new DlsBitsetCache(Settings.EMPTY);
+        DlsBitsetWarmer subject = new DlsBitsetWarmer(
+            () -> 10,
+            () -> Long.MAX_VALUE,
+            Runnable::run,
+            cache,
+            UNRESTRICTED,
+            new SecurityMetrics()
+        );
+
+        subject.recordUsage(DLS_QUERY, FieldPrivileges.FlsRule.ALLOW_ALL, FM_ALLOW_ALL);
+
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            subject.maybeWarm(reader, SHARD_ID);
+
+            assertThat(cache.size(), is(1L));
+
+            LeafReader segment = reader.leaves().get(0).reader();
+            AtomicInteger loads = new AtomicInteger();
+            FixedBitSet bits = cache.getOrCompute(
+                segment,
+                DLS_QUERY,
+                FieldPrivileges.FlsRule.ALLOW_ALL,
+                FieldMasking.FieldMaskingRule.ALLOW_ALL,
+                () -> DlsBitsetCacheTest.load(segment, loads)
+            );
+
+            assertThat(loads.get(), is(0));
+            assertThat(bits.cardinality(), is(5));
+        }
+    }
+
+    @Test
+    public void maybeWarm_withMaskingRule() throws Exception {
+        DlsBitsetCache cache = new DlsBitsetCache(Settings.EMPTY);
+        FieldMasking.FieldMaskingRule fmRule = FieldMasking.FieldMaskingRule.of(FieldMasking.Config.DEFAULT, "dept");
+        List<FieldMasking.FieldMaskingRule> requestedRules = new ArrayList<>();
+        DlsBitsetWarmer subject = new DlsBitsetWarmer(() -> 10, () -> Long.MAX_VALUE, Runnable::run, cache, (segment, flsRule, rule) -> {
+            requestedRules.add(rule);
+            return segment;
+        }, new SecurityMetrics());
+
+        subject.recordUsage(DLS_QUERY, FieldPrivileges.FlsRule.ALLOW_ALL, fmRule);
+
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            subject.maybeWarm(reader, SHARD_ID);
+
+            assertThat(requestedRules, contains(fmRule));
+
+            // The warmed bitset must not be used for requests without masking
+            LeafReader segment = reader.leaves().get(0).reader();
+            AtomicInteger loads = new AtomicInteger();
+            cache.getOrCompute(
+                segment,
+                DLS_QUERY,
+                FieldPrivileges.FlsRule.ALLOW_ALL,
+                FM_ALLOW_ALL,
+                () -> DlsBitsetCacheTest.load(segment, loads)
+            );
+
+            assertThat(loads.get(), is(1));
+            assertThat(cache.size(), is(2L));
+        }
+    }
+
+    @Test
+    public void maybeWarm_onlyOncePerReaderVersion() throws Exception {
+        DlsBitsetCache cache = new DlsBitsetCache(Settings.EMPTY);
+        AtomicInteger runs = new AtomicInteger();
+        DlsBitsetWarmer subject = new DlsBitsetWarmer(() -> 10, () -> Long.MAX_VALUE, command -> {
+            runs.incrementAndGet();
+            command.run();
+        }, cache, UNRESTRICTED, new SecurityMetrics());
+
+        subject.recordUsage(DLS_QUERY, FieldPrivileges.FlsRule.ALLOW_ALL, FM_ALLOW_ALL);
+
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            subject.maybeWarm(reader, SHARD_ID);
+            subject.maybeWarm(reader, SHARD_ID);
+
+            assertThat(runs.get(), is(1));
+        }
+    }
+
+    @Test
+    public void maybeWarm_budgetExhausted() throws Exception {
+        DlsBitsetCache cache = new DlsBitsetCache(Settings.EMPTY);
+        SecurityMetrics metrics = new SecurityMetrics();
+        DlsBitsetWarmer subject = new DlsBitsetWarmer(() -> 10, () -> -1, Runnable::run, cache, UNRESTRICTED, metrics);
+
+        subject.recordUsage(DLS_QUERY, FieldPrivileges.FlsRule.ALLOW_ALL, FM_ALLOW_ALL);
+
+        try (Directory directory = createIndex(); DirectoryReader reader = DirectoryReader.open(directory)) {
+            subject.maybeWarm(reader, SHARD_ID);
+
+            assertThat(cache.size(), is(0L));
+            assertThat(metrics.getCounterValues().get("dls.warmer.budget_exhausted"), is(1L));
+        }
+    }
+
+    @Test
+    public void disabled() throws Exception {
+        DlsBitsetCache cache = new DlsBitsetCache(Settings.EMPTY);
+        DlsBitsetWarmer subject = new DlsBitsetWarmer(
+            () -> 0,
+            () -> Long.MAX_VALUE,
+            Runnable::run,
+            cache,
+            UNRESTRICTED,
+            new SecurityMetrics()
+        );
+
+        subject.recordUsage(DLS_QUERY, FieldPrivileges.FlsRule.ALLOW_ALL, FM_ALLOW_ALL);
+
+        assertThat(subject.getTrackedRestrictionCount(), is(0));
+    }
+
+    @Test
+    public void getMostFrequentlyUsed() {
+        DlsBitsetWarmer subject = new DlsBitsetWarmer(
+            () -> 10,
+            () -> Long.MAX_VALUE,
+            Runnable::run,
+            new DlsBitsetCache(Settings.EMPTY),
+            UNRESTRICTED,
+            new SecurityMetrics()
+        );
+        Query query1 = new TermQuery(new Term("dept", "1"));
+        Query query2 = new TermQuery(new Term("dept", "2"));
+        Query query3 = new TermQuery(new Term("dept", "3"));
+
+        for (int i = 0; i < 3; i++) {
+            subject.recordUsage(query1, FieldPrivileges.FlsRule.ALLOW_ALL, FM_ALLOW_ALL);
+        }
+        subject.recordUsage(query2, FieldPrivileges.FlsRule.ALLOW_ALL, FM_ALLOW_ALL);
+        subject.recordUsage(query3, FieldPrivileges.FlsRule.ALLOW_ALL, FM_ALLOW_ALL);
+        subject.recordUsage(query3, FieldPrivileges.FlsRule.ALLOW_ALL, FM_ALLOW_ALL);
+
+        assertThat(
+            subject.getMostFrequentlyUsed(2).stream().map(DlsBitsetWarmer.Restriction::getDlsQuery).toList(),
+            contains(query1, query3)
+        );
+
+        // The usage counts are halved; query2 is no longer tracked
+        assertThat(subject.getTrackedRestrictionCount(), is(2));
+    }
+}
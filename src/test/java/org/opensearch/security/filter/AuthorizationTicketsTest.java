@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.filter;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.action.bulk.BulkItemRequest;
+import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.user.User;
+import org.opensearch.tasks.Task;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AuthorizationTicketsTest {
+
+    static final String ACTION = "indices:data/write/bulk[s]";
+    static final Settings SETTINGS = Settings.builder().put(ConfigConstants.SECURITY_COMPLIANCE_SALT, "u8Kq2xZr7TfW3mLc").build();
+
+    private ClusterService clusterService;
+    private Metadata metadata;
+    private Task task;
+
+    @Before
+    public void setUp() {
+        metadata = mock(Metadata.class);
+        when(metadata.clusterUUIDCommitted()).thenReturn(true);
+        when(metadata.clusterUUID()).thenReturn("cluster_uuid");
+
+        ClusterState state = mock(ClusterState.class);
+        when(state.metadata()).thenReturn(metadata);
+
+        DiscoveryNode localNode = mock(DiscoveryNode.class);
+        when(localNode.getId()).thenReturn("coordinating_node");
+
+        clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(state);
+        when(clusterService.localNode()).thenReturn(localNode);
+
+        task = mock(Task.class);
+        when(task.getId()).thenReturn(42L);
+    }
+
+    @Test
+    public void issueAndVerify() {
+        AuthorizationTickets subject = new AuthorizationTickets(SETTINGS, clusterService);
+        User user = new User("user");
+
+        ThreadContext receivingContext = send(subject, bulkShardRequest("index"), user, true);
+
+        assertThat(subject.verify(receivingContext, ACTION, forwarded(bulkShardRequest("index")), user), is(true));
+        // The ticket is bound to the action, the user, the indices and the parent task
+        assertThat(subject.verify(receivingContext, ACTION + "[p]", forwarded(bulkShardRequest("index")), user), is(false));
+        assertThat(subject.verify(receivingContext, ACTION, forwarded(bulkShardRequest("index")), new User("other")), is(false));
+        assertThat(subject.verify(receivingContext, ACTION, forwarded(bulkShardRequest("other_index")), user), is(false));
+        assertThat(subject.verify(receivingContext, ACTION, bulkShardRequest("index"), user), is(false));
+    }
+
+    @Test
+    public void onlyInterClusterRequests() {
+        AuthorizationTickets subject = new AuthorizationTickets(SETTINGS, clusterService);
+        User user = new User("user");
+
+        // Requests without channel type are treated as direct requests by HeaderHelper; they must not be trusted
+        ThreadContext receivingContext = send(subject, bulkShardRequest("index"), user, false);
+        assertThat(subject.verify(receivingContext, ACTION, forwarded(bulkShardRequest("index")), user), is(false));
+
+        receivingContext = send(subject, bulkShardRequest("index"), user, false);
+        receivingContext.putTransient(ConfigConstants.OPENDISTRO_SECURITY_CHANNEL_TYPE, "direct");
+        assertThat(subject.verify(receivingContext, ACTION, forwarded(bulkShardRequest("index")), user), is(false));
+    }
+
+    @Test
+    public void defaultSalt() {
+        AuthorizationTickets subject = new AuthorizationTickets(Settings.EMPTY, clusterService);
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+
+        subject.issue(threadContext, ACTION, bulkShardRequest("index"), task, new User("user"));
+
+        assertThat(subject.isEnabled(), is(false));
+        assertThat(threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_AUTHORIZATION_TICKET), is(nullValue()));
+    }
+
+    @Test
+    public void otherCluster() {
+        AuthorizationTickets subject = new AuthorizationTickets(SETTINGS, clusterService);
+        User user = new User("user");
+
+        ThreadContext receivingContext = send(subject, bulkShardRequest("index"), user, true);
+        when(metadata.clusterUUID()).thenReturn("other_cluster_uuid");
+
+        assertThat(subject.verify(receivingContext, ACTION, forwarded(bulkShardRequest("index")), user), is(false));
+    }
+
+    @Test
+    public void notEligible() {
+        AuthorizationTickets subject = new AuthorizationTickets(SETTINGS, clusterService);
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+
+        subject.issue(threadContext, "indices:data/read/search", new SearchRequest("index"), task, new User("user"));
+
+        assertThat(threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_AUTHORIZATION_TICKET), is(nullValue()));
+    }
+
+    @Test
+    public void disabled() {
+        Settings settings = Settings.builder().put(SETTINGS).put(AuthorizationTickets.ENABLED.getKey(), false).build();
+        AuthorizationTickets subject = new AuthorizationTickets(settings, clusterService);
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+
+        subject.issue(threadContext, ACTION, bulkShardRequest("index"), task, new User("user"));
+
+        assertThat(threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_AUTHORIZATION_TICKET), is(nullValue()));
+    }
+
+    /**
+     * Issues a ticket and returns the thread context of a node receiving the ticket header.
+     */
+    ThreadContext send(AuthorizationTickets subject, BulkShardRequest request, User user, boolean interClusterRequest) {
+        ThreadContext sendingContext = new ThreadContext(Settings.EMPTY);
+        subject.issue(sendingContext, ACTION, request, task, user);
+        AuthorizationTickets.Ticket ticket = sendingContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_AUTHORIZATION_TICKET);
+        assertThat(ticket.getAction(), is(ACTION));
+
+        ThreadContext receivingContext = new ThreadContext(Settings.EMPTY);
+        receivingContext.putHeader(ConfigConstants.OPENDISTRO_SECURITY_AUTHORIZATION_TICKET_HEADER, ticket.getValue());
+        if (interClusterRequest) {
+            receivingContext.putTransient(ConfigConstants.OPENDISTRO_SECURITY_SSL_TRANSPORT_INTERCLUSTER_REQUEST, Boolean.TRUE);
+        }
+        return receivingContext;
+    }
+
+    static BulkShardRequest bulkShardRequest(String index) {
+        return new BulkShardRequest(new ShardId(index, index + "_uuid", 0), WriteRequest.RefreshPolicy.NONE, new BulkItemRequest[0]);
+    }
+
+    static BulkShardRequest forwarded(BulkShardRequest request) {
+        request.setParentTask("coordinating_node", 42L);
+        return request;
+    }
+}
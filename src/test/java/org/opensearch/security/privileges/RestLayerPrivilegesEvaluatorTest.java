@@ -37,6 +37,7 @@ import org.opensearch.security.securityconf.DynamicConfigModel;
 import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v7.RoleV7;
+import org.opensearch.security.support.SecurityMetrics;
 import org.opensearch.security.user.User;
 
 import org.mockito.Mock;
@@ -160,7 +161,9 @@ public class RestLayerPrivilegesEvaluatorTest {
             null,
             null,
             null,
-            null
+            null,
+            PrivilegesBuildExecutor.SEQUENTIAL,
+            new SecurityMetrics()
         );
         privilegesEvaluator.onConfigModelChanged(configModel); // Defaults to the mocked config model
         privilegesEvaluator.onDynamicConfigModelChanged(dynamicConfigModel);
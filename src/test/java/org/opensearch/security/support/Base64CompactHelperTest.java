@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.support;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.Version;
+import org.opensearch.security.user.User;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThrows;
+
+public class Base64CompactHelperTest {
+
+    @Before
+    public void clearCache() {
+        Base64CompactHelper.clearUserCache();
+    }
+
+    @Test
+    public void testUserSerde() {
+        User user = new User("user");
+        user.addRoles(Arrays.asList("backend_role_1", "backend_role_2"));
+        user.addSecurityRoles(Arrays.asList("security_role"));
+        user.addAttributes(Map.of("attr.a", "a"));
+        user.setRequestedTenant("tenant");
+        user.setInjected(true);
+
+        String serialized = Base64CompactHelper.serializeUser(user);
+        User deserialized = (User) Base64Helper.deserializeObject(serialized, true);
+
+        assertThat(Base64CompactHelper.isCompact(serialized), is(true));
+        assertThat(deserialized, is(user));
+        assertThat(deserialized.getRoles(), is(user.getRoles()));
+        assertThat(deserialized.getSecurityRoles(), is(user.getSecurityRoles()));
+        assertThat(deserialized.getCustomAttributesMap(), is(user.getCustomAttributesMap()));
+        assertThat(deserialized.getRequestedTenant(), is("tenant"));
+        assertThat(deserialized.isInjected(), is(true));
+    }
+
+    @Test
+    public void testRepeatedUserIsServedFromCache() {
+        User user = new User("user");
+        user.addRoles(Arrays.asList("backend_role"));
+        String serialized = Base64CompactHelper.serializeUser(user);
+        long hits = Base64CompactHelper.getUserCacheStats().hitCount();
+
+        User first = (User) Base64CompactHelper.deserializeObject(serialized);
+        User second = (User) Base64CompactHelper.deserializeObject(serialized);
+
+        assertThat(Base64CompactHelper.getUserCacheStats().hitCount(), is(hits + 1));
+        assertThat(second, is(first));
+        // Users are mutable; modifications of one request must not leak into other requests
+        assertThat(second, not(sameInstance(first)));
+        first.addSecurityRoles(Arrays.asList("mapped_role"));
+        assertThat(second.getSecurityRoles().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testForgedHashIsNotServedFromCache() {
+        String serializedA = Base64CompactHelper.serializeUser(new User("a"));
+        String serializedB = Base64CompactHelper.serializeUser(new User("b"));
+        String forged = serializedA.substring(0, serializedA.lastIndexOf(':')) + serializedB.substring(serializedB.lastIndexOf(':'));
+
+        Base64CompactHelper.deserializeObject(serializedA);
+
+        assertThat(((User) Base64CompactHelper.deserializeObject(forged)).getName(), is("b"));
+    }
+
+    @Test
+    public void testAddressSerde() {
+        InetSocketAddress address = new InetSocketAddress("10.0.0.1", 9300);
+
+        String serialized = Base64CompactHelper.serializeAddress(address);
+
+        assertThat(Base64CompactHelper.isCompact(serialized), is(true));
+        assertThat(Base64Helper.deserializeObject(serialized, false), is(address));
+    }
+
+    @Test
+    public void testEnsureJDKSerialized() {
+        User user = new User("user");
+
+        String jdkSerialized = Base64Helper.ensureJDKSerialized(Base64CompactHelper.serializeUser(user));
+
+        assertThat(Base64CompactHelper.isCompact(jdkSerialized), is(false));
+        assertThat(Base64JDKHelper.deserializeObject(jdkSerialized), is(user));
+    }
+
+    @Test
+    public void testInvalid() {
+        assertThrows(OpenSearchException.class, () -> Base64CompactHelper.deserializeObject("~c1::AAAA"));
+        assertThrows(IllegalArgumentException.class, () -> Base64CompactHelper.deserializeObject("rO0ABXQABnN0cmluZw=="));
+    }
+
+    @Test
+    public void testIsSupported() {
+        assertThat(Base64CompactHelper.isSupported(Version.CURRENT), is(true));
+        assertThat(Base64CompactHelper.isSupported(Version.V_2_14_0), is(false));
+        assertThat(Base64CompactHelper.isSupported(null), is(false));
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.support;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ReverseDnsResolverTest {
+
+    private final SecurityMetrics metrics = new SecurityMetrics();
+
+    @Test
+    public void successfulLookupIsCached() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ReverseDnsResolver subject = new ReverseDnsResolver(Settings.EMPTY, Runnable::run, address -> {
+            calls.incrementAndGet();
+            return "host.example.com";
+        }, metrics);
+
+        assertThat(subject.getHostName(ip(10, 0, 0, 1)), is("host.example.com"));
+        assertThat(subject.getHostName(ip(10, 0, 0, 1)), is("host.example.com"));
+        assertThat(subject.getHostName(ip(10, 0, 0, 1)), is("host.example.com"));
+        assertThat(calls.get(), is(1));
+        assertThat(subject.getCacheHits(), is(2L));
+        assertThat(subject.getCacheMisses(), is(1L));
+        assertThat(subject.getLookups(), is(1L));
+        assertThat(metrics.getHistogramSnapshots().get("reverse_dns.lookup_time").getCount(), is(1L));
+    }
+
+    @Test
+    public void failedLookupIsCached() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ReverseDnsResolver subject = new ReverseDnsResolver(Settings.EMPTY, Runnable::run, address -> {
+            calls.incrementAndGet();
+            // InetAddress.getHostName() returns the IP address if it cannot be resolved
+            return address.getHostAddress();
+        }, metrics);
+
+        assertThat(subject.getHostName(ip(10, 0, 0, 2)), is(nullValue()));
+        assertThat(subject.getHostName(ip(10, 0, 0, 2)), is(nullValue()));
+        assertThat(calls.get(), is(1));
+        assertThat(subject.getFailedLookups(), is(1L));
+    }
+
+    @Test
+    public void negativeTtl() throws Exception {
+        Settings settings = Settings.builder().put(ReverseDnsResolver.NEGATIVE_TTL.getKey(), "0s").build();
+        AtomicInteger calls = new AtomicInteger();
+        ReverseDnsResolver subject = new ReverseDnsResolver(settings, Runnable::run, address -> {
+            calls.incrementAndGet();
+            throw new UnknownHostException();
+        }, metrics);
+
+        assertThat(subject.getHostName(ip(10, 0, 0, 3)), is(nullValue()));
+        assertThat(subject.getHostName(ip(10, 0, 0, 3)), is(nullValue()));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    public void slowLookupTimesOut() throws Exception {
+        Settings settings = Settings.builder().put(ReverseDnsResolver.TIMEOUT.getKey(), "50ms").build();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch dnsServer = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ReverseDnsResolver subject = new ReverseDnsResolver(settings, executor, address -> {
+            calls.incrementAndGet();
+            dnsServer.await(10, TimeUnit.SECONDS);
+            return "slow.example.com";
+        }, metrics);
+
+        try {
+            // The address is treated as unresolved after the timeout; concurrent requests are merged
+            assertThat(subject.getHostName(ip(10, 0, 0, 4)), is(nullValue()));
+            assertThat(subject.getHostName(ip(10, 0, 0, 4)), is(nullValue()));
+            assertThat(subject.getTimeouts(), is(2L));
+
+            // The lookup finishes in the background and fills the cache
+            dnsServer.countDown();
+            awaitLookups(subject, 1);
+            assertThat(subject.getHostName(ip(10, 0, 0, 4)), is("slow.example.com"));
+            assertThat(calls.get(), is(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void zeroTimeoutDoesNotBlock() throws Exception {
+        Settings settings = Settings.builder().put(ReverseDnsResolver.TIMEOUT.getKey(), "0s").build();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch dnsServer = new CountDownLatch(1);
+        ReverseDnsResolver subject = new ReverseDnsResolver(settings, executor, address -> {
+            dnsServer.await(10, TimeUnit.SECONDS);
+            return "slow.example.com";
+        }, metrics);
+
+        try {
+            assertThat(subject.getHostName(ip(10, 0, 0, 7)), is(nullValue()));
+            assertThat(subject.getTimeouts(), is(0L));
+
+            dnsServer.countDown();
+            awaitLookups(subject, 1);
+            assertThat(subject.getHostName(ip(10, 0, 0, 7)), is("slow.example.com"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void expiredHostNameIsServedWhileRefreshing() throws Exception {
+        Settings settings = Settings.builder().put(ReverseDnsResolver.POSITIVE_TTL.getKey(), "200ms").build();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch dnsServer = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        ReverseDnsResolver subject = new ReverseDnsResolver(settings, executor, address -> {
+            if (calls.incrementAndGet() == 1) {
+                return "old.example.com";
+            }
+            dnsServer.await(10, TimeUnit.SECONDS);
+            return "new.example.com";
+        }, metrics);
+
+        try {
+            assertThat(subject.getHostName(ip(10, 0, 0, 8)), is("old.example.com"));
+            Thread.sleep(250);
+
+            // The refresh is pending; the request does not wait for it
+            long start = System.nanoTime();
+            assertThat(subject.getHostName(ip(10, 0, 0, 8)), is("old.example.com"));
+            assertThat(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(50), is(true));
+            assertThat(subject.getStaleHits(), is(1L));
+
+            dnsServer.countDown();
+            awaitLookups(subject, 2);
+            assertThat(subject.getHostName(ip(10, 0, 0, 8)), is("new.example.com"));
+            assertThat(calls.get(), is(2));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rejectedLookup() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ReverseDnsResolver subject = new ReverseDnsResolver(Settings.EMPTY, command -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new RejectedExecutionException();
+            }
+            command.run();
+        }, address -> "host.example.com", metrics);
+
+        assertThat(subject.getHostName(ip(10, 0, 0, 6)), is(nullValue()));
+        // The rejected lookup is not considered as pending
+        assertThat(subject.getHostName(ip(10, 0, 0, 6)), is("host.example.com"));
+    }
+
+    @Test
+    public void addressWithKnownHostName() throws Exception {
+        ReverseDnsResolver subject = new ReverseDnsResolver(
+            Settings.EMPTY,
+            Runnable::run,
+            address -> { throw new AssertionError("Unexpected lookup"); },
+            metrics
+        );
+        InetAddress address = InetAddress.getByAddress("known.example.com", new byte[] { 10, 0, 0, 5 });
+
+        assertThat(subject.getHostName(address), is("known.example.com"));
+        assertThat(subject.getHostName(null), is(nullValue()));
+        assertThat(ReverseDnsResolver.getHostName(null, address), is("known.example.com"));
+        assertThat(ReverseDnsResolver.getHostName(null, ip(10, 0, 0, 5)), is(nullValue()));
+    }
+
+    static void awaitLookups(ReverseDnsResolver subject, long lookups) throws InterruptedException {
+        for (int i = 0; i < 100 && subject.getLookups() < lookups; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    static InetAddress ip(int... parts) throws UnknownHostException {
+        byte[] bytes = new byte[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            bytes[i] = (byte) parts[i];
+        }
+        return InetAddress.getByAddress(bytes);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.support;
+
+import java.util.function.LongSupplier;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class SecurityMetricsTest {
+
+    private final SecurityMetrics metrics = new SecurityMetrics();
+
+    @Test
+    public void counter() {
+        SecurityMetrics.Counter counter = metrics.counter("test.counter");
+
+        counter.increment();
+        counter.add(2);
+
+        assertThat(counter.get(), is(3L));
+        assertThat(metrics.counter("test.counter"), sameInstance(counter));
+        assertThat(metrics.getCounterValues().get("test.counter"), is(3L));
+    }
+
+    @Test
+    public void counter_separateInstances() {
+        metrics.counter("test.counter").increment();
+
+        SecurityMetrics otherNode = new SecurityMetrics();
+        assertThat(otherNode.counter("test.counter").get(), is(0L));
+        assertThat(otherNode.getCounterValues().get("test.counter"), is(0L));
+    }
+
+    @Test
+    public void gauge() {
+        metrics.gauge("test.gauge", () -> 42);
+        assertThat(metrics.getGaugeValues().get("test.gauge"), is(42L));
+
+        metrics.removeGauge("test.gauge", () -> 0);
+        assertThat(metrics.getGaugeValues(), hasKey("test.gauge"));
+    }
+
+    @Test
+    public void gauge_remove() {
+        LongSupplier supplier = () -> 1;
+        metrics.gauge("test.gauge_remove", supplier);
+        metrics.removeGauge("test.gauge_remove", supplier);
+
+        assertThat(metrics.getGaugeValues(), not(hasKey("test.gauge_remove")));
+    }
+
+    @Test
+    public void histogram_buckets() {
+        for (long value : new long[] { 0, 1, 3, 4, 7, 8, 9, 1000, 123_456_789, Long.MAX_VALUE }) {
+            int index = SecurityMetrics.Histogram.bucketIndex(value);
+
+            assertThat(index, allOf(greaterThanOrEqualTo(0), lessThanOrEqualTo(SecurityMetrics.Histogram.BUCKETS - 1)));
+            assertThat(SecurityMetrics.Histogram.bucketUpperBound(index), greaterThanOrEqualTo(value));
+
+            if (index > 0) {
+                assertThat(SecurityMetrics.Histogram.bucketUpperBound(index - 1), lessThanOrEqualTo(value - 1));
+            }
+        }
+    }
+
+    @Test
+    public void histogram_snapshot() {
+        SecurityMetrics.Histogram histogram = metrics.histogram("test.histogram");
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        SecurityMetrics.HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCount(), is(1000L));
+        assertThat(snapshot.getSumNanos(), is(500_500_000L));
+        assertThat(snapshot.getMaxNanos(), is(1_000_000L));
+        assertThat(snapshot.getP50Nanos(), allOf(greaterThanOrEqualTo(500_000L), lessThanOrEqualTo(625_000L)));
+        assertThat(snapshot.getP99Nanos(), allOf(greaterThanOrEqualTo(990_000L), lessThanOrEqualTo(1_000_000L)));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+public class WildcardMatcherTest {
+
+    @Test
+    public void compile_exact() {
+        WildcardMatcher.PatternTrie subject = WildcardMatcher.compile(Arrays.asList("abc", "abcd", "b"));
+
+        assertThat(subject.getAllMatchingPatterns("abc"), containsInAnyOrder("abc"));
+        assertThat(subject.getAllMatchingPatterns("abcd"), containsInAnyOrder("abcd"));
+        assertThat(subject.getAllMatchingPatterns("ab"), empty());
+        assertThat(subject.getAllMatchingPatterns(""), empty());
+        assertThat(subject.test("b"), is(true));
+        assertThat(subject.test("bb"), is(false));
+    }
+
+    @Test
+    public void compile_wildcards() {
+        WildcardMatcher.PatternTrie subject = WildcardMatcher.compile(Arrays.asList("*", "a*", "a*c", "a?c", "a**d", "*b*", "x?", "abc"));
+
+        assertThat(subject.getAllMatchingPatterns("abc"), containsInAnyOrder("*", "a*", "a*c", "a?c", "*b*", "abc"));
+        assertThat(subject.getAllMatchingPatterns("axxxd"), containsInAnyOrder("*", "a*", "a**d"));
+        assertThat(subject.getAllMatchingPatterns("ad"), containsInAnyOrder("*", "a*", "a**d"));
+        assertThat(subject.getAllMatchingPatterns("xy"), containsInAnyOrder("*", "x?"));
+        assertThat(subject.getAllMatchingPatterns(""), containsInAnyOrder("*"));
+        assertThat(subject.test("zzz"), is(true));
+    }
+
+    @Test
+    public void compile_regex() {
+        WildcardMatcher.PatternTrie subject = WildcardMatcher.compile(Arrays.asList("/a.+/", "ab*"));
+
+        assertThat(subject.getAllMatchingPatterns("abc"), containsInAnyOrder("/a.+/", "ab*"));
+        assertThat(subject.getAllMatchingPatterns("ac"), containsInAnyOrder("/a.+/"));
+        assertThat(subject.test("a"), is(false));
+    }
+
+    @Test
+    public void compile_multipleCandidates() {
+        WildcardMatcher.PatternTrie subject = WildcardMatcher.compile(Arrays.asList("role_a*", "role_b", "other"));
+
+        assertThat(subject.getAllMatchingPatterns(Arrays.asList("role_a1", "role_a2", "role_b")), containsInAnyOrder("role_a*", "role_b"));
+        assertThat(subject.getAllMatchingPatterns(Arrays.asList()), empty());
+    }
+
+    @Test
+    public void compile_equivalentToSingleMatchers() {
+        Random random = new Random(1);
+        List<String> patterns = new ArrayList<>(new HashSet<>(randomStrings(random, 300, "ab*?")));
+        List<String> candidates = randomStrings(random, 500, "abc");
+
+        WildcardMatcher.PatternTrie subject = WildcardMatcher.compile(patterns);
+        List<WildcardMatcher> singleMatchers = WildcardMatcher.matchers(patterns);
+        WildcardMatcher combined = WildcardMatcher.from(patterns);
+
+        for (String candidate : candidates) {
+            List<String> expected = WildcardMatcher.getAllMatchingPatterns(singleMatchers, candidate);
+            assertThat(candidate, new HashSet<>(subject.getAllMatchingPatterns(candidate)), is(new HashSet<>(expected)));
+            assertThat(candidate, subject.test(candidate), is(!expected.isEmpty()));
+            assertThat(candidate, combined.test(candidate), is(!expected.isEmpty()));
+        }
+    }
+
+    private static List<String> randomStrings(Random random, int count, String alphabet) {
+        List<String> result = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            int length = 1 + random.nextInt(6);
+            StringBuilder string = new StringBuilder(length);
+            for (int k = 0; k < length; k++) {
+                string.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            result.add(string.toString());
+        }
+
+        return result;
+    }
+}
@@ -37,7 +37,9 @@ import org.opensearch.security.configuration.ClusterInfoHolder;
 import org.opensearch.security.ssl.SslExceptionHandler;
 import org.opensearch.security.ssl.transport.PrincipalExtractor;
 import org.opensearch.security.ssl.transport.SSLConfig;
+import org.opensearch.security.support.Base64CompactHelper;
 import org.opensearch.security.support.Base64Helper;
+import org.opensearch.security.support.Base64JDKHelper;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.user.User;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
@@ -121,10 +123,14 @@ public class SecurityInterceptorTests {
     private Connection connection4;
     private DiscoveryNode remoteNodeWithCustomSerialization;
     private Connection connection5;
+    private DiscoveryNode remoteNodeWithCompactSerialization;
+    private Connection connection6;
 
     private AsyncSender sender;
     private AsyncSender jdkSerializedSender;
     private AsyncSender customSerializedSender;
+    private AsyncSender compactSerializedSender;
+    private AsyncSender nonCompactSerializedSender;
     private AtomicReference<CountDownLatch> senderLatch = new AtomicReference<>(new CountDownLatch(1));
 
     @Before
@@ -209,6 +215,13 @@ public class SecurityInterceptorTests {
         );
         connection5 = transportService.getConnection(remoteNodeWithCustomSerialization);
 
+        remoteNodeWithCompactSerialization = new DiscoveryNode(
+            "remote-node-with-compact-serialization",
+            new TransportAddress(localAddress, 7457),
+            Version.CURRENT
+        );
+        connection6 = transportService.getConnection(remoteNodeWithCompactSerialization);
+
         jdkSerializedSender = new AsyncSender() {
             @Override
             public <T extends TransportResponse> void sendRequest(
@@ -240,6 +253,38 @@ public class SecurityInterceptorTests {
             }
         };
 
+        compactSerializedSender = new AsyncSender() {
+            @Override
+            public <T extends TransportResponse> void sendRequest(
+                Connection connection,
+                String action,
+                TransportRequest request,
+                TransportRequestOptions options,
+                TransportResponseHandler<T> handler
+            ) {
+                String serializedUserHeader = threadPool.getThreadContext().getHeader(ConfigConstants.OPENDISTRO_SECURITY_USER_HEADER);
+                assertThat(Base64CompactHelper.isCompact(serializedUserHeader), is(true));
+                assertThat(Base64Helper.deserializeObject(serializedUserHeader, true), is(user));
+                senderLatch.get().countDown();
+            }
+        };
+
+        nonCompactSerializedSender = new AsyncSender() {
+            @Override
+            public <T extends TransportResponse> void sendRequest(
+                Connection connection,
+                String action,
+                TransportRequest request,
+                TransportRequestOptions options,
+                TransportResponseHandler<T> handler
+            ) {
+                String serializedUserHeader = threadPool.getThreadContext().getHeader(ConfigConstants.OPENDISTRO_SECURITY_USER_HEADER);
+                assertThat(Base64CompactHelper.isCompact(serializedUserHeader), is(false));
+                assertThat(Base64JDKHelper.deserializeObject(serializedUserHeader), is(user));
+                senderLatch.get().countDown();
+            }
+        };
+
         sender = new AsyncSender() {
             @Override
             public <T extends TransportResponse> void sendRequest(
@@ -358,6 +403,25 @@ public class SecurityInterceptorTests {
         );
     }
 
+    @Test
+    public void testSendRequestDecorateRemoteConnectionUsesCompactSerialization() {
+        completableRequestDecorate(compactSerializedSender, connection6, action, request, options, handler, localNode);
+    }
+
+    @Test
+    public void testSendRequestDecorateRemoteConnectionConvertsCompactSerialization() {
+        threadPool.getThreadContext().putHeader(ConfigConstants.OPENDISTRO_SECURITY_USER_HEADER, Base64CompactHelper.serializeUser(user));
+        completableRequestDecorateWithPreviouslyPopulatedHeaders(
+            nonCompactSerializedSender,
+            connection3,
+            action,
+            request,
+            options,
+            handler,
+            localNode
+        );
+    }
+
     @Test
     public void testSendNoOriginNodeCausesSerialization() {
 